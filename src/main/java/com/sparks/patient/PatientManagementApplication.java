@@ -2,6 +2,7 @@ package com.sparks.patient;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Contact;
@@ -12,6 +13,7 @@ import io.swagger.v3.oas.annotations.info.Info;
  * SCRUM-13: Patient Management Epic
  */
 @SpringBootApplication
+@EnableScheduling
 @OpenAPIDefinition(
     info = @Info(
         title = "Patient Management API",
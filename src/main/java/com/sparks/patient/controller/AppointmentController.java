@@ -1,24 +1,39 @@
 package com.sparks.patient.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.validation.Valid;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.sparks.patient.dto.AppointmentCacheStatsResponse;
+import com.sparks.patient.dto.AppointmentFilter;
+import com.sparks.patient.dto.AppointmentPageResponse;
 import com.sparks.patient.dto.AppointmentRequest;
 import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.dto.AppointmentStatusBatchRequest;
+import com.sparks.patient.dto.AppointmentStatusBatchResponse;
+import com.sparks.patient.dto.AppointmentStatusUpdateRequest;
+import com.sparks.patient.dto.BulkAppointmentRequest;
+import com.sparks.patient.dto.BulkAppointmentResponse;
+import com.sparks.patient.entity.Appointment;
 import com.sparks.patient.service.AppointmentService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -38,11 +53,13 @@ import lombok.extern.slf4j.Slf4j;
 public class AppointmentController {
 
     private final AppointmentService appointmentService;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * Create a new appointment
      * 
      * @param request Appointment request containing patient, doctor, and time
+     * @param idempotencyKey Optional client key; a retry with the same key replays the first response
      * @return Appointment response with generated UUID
      */
     @PostMapping
@@ -50,12 +67,171 @@ public class AppointmentController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Appointment created successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid request"),
-        @ApiResponse(responseCode = "404", description = "Patient or Doctor not found")
+        @ApiResponse(responseCode = "404", description = "Patient or Doctor not found"),
+        @ApiResponse(responseCode = "409", description = "Doctor already booked or not on shift at that time"),
+        @ApiResponse(responseCode = "422", description = "Idempotency-Key already used with a different request")
     })
-    public ResponseEntity<AppointmentResponse> createAppointment(@Valid @RequestBody AppointmentRequest request) {
+    public ResponseEntity<AppointmentResponse> createAppointment(
+            @Valid @RequestBody AppointmentRequest request,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
         log.info("POST /api/appointments - Creating appointment");
-        AppointmentResponse response = appointmentService.createAppointment(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return idempotencyStore.execute("POST /api/appointments", idempotencyKey, request,
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(appointmentService.createAppointment(request)));
+    }
+
+    /**
+     * Book many appointments in one request
+     * POST /api/appointments/bulk
+     * 
+     * Items referencing unknown patients or doctors are reported in the per-item results;
+     * all other items are created.
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "Bulk create appointments",
+            description = "Create up to " + BulkAppointmentRequest.MAX_ITEMS + " appointments with batched inserts")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bulk booking processed, see per-item results"),
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "422", description = "Idempotency-Key already used with a different request")
+    })
+    public ResponseEntity<BulkAppointmentResponse> createAppointments(
+            @Valid @RequestBody BulkAppointmentRequest request,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        log.info("POST /api/appointments/bulk - Creating {} appointments", request.getAppointments().size());
+        return idempotencyStore.execute("POST /api/appointments/bulk", idempotencyKey, request,
+                request.getAppointments().size(), () -> ResponseEntity.ok(appointmentService.createAppointments(request.getAppointments())));
+    }
+
+    /**
+     * Get a cursor-paginated page of appointments
+     * GET /api/appointments/page?limit=50&cursor=...
+     * 
+     * Seeks on (appointmentTime, id), so every page costs the same regardless of depth.
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Get appointments page",
+            description = "Retrieve appointments ordered by time using cursor (keyset) pagination with optional filters")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Appointment page retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or filter")
+    })
+    public ResponseEntity<AppointmentPageResponse> getAppointmentPage(
+            @Parameter(description = "Filter by patient ID")
+            @RequestParam(required = false) Long patientId,
+            @Parameter(description = "Filter by doctor ID")
+            @RequestParam(required = false) Long doctorId,
+            @Parameter(description = "Filter by status")
+            @RequestParam(required = false) Appointment.AppointmentStatus status,
+            @Parameter(description = "Appointment time lower bound (inclusive)", example = "2026-02-10T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Appointment time upper bound (exclusive)", example = "2026-02-11T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 500)", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+
+        log.info("GET /api/appointments/page - Fetching appointment page (limit: {})", limit);
+
+        AppointmentFilter filter = AppointmentFilter.builder()
+                .patientId(patientId)
+                .doctorId(doctorId)
+                .status(status)
+                .from(from)
+                .to(to)
+                .build();
+
+        return ResponseEntity.ok(appointmentService.getAppointmentPage(filter, cursor, limit));
+    }
+
+    /**
+     * Search appointments by any combination of filters
+     * GET /api/appointments/search?doctorId=2&status=SCHEDULED&from=...&to=...
+     * 
+     * Cursor-paginated like /page; the query only contains the filters given, so the
+     * database can serve it from the composite index matching them.
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Search appointments",
+            description = "Filter appointments by any combination of patient, doctor, department, status "
+                    + "and time range, ordered by time with cursor (keyset) pagination")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Appointments retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or filter")
+    })
+    public ResponseEntity<AppointmentPageResponse> searchAppointments(
+            @Parameter(description = "Filter by patient ID")
+            @RequestParam(required = false) Long patientId,
+            @Parameter(description = "Filter by doctor ID")
+            @RequestParam(required = false) Long doctorId,
+            @Parameter(description = "Filter by the attending doctor's department")
+            @RequestParam(required = false) Long deptId,
+            @Parameter(description = "Filter by status")
+            @RequestParam(required = false) Appointment.AppointmentStatus status,
+            @Parameter(description = "Appointment time lower bound (inclusive)", example = "2026-02-10T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Appointment time upper bound (exclusive)", example = "2026-02-11T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 500)", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+
+        AppointmentFilter filter = AppointmentFilter.builder()
+                .patientId(patientId)
+                .doctorId(doctorId)
+                .deptId(deptId)
+                .status(status)
+                .from(from)
+                .to(to)
+                .build();
+        log.info("GET /api/appointments/search - Searching appointments ({}, limit: {})", filter, limit);
+
+        return ResponseEntity.ok(appointmentService.searchAppointments(filter, cursor, limit));
+    }
+
+    /**
+     * Change the status of one appointment
+     * PATCH /api/appointments/{appointmentId}/status
+     * 
+     * Send the version from the last read to reject the change if someone else got there first.
+     */
+    @PatchMapping("/{appointmentId}/status")
+    @Operation(summary = "Update appointment status",
+            description = "Move an appointment along its lifecycle (SCHEDULED -> CONFIRMED -> COMPLETED, or CANCELLED)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status updated"),
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "404", description = "Appointment not found"),
+        @ApiResponse(responseCode = "409", description = "Transition not allowed or appointment modified concurrently")
+    })
+    public ResponseEntity<AppointmentResponse> updateAppointmentStatus(
+            @PathVariable String appointmentId,
+            @Valid @RequestBody AppointmentStatusUpdateRequest request) {
+        log.info("PATCH /api/appointments/{}/status - Changing status to {}", appointmentId, request.getStatus());
+        return ResponseEntity.ok(appointmentService.updateAppointmentStatus(appointmentId, request));
+    }
+
+    /**
+     * Change the status of all of a doctor's appointments on one day
+     * PATCH /api/appointments/status
+     * 
+     * Runs as one UPDATE statement; appointments that cannot make the transition are skipped.
+     */
+    @PatchMapping("/status")
+    @Operation(summary = "Batch update appointment status",
+            description = "Change the status of every appointment of a doctor on a given day in one statement")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed, see counts"),
+        @ApiResponse(responseCode = "400", description = "Invalid request"),
+        @ApiResponse(responseCode = "404", description = "Doctor not found"),
+        @ApiResponse(responseCode = "409", description = "No status can transition to the target")
+    })
+    public ResponseEntity<AppointmentStatusBatchResponse> updateAppointmentStatuses(
+            @Valid @RequestBody AppointmentStatusBatchRequest request) {
+        log.info("PATCH /api/appointments/status - Changing doctor {} appointments on {} to {}",
+                 request.getDoctorId(), request.getDate(), request.getStatus());
+        return ResponseEntity.ok(appointmentService.updateAppointmentStatuses(request));
     }
 
     /**
@@ -76,11 +252,26 @@ public class AppointmentController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Lookup cache statistics
+     * GET /api/appointments/cache/stats
+     */
+    @GetMapping("/cache/stats")
+    @Operation(summary = "Get lookup cache statistics",
+               description = "Hit, miss and eviction counters of the appointment-by-UUID cache")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully")
+    })
+    public ResponseEntity<AppointmentCacheStatsResponse> getLookupCacheStats() {
+        return ResponseEntity.ok(appointmentService.getLookupCacheStats());
+    }
+
     /**
      * Get all appointments
      * 
      * @param patientId Optional patient ID filter
      * @param doctorId Optional doctor ID filter
+     * @param includeArchived Whether a patient's or doctor's archived history is included
      * @return List of appointments
      */
     @GetMapping
@@ -90,17 +281,24 @@ public class AppointmentController {
     })
     public ResponseEntity<List<AppointmentResponse>> getAllAppointments(
             @RequestParam(required = false) Long patientId,
-            @RequestParam(required = false) Long doctorId) {
+            @RequestParam(required = false) Long doctorId,
+            @Parameter(description = "Include archived (finished, older) appointments of the patient or doctor")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         
-        log.info("GET /api/appointments - Fetching appointments (patientId: {}, doctorId: {})", 
-                 patientId, doctorId);
+        log.info("GET /api/appointments - Fetching appointments (patientId: {}, doctorId: {}, includeArchived: {})", 
+                 patientId, doctorId, includeArchived);
         
         List<AppointmentResponse> responses;
         
         if (patientId != null) {
-            responses = appointmentService.getAppointmentsByPatientId(patientId);
+            responses = appointmentService.getAppointmentsByPatientId(patientId, includeArchived);
+            if (doctorId != null) {
+                responses = responses.stream()
+                        .filter(response -> doctorId.equals(response.getDoctorId()))
+                        .collect(Collectors.toList());
+            }
         } else if (doctorId != null) {
-            responses = appointmentService.getAppointmentsByDoctorId(doctorId);
+            responses = appointmentService.getAppointmentsByDoctorId(doctorId, includeArchived);
         } else {
             responses = appointmentService.getAllAppointments();
         }
@@ -0,0 +1,145 @@
+package com.sparks.patient.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import javax.validation.Valid;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sparks.patient.dto.AppointmentSeriesRequest;
+import com.sparks.patient.dto.AppointmentSeriesResponse;
+import com.sparks.patient.dto.ErrorResponse;
+import com.sparks.patient.dto.SeriesConfirmResponse;
+import com.sparks.patient.dto.SeriesOccurrenceResponse;
+import com.sparks.patient.service.AppointmentSeriesService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST Controller for recurring appointment series
+ *
+ * A series stores only its pattern. Occurrences are expanded per window on read and turned
+ * into appointments window by window with the confirm endpoint.
+ */
+@RestController
+@RequestMapping("/api/v1/appointment-series")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Appointment Series", description = "APIs for recurring appointments")
+public class AppointmentSeriesController {
+
+    private final AppointmentSeriesService appointmentSeriesService;
+    private final IdempotencyStore idempotencyStore;
+
+    /**
+     * Create a series
+     * POST /api/v1/appointment-series
+     */
+    @PostMapping
+    @Operation(summary = "Create a recurring series",
+               description = "Store a DAILY, WEEKLY or MONTHLY pattern bounded by a count or an end date; "
+                       + "returns the occurrences that conflict with existing bookings or shifts")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Series created",
+                content = @Content(schema = @Schema(implementation = AppointmentSeriesResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input or unbounded series",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Patient or doctor not found",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<AppointmentSeriesResponse> createSeries(
+            @Valid @RequestBody AppointmentSeriesRequest request,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        log.info("POST /api/v1/appointment-series - Creating {} series for patient {} with doctor {}",
+                 request.getFrequency(), request.getPatientId(), request.getDoctorId());
+        return idempotencyStore.execute("POST /api/v1/appointment-series", idempotencyKey, request,
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(appointmentSeriesService.createSeries(request)));
+    }
+
+    /**
+     * Get a series
+     * GET /api/v1/appointment-series/{id}
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get a series", description = "The recurrence pattern and its number of occurrences")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Series retrieved"),
+        @ApiResponse(responseCode = "404", description = "Series not found",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<AppointmentSeriesResponse> getSeries(
+            @Parameter(description = "Series ID", required = true) @PathVariable Long id) {
+        return ResponseEntity.ok(appointmentSeriesService.getSeries(id));
+    }
+
+    /**
+     * Occurrences of a series in a date window
+     * GET /api/v1/appointment-series/{id}/occurrences?from=2026-02-16&to=2026-03-16
+     */
+    @GetMapping("/{id}/occurrences")
+    @Operation(summary = "List occurrences",
+               description = "Occurrences in [from, to), each AVAILABLE, BOOKED or CONFLICT")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Occurrences retrieved"),
+        @ApiResponse(responseCode = "400", description = "Invalid range",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Series not found",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<SeriesOccurrenceResponse>> getOccurrences(
+            @Parameter(description = "Series ID", required = true) @PathVariable Long id,
+            @Parameter(description = "First day", required = true, example = "2026-02-16")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (exclusive)", required = true, example = "2026-03-16")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(appointmentSeriesService.getOccurrences(id, from, to));
+    }
+
+    /**
+     * Book the available occurrences of a date window
+     * POST /api/v1/appointment-series/{id}/confirm?from=2026-02-16&to=2026-03-16
+     */
+    @PostMapping("/{id}/confirm")
+    @Operation(summary = "Confirm occurrences",
+               description = "Book every AVAILABLE occurrence in [from, to) in one bulk request")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Occurrences confirmed",
+                content = @Content(schema = @Schema(implementation = SeriesConfirmResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid range",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Series not found",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<SeriesConfirmResponse> confirmOccurrences(
+            @Parameter(description = "Series ID", required = true) @PathVariable Long id,
+            @Parameter(description = "First day", required = true, example = "2026-02-16")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (exclusive)", required = true, example = "2026-03-16")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        log.info("POST /api/v1/appointment-series/{}/confirm - Booking occurrences from {} to {}", id, from, to);
+        // The window is the request body: reusing a key for another series or window is a mismatch
+        return idempotencyStore.execute("POST /api/v1/appointment-series/{id}/confirm", idempotencyKey,
+                id + " " + from + " " + to,
+                () -> ResponseEntity.ok(appointmentSeriesService.confirmOccurrences(id, from, to)));
+    }
+}
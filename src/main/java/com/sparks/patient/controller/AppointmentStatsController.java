@@ -0,0 +1,65 @@
+package com.sparks.patient.controller;
+
+import java.util.Locale;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sparks.patient.dto.AppointmentStatsResponse;
+import com.sparks.patient.dto.ErrorResponse;
+import com.sparks.patient.exception.InvalidStatsGroupException;
+import com.sparks.patient.service.AppointmentStatsService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST Controller for aggregated appointment statistics
+ *
+ * Dashboards read grouped counts here instead of pulling every appointment and grouping
+ * client-side.
+ */
+@RestController
+@RequestMapping("/api/appointments/stats")
+@RequiredArgsConstructor
+@Tag(name = "Appointment Management", description = "APIs for managing patient appointments")
+public class AppointmentStatsController {
+
+    private final AppointmentStatsService appointmentStatsService;
+
+    /**
+     * Appointment counts grouped by one dimension
+     * GET /api/appointments/stats?groupBy=doctor
+     */
+    @GetMapping
+    @Operation(summary = "Get appointment statistics",
+               description = "Live appointment counts per doctor, day, status or department, "
+                       + "from incrementally maintained counters")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Unknown groupBy",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<AppointmentStatsResponse> getStats(
+            @Parameter(description = "doctor, day, status or dept", required = true, example = "doctor")
+            @RequestParam String groupBy) {
+        return ResponseEntity.ok(appointmentStatsService.getStats(parseGroupBy(groupBy)));
+    }
+
+    private static AppointmentStatsResponse.GroupBy parseGroupBy(String groupBy) {
+        try {
+            return AppointmentStatsResponse.GroupBy.valueOf(groupBy.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidStatsGroupException(groupBy);
+        }
+    }
+}
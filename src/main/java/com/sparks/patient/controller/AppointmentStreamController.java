@@ -0,0 +1,93 @@
+package com.sparks.patient.controller;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.sparks.patient.dto.AppointmentEvent;
+import com.sparks.patient.dto.ErrorResponse;
+import com.sparks.patient.service.AppointmentEventBus;
+import com.sparks.patient.service.DoctorService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST Controller for live appointment feeds
+ * 
+ * Pushes a doctor's appointment changes as Server-Sent Events, replacing dashboards
+ * that poll GET /api/appointments?doctorId= every few seconds.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Appointment Events", description = "Server-Sent Events feed of appointment changes")
+public class AppointmentStreamController {
+
+    /**
+     * Streams end after this long; EventSource clients reconnect on their own
+     */
+    static final Duration STREAM_TIMEOUT = Duration.ofMinutes(30);
+
+    private final DoctorService doctorService;
+    private final AppointmentEventBus appointmentEventBus;
+
+    /**
+     * Stream a doctor's appointment changes
+     * GET /api/v1/doctors/{id}/appointments/stream
+     * 
+     * Event names are the event types (CREATED, STATUS_CHANGED, DAY_STATUS_CHANGED);
+     * idle streams receive a comment line as heartbeat.
+     */
+    @GetMapping("/doctors/{id}/appointments/stream")
+    @Operation(summary = "Stream doctor appointment changes",
+            description = "Server-Sent Events with every appointment created or changed for the doctor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream opened",
+                content = @Content(mediaType = "text/event-stream",
+                        schema = @Schema(implementation = AppointmentEvent.class))),
+        @ApiResponse(responseCode = "404", description = "Doctor not found",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public SseEmitter streamDoctorAppointments(
+            @Parameter(description = "Doctor ID", required = true) @PathVariable Long id) {
+        log.info("GET /api/v1/doctors/{}/appointments/stream - Opening event stream", id);
+        doctorService.getDoctorById(id);
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT.toMillis());
+        AppointmentEventBus.Subscription subscription = appointmentEventBus.subscribe(id,
+                new AppointmentEventBus.Listener() {
+                    @Override
+                    public void onEvent(AppointmentEvent event) throws IOException {
+                        emitter.send(SseEmitter.event().name(event.getType().name()).data(event));
+                    }
+
+                    @Override
+                    public void onHeartbeat() throws IOException {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+
+                    @Override
+                    public void onClose() {
+                        emitter.complete();
+                    }
+                });
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(ex -> subscription.close());
+        return emitter;
+    }
+}
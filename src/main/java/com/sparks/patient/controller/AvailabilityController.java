@@ -0,0 +1,89 @@
+package com.sparks.patient.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sparks.patient.dto.DoctorAvailabilityResponse;
+import com.sparks.patient.dto.ErrorResponse;
+import com.sparks.patient.service.AvailabilityService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST Controller for doctor availability
+ * 
+ * Answers "when can this doctor (or anyone in this department) see a patient?"
+ * by subtracting booked appointments from shift windows.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Tag(name = "Availability", description = "APIs for finding free bookable slots")
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    /**
+     * Get free slots for a doctor
+     * GET /api/v1/doctors/{id}/availability?from=&to=&slotMinutes=
+     */
+    @GetMapping("/doctors/{id}/availability")
+    @Operation(summary = "Get doctor availability",
+            description = "Free slots inside the doctor's shifts that do not overlap booked appointments")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Availability computed",
+                content = @Content(schema = @Schema(implementation = DoctorAvailabilityResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid window or slot length",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Doctor not found",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<DoctorAvailabilityResponse> getDoctorAvailability(
+            @Parameter(description = "Doctor ID", required = true) @PathVariable Long id,
+            @Parameter(description = "Window start (inclusive)", required = true, example = "2026-02-10T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Window end (exclusive)", required = true, example = "2026-02-17T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Slot length in minutes", example = "30")
+            @RequestParam(defaultValue = "30") int slotMinutes) {
+        return ResponseEntity.ok(availabilityService.getDoctorAvailability(id, from, to, slotMinutes));
+    }
+
+    /**
+     * Get free slots for every doctor in a department
+     * GET /api/v1/departments/{deptId}/availability?from=&to=&slotMinutes=
+     */
+    @GetMapping("/departments/{deptId}/availability")
+    @Operation(summary = "Get department availability",
+            description = "Free slots for every doctor in the department")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Availability computed"),
+        @ApiResponse(responseCode = "400", description = "Invalid window or slot length",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<List<DoctorAvailabilityResponse>> getDepartmentAvailability(
+            @Parameter(description = "Department ID", required = true) @PathVariable Long deptId,
+            @Parameter(description = "Window start (inclusive)", required = true, example = "2026-02-10T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Window end (exclusive)", required = true, example = "2026-02-17T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Slot length in minutes", example = "30")
+            @RequestParam(defaultValue = "30") int slotMinutes) {
+        return ResponseEntity.ok(availabilityService.getDepartmentAvailability(deptId, from, to, slotMinutes));
+    }
+}
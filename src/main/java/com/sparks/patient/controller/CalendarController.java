@@ -0,0 +1,63 @@
+package com.sparks.patient.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sparks.patient.dto.DoctorCalendarResponse;
+import com.sparks.patient.dto.ErrorResponse;
+import com.sparks.patient.service.CalendarService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST Controller for doctor calendars
+ * 
+ * Serves the front-desk day sheet: a doctor's shifts and appointments grouped per day,
+ * so screens no longer pull the doctor's whole appointment history and filter by date.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Tag(name = "Calendar", description = "APIs for doctor day sheets")
+public class CalendarController {
+
+    private final CalendarService calendarService;
+
+    /**
+     * Get a doctor's calendar
+     * GET /api/v1/doctors/{id}/calendar?from=&to=
+     */
+    @GetMapping("/doctors/{id}/calendar")
+    @Operation(summary = "Get doctor calendar",
+            description = "Shift windows and appointments of the doctor for each day in [from, to)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Calendar retrieved",
+                content = @Content(schema = @Schema(implementation = DoctorCalendarResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid date range",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Doctor not found",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<DoctorCalendarResponse> getDoctorCalendar(
+            @Parameter(description = "Doctor ID", required = true) @PathVariable Long id,
+            @Parameter(description = "First day (inclusive)", required = true, example = "2026-02-09")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (exclusive)", required = true, example = "2026-02-16")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(calendarService.getDoctorCalendar(id, from, to));
+    }
+}
@@ -12,12 +12,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.sparks.patient.dto.DoctorRequest;
 import com.sparks.patient.dto.DoctorResponse;
 import com.sparks.patient.dto.ErrorResponse;
+import com.sparks.patient.dto.KeyFilterStatsResponse;
 import com.sparks.patient.service.DoctorService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -42,6 +44,7 @@ import lombok.RequiredArgsConstructor;
 public class DoctorController {
 
     private final DoctorService doctorService;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * Create a new doctor
@@ -59,14 +62,17 @@ public class DoctorController {
                 content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     public ResponseEntity<DoctorResponse> createDoctor(
-            @Valid @RequestBody DoctorRequest request) {
-        try {
-            DoctorResponse response = doctorService.createDoctor(request);
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-        } catch (IllegalArgumentException e) {
-            // Return 409 Conflict for duplicate license number
-            return ResponseEntity.status(HttpStatus.CONFLICT).build();
-        }
+            @Valid @RequestBody DoctorRequest request,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotencyStore.execute("POST /api/v1/doctors", idempotencyKey, request, () -> {
+            try {
+                DoctorResponse response = doctorService.createDoctor(request);
+                return ResponseEntity.status(HttpStatus.CREATED).<DoctorResponse>body(response);
+            } catch (IllegalArgumentException e) {
+                // Return 409 Conflict for duplicate license number
+                return ResponseEntity.status(HttpStatus.CONFLICT).<DoctorResponse>build();
+            }
+        });
     }
 
     /**
@@ -162,4 +168,18 @@ public class DoctorController {
         doctorService.deleteDoctor(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Duplicate-license filter statistics
+     * GET /api/v1/doctors/license-filter/stats
+     */
+    @GetMapping("/license-filter/stats")
+    @Operation(summary = "Get duplicate license number filter statistics",
+               description = "Size, fill and observed false positive rate of the Bloom filter in front of the duplicate license number check")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully")
+    })
+    public ResponseEntity<KeyFilterStatsResponse> getLicenseFilterStats() {
+        return ResponseEntity.ok(doctorService.getLicenseFilterStats());
+    }
 }
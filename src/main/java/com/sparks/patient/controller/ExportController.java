@@ -0,0 +1,86 @@
+package com.sparks.patient.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.sparks.patient.service.ExportService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST Controller for bulk data exports
+ * 
+ * Streams newline-delimited JSON (one record per line) for reporting jobs
+ * instead of materializing whole tables as a single JSON array.
+ */
+@RestController
+@RequestMapping("/api/v1/export")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Data Export", description = "Streaming NDJSON exports for reporting")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * Export all appointments
+     * GET /api/v1/export/appointments
+     */
+    @GetMapping(value = "/appointments", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export appointments", description = "Stream all appointments as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Appointments streamed successfully")
+    public ResponseEntity<StreamingResponseBody> exportAppointments() {
+        log.info("GET /api/v1/export/appointments - Streaming appointments");
+        return ndjson(out -> exportService.exportAppointments(out));
+    }
+
+    /**
+     * Export all shifts
+     * GET /api/v1/export/shifts
+     */
+    @GetMapping(value = "/shifts", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export shifts", description = "Stream all shifts as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Shifts streamed successfully")
+    public ResponseEntity<StreamingResponseBody> exportShifts() {
+        log.info("GET /api/v1/export/shifts - Streaming shifts");
+        return ndjson(out -> exportService.exportShifts(out));
+    }
+
+    /**
+     * Export all patients
+     * GET /api/v1/export/patients
+     */
+    @GetMapping(value = "/patients", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export patients", description = "Stream all patients as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Patients streamed successfully")
+    public ResponseEntity<StreamingResponseBody> exportPatients() {
+        log.info("GET /api/v1/export/patients - Streaming patients");
+        return ndjson(out -> exportService.exportPatients(out));
+    }
+
+    /**
+     * Export all doctors
+     * GET /api/v1/export/doctors
+     */
+    @GetMapping(value = "/doctors", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export doctors", description = "Stream all doctors as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Doctors streamed successfully")
+    public ResponseEntity<StreamingResponseBody> exportDoctors() {
+        log.info("GET /api/v1/export/doctors - Streaming doctors");
+        return ndjson(out -> exportService.exportDoctors(out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,151 @@
+package com.sparks.patient.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparks.patient.exception.IdempotencyKeyInProgressException;
+import com.sparks.patient.exception.IdempotencyKeyMismatchException;
+import com.sparks.patient.exception.InvalidIdempotencyKeyException;
+
+/**
+ * Replay store for POST endpoints that accept an Idempotency-Key header.
+ *
+ * The first request with a key runs the action and its response is kept for
+ * {@link #RETENTION}; later requests with the same key and body get that response back
+ * (marked with {@link #REPLAYED_HEADER}) without running the action again. Duplicates that
+ * arrive while the first one is still running wait for its outcome instead of executing.
+ * If the action throws, the key is released so the client can retry, and waiting
+ * duplicates receive the same exception.
+ *
+ * Keys are scoped per endpoint and held in memory only. Each key is weighed by the number of
+ * items its request carries, since a bulk response holds one result per item, and the store
+ * is bounded to {@link #MAXIMUM_ITEMS} items in total. Bulk requests are kept only as a
+ * digest for the equality check.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final int MAX_KEY_LENGTH = 255;
+    static final long MAXIMUM_ITEMS = 100_000;
+    static final Duration RETENTION = Duration.ofHours(24);
+    static final Duration IN_FLIGHT_WAIT = Duration.ofSeconds(30);
+
+    private final Cache<String, Execution> executions = Caffeine.newBuilder()
+            .maximumWeight(MAXIMUM_ITEMS)
+            .weigher((String key, Execution execution) -> execution.items)
+            .expireAfterWrite(RETENTION)
+            .build();
+
+    /**
+     * Run the action once per (scope, key); without a key the action simply runs
+     *
+     * @param scope the endpoint the key belongs to, e.g. "POST /api/appointments"
+     * @param key the client's Idempotency-Key, or null
+     * @param request the request body; a replay must carry an equal one
+     * @throws IdempotencyKeyMismatchException if the key was used with a different body
+     * @throws IdempotencyKeyInProgressException if the original request is still running after the wait
+     */
+    public <T> ResponseEntity<T> execute(String scope, String key, Object request, Supplier<ResponseEntity<T>> action) {
+        return execute(scope, key, request, 1, action);
+    }
+
+    /**
+     * Run a bulk action once per (scope, key); the request is kept as a SHA-256 digest of its
+     * string form, which for the request DTOs lists every field
+     *
+     * @param items number of items in the request, the key's share of {@link #MAXIMUM_ITEMS}
+     * @see #execute(String, String, Object, Supplier)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> execute(String scope, String key, Object request, int items,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(MAX_KEY_LENGTH);
+        }
+
+        Object body = items > 1 ? digest(request) : request;
+        String cacheKey = scope + ' ' + key;
+        Execution started = new Execution(body, Math.max(1, items));
+        Execution existing = executions.asMap().putIfAbsent(cacheKey, started);
+        if (existing == null) {
+            try {
+                ResponseEntity<T> response = action.get();
+                started.response.complete(response);
+                return response;
+            } catch (RuntimeException | Error ex) {
+                executions.asMap().remove(cacheKey, started);
+                started.response.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+
+        if (!existing.request.equals(body)) {
+            throw new IdempotencyKeyMismatchException(key);
+        }
+        return (ResponseEntity<T>) replay(await(existing, key));
+    }
+
+    private static ResponseEntity<?> await(Execution execution, String key) {
+        try {
+            return execution.response.get(IN_FLIGHT_WAIT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw new IdempotencyKeyInProgressException(key);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(key);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private static String digest(Object request) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(String.valueOf(request).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static ResponseEntity<?> replay(ResponseEntity<?> original) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(original.getHeaders());
+        headers.set(REPLAYED_HEADER, "true");
+        return new ResponseEntity<>(original.getBody(), headers, original.getStatusCode());
+    }
+
+    private static final class Execution {
+        private final Object request;
+        private final int items;
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+
+        private Execution(Object request, int items) {
+            this.request = request;
+            this.items = items;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.sparks.patient.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 import javax.validation.Valid;
@@ -10,6 +12,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,13 +21,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.sparks.patient.dto.ErrorResponse;
+import com.sparks.patient.dto.KeyFilterStatsResponse;
+import com.sparks.patient.dto.PatientImportResponse;
 import com.sparks.patient.dto.PatientRequest;
 import com.sparks.patient.dto.PatientResponse;
+import com.sparks.patient.dto.PatientTimelineResponse;
+import com.sparks.patient.service.PatientImportService;
 import com.sparks.patient.service.PatientService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -41,6 +49,9 @@ import lombok.RequiredArgsConstructor;
  * 
  * SCRUM-14: Patient Onboarding API - POST /api/v1/patients
  * SCRUM-15: Patient Search & Profile Retrieval - GET /api/v1/patients/{id}
+ * Patient chart - GET /api/v1/patients/{id}/timeline
+ * Name search - GET /api/v1/patients/search?q=
+ * CSV import - POST /api/v1/patients/import
  */
 @RestController
 @RequestMapping("/api/v1/patients")
@@ -50,6 +61,8 @@ import lombok.RequiredArgsConstructor;
 public class PatientController {
 
     private final PatientService patientService;
+    private final PatientImportService patientImportService;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * SCRUM-14: Patient Onboarding API
@@ -63,12 +76,36 @@ public class PatientController {
         @ApiResponse(responseCode = "400", description = "Invalid request data",
                 content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "409", description = "Email already exists",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "422", description = "Idempotency-Key already used with a different request",
                 content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     public ResponseEntity<PatientResponse> createPatient(
-            @Valid @RequestBody PatientRequest request) {
-        PatientResponse response = patientService.createPatient(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            @Valid @RequestBody PatientRequest request,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotencyStore.execute("POST /api/v1/patients", idempotencyKey, request,
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(patientService.createPatient(request)));
+    }
+
+    /**
+     * Bulk onboarding from CSV
+     * POST /api/v1/patients/import with the file as the request body (Content-Type: text/csv).
+     * The body is streamed, not buffered, so files with hundreds of thousands of rows are fine.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    @Operation(summary = "Import patients from CSV",
+               description = "Header row naming firstName, lastName, dob (yyyy-MM-dd), email, phone in any order; "
+                       + "valid rows are created, rejected rows are listed with their line numbers",
+               requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true,
+                       content = @Content(mediaType = "text/csv", schema = @Schema(type = "string"))))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import processed, see the per-row report",
+                content = @Content(schema = @Schema(implementation = PatientImportResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Empty file or header missing a column",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<PatientImportResponse> importPatients(InputStream csv) throws IOException {
+        return ResponseEntity.ok(patientImportService.importPatients(csv));
     }
 
     /**
@@ -91,6 +128,32 @@ public class PatientController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Patient chart: profile and appointment history in one round trip
+     * GET /api/v1/patients/{id}/timeline?limit=20&cursor=...
+     * Returns 404 for invalid IDs
+     */
+    @GetMapping("/{id}/timeline")
+    @Operation(summary = "Get patient timeline",
+               description = "Retrieve the patient profile with a cursor-paginated page of live and archived "
+                       + "appointments, newest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Timeline retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Patient not found",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<PatientTimelineResponse> getPatientTimeline(
+            @Parameter(description = "Patient ID", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 200)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(patientService.getPatientTimeline(id, cursor, limit));
+    }
+
     /**
      * Get all patients with pagination
      */
@@ -157,10 +220,13 @@ public class PatientController {
     }
 
     /**
-     * Search for a patient by phone number
+     * Search for a patient by phone number (caller-ID lookup)
+     * Formatting is ignored: "+1 (555) 010-2030", "1-555-010-2030" and "+15550102030" are the same number
      */
     @GetMapping("/search")
-    @Operation(summary = "Search patient by phone", description = "Find a patient by their phone number")
+    @Operation(summary = "Search patient by phone",
+               description = "Find a patient by their phone number in any common formatting; "
+                       + "the oldest patient is returned when several share the number")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Patient found",
                 content = @Content(schema = @Schema(implementation = PatientResponse.class))),
@@ -168,13 +234,33 @@ public class PatientController {
                 content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     public ResponseEntity<PatientResponse> searchPatientByPhone(
-            @Parameter(description = "Phone number to search for", required = true, example = "+1234567890")
-            @Pattern(regexp = "^\\+?[1-9]\\d{1,14}$", message = "Phone must be a valid phone number")
+            @Parameter(description = "Phone number to search for", required = true, example = "+1 234-567-890")
+            @Pattern(regexp = "^\\+?[0-9 ().-]{2,25}$", message = "Phone must be a valid phone number")
             @RequestParam String phone) {
         PatientResponse response = patientService.getPatientByPhone(phone);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Search patients by name: prefix, case-insensitive and typo-tolerant over first and last name
+     * GET /api/v1/patients/search?q=jon smi&limit=10
+     */
+    @GetMapping(value = "/search", params = "q")
+    @Operation(summary = "Search patients by name",
+               description = "Find patients whose first or last name matches every query word, allowing "
+                       + "partial words and typos; best matches first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching patients (may be empty list)",
+                content = @Content(schema = @Schema(implementation = PatientResponse.class)))
+    })
+    public ResponseEntity<List<PatientResponse>> searchPatientsByName(
+            @Parameter(description = "Name words to search for", required = true, example = "jon smi")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results (max 50)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(patientService.searchPatients(q, limit));
+    }
+
     /**
      * Search for patients by last name
      */
@@ -190,4 +276,18 @@ public class PatientController {
         List<PatientResponse> responses = patientService.getPatientsByLastName(lastname);
         return ResponseEntity.ok(responses);
     }
+
+    /**
+     * Duplicate-email filter statistics
+     * GET /api/v1/patients/email-filter/stats
+     */
+    @GetMapping("/email-filter/stats")
+    @Operation(summary = "Get duplicate email filter statistics",
+               description = "Size, fill and observed false positive rate of the Bloom filter in front of the duplicate email check")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully")
+    })
+    public ResponseEntity<KeyFilterStatsResponse> getEmailFilterStats() {
+        return ResponseEntity.ok(patientService.getEmailFilterStats());
+    }
 }
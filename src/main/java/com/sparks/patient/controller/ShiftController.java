@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -43,6 +44,7 @@ import lombok.RequiredArgsConstructor;
 public class ShiftController {
 
     private final ShiftService shiftService;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * Create a new shift
@@ -57,9 +59,10 @@ public class ShiftController {
                 content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     public ResponseEntity<ShiftResponse> createShift(
-            @Valid @RequestBody ShiftRequest request) {
-        ShiftResponse response = shiftService.createShift(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            @Valid @RequestBody ShiftRequest request,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return idempotencyStore.execute("POST /api/v1/shifts", idempotencyKey, request,
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(shiftService.createShift(request)));
     }
 
     /**
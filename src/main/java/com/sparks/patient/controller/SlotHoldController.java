@@ -0,0 +1,105 @@
+package com.sparks.patient.controller;
+
+import javax.validation.Valid;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sparks.patient.dto.ErrorResponse;
+import com.sparks.patient.dto.SlotHoldRequest;
+import com.sparks.patient.dto.SlotHoldResponse;
+import com.sparks.patient.service.SlotHoldService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST Controller for slot holds
+ * 
+ * The booking UI holds a slot while the patient fills in details, then books it with
+ * POST /api/appointments passing the holdId. Holds lapse on their own after a few minutes.
+ */
+@RestController
+@RequestMapping("/api/v1/holds")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Slot Holds", description = "APIs for holding a slot before booking it")
+public class SlotHoldController {
+
+    private final SlotHoldService slotHoldService;
+    private final IdempotencyStore idempotencyStore;
+
+    /**
+     * Hold a slot
+     * POST /api/v1/holds
+     */
+    @PostMapping
+    @Operation(summary = "Hold a slot", description = "Reserve a doctor's slot for a few minutes before booking it")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Slot held",
+                content = @Content(schema = @Schema(implementation = SlotHoldResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Doctor not found",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "409", description = "Slot already booked, held or outside the doctor's shifts",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<SlotHoldResponse> createHold(
+            @Valid @RequestBody SlotHoldRequest request,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        log.info("POST /api/v1/holds - Holding slot of doctor {} at {}",
+                 request.getDoctorId(), request.getAppointmentTime());
+        return idempotencyStore.execute("POST /api/v1/holds", idempotencyKey, request,
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(slotHoldService.createHold(request)));
+    }
+
+    /**
+     * Get a hold
+     * GET /api/v1/holds/{holdId}
+     */
+    @GetMapping("/{holdId}")
+    @Operation(summary = "Get a slot hold", description = "A live hold and its expiry")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Hold retrieved"),
+        @ApiResponse(responseCode = "404", description = "Hold not found or expired",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<SlotHoldResponse> getHold(
+            @Parameter(description = "Hold ID", required = true) @PathVariable String holdId) {
+        return ResponseEntity.ok(slotHoldService.getHold(holdId));
+    }
+
+    /**
+     * Release a hold
+     * DELETE /api/v1/holds/{holdId}
+     */
+    @DeleteMapping("/{holdId}")
+    @Operation(summary = "Release a slot hold", description = "Free the slot before the hold expires")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Hold released"),
+        @ApiResponse(responseCode = "404", description = "Hold not found or expired",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<Void> releaseHold(
+            @Parameter(description = "Hold ID", required = true) @PathVariable String holdId) {
+        log.info("DELETE /api/v1/holds/{} - Releasing slot hold", holdId);
+        slotHoldService.releaseHold(holdId);
+        return ResponseEntity.noContent().build();
+    }
+}
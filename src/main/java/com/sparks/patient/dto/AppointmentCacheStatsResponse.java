@@ -0,0 +1,33 @@
+package com.sparks.patient.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Counters of the appointment lookup cache since startup
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Appointment lookup cache statistics")
+public class AppointmentCacheStatsResponse {
+
+    @Schema(description = "Lookups answered from the cache", example = "9500")
+    private long hitCount;
+
+    @Schema(description = "Lookups that went to the database", example = "500")
+    private long missCount;
+
+    @Schema(description = "Share of lookups answered from the cache", example = "0.95")
+    private double hitRate;
+
+    @Schema(description = "Entries dropped for size or expiry", example = "120")
+    private long evictionCount;
+
+    @Schema(description = "Approximate number of cached entries", example = "380")
+    private long size;
+}
@@ -0,0 +1,58 @@
+package com.sparks.patient.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Change to a doctor's appointments, pushed to subscribers of the doctor's event stream.
+ * 
+ * CREATED and STATUS_CHANGED carry the appointment as it is after the change.
+ * DAY_STATUS_CHANGED reports a set-based status change of a whole day (date, status and
+ * number of rows updated); clients reload that day.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Appointment change event")
+public class AppointmentEvent {
+
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED,
+        DAY_STATUS_CHANGED
+    }
+
+    @Schema(description = "Kind of change", example = "CREATED")
+    private Type type;
+
+    @Schema(description = "Doctor whose appointments changed", example = "1")
+    private Long doctorId;
+
+    @Schema(description = "The appointment after the change (CREATED, STATUS_CHANGED)")
+    private AppointmentResponse appointment;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @Schema(description = "Day whose appointments changed (DAY_STATUS_CHANGED)", example = "2026-02-10")
+    private LocalDate date;
+
+    @Schema(description = "New status (DAY_STATUS_CHANGED)", example = "COMPLETED")
+    private String status;
+
+    @Schema(description = "Number of appointments changed (DAY_STATUS_CHANGED)", example = "7")
+    private Integer updated;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "When the change happened")
+    private LocalDateTime occurredAt;
+}
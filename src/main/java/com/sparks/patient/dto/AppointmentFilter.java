@@ -0,0 +1,36 @@
+package com.sparks.patient.dto;
+
+import java.time.LocalDateTime;
+
+import com.sparks.patient.entity.Appointment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Optional filters for appointment list queries.
+ * Every field is optional; a null field does not restrict the result.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentFilter {
+
+    private Long patientId;
+
+    private Long doctorId;
+
+    /** Department of the attending doctor */
+    private Long deptId;
+
+    private Appointment.AppointmentStatus status;
+
+    /** Inclusive lower bound on appointment time */
+    private LocalDateTime from;
+
+    /** Exclusive upper bound on appointment time */
+    private LocalDateTime to;
+}
@@ -0,0 +1,32 @@
+package com.sparks.patient.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cursor-paginated page of appointments
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cursor-paginated page of appointments")
+public class AppointmentPageResponse {
+
+    @Schema(description = "Appointments on this page, ordered by appointment time")
+    private List<AppointmentResponse> content;
+
+    @Schema(description = "Number of appointments on this page", example = "50")
+    private int size;
+
+    @Schema(description = "Whether more appointments follow this page")
+    private boolean hasNext;
+
+    @Schema(description = "Opaque cursor to pass as 'cursor' to fetch the next page (null on the last page)")
+    private String nextCursor;
+}
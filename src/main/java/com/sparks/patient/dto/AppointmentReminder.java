@@ -0,0 +1,28 @@
+package com.sparks.patient.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What a ReminderSender needs to remind a patient of an upcoming appointment
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentReminder {
+
+    private Long id;
+    private String appointmentId;
+    private Long patientId;
+    private String patientName;
+    private String patientEmail;
+    private String patientPhone;
+    private Long doctorId;
+    private String doctorName;
+    private LocalDateTime appointmentTime;
+}
@@ -29,4 +29,9 @@ public class AppointmentRequest {
     @NotNull(message = "Appointment time is required")
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime appointmentTime;
+
+    /**
+     * Optional slot hold taken for this booking; released once the appointment is created
+     */
+    private String holdId;
 }
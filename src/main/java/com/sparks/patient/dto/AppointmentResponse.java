@@ -3,6 +3,7 @@ package com.sparks.patient.dto;
 import java.time.LocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.sparks.patient.entity.Appointment;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -35,6 +36,18 @@ public class AppointmentResponse {
     
     private String status;
     
+    private Long version;
+    
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime createdAt;
+
+    /**
+     * Constructor for JPQL constructor expressions, where the status arrives as the enum
+     */
+    public AppointmentResponse(Long id, String appointmentId, Long patientId, String patientName,
+                               Long doctorId, String doctorName, LocalDateTime appointmentTime,
+                               Appointment.AppointmentStatus status, Long version, LocalDateTime createdAt) {
+        this(id, appointmentId, patientId, patientName, doctorId, doctorName, appointmentTime,
+                status.name(), version, createdAt);
+    }
 }
@@ -0,0 +1,56 @@
+package com.sparks.patient.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.sparks.patient.entity.AppointmentSeries;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request to create a recurring appointment series; give either occurrenceCount or untilDate
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Recurring appointment series request")
+public class AppointmentSeriesRequest {
+
+    @NotNull(message = "Patient ID is required")
+    @Schema(description = "Patient ID", example = "1")
+    private Long patientId;
+
+    @NotNull(message = "Doctor ID is required")
+    @Schema(description = "Doctor ID", example = "2")
+    private Long doctorId;
+
+    @NotNull(message = "First appointment time is required")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Start of the first occurrence", example = "2026-02-09T10:00:00")
+    private LocalDateTime firstAppointmentTime;
+
+    @NotNull(message = "Frequency is required")
+    @Schema(description = "Repeat unit", example = "WEEKLY")
+    private AppointmentSeries.Frequency frequency;
+
+    @Min(value = 1, message = "Interval must be at least 1")
+    @Builder.Default
+    @Schema(description = "Repeat every this many units", example = "1")
+    private int repeatInterval = 1;
+
+    @Min(value = 1, message = "Occurrence count must be at least 1")
+    @Schema(description = "Number of occurrences", example = "52")
+    private Integer occurrenceCount;
+
+    @Schema(description = "Last day an occurrence may fall on (inclusive)", example = "2027-02-08")
+    private LocalDate untilDate;
+}
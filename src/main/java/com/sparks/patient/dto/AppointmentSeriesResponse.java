@@ -0,0 +1,57 @@
+package com.sparks.patient.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A recurring appointment series
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Recurring appointment series")
+public class AppointmentSeriesResponse {
+
+    @Schema(description = "Series ID", example = "7")
+    private Long id;
+
+    @Schema(description = "Patient ID", example = "1")
+    private Long patientId;
+
+    @Schema(description = "Doctor ID", example = "2")
+    private Long doctorId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Start of the first occurrence", example = "2026-02-09T10:00:00")
+    private LocalDateTime firstAppointmentTime;
+
+    @Schema(description = "Repeat unit", example = "WEEKLY")
+    private String frequency;
+
+    @Schema(description = "Repeat every this many units", example = "1")
+    private int repeatInterval;
+
+    @Schema(description = "Number of occurrences, if bounded by count", example = "52")
+    private Integer occurrenceCount;
+
+    @Schema(description = "Last day an occurrence may fall on, if bounded by date", example = "2027-02-08")
+    private LocalDate untilDate;
+
+    @Schema(description = "Total number of occurrences", example = "52")
+    private int occurrences;
+
+    @Schema(description = "Occurrences that cannot be booked as things stand (on creation only)")
+    private List<SeriesOccurrenceResponse> conflicts;
+}
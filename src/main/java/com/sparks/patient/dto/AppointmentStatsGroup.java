@@ -0,0 +1,24 @@
+package com.sparks.patient.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of appointments in one group of the statistics
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Appointment count of one group")
+public class AppointmentStatsGroup {
+
+    @Schema(description = "Doctor id, department id, ISO day or status, depending on groupBy", example = "2")
+    private String key;
+
+    @Schema(description = "Number of appointments in the group", example = "42")
+    private long count;
+}
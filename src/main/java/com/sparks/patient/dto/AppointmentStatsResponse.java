@@ -0,0 +1,43 @@
+package com.sparks.patient.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Appointment counts grouped by one dimension, served from the statistics counters
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Aggregated appointment statistics")
+public class AppointmentStatsResponse {
+
+    @Schema(description = "Dimension the counts are grouped by", example = "doctor")
+    private String groupBy;
+
+    @Schema(description = "Number of live (not archived) appointments", example = "1200")
+    private long total;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "When the counters were last reconciled with the database", example = "2026-02-09T10:00:00")
+    private LocalDateTime reconciledAt;
+
+    @Schema(description = "Groups in key order; empty groups are left out")
+    private List<AppointmentStatsGroup> groups;
+
+    public enum GroupBy {
+        DOCTOR,
+        DAY,
+        STATUS,
+        DEPT
+    }
+}
@@ -0,0 +1,38 @@
+package com.sparks.patient.dto;
+
+import java.time.LocalDate;
+
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.sparks.patient.entity.Appointment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Status change for all of one doctor's appointments on one day
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch status change for a doctor's day")
+public class AppointmentStatusBatchRequest {
+
+    @NotNull(message = "Doctor ID is required")
+    @Schema(description = "Doctor whose appointments change", example = "1")
+    private Long doctorId;
+
+    @NotNull(message = "Date is required")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @Schema(description = "Day of the appointments", example = "2026-02-10")
+    private LocalDate date;
+
+    @NotNull(message = "Status is required")
+    @Schema(description = "Target status", example = "COMPLETED")
+    private Appointment.AppointmentStatus status;
+}
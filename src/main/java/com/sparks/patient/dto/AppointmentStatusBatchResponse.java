@@ -0,0 +1,31 @@
+package com.sparks.patient.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a batch status change
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch status change result")
+public class AppointmentStatusBatchResponse {
+
+    @Schema(description = "Appointments of the doctor on that day", example = "42")
+    private long matched;
+
+    @Schema(description = "Appointments moved to the target status", example = "38")
+    private long updated;
+
+    @Schema(description = "Appointments whose current status cannot move to the target (e.g. already CANCELLED)",
+            example = "3")
+    private long skipped;
+
+    @Schema(description = "Eligible appointments that changed concurrently and were left untouched", example = "1")
+    private long conflicted;
+}
@@ -0,0 +1,30 @@
+package com.sparks.patient.dto;
+
+import javax.validation.constraints.NotNull;
+
+import com.sparks.patient.entity.Appointment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Status change for a single appointment
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Appointment status change")
+public class AppointmentStatusUpdateRequest {
+
+    @NotNull(message = "Status is required")
+    @Schema(description = "Target status", example = "CONFIRMED")
+    private Appointment.AppointmentStatus status;
+
+    @Schema(description = "Version last read by the client; the change is rejected if the appointment has moved on since",
+            example = "0")
+    private Long version;
+}
@@ -0,0 +1,33 @@
+package com.sparks.patient.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single item in a bulk appointment booking
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Result of one bulk booking item")
+public class BulkAppointmentItemResult {
+
+    @Schema(description = "Position of the item in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Whether the appointment was created")
+    private boolean success;
+
+    @Schema(description = "Generated appointment UUID (on success)")
+    private String appointmentId;
+
+    @Schema(description = "Failure reason (on failure)", example = "Patient not found with id: 1")
+    private String error;
+}
@@ -0,0 +1,32 @@
+package com.sparks.patient.dto;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk appointment booking request
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Bulk appointment booking request")
+public class BulkAppointmentRequest {
+
+    public static final int MAX_ITEMS = 10_000;
+
+    @NotEmpty(message = "At least one appointment is required")
+    @Size(max = MAX_ITEMS, message = "At most " + MAX_ITEMS + " appointments per request")
+    @Valid
+    @Schema(description = "Appointments to book", required = true)
+    private List<AppointmentRequest> appointments;
+}
@@ -0,0 +1,32 @@
+package com.sparks.patient.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk appointment booking response with per-item results
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Bulk appointment booking response")
+public class BulkAppointmentResponse {
+
+    @Schema(description = "Number of items received", example = "1000")
+    private int requested;
+
+    @Schema(description = "Number of appointments created", example = "998")
+    private int created;
+
+    @Schema(description = "Number of items rejected", example = "2")
+    private int failed;
+
+    @Schema(description = "Per-item results in request order")
+    private List<BulkAppointmentItemResult> results;
+}
@@ -0,0 +1,33 @@
+package com.sparks.patient.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One day of a doctor's calendar: shift windows and the appointments booked that day
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Calendar day")
+public class CalendarDayResponse {
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @Schema(description = "Day", example = "2026-02-10")
+    private LocalDate date;
+
+    @Schema(description = "Merged shift windows on this day, ordered by start time")
+    private List<TimeSlot> shifts;
+
+    @Schema(description = "Appointments starting on this day (any status), ordered by time")
+    private List<AppointmentResponse> appointments;
+}
@@ -0,0 +1,43 @@
+package com.sparks.patient.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Free bookable slots for a doctor within a time window
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Doctor availability response")
+public class DoctorAvailabilityResponse {
+
+    @Schema(description = "Doctor ID", example = "1")
+    private Long doctorId;
+
+    @Schema(description = "Doctor's full name", example = "Dr. John Smith")
+    private String doctorName;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Window start (inclusive)")
+    private LocalDateTime from;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Window end (exclusive)")
+    private LocalDateTime to;
+
+    @Schema(description = "Slot length in minutes", example = "30")
+    private int slotMinutes;
+
+    @Schema(description = "Free slots ordered by start time")
+    private List<TimeSlot> slots;
+}
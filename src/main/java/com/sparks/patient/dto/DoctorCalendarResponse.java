@@ -0,0 +1,40 @@
+package com.sparks.patient.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A doctor's day sheet for a range of days
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Doctor calendar response")
+public class DoctorCalendarResponse {
+
+    @Schema(description = "Doctor ID", example = "1")
+    private Long doctorId;
+
+    @Schema(description = "Doctor's full name", example = "Dr. John Smith")
+    private String doctorName;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @Schema(description = "First day (inclusive)", example = "2026-02-09")
+    private LocalDate from;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @Schema(description = "Last day (exclusive)", example = "2026-02-16")
+    private LocalDate to;
+
+    @Schema(description = "One entry per day of the range, in order")
+    private List<CalendarDayResponse> days;
+}
@@ -0,0 +1,56 @@
+package com.sparks.patient.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Size and counters of a duplicate-check Bloom filter
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Duplicate-check Bloom filter statistics")
+public class KeyFilterStatsResponse {
+
+    @Schema(description = "False until the first rebuild; checks then all go to the database", example = "true")
+    private boolean loaded;
+
+    @Schema(description = "When the filter was last rebuilt from the table")
+    private LocalDateTime rebuiltAt;
+
+    @Schema(description = "Values the filter was sized for", example = "200000")
+    private long capacity;
+
+    @Schema(description = "Approximate number of distinct values added", example = "100000")
+    private long keyCount;
+
+    @Schema(description = "Size of the bit array", example = "1917056")
+    private long bitCount;
+
+    @Schema(description = "Bits set per value", example = "7")
+    private int hashCount;
+
+    @Schema(description = "Checks made against the filter since startup", example = "5000")
+    private long checkCount;
+
+    @Schema(description = "Checks answered without the database", example = "4990")
+    private long definiteNegativeCount;
+
+    @Schema(description = "Possible matches the database lookup denied", example = "8")
+    private long falsePositiveCount;
+
+    @Schema(description = "Observed share of absent values the filter could not rule out", example = "0.0016")
+    private double falsePositiveRate;
+
+    @Schema(description = "False positive rate predicted from the current fill", example = "0.0012")
+    private double expectedFalsePositiveRate;
+
+    @Schema(description = "Configured false positive rate at capacity", example = "0.01")
+    private double targetFalsePositiveRate;
+}
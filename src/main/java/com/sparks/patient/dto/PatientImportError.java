@@ -0,0 +1,27 @@
+package com.sparks.patient.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A CSV row that was not imported
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Rejected CSV row")
+public class PatientImportError {
+
+    @Schema(description = "Line of the file the row starts on (the header is line 1)", example = "42")
+    private long line;
+
+    @Schema(description = "Email of the row, if any", example = "john.doe@example.com")
+    private String email;
+
+    @Schema(description = "Why the row was rejected", example = "phone: Phone must be a valid phone number")
+    private String error;
+}
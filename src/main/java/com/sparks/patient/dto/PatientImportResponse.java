@@ -0,0 +1,35 @@
+package com.sparks.patient.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a CSV patient import with the rejected rows
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "CSV patient import report")
+public class PatientImportResponse {
+
+    @Schema(description = "Number of data rows read", example = "500000")
+    private long rows;
+
+    @Schema(description = "Number of patients created", example = "499990")
+    private long imported;
+
+    @Schema(description = "Number of rows rejected", example = "10")
+    private long failed;
+
+    @Schema(description = "Rejected rows in file order; capped, see errorsTruncated")
+    private List<PatientImportError> errors;
+
+    @Schema(description = "Whether more rows failed than are listed in errors", example = "false")
+    private boolean errorsTruncated;
+}
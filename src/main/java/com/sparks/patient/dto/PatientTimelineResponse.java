@@ -0,0 +1,24 @@
+package com.sparks.patient.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Patient chart: the profile and one page of appointment history
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Patient profile with a page of live and archived appointments, newest first")
+public class PatientTimelineResponse {
+
+    @Schema(description = "Patient profile")
+    private PatientResponse patient;
+
+    @Schema(description = "Appointment history page, newest first; pass nextCursor as 'cursor' for older visits")
+    private AppointmentPageResponse appointments;
+}
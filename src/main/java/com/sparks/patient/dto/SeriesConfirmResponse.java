@@ -0,0 +1,29 @@
+package com.sparks.patient.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of confirming a window of a series
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of confirming series occurrences")
+public class SeriesConfirmResponse {
+
+    @Schema(description = "Series ID", example = "7")
+    private Long seriesId;
+
+    @Schema(description = "Appointments created by this confirmation", example = "12")
+    private int created;
+
+    @Schema(description = "Every occurrence of the window after the confirmation")
+    private List<SeriesOccurrenceResponse> occurrences;
+}
@@ -0,0 +1,43 @@
+package com.sparks.patient.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One occurrence of a series, as it stands against the doctor's bookings and shifts
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Occurrence of an appointment series")
+public class SeriesOccurrenceResponse {
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Start of the occurrence", example = "2026-02-16T10:00:00")
+    private LocalDateTime appointmentTime;
+
+    @Schema(description = "AVAILABLE (not booked yet), BOOKED or CONFLICT", example = "AVAILABLE")
+    private OccurrenceStatus status;
+
+    @Schema(description = "Appointment UUID when booked")
+    private String appointmentId;
+
+    @Schema(description = "Why the occurrence cannot be booked", example = "Doctor 2 has no shift covering 2026-02-16T10:00")
+    private String reason;
+
+    public enum OccurrenceStatus {
+        AVAILABLE,
+        BOOKED,
+        CONFLICT
+    }
+}
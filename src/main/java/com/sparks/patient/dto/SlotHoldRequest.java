@@ -0,0 +1,33 @@
+package com.sparks.patient.dto;
+
+import java.time.LocalDateTime;
+
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request to hold a doctor's slot while the booking is being completed
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Slot hold request")
+public class SlotHoldRequest {
+
+    @NotNull(message = "Doctor ID is required")
+    @Schema(description = "Doctor ID", example = "2")
+    private Long doctorId;
+
+    @NotNull(message = "Appointment time is required")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Start of the slot to hold", example = "2026-02-09T10:00:00")
+    private LocalDateTime appointmentTime;
+}
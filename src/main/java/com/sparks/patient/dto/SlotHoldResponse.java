@@ -0,0 +1,36 @@
+package com.sparks.patient.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A held slot; pass the holdId when creating the appointment
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Slot hold")
+public class SlotHoldResponse {
+
+    @Schema(description = "Hold ID to pass as holdId when booking", example = "5f0c6a1e-9b3e-4f57-a2a4-7d1c2f0b9e11")
+    private String holdId;
+
+    @Schema(description = "Doctor ID", example = "2")
+    private Long doctorId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Start of the held slot", example = "2026-02-09T10:00:00")
+    private LocalDateTime appointmentTime;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "When the hold lapses unless the appointment is booked", example = "2026-02-01T09:05:00")
+    private LocalDateTime expiresAt;
+}
@@ -1,9 +1,12 @@
 package com.sparks.patient.entity;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.EnumSet;
+import java.util.Set;
 
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
@@ -11,13 +14,19 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import javax.persistence.Version;
 import javax.validation.constraints.NotNull;
 
+import com.sparks.patient.util.TimeOrderedUuid;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -30,20 +39,44 @@ import lombok.NoArgsConstructor;
  * Status: SCHEDULED (default)
  * 
  * Test Scenario: When a valid request is sent, Then an Appointment UUID is generated.
+ * The UUID is time-ordered (version 7) and stored in binary form.
  */
 @Entity
-@Table(name = "appointments")
+@Table(name = "appointments", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_appointment_doctor_active_slot", columnNames = {"doctor_id", "active_slot"})
+}, indexes = {
+    @Index(name = "idx_appointment_doctor_time", columnList = "doctor_id, appointment_time"),
+    @Index(name = "idx_appointment_patient_status", columnList = "patient_id, status"),
+    @Index(name = "idx_appointment_patient_time", columnList = "patient_id, appointment_time, id"),
+    @Index(name = "idx_appointment_time_id", columnList = "appointment_time, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Appointment {
 
+    /**
+     * Appointments carry only a start time; each one is assumed to occupy this long
+     * when computing availability and overlaps.
+     */
+    public static final Duration DEFAULT_DURATION = Duration.ofMinutes(30);
+
+    /**
+     * Sequence-generated (pooled, 50 ids per round trip) rather than IDENTITY so that
+     * Hibernate can batch inserts for bulk booking.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointment_seq")
+    @SequenceGenerator(name = "appointment_seq", sequenceName = "appointment_seq", allocationSize = 50)
     private Long id;
 
-    @Column(name = "appointment_id", nullable = false, unique = true, updatable = false)
+    /**
+     * Public identifier in canonical UUID string form, stored as BINARY(16).
+     * New values are time-ordered (UUIDv7) so inserts append to the unique index.
+     */
+    @Convert(converter = AppointmentIdConverter.class)
+    @Column(name = "appointment_id", nullable = false, unique = true, updatable = false, length = 16)
     private String appointmentId;
 
     @NotNull(message = "Patient is required")
@@ -60,12 +93,27 @@ public class Appointment {
     @Column(name = "appointment_time", nullable = false)
     private LocalDateTime appointmentTime;
 
+    /**
+     * Equal to appointmentTime while the appointment is live, null once cancelled.
+     * Backs the (doctor_id, active_slot) unique constraint: the database rejects two live
+     * bookings of a doctor at the same start time, while cancelled rows (NULL) never collide.
+     */
+    @Column(name = "active_slot")
+    private LocalDateTime activeSlot;
+
     @NotNull(message = "Status is required")
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
     @Builder.Default
     private AppointmentStatus status = AppointmentStatus.SCHEDULED;
 
+    /**
+     * Optimistic lock; also bumped by the set-based batch status update
+     */
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -74,23 +122,57 @@ public class Appointment {
 
     @PrePersist
     protected void onCreate() {
-        this.appointmentId = UUID.randomUUID().toString();
+        this.appointmentId = TimeOrderedUuid.generate().toString();
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
         if (this.status == null) {
             this.status = AppointmentStatus.SCHEDULED;
         }
+        syncActiveSlot();
     }
 
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
+        syncActiveSlot();
+    }
+
+    private void syncActiveSlot() {
+        this.activeSlot = this.status == AppointmentStatus.CANCELLED ? null : this.appointmentTime;
     }
 
+    /**
+     * Lifecycle: SCHEDULED -> CONFIRMED -> COMPLETED, with CANCELLED reachable from any live status.
+     * COMPLETED and CANCELLED are terminal.
+     */
     public enum AppointmentStatus {
         SCHEDULED,
         CONFIRMED,
         COMPLETED,
-        CANCELLED
+        CANCELLED;
+
+        public boolean canTransitionTo(AppointmentStatus target) {
+            switch (this) {
+                case SCHEDULED:
+                    return target != SCHEDULED;
+                case CONFIRMED:
+                    return target == COMPLETED || target == CANCELLED;
+                default:
+                    return false;
+            }
+        }
+
+        /**
+         * Statuses that may move to the target
+         */
+        public static Set<AppointmentStatus> sourcesOf(AppointmentStatus target) {
+            Set<AppointmentStatus> sources = EnumSet.noneOf(AppointmentStatus.class);
+            for (AppointmentStatus status : values()) {
+                if (status.canTransitionTo(target)) {
+                    sources.add(status);
+                }
+            }
+            return sources;
+        }
     }
 }
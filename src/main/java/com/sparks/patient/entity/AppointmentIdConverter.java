@@ -0,0 +1,28 @@
+package com.sparks.patient.entity;
+
+import java.util.UUID;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+import com.sparks.patient.util.TimeOrderedUuid;
+
+/**
+ * Stores the public appointment UUID string as 16 raw bytes.
+ * 
+ * Halves the key size of the appointment_id unique index compared to VARCHAR(36)
+ * while the entity and API keep the canonical string form.
+ */
+@Converter
+public class AppointmentIdConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String appointmentId) {
+        return appointmentId == null ? null : TimeOrderedUuid.toBytes(UUID.fromString(appointmentId));
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] column) {
+        return column == null ? null : TimeOrderedUuid.fromBytes(column).toString();
+    }
+}
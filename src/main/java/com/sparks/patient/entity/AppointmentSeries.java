@@ -0,0 +1,107 @@
+package com.sparks.patient.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.PrePersist;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Appointment Series - a recurring appointment stored as its pattern.
+ * 
+ * Occurrences start at firstAppointmentTime and repeat every {@code repeatInterval}
+ * days, weeks or months (an RRULE with FREQ, INTERVAL and COUNT or UNTIL). They are not
+ * stored: they are expanded for the window being looked at, and become Appointment rows
+ * only when confirmed. A year of weekly visits is this one row until then.
+ */
+@Entity
+@Table(name = "appointment_series", indexes = {
+    @Index(name = "idx_series_patient", columnList = "patient_id"),
+    @Index(name = "idx_series_doctor", columnList = "doctor_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Patient is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "patient_id", nullable = false)
+    private Patient patient;
+
+    @NotNull(message = "Doctor is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "doctor_id", nullable = false)
+    private Doctor doctor;
+
+    @NotNull(message = "First appointment time is required")
+    @Column(name = "first_appointment_time", nullable = false)
+    private LocalDateTime firstAppointmentTime;
+
+    @NotNull(message = "Frequency is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "frequency", nullable = false, length = 10)
+    private Frequency frequency;
+
+    @Column(name = "repeat_interval", nullable = false)
+    private int repeatInterval;
+
+    /**
+     * Number of occurrences; either this or untilDate bounds the series
+     */
+    @Column(name = "occurrence_count")
+    private Integer occurrenceCount;
+
+    /**
+     * Last day an occurrence may fall on (inclusive)
+     */
+    @Column(name = "until_date")
+    private LocalDate untilDate;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public enum Frequency {
+        DAILY(ChronoUnit.DAYS),
+        WEEKLY(ChronoUnit.WEEKS),
+        MONTHLY(ChronoUnit.MONTHS);
+
+        private final ChronoUnit unit;
+
+        Frequency(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        public ChronoUnit getUnit() {
+            return unit;
+        }
+    }
+}
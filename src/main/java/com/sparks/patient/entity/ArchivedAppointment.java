@@ -0,0 +1,76 @@
+package com.sparks.patient.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Immutable;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Archived Appointment - finished (COMPLETED or CANCELLED) appointments moved out of the
+ * live appointments table by the archival job.
+ * 
+ * Rows keep the id and public UUID they had while live and are never changed again.
+ * They are only read when a caller asks for appointment history.
+ */
+@Entity
+@Immutable
+@Table(name = "appointments_archive", indexes = {
+    @Index(name = "idx_archive_doctor_time", columnList = "doctor_id, appointment_time"),
+    @Index(name = "idx_archive_patient_time", columnList = "patient_id, appointment_time")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedAppointment {
+
+    @Id
+    private Long id;
+
+    @Convert(converter = AppointmentIdConverter.class)
+    @Column(name = "appointment_id", nullable = false, unique = true, updatable = false, length = 16)
+    private String appointmentId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "patient_id", nullable = false)
+    private Patient patient;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "doctor_id", nullable = false)
+    private Doctor doctor;
+
+    @Column(name = "appointment_time", nullable = false)
+    private LocalDateTime appointmentTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Appointment.AppointmentStatus status;
+
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
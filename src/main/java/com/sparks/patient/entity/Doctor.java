@@ -7,6 +7,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
 import javax.persistence.Table;
@@ -30,7 +31,9 @@ import lombok.NoArgsConstructor;
  */
 @Entity
 @Table(name = "doctors", uniqueConstraints = {
-    @UniqueConstraint(name = "uk_doctor_license", columnNames = "license_number")
+    @UniqueConstraint(name = Doctor.LICENSE_CONSTRAINT, columnNames = "license_number")
+}, indexes = {
+    @Index(name = "idx_doctor_dept", columnList = "dept_id")
 })
 @Data
 @Builder
@@ -38,6 +41,11 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class Doctor {
 
+    /**
+     * Unique constraint on licenseNumber; a violation of it is reported as a duplicate license
+     */
+    public static final String LICENSE_CONSTRAINT = "uk_doctor_license";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -49,7 +57,7 @@ public class Doctor {
 
     @NotBlank(message = "License number is required")
     @Size(min = 5, max = 50, message = "License number must be between 5 and 50 characters")
-    @Column(name = "license_number", nullable = false, length = 50, unique = true)
+    @Column(name = "license_number", nullable = false, length = 50)
     private String licenseNumber;
 
     @NotBlank(message = "Specialization is required")
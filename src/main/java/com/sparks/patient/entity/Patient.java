@@ -11,7 +11,9 @@ import javax.persistence.Id;
 import javax.persistence.Index;
 import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -19,6 +21,8 @@ import javax.validation.constraints.Past;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 
+import com.sparks.patient.util.PhoneNumbers;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -31,10 +35,16 @@ import lombok.NoArgsConstructor;
  * Constraints:
  * - Email must be unique
  * - All required fields must be validated
+ * 
+ * phoneKey is the E.164 form of phone, derived on every write; phone lookups go through it.
  */
 @Entity
-@Table(name = "patients", indexes = {
-    @Index(name = "idx_patient_email", columnList = "email")
+@Table(name = "patients", uniqueConstraints = {
+    @UniqueConstraint(name = Patient.EMAIL_CONSTRAINT, columnNames = "email")
+}, indexes = {
+    @Index(name = "idx_patient_email", columnList = "email"),
+    @Index(name = "idx_patient_phone_key", columnList = "phone_key"),
+    @Index(name = "idx_patient_last_name", columnList = "last_name")
 })
 @Data
 @Builder
@@ -42,8 +52,18 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class Patient {
 
+    /**
+     * Unique constraint on email; a violation of it is reported as a duplicate email
+     */
+    public static final String EMAIL_CONSTRAINT = "uk_patient_email";
+
+    /**
+     * Sequence-generated (pooled, 50 ids per round trip) rather than IDENTITY so that
+     * Hibernate can batch inserts for CSV imports.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "patient_seq")
+    @SequenceGenerator(name = "patient_seq", sequenceName = "patient_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "First name is required")
@@ -63,7 +83,7 @@ public class Patient {
 
     @NotBlank(message = "Email is required")
     @Email(message = "Email must be a valid email address")
-    @Column(name = "email", nullable = false, unique = true, length = 255)
+    @Column(name = "email", nullable = false, length = 255)
     private String email;
 
     @NotBlank(message = "Phone number is required")
@@ -71,6 +91,9 @@ public class Patient {
     @Column(name = "phone", nullable = false, length = 20)
     private String phone;
 
+    @Column(name = "phone_key", length = 16)
+    private String phoneKey;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -81,10 +104,12 @@ public class Patient {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        phoneKey = PhoneNumbers.toKey(phone);
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        phoneKey = PhoneNumbers.toKey(phone);
     }
 }
@@ -0,0 +1,74 @@
+package com.sparks.patient.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Reminder Delivery - delivery state of the reminder for one appointment.
+ * 
+ * Keyed by the appointment's id, so an appointment can only ever be claimed once: a row is
+ * written (PENDING) before the reminder is handed to the sender, then marked SENT or FAILED.
+ * FAILED reminders are claimed again by later runs up to a maximum number of attempts; a
+ * PENDING row left behind by a crash is never resent.
+ */
+@Entity
+@Table(name = "reminder_deliveries", indexes = {
+    @Index(name = "idx_reminder_appointment_time", columnList = "appointment_time")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderDelivery {
+
+    /**
+     * The appointment's id (appointments.id)
+     */
+    @Id
+    private Long id;
+
+    @Column(name = "appointment_time", nullable = false)
+    private LocalDateTime appointmentTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private DeliveryStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * Also lets Spring Data tell new rows (null version) from existing ones without a SELECT
+     */
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    public enum DeliveryStatus {
+        PENDING,
+        SENT,
+        FAILED
+    }
+}
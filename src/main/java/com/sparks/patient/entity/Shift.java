@@ -8,6 +8,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
 import javax.persistence.Table;
@@ -28,7 +29,10 @@ import lombok.NoArgsConstructor;
  * - endTime must be strictly after startTime
  */
 @Entity
-@Table(name = "shifts")
+@Table(name = "shifts", indexes = {
+    @Index(name = "idx_shift_doctor_time", columnList = "doctor_id, start_time, end_time"),
+    @Index(name = "idx_shift_room", columnList = "room")
+})
 @Data
 @Builder
 @NoArgsConstructor
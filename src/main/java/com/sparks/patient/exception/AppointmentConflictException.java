@@ -0,0 +1,18 @@
+package com.sparks.patient.exception;
+
+import java.time.LocalDateTime;
+
+/**
+ * Exception thrown when an appointment cannot be booked at the requested time
+ * (overlaps another appointment of the same doctor, or falls outside the doctor's shifts)
+ */
+public class AppointmentConflictException extends RuntimeException {
+
+    public AppointmentConflictException(String message) {
+        super(message);
+    }
+
+    public AppointmentConflictException(Long doctorId, LocalDateTime appointmentTime) {
+        super(String.format("Doctor %d already has an appointment overlapping %s", doctorId, appointmentTime));
+    }
+}
@@ -0,0 +1,16 @@
+package com.sparks.patient.exception;
+
+/**
+ * Exception thrown when an appointment was modified since the version the client last read
+ */
+public class AppointmentVersionConflictException extends RuntimeException {
+
+    public AppointmentVersionConflictException(String message) {
+        super(message);
+    }
+
+    public AppointmentVersionConflictException(String appointmentId, Long expectedVersion, Long actualVersion) {
+        super(String.format("Appointment %s was modified concurrently (expected version %d, current version %d)",
+                appointmentId, expectedVersion, actualVersion));
+    }
+}
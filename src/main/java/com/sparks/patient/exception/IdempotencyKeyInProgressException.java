@@ -0,0 +1,11 @@
+package com.sparks.patient.exception;
+
+/**
+ * Exception thrown when the original request for an Idempotency-Key is still being processed
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    public IdempotencyKeyInProgressException(String key) {
+        super("A request with Idempotency-Key " + key + " is still being processed, please retry");
+    }
+}
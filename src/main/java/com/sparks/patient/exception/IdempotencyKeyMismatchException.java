@@ -0,0 +1,11 @@
+package com.sparks.patient.exception;
+
+/**
+ * Exception thrown when an Idempotency-Key is reused with a different request body
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    public IdempotencyKeyMismatchException(String key) {
+        super("Idempotency-Key " + key + " was already used with a different request");
+    }
+}
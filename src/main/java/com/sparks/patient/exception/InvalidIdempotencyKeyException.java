@@ -0,0 +1,11 @@
+package com.sparks.patient.exception;
+
+/**
+ * Exception thrown when an Idempotency-Key header is blank or too long
+ */
+public class InvalidIdempotencyKeyException extends RuntimeException {
+
+    public InvalidIdempotencyKeyException(int maxLength) {
+        super("Idempotency-Key must be between 1 and " + maxLength + " characters");
+    }
+}
@@ -0,0 +1,11 @@
+package com.sparks.patient.exception;
+
+/**
+ * Exception thrown when an import file cannot be read at all (empty, or missing header columns)
+ */
+public class InvalidImportFileException extends RuntimeException {
+
+    public InvalidImportFileException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.sparks.patient.exception;
+
+/**
+ * Exception thrown when an appointment series pattern is invalid
+ * (no or both bounds, bad interval, or too many occurrences)
+ */
+public class InvalidSeriesException extends RuntimeException {
+
+    public InvalidSeriesException(String message) {
+        super(message);
+    }
+}
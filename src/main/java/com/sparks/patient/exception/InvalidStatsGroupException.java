@@ -0,0 +1,11 @@
+package com.sparks.patient.exception;
+
+/**
+ * Exception thrown when statistics are requested grouped by an unknown dimension
+ */
+public class InvalidStatsGroupException extends RuntimeException {
+
+    public InvalidStatsGroupException(String groupBy) {
+        super("Invalid groupBy '" + groupBy + "': expected doctor, day, status or dept");
+    }
+}
@@ -0,0 +1,18 @@
+package com.sparks.patient.exception;
+
+import com.sparks.patient.entity.Appointment.AppointmentStatus;
+
+/**
+ * Exception thrown when an appointment status change is not allowed by the lifecycle
+ * (e.g. reopening a COMPLETED or CANCELLED appointment)
+ */
+public class InvalidStatusTransitionException extends RuntimeException {
+
+    public InvalidStatusTransitionException(String message) {
+        super(message);
+    }
+
+    public InvalidStatusTransitionException(AppointmentStatus from, AppointmentStatus to) {
+        super(String.format("Cannot change appointment status from %s to %s", from, to));
+    }
+}
@@ -0,0 +1,11 @@
+package com.sparks.patient.exception;
+
+/**
+ * Exception thrown when an appointment series is not found
+ */
+public class SeriesNotFoundException extends RuntimeException {
+
+    public SeriesNotFoundException(Long id) {
+        super("Appointment series not found with id: " + id);
+    }
+}
@@ -0,0 +1,11 @@
+package com.sparks.patient.exception;
+
+/**
+ * Exception thrown when a slot hold does not exist or has already expired
+ */
+public class SlotHoldNotFoundException extends RuntimeException {
+
+    public SlotHoldNotFoundException(String holdId) {
+        super("Slot hold not found or expired: " + holdId);
+    }
+}
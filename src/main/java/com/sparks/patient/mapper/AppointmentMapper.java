@@ -33,6 +33,7 @@ public class AppointmentMapper {
                 .doctorName(appointment.getDoctor().getFullName())
                 .appointmentTime(appointment.getAppointmentTime())
                 .status(appointment.getStatus().name())
+                .version(appointment.getVersion())
                 .createdAt(appointment.getCreatedAt())
                 .build();
     }
@@ -1,31 +1,343 @@
 package com.sparks.patient.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.sparks.patient.dto.AppointmentReminder;
+import com.sparks.patient.dto.AppointmentResponse;
 import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.entity.ReminderDelivery;
 
 /**
  * Appointment Repository - SCRUM-23
+ * 
+ * Read paths select AppointmentResponse directly ({@link #SELECT_RESPONSE}), joining the
+ * patient and doctor in the same statement, so no entity is managed and no row triggers a
+ * lazy load. The entity finders fetch both associations through entity graphs, for write
+ * paths that need a managed Appointment.
  */
 @Repository
-public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
+public interface AppointmentRepository extends JpaRepository<Appointment, Long>, AppointmentSearchRepository {
+
+    /**
+     * Select clause building AppointmentResponse directly, for read paths that need no managed
+     * entity: no persistence-context entries, no dirty-checking snapshots, no mapper pass.
+     */
+    String SELECT_RESPONSE = "SELECT new com.sparks.patient.dto.AppointmentResponse(" +
+            "a.id, a.appointmentId, p.id, CONCAT(p.firstName, ' ', p.lastName), d.id, d.fullName, " +
+            "a.appointmentTime, a.status, a.version, a.createdAt) " +
+            "FROM Appointment a JOIN a.patient p JOIN a.doctor d ";
+
+    /**
+     * {@link #SELECT_RESPONSE} over the archive of finished appointments
+     */
+    String SELECT_ARCHIVED_RESPONSE = "SELECT new com.sparks.patient.dto.AppointmentResponse(" +
+            "a.id, a.appointmentId, p.id, CONCAT(p.firstName, ' ', p.lastName), d.id, d.fullName, " +
+            "a.appointmentTime, a.status, a.version, a.createdAt) " +
+            "FROM ArchivedAppointment a JOIN a.patient p JOIN a.doctor d ";
 
+    /**
+     * Order of a history (live and archived rows together)
+     */
+    Comparator<AppointmentResponse> HISTORY_ORDER = Comparator
+            .comparing(AppointmentResponse::getAppointmentTime)
+            .thenComparing(AppointmentResponse::getId);
+
+    @EntityGraph(attributePaths = {"patient", "doctor"})
     Optional<Appointment> findByAppointmentId(String appointmentId);
     
+    @EntityGraph(attributePaths = {"patient", "doctor"})
     List<Appointment> findByPatientId(Long patientId);
     
+    @EntityGraph(attributePaths = {"patient", "doctor"})
     List<Appointment> findByDoctorId(Long doctorId);
     
+    @EntityGraph(attributePaths = {"patient", "doctor"})
     List<Appointment> findByPatientIdAndStatus(Long patientId, Appointment.AppointmentStatus status);
     
+    @EntityGraph(attributePaths = {"patient", "doctor"})
     List<Appointment> findByDoctorIdAndAppointmentTimeBetween(
         Long doctorId, 
         LocalDateTime startTime, 
         LocalDateTime endTime
     );
+
+    @Query(SELECT_RESPONSE + "WHERE a.appointmentId = :appointmentId")
+    Optional<AppointmentResponse> findResponseByAppointmentId(@Param("appointmentId") String appointmentId);
+
+    @Query(SELECT_RESPONSE + "WHERE p.id = :patientId")
+    List<AppointmentResponse> findResponsesByPatientId(@Param("patientId") Long patientId);
+
+    @Query(SELECT_RESPONSE + "WHERE d.id = :doctorId")
+    List<AppointmentResponse> findResponsesByDoctorId(@Param("doctorId") Long doctorId);
+
+    /**
+     * Projected, half-open variant of {@link #findByDoctorIdAndAppointmentTimeBetween}: a doctor's
+     * appointments in [from, to) ordered by time, read through the doctor/time index
+     */
+    @Query(SELECT_RESPONSE + "WHERE a.doctor.id = :doctorId " +
+           "AND a.appointmentTime >= :from AND a.appointmentTime < :to " +
+           "ORDER BY a.appointmentTime ASC, a.id ASC")
+    List<AppointmentResponse> findResponsesByDoctorIdBetween(
+            @Param("doctorId") Long doctorId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    @Query(SELECT_RESPONSE)
+    List<AppointmentResponse> findAllResponses();
+
+    @Query(SELECT_ARCHIVED_RESPONSE + "WHERE a.appointmentId = :appointmentId")
+    Optional<AppointmentResponse> findArchivedResponseByAppointmentId(@Param("appointmentId") String appointmentId);
+
+    @Query(SELECT_ARCHIVED_RESPONSE + "WHERE a.patient.id = :patientId")
+    List<AppointmentResponse> findArchivedResponsesByPatientId(@Param("patientId") Long patientId);
+
+    @Query(SELECT_ARCHIVED_RESPONSE + "WHERE a.doctor.id = :doctorId")
+    List<AppointmentResponse> findArchivedResponsesByDoctorId(@Param("doctorId") Long doctorId);
+
+    /**
+     * A patient's appointments; with includeArchived the archive is read as well and the
+     * combined history is ordered by time
+     */
+    default List<AppointmentResponse> findResponsesByPatientId(Long patientId, boolean includeArchived) {
+        List<AppointmentResponse> live = findResponsesByPatientId(patientId);
+        if (!includeArchived) {
+            return live;
+        }
+        return Stream.concat(findArchivedResponsesByPatientId(patientId).stream(), live.stream())
+                .sorted(HISTORY_ORDER)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Keyset page of a patient's live appointments strictly before (beforeTime, beforeId), newest
+     * first, read backwards along idx_appointment_patient_time
+     */
+    @Query(SELECT_RESPONSE + "WHERE a.patient.id = :patientId " +
+           "AND a.appointmentTime <= :beforeTime " +
+           "AND (a.appointmentTime < :beforeTime OR a.id < :beforeId) " +
+           "ORDER BY a.appointmentTime DESC, a.id DESC")
+    List<AppointmentResponse> findResponsesByPatientIdBefore(
+            @Param("patientId") Long patientId,
+            @Param("beforeTime") LocalDateTime beforeTime,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
+    /**
+     * {@link #findResponsesByPatientIdBefore} over the archive, read along idx_archive_patient_time
+     */
+    @Query(SELECT_ARCHIVED_RESPONSE + "WHERE a.patient.id = :patientId " +
+           "AND a.appointmentTime <= :beforeTime " +
+           "AND (a.appointmentTime < :beforeTime OR a.id < :beforeId) " +
+           "ORDER BY a.appointmentTime DESC, a.id DESC")
+    List<AppointmentResponse> findArchivedResponsesByPatientIdBefore(
+            @Param("patientId") Long patientId,
+            @Param("beforeTime") LocalDateTime beforeTime,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
+    /**
+     * One page of a patient's combined live and archived history before the keyset position,
+     * newest first. Each side is bounded by the limit, so the cost follows the page size and not
+     * the number of visits.
+     */
+    default List<AppointmentResponse> findHistoryBefore(Long patientId, LocalDateTime beforeTime, Long beforeId,
+                                                        int limit) {
+        Pageable page = PageRequest.of(0, limit);
+        return Stream.concat(
+                        findResponsesByPatientIdBefore(patientId, beforeTime, beforeId, page).stream(),
+                        findArchivedResponsesByPatientIdBefore(patientId, beforeTime, beforeId, page).stream())
+                .sorted(HISTORY_ORDER.reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * A doctor's appointments; with includeArchived the archive is read as well and the
+     * combined history is ordered by time
+     */
+    default List<AppointmentResponse> findResponsesByDoctorId(Long doctorId, boolean includeArchived) {
+        List<AppointmentResponse> live = findResponsesByDoctorId(doctorId);
+        if (!includeArchived) {
+            return live;
+        }
+        return Stream.concat(findArchivedResponsesByDoctorId(doctorId).stream(), live.stream())
+                .sorted(HISTORY_ORDER)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Next chunk of finished appointments that started before the cutoff, oldest first
+     */
+    @Query("SELECT a.id AS id, a.doctor.id AS doctorId, a.appointmentTime AS appointmentTime, " +
+           "a.status AS status FROM Appointment a " +
+           "WHERE a.appointmentTime < :cutoff AND a.status IN :statuses " +
+           "ORDER BY a.appointmentTime ASC, a.id ASC")
+    List<ArchivableAppointment> findArchivable(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("statuses") Collection<Appointment.AppointmentStatus> statuses,
+            Pageable pageable);
+
+    /**
+     * Next chunk of appointments due a reminder: starting in the window after the keyset
+     * position, in one of the statuses, and without a delivery record other than a retryable
+     * (FAILED) one with attempts left. Walks idx_appointment_time_id in (appointmentTime, id) order.
+     */
+    @Query("SELECT new com.sparks.patient.dto.AppointmentReminder(" +
+           "a.id, a.appointmentId, p.id, CONCAT(p.firstName, ' ', p.lastName), p.email, p.phone, " +
+           "d.id, d.fullName, a.appointmentTime) " +
+           "FROM Appointment a JOIN a.patient p JOIN a.doctor d " +
+           "WHERE a.appointmentTime >= :afterTime AND a.appointmentTime < :to " +
+           "AND (a.appointmentTime > :afterTime OR a.id > :afterId) AND a.status IN :statuses " +
+           "AND NOT EXISTS (SELECT r.id FROM ReminderDelivery r WHERE r.id = a.id " +
+           "    AND (r.status <> :retryable OR r.attempts >= :maxAttempts)) " +
+           "ORDER BY a.appointmentTime ASC, a.id ASC")
+    List<AppointmentReminder> findReminderCandidates(
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            @Param("to") LocalDateTime to,
+            @Param("statuses") Collection<Appointment.AppointmentStatus> statuses,
+            @Param("retryable") ReminderDelivery.DeliveryStatus retryable,
+            @Param("maxAttempts") int maxAttempts,
+            Pageable pageable);
+
+    /**
+     * Copy appointments into appointments_archive in one INSERT ... SELECT, without loading them.
+     * The live rows are removed afterwards with {@link #deleteAllByIdInBatch}.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO appointments_archive (id, appointment_id, patient_id, doctor_id, " +
+                   "appointment_time, status, version, created_at, updated_at, archived_at) " +
+                   "SELECT id, appointment_id, patient_id, doctor_id, " +
+                   "appointment_time, status, version, created_at, updated_at, :archivedAt " +
+                   "FROM appointments WHERE id IN (:ids)",
+           nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * Stream every appointment (with patient and doctor) in id order for exports.
+     * Must be consumed inside a transaction and closed after use.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT a FROM Appointment a JOIN FETCH a.patient JOIN FETCH a.doctor ORDER BY a.id")
+    Stream<Appointment> streamAll();
+
+    /**
+     * Whether the doctor has a non-excluded appointment starting strictly between the bounds.
+     * With bounds (t - duration, t + duration) this detects any booking overlapping [t, t + duration).
+     */
+    @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Appointment a " +
+           "WHERE a.doctor.id = :doctorId " +
+           "AND a.appointmentTime > :after AND a.appointmentTime < :before " +
+           "AND a.status <> :excludedStatus")
+    boolean existsOverlapping(
+            @Param("doctorId") Long doctorId,
+            @Param("after") LocalDateTime after,
+            @Param("before") LocalDateTime before,
+            @Param("excludedStatus") Appointment.AppointmentStatus excludedStatus);
+
+    /**
+     * Per-status counts of a doctor's appointments in [from, to)
+     */
+    @Query("SELECT a.status AS status, COUNT(a) AS total FROM Appointment a " +
+           "WHERE a.doctor.id = :doctorId " +
+           "AND a.appointmentTime >= :from AND a.appointmentTime < :to " +
+           "GROUP BY a.status")
+    List<StatusAppointmentCount> countPerStatusForDoctorBetween(
+            @Param("doctorId") Long doctorId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * Set-based status change for a doctor's appointments in [from, to) currently in one of the
+     * source statuses. Bumps the version so concurrent single-row editors fail their optimistic lock.
+     * Not for CANCELLED, which must also release the active slot: see {@link #cancelForDoctorBetween}.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Appointment a SET a.status = :status, a.version = a.version + 1, a.updatedAt = :now " +
+           "WHERE a.doctor.id = :doctorId " +
+           "AND a.appointmentTime >= :from AND a.appointmentTime < :to " +
+           "AND a.status IN :sources")
+    int updateStatusForDoctorBetween(
+            @Param("doctorId") Long doctorId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("sources") Collection<Appointment.AppointmentStatus> sources,
+            @Param("status") Appointment.AppointmentStatus status,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Set-based cancellation for a doctor's appointments in [from, to) currently in one of the
+     * source statuses, releasing their active slot.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Appointment a SET a.status = :status, a.activeSlot = NULL, " +
+           "a.version = a.version + 1, a.updatedAt = :now " +
+           "WHERE a.doctor.id = :doctorId " +
+           "AND a.appointmentTime >= :from AND a.appointmentTime < :to " +
+           "AND a.status IN :sources")
+    int cancelForDoctorBetween(
+            @Param("doctorId") Long doctorId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("sources") Collection<Appointment.AppointmentStatus> sources,
+            @Param("status") Appointment.AppointmentStatus status,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Booked start times for a set of doctors in [from, to), excluding one status
+     * (typically CANCELLED). Projects only two columns, no entity hydration.
+     */
+    @Query("SELECT a.doctor.id AS doctorId, a.appointmentTime AS appointmentTime FROM Appointment a " +
+           "WHERE a.doctor.id IN :doctorIds " +
+           "AND a.appointmentTime >= :fromTime AND a.appointmentTime < :toTime " +
+           "AND a.status <> :excludedStatus")
+    List<DoctorBookedTime> findBookedTimes(
+            @Param("doctorIds") Collection<Long> doctorIds,
+            @Param("fromTime") LocalDateTime fromTime,
+            @Param("toTime") LocalDateTime toTime,
+            @Param("excludedStatus") Appointment.AppointmentStatus excludedStatus);
+
+    /**
+     * Live appointments per doctor, for reconciling the statistics counters
+     */
+    @Query("SELECT a.doctor.id AS doctorId, COUNT(a) AS total FROM Appointment a GROUP BY a.doctor.id")
+    List<DoctorAppointmentCount> countPerDoctor();
+
+    /**
+     * Live appointments per start day, for reconciling the statistics counters
+     */
+    @Query("SELECT YEAR(a.appointmentTime) AS appointmentYear, MONTH(a.appointmentTime) AS appointmentMonth, " +
+           "DAY(a.appointmentTime) AS appointmentDay, COUNT(a) AS total FROM Appointment a " +
+           "GROUP BY YEAR(a.appointmentTime), MONTH(a.appointmentTime), DAY(a.appointmentTime)")
+    List<DayAppointmentCount> countPerDay();
+
+    /**
+     * Live appointments per status, for reconciling the statistics counters
+     */
+    @Query("SELECT a.status AS status, COUNT(a) AS total FROM Appointment a GROUP BY a.status")
+    List<StatusAppointmentCount> countPerStatus();
 }
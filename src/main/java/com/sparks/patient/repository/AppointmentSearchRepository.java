@@ -0,0 +1,23 @@
+package com.sparks.patient.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.entity.Appointment;
+
+/**
+ * Dynamic appointment reads built with the Criteria API
+ */
+public interface AppointmentSearchRepository {
+
+    /**
+     * Appointments matching the specification, projected straight to responses and ordered
+     * by (appointmentTime, id) so the result can be continued with a keyset cursor
+     *
+     * @param specification Filters, see {@link AppointmentSpecifications}
+     * @param limit Maximum number of rows
+     */
+    List<AppointmentResponse> findResponses(Specification<Appointment> specification, int limit);
+}
@@ -0,0 +1,59 @@
+package com.sparks.patient.repository;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.entity.Doctor;
+import com.sparks.patient.entity.Patient;
+
+/**
+ * Criteria counterpart of {@link AppointmentRepository#SELECT_RESPONSE}: the same constructor
+ * projection and joins, with the WHERE clause supplied by a specification.
+ */
+public class AppointmentSearchRepositoryImpl implements AppointmentSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AppointmentResponse> findResponses(Specification<Appointment> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AppointmentResponse> query = cb.createQuery(AppointmentResponse.class);
+        Root<Appointment> appointment = query.from(Appointment.class);
+        Join<Appointment, Patient> patient = appointment.join("patient");
+        Join<Appointment, Doctor> doctor = appointment.join("doctor");
+
+        query.select(cb.construct(AppointmentResponse.class,
+                appointment.get("id"),
+                appointment.get("appointmentId"),
+                patient.get("id"),
+                cb.concat(cb.concat(patient.<String>get("firstName"), " "), patient.<String>get("lastName")),
+                doctor.get("id"),
+                doctor.get("fullName"),
+                appointment.get("appointmentTime"),
+                appointment.get("status"),
+                appointment.get("version"),
+                appointment.get("createdAt")));
+
+        Predicate where = specification.toPredicate(appointment, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        query.orderBy(cb.asc(appointment.get("appointmentTime")), cb.asc(appointment.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,13 @@
+package com.sparks.patient.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.sparks.patient.entity.AppointmentSeries;
+
+/**
+ * Appointment Series Repository
+ */
+@Repository
+public interface AppointmentSeriesRepository extends JpaRepository<AppointmentSeries, Long> {
+}
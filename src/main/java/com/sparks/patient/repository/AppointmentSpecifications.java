@@ -0,0 +1,119 @@
+package com.sparks.patient.repository;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.sparks.patient.dto.AppointmentFilter;
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.entity.Doctor;
+
+/**
+ * Predicates for the appointment search, each returning null for an absent value so that
+ * an unused filter leaves no trace in the SQL.
+ *
+ * Unlike a catch-all query, whose {@code (:x IS NULL OR ...)} terms keep the optimizer from
+ * committing to an index, the statement built by {@link #matching} only contains the filters
+ * actually given. The optimizer picks the index from the columns those predicates constrain
+ * and the (appointmentTime, id) order of the page; the order of the terms in the WHERE clause
+ * plays no part.
+ */
+public final class AppointmentSpecifications {
+
+    private AppointmentSpecifications() {
+    }
+
+    /**
+     * All filters of the search. The indexes that can serve each combination:
+     * <ul>
+     *   <li>doctor: {@code idx_appointment_doctor_time} (doctor_id, appointment_time), which also
+     *   covers the time range and the page order</li>
+     *   <li>patient: {@code idx_appointment_patient_time} (patient_id, appointment_time, id), which
+     *   covers the page order; with a status filter {@code idx_appointment_patient_status}
+     *   (patient_id, status) can be the cheaper choice</li>
+     *   <li>department: doctors from {@code idx_doctor_dept}, then the doctor/time index</li>
+     *   <li>otherwise: {@code idx_appointment_time_id} (appointment_time, id)</li>
+     * </ul>
+     */
+    public static Specification<Appointment> matching(AppointmentFilter filter) {
+        return Specification.where(hasDoctor(filter.getDoctorId()))
+                .and(hasPatient(filter.getPatientId()))
+                .and(inDepartment(filter.getDeptId()))
+                .and(hasStatus(filter.getStatus()))
+                .and(startsFrom(filter.getFrom()))
+                .and(startsBefore(filter.getTo()));
+    }
+
+    public static Specification<Appointment> hasPatient(Long patientId) {
+        if (patientId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("patient").get("id"), patientId);
+    }
+
+    public static Specification<Appointment> hasDoctor(Long doctorId) {
+        if (doctorId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("doctor").get("id"), doctorId);
+    }
+
+    /**
+     * Doctor in the department, as {@code doctor_id IN (SELECT ...)} so the appointments side
+     * is still probed through the doctor/time index
+     */
+    public static Specification<Appointment> inDepartment(Long deptId) {
+        if (deptId == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<Long> doctors = query.subquery(Long.class);
+            Root<Doctor> doctor = doctors.from(Doctor.class);
+            doctors.select(doctor.<Long>get("id")).where(cb.equal(doctor.get("deptId"), deptId));
+            return root.get("doctor").get("id").in(doctors);
+        };
+    }
+
+    public static Specification<Appointment> hasStatus(Appointment.AppointmentStatus status) {
+        if (status == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * Inclusive lower bound on appointment time
+     */
+    public static Specification<Appointment> startsFrom(LocalDateTime from) {
+        if (from == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.<LocalDateTime>get("appointmentTime"), from);
+    }
+
+    /**
+     * Exclusive upper bound on appointment time
+     */
+    public static Specification<Appointment> startsBefore(LocalDateTime to) {
+        if (to == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThan(root.<LocalDateTime>get("appointmentTime"), to);
+    }
+
+    /**
+     * Keyset position: rows strictly after (afterTime, afterId) in (appointmentTime, id) order
+     */
+    public static Specification<Appointment> after(LocalDateTime afterTime, Long afterId) {
+        if (afterTime == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.<LocalDateTime>get("appointmentTime"), afterTime),
+                cb.and(cb.equal(root.get("appointmentTime"), afterTime),
+                        cb.greaterThan(root.<Long>get("id"), afterId)));
+    }
+}
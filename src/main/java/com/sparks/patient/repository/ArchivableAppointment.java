@@ -0,0 +1,19 @@
+package com.sparks.patient.repository;
+
+import java.time.LocalDateTime;
+
+import com.sparks.patient.entity.Appointment;
+
+/**
+ * Projection of a finished appointment picked up by the archival job
+ */
+public interface ArchivableAppointment {
+
+    Long getId();
+
+    Long getDoctorId();
+
+    LocalDateTime getAppointmentTime();
+
+    Appointment.AppointmentStatus getStatus();
+}
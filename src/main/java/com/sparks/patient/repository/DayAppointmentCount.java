@@ -0,0 +1,15 @@
+package com.sparks.patient.repository;
+
+/**
+ * Projection of the number of live appointments starting on one day
+ */
+public interface DayAppointmentCount {
+
+    Integer getAppointmentYear();
+
+    Integer getAppointmentMonth();
+
+    Integer getAppointmentDay();
+
+    Long getTotal();
+}
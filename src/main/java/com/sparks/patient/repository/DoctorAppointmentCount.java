@@ -0,0 +1,11 @@
+package com.sparks.patient.repository;
+
+/**
+ * Projection of the number of live appointments of one doctor
+ */
+public interface DoctorAppointmentCount {
+
+    Long getDoctorId();
+
+    Long getTotal();
+}
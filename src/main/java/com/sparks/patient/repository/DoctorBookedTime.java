@@ -0,0 +1,13 @@
+package com.sparks.patient.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a booked appointment start time for a doctor
+ */
+public interface DoctorBookedTime {
+
+    Long getDoctorId();
+
+    LocalDateTime getAppointmentTime();
+}
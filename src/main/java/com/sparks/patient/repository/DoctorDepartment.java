@@ -0,0 +1,11 @@
+package com.sparks.patient.repository;
+
+/**
+ * Projection of a doctor's department
+ */
+public interface DoctorDepartment {
+
+    Long getId();
+
+    Long getDeptId();
+}
@@ -1,10 +1,21 @@
 package com.sparks.patient.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.sparks.patient.dto.DoctorResponse;
 import com.sparks.patient.entity.Doctor;
 
 /**
@@ -14,6 +25,13 @@ import com.sparks.patient.entity.Doctor;
 @Repository
 public interface DoctorRepository extends JpaRepository<Doctor, Long> {
 
+    /**
+     * Select clause building DoctorResponse directly, for read paths that need no managed entity
+     */
+    String SELECT_RESPONSE = "SELECT new com.sparks.patient.dto.DoctorResponse(" +
+            "d.id, d.fullName, d.licenseNumber, d.specialization, d.deptId, d.createdAt, d.updatedAt) " +
+            "FROM Doctor d ";
+
     /**
      * Find doctor by license number
      * @param licenseNumber the license number to search for
@@ -27,4 +45,64 @@ public interface DoctorRepository extends JpaRepository<Doctor, Long> {
      * @return true if doctor exists, false otherwise
      */
     boolean existsByLicenseNumber(String licenseNumber);
+
+    /**
+     * Find all doctors in a department
+     * @param deptId the department ID
+     * @return List of doctors in the department
+     */
+    List<Doctor> findByDeptId(Long deptId);
+
+    /**
+     * Doctor profile by id, projected without entity hydration
+     * @param id the doctor ID
+     * @return Optional containing the profile if found
+     */
+    @Query(SELECT_RESPONSE + "WHERE d.id = :id")
+    Optional<DoctorResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * Doctor profile by license number, projected without entity hydration
+     * @param licenseNumber the license number
+     * @return Optional containing the profile if found
+     */
+    @Query(SELECT_RESPONSE + "WHERE d.licenseNumber = :licenseNumber")
+    Optional<DoctorResponse> findResponseByLicenseNumber(@Param("licenseNumber") String licenseNumber);
+
+    /**
+     * All doctor profiles in id order, projected without entity hydration
+     * @return List of profiles
+     */
+    @Query(SELECT_RESPONSE + "ORDER BY d.id")
+    List<DoctorResponse> findAllResponses();
+
+    /**
+     * Stream every license number for the duplicate-check filter.
+     * Must be consumed inside a transaction and closed after use.
+     * @return Stream of license numbers
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT d.licenseNumber FROM Doctor d")
+    Stream<String> streamLicenseNumbers();
+
+    /**
+     * Stream every doctor in id order for exports.
+     * Must be consumed inside a transaction and closed after use.
+     * @return Stream of doctors
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT d FROM Doctor d ORDER BY d.id")
+    Stream<Doctor> streamAll();
+
+    /**
+     * Department of every doctor, without loading the entities
+     */
+    @Query("SELECT d.id AS id, d.deptId AS deptId FROM Doctor d")
+    List<DoctorDepartment> findDepartments();
 }
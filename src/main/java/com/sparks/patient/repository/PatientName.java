@@ -0,0 +1,13 @@
+package com.sparks.patient.repository;
+
+/**
+ * Projection of a patient's name
+ */
+public interface PatientName {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+}
@@ -0,0 +1,11 @@
+package com.sparks.patient.repository;
+
+/**
+ * Projection of a patient's raw phone number
+ */
+public interface PatientPhone {
+
+    Long getId();
+
+    String getPhone();
+}
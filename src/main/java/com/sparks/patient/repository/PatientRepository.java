@@ -1,11 +1,26 @@
 package com.sparks.patient.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.sparks.patient.dto.PatientResponse;
 import com.sparks.patient.entity.Patient;
 
 /**
@@ -14,6 +29,13 @@ import com.sparks.patient.entity.Patient;
 @Repository
 public interface PatientRepository extends JpaRepository<Patient, Long> {
 
+    /**
+     * Select clause building PatientResponse directly, for read paths that need no managed entity
+     */
+    String SELECT_RESPONSE = "SELECT new com.sparks.patient.dto.PatientResponse(" +
+            "p.id, p.firstName, p.lastName, p.dob, p.email, p.phone, p.createdAt, p.updatedAt) " +
+            "FROM Patient p ";
+
     /**
      * Find patient by email address
      * @param email the email to search for
@@ -29,11 +51,11 @@ public interface PatientRepository extends JpaRepository<Patient, Long> {
     boolean existsByEmail(String email);
 
     /**
-     * Find patient by phone number
-     * @param phone the phone number to search for
-     * @return Optional containing the patient if found
+     * Find patients by canonical phone key (see PhoneNumbers)
+     * @param phoneKey the E.164 key to search for
+     * @return List of patients sharing the number
      */
-    Optional<Patient> findByPhone(String phone);
+    List<Patient> findByPhoneKey(String phoneKey);
 
     /**
      * Find all patients by last name
@@ -48,4 +70,119 @@ public interface PatientRepository extends JpaRepository<Patient, Long> {
      * @return Number of patients with matching last name
      */
     long countByLastName(String lastName);
+
+    /**
+     * Patient profile by id, projected without entity hydration
+     * @param id the patient ID
+     * @return Optional containing the profile if found
+     */
+    @Query(SELECT_RESPONSE + "WHERE p.id = :id")
+    Optional<PatientResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * Page of patient profiles, projected without entity hydration
+     * @param pageable page and sort
+     * @return Page of profiles
+     */
+    @Query(value = SELECT_RESPONSE, countQuery = "SELECT COUNT(p) FROM Patient p")
+    Page<PatientResponse> findAllResponses(Pageable pageable);
+
+    /**
+     * Patient profiles by canonical phone key, projected without entity hydration, oldest first
+     * @param phoneKey the E.164 key to search for
+     * @param pageable page size
+     * @return List of profiles sharing the number
+     */
+    @Query(SELECT_RESPONSE + "WHERE p.phoneKey = :phoneKey ORDER BY p.id")
+    List<PatientResponse> findResponsesByPhoneKey(@Param("phoneKey") String phoneKey, Pageable pageable);
+
+    /**
+     * Caller-ID lookup: the oldest patient registered with the number
+     * @param phoneKey the E.164 key to search for
+     * @return Optional containing the profile if found
+     */
+    default Optional<PatientResponse> findFirstResponseByPhoneKey(String phoneKey) {
+        return findResponsesByPhoneKey(phoneKey, PageRequest.of(0, 1)).stream().findFirst();
+    }
+
+    /**
+     * Patients whose phone key has not been derived yet, in id order after the given id
+     * @param afterId last id of the previous chunk
+     * @param pageable chunk size
+     * @return List of id and raw phone
+     */
+    @Query("SELECT p.id AS id, p.phone AS phone FROM Patient p " +
+           "WHERE p.phoneKey IS NULL AND p.id > :afterId ORDER BY p.id")
+    List<PatientPhone> findWithoutPhoneKey(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Set a patient's phone key without touching the rest of the row.
+     * Rows that gained a key in the meantime (an update through the entity) are left alone.
+     * @param id the patient ID
+     * @param phoneKey the E.164 key
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Patient p SET p.phoneKey = :phoneKey WHERE p.id = :id AND p.phoneKey IS NULL")
+    int updatePhoneKey(@Param("id") Long id, @Param("phoneKey") String phoneKey);
+
+    /**
+     * Patient profiles by last name, projected without entity hydration
+     * @param lastName the last name to search for
+     * @return List of profiles with matching last name
+     */
+    @Query(SELECT_RESPONSE + "WHERE p.lastName = :lastName")
+    List<PatientResponse> findResponsesByLastName(@Param("lastName") String lastName);
+
+    /**
+     * Patient profiles by id, projected without entity hydration, in no particular order
+     * @param ids the patient IDs
+     * @return List of the profiles that exist
+     */
+    @Query(SELECT_RESPONSE + "WHERE p.id IN :ids")
+    List<PatientResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Stream every patient name in id order for the name search index.
+     * Must be consumed inside a transaction and closed after use.
+     * @return Stream of names
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT p.id AS id, p.firstName AS firstName, p.lastName AS lastName FROM Patient p ORDER BY p.id")
+    Stream<PatientName> streamNames();
+
+    /**
+     * Which of the given emails are already taken
+     * @param emails emails to check
+     * @return the emails that exist
+     */
+    @Query("SELECT p.email FROM Patient p WHERE p.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Stream every patient email for the duplicate-check filter.
+     * Must be consumed inside a transaction and closed after use.
+     * @return Stream of emails
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT p.email FROM Patient p")
+    Stream<String> streamEmails();
+
+    /**
+     * Stream every patient in id order for exports.
+     * Must be consumed inside a transaction and closed after use.
+     * @return Stream of patients
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT p FROM Patient p ORDER BY p.id")
+    Stream<Patient> streamAll();
 }
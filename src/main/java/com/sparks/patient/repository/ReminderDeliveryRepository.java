@@ -0,0 +1,25 @@
+package com.sparks.patient.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.sparks.patient.entity.ReminderDelivery;
+
+/**
+ * Reminder Delivery Repository
+ */
+@Repository
+public interface ReminderDeliveryRepository extends JpaRepository<ReminderDelivery, Long> {
+
+    /**
+     * Drop delivery records of appointments that have started; they can no longer be reminded
+     */
+    @Modifying
+    @Query("DELETE FROM ReminderDelivery r WHERE r.appointmentTime < :cutoff")
+    int deleteForAppointmentsBefore(@Param("cutoff") LocalDateTime cutoff);
+}
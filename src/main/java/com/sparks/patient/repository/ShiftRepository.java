@@ -1,13 +1,23 @@
 package com.sparks.patient.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.sparks.patient.dto.ShiftResponse;
 import com.sparks.patient.entity.Shift;
 
 /**
@@ -19,6 +29,13 @@ import com.sparks.patient.entity.Shift;
 @Repository
 public interface ShiftRepository extends JpaRepository<Shift, Long> {
 
+    /**
+     * Select clause building ShiftResponse directly, for read paths that need no managed entity
+     */
+    String SELECT_RESPONSE = "SELECT new com.sparks.patient.dto.ShiftResponse(" +
+            "s.id, s.doctorId, s.startTime, s.endTime, s.room, s.createdAt, s.updatedAt) " +
+            "FROM Shift s ";
+
     /**
      * Find all shifts for a specific doctor
      * @param doctorId the doctor's ID
@@ -26,6 +43,13 @@ public interface ShiftRepository extends JpaRepository<Shift, Long> {
      */
     List<Shift> findByDoctorId(Long doctorId);
 
+    /**
+     * Find all shifts for a set of doctors
+     * @param doctorIds the doctors' IDs
+     * @return List of shifts for those doctors
+     */
+    List<Shift> findByDoctorIdIn(Collection<Long> doctorIds);
+
     /**
      * Find all shifts in a specific room
      * @param room the room name
@@ -81,4 +105,39 @@ public interface ShiftRepository extends JpaRepository<Shift, Long> {
             @Param("startTime") LocalTime startTime,
             @Param("endTime") LocalTime endTime,
             @Param("excludeShiftId") Long excludeShiftId);
+
+    /**
+     * Shift by id, projected without entity hydration
+     * @param id the shift ID
+     * @return Optional containing the shift if found
+     */
+    @Query(SELECT_RESPONSE + "WHERE s.id = :id")
+    Optional<ShiftResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * All shifts in id order, projected without entity hydration
+     * @return List of shifts
+     */
+    @Query(SELECT_RESPONSE + "ORDER BY s.id")
+    List<ShiftResponse> findAllResponses();
+
+    /**
+     * Shifts of a doctor, projected without entity hydration
+     * @param doctorId the doctor's ID
+     * @return List of shifts for the doctor
+     */
+    @Query(SELECT_RESPONSE + "WHERE s.doctorId = :doctorId")
+    List<ShiftResponse> findResponsesByDoctorId(@Param("doctorId") Long doctorId);
+
+    /**
+     * Stream every shift in id order for exports.
+     * Must be consumed inside a transaction and closed after use.
+     * @return Stream of shifts
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT s FROM Shift s ORDER BY s.id")
+    Stream<Shift> streamAll();
 }
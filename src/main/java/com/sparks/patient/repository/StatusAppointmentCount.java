@@ -0,0 +1,13 @@
+package com.sparks.patient.repository;
+
+import com.sparks.patient.entity.Appointment;
+
+/**
+ * Projection of the number of live appointments in one status
+ */
+public interface StatusAppointmentCount {
+
+    Appointment.AppointmentStatus getStatus();
+
+    Long getTotal();
+}
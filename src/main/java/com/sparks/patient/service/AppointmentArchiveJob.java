@@ -0,0 +1,43 @@
+package com.sparks.patient.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background job archiving finished appointments older than appointments.archive.min-age,
+ * so the live appointments table (and its indexes) only holds the working set.
+ * 
+ * Disabled with appointments.archive.enabled=false.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "appointments.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class AppointmentArchiveJob {
+
+    private final AppointmentArchiveService appointmentArchiveService;
+    private final Duration minAge;
+
+    public AppointmentArchiveJob(AppointmentArchiveService appointmentArchiveService,
+                                 @Value("${appointments.archive.min-age:P90D}") Duration minAge) {
+        this.appointmentArchiveService = appointmentArchiveService;
+        this.minAge = minAge;
+    }
+
+    @Scheduled(initialDelayString = "${appointments.archive.initial-delay:PT10M}",
+               fixedDelayString = "${appointments.archive.interval:PT1H}")
+    public void archiveFinishedAppointments() {
+        try {
+            appointmentArchiveService.archiveFinishedBefore(LocalDateTime.now().minus(minAge));
+        } catch (RuntimeException ex) {
+            // Chunks already moved stay committed; the next run picks up the rest
+            log.error("Appointment archival run failed", ex);
+        }
+    }
+}
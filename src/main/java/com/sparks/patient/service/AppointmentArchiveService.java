@@ -0,0 +1,16 @@
+package com.sparks.patient.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for moving finished appointments to the archive
+ */
+public interface AppointmentArchiveService {
+
+    /**
+     * Archive COMPLETED and CANCELLED appointments that started before the cutoff
+     * @param cutoff appointments starting before this time are archived
+     * @return the number of appointments archived
+     */
+    int archiveFinishedBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,94 @@
+package com.sparks.patient.service;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.repository.ArchivableAppointment;
+import com.sparks.patient.repository.AppointmentRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of AppointmentArchiveService
+ * 
+ * Moves rows in chunks, each in its own transaction: pick the oldest finished ids, copy them
+ * with one INSERT ... SELECT and delete them with one batch DELETE. Short transactions keep
+ * locks and undo small, and a failure only loses the current chunk.
+ * 
+ * Finished appointments are terminal, so no writer can change a row while it is moved. The
+ * lookup cache stays valid (by-id lookups fall back to the archive); calendar buckets of the
+ * moved days are invalidated since the calendar reads live rows only, and the moved rows
+ * leave the statistics counters, which count live rows too.
+ */
+@Service
+@Slf4j
+public class AppointmentArchiveServiceImpl implements AppointmentArchiveService {
+
+    static final Set<Appointment.AppointmentStatus> FINISHED =
+            EnumSet.of(Appointment.AppointmentStatus.COMPLETED, Appointment.AppointmentStatus.CANCELLED);
+
+    private final AppointmentRepository appointmentRepository;
+    private final DoctorCalendarCache doctorCalendarCache;
+    private final AppointmentStatsCounters appointmentStatsCounters;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public AppointmentArchiveServiceImpl(AppointmentRepository appointmentRepository,
+                                         DoctorCalendarCache doctorCalendarCache,
+                                         AppointmentStatsCounters appointmentStatsCounters,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${appointments.archive.chunk-size:500}") int chunkSize) {
+        this.appointmentRepository = appointmentRepository;
+        this.doctorCalendarCache = doctorCalendarCache;
+        this.appointmentStatsCounters = appointmentStatsCounters;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public int archiveFinishedBefore(LocalDateTime cutoff) {
+        log.info("Archiving finished appointments before {} (chunks of {})", cutoff, chunkSize);
+
+        int archived = 0;
+        int moved;
+        do {
+            Integer chunk = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            moved = chunk != null ? chunk : 0;
+            archived += moved;
+        } while (moved == chunkSize);
+
+        log.info("Archived {} appointments", archived);
+        return archived;
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<ArchivableAppointment> rows = appointmentRepository.findArchivable(
+                cutoff, FINISHED, PageRequest.of(0, chunkSize));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = rows.stream().map(ArchivableAppointment::getId).collect(Collectors.toList());
+
+        appointmentRepository.copyToArchive(ids, LocalDateTime.now());
+        appointmentRepository.deleteAllByIdInBatch(ids);
+        doctorCalendarCache.invalidateAfterCommit(rows.stream()
+                .map(row -> DoctorCalendarCache.DoctorDay.of(row.getDoctorId(), row.getAppointmentTime()))
+                .collect(Collectors.toSet()));
+        AppointmentStatsCounters.Delta stats = new AppointmentStatsCounters.Delta();
+        rows.forEach(row -> stats.removed(row.getDoctorId(), row.getAppointmentTime(), row.getStatus()));
+        appointmentStatsCounters.applyAfterCommit(stats);
+
+        log.debug("Archived chunk of {} appointments", ids.size());
+        return ids.size();
+    }
+}
@@ -0,0 +1,56 @@
+package com.sparks.patient.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.exception.InvalidCursorException;
+
+import lombok.Value;
+
+/**
+ * Keyset position in the (appointmentTime, id) ordering of appointments.
+ * 
+ * Encoded as an opaque URL-safe token so clients cannot depend on its layout.
+ */
+@Value
+public class AppointmentCursor {
+
+    private static final String SEPARATOR = "|";
+
+    LocalDateTime appointmentTime;
+    Long id;
+
+    /**
+     * Cursor pointing just after the given appointment
+     */
+    public static AppointmentCursor after(AppointmentResponse appointment) {
+        return new AppointmentCursor(appointment.getAppointmentTime(), appointment.getId());
+    }
+
+    /**
+     * Decode a token previously produced by {@link #encode()}
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static AppointmentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException(token);
+            }
+            return new AppointmentCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    public String encode() {
+        String raw = appointmentTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,288 @@
+package com.sparks.patient.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sparks.patient.dto.AppointmentEvent;
+import com.sparks.patient.util.DaemonThreads;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process fan-out of appointment changes to per-doctor subscribers (the SSE streams).
+ *
+ * Publishers never wait for subscribers: events are published after the writing transaction
+ * commits and only offered to each subscriber's bounded buffer. Dispatcher threads drain the
+ * buffers, one drain at a time per subscriber so events arrive in order. A subscriber whose
+ * buffer is full is a slow consumer and is disconnected, so a stalled client holds at most
+ * {@link #BUFFER_SIZE} events. Idle subscribers get a heartbeat so dead connections are noticed.
+ *
+ * Sends block on the client's socket. The dispatcher pool grows with the number of subscribers
+ * draining at once, so a client that stops reading only holds its own thread, and a send still
+ * blocked after appointments.events.send-timeout disconnects the subscriber and interrupts it.
+ */
+@Component
+@Slf4j
+public class AppointmentEventBus {
+
+    static final int BUFFER_SIZE = 256;
+
+    /**
+     * Queued like an event; delivered as {@link Listener#onHeartbeat()}
+     */
+    private static final AppointmentEvent HEARTBEAT = new AppointmentEvent();
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService watchdog;
+    private final int bufferSize;
+    private final Duration sendTimeout;
+
+    @Autowired
+    public AppointmentEventBus(@Value("${appointments.events.send-timeout:PT10S}") Duration sendTimeout) {
+        this(Executors.newCachedThreadPool(DaemonThreads.named("appointment-events-")), BUFFER_SIZE, sendTimeout);
+    }
+
+    AppointmentEventBus(ExecutorService dispatcher, int bufferSize, Duration sendTimeout) {
+        this.dispatcher = dispatcher;
+        ScheduledThreadPoolExecutor watchdog = new ScheduledThreadPoolExecutor(1, DaemonThreads.named("appointment-events-watchdog-"));
+        // Almost every send finishes in time; drop its cancelled timeout right away
+        watchdog.setRemoveOnCancelPolicy(true);
+        this.watchdog = watchdog;
+        this.bufferSize = bufferSize;
+        this.sendTimeout = sendTimeout;
+    }
+
+    /**
+     * Receives the events of one doctor; called from dispatcher threads, never concurrently
+     */
+    public interface Listener {
+
+        void onEvent(AppointmentEvent event) throws IOException;
+
+        void onHeartbeat() throws IOException;
+
+        /**
+         * The subscription ended: closed by the caller, failed delivery or slow consumer
+         */
+        void onClose();
+    }
+
+    /**
+     * Handle to stop receiving events; closing more than once is harmless
+     */
+    public interface Subscription extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    public Subscription subscribe(Long doctorId, Listener listener) {
+        Subscriber subscriber = new Subscriber(doctorId, listener);
+        subscribers.compute(doctorId, (id, current) -> {
+            Set<Subscriber> set = current != null ? current : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        log.debug("Subscribed to appointment events of doctor {}", doctorId);
+        return subscriber;
+    }
+
+    public boolean hasSubscribers(Long doctorId) {
+        return subscribers.containsKey(doctorId);
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    public void publishAfterCommit(AppointmentEvent event) {
+        publishAfterCommit(Collections.singletonList(event));
+    }
+
+    /**
+     * Deliver the events once the surrounding transaction commits (immediately outside one);
+     * nothing is delivered if it rolls back
+     */
+    public void publishAfterCommit(Collection<AppointmentEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> events.forEach(this::deliver));
+    }
+
+    @Scheduled(fixedDelayString = "${appointments.events.heartbeat:PT15S}")
+    public void heartbeat() {
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                if (subscriber.buffer.isEmpty()) {
+                    subscriber.offer(HEARTBEAT);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<Subscriber> all = new ArrayList<>();
+        subscribers.values().forEach(all::addAll);
+        all.forEach(Subscriber::close);
+        dispatcher.shutdownNow();
+        watchdog.shutdownNow();
+    }
+
+    private void deliver(AppointmentEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.getDoctorId());
+        if (targets != null) {
+            targets.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    private final class Subscriber implements Subscription {
+
+        private final Long doctorId;
+        private final Listener listener;
+        private final BlockingQueue<AppointmentEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        /**
+         * Thread blocked in a send, if any; the watchdog interrupts it only while it is set
+         */
+        private Thread sender;
+        private boolean expired;
+
+        private Subscriber(Long doctorId, Listener listener) {
+            this.doctorId = doctorId;
+            this.listener = listener;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void offer(AppointmentEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                log.warn("Disconnecting slow subscriber of doctor {}: {} events pending", doctorId, bufferSize);
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException ex) {
+                    draining.set(false);
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                AppointmentEvent event;
+                while (!closed.get() && (event = buffer.poll()) != null) {
+                    send(event);
+                }
+            } catch (IOException | RuntimeException ex) {
+                log.debug("Dropping subscriber of doctor {}: {}", doctorId, ex.toString());
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // An event offered after the last poll but before the flag was cleared
+            if (!closed.get() && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        /**
+         * One send, bounded by the send timeout
+         */
+        private void send(AppointmentEvent event) throws IOException {
+            synchronized (this) {
+                sender = Thread.currentThread();
+            }
+            ScheduledFuture<?> timeout;
+            try {
+                timeout = watchdog.schedule(this::expire, sendTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException ex) {
+                timeout = null;
+            }
+            try {
+                if (event == HEARTBEAT) {
+                    listener.onHeartbeat();
+                } else {
+                    listener.onEvent(event);
+                }
+            } finally {
+                if (timeout != null) {
+                    timeout.cancel(false);
+                }
+                synchronized (this) {
+                    sender = null;
+                    if (expired) {
+                        // Our interrupt must not leak into the next task of this pool thread
+                        Thread.interrupted();
+                    }
+                }
+            }
+        }
+
+        private void expire() {
+            synchronized (this) {
+                if (sender == null) {
+                    return;
+                }
+                expired = true;
+                sender.interrupt();
+            }
+            log.warn("Disconnecting subscriber of doctor {}: send blocked for over {}", doctorId, sendTimeout);
+            close();
+        }
+
+        @Override
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscribers.computeIfPresent(doctorId, (id, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+            buffer.clear();
+            try {
+                listener.onClose();
+            } catch (RuntimeException ex) {
+                log.debug("Subscriber of doctor {} failed to close: {}", doctorId, ex.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.sparks.patient.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sparks.patient.dto.AppointmentResponse;
+
+/**
+ * Read-through cache of AppointmentResponse keyed by appointmentId, for the polled
+ * GET /api/appointments/{appointmentId} endpoint.
+ *
+ * Entries are bounded by count and expire {@link #TIME_TO_LIVE} after being loaded.
+ * Writers invalidate after their transaction commits: a single appointment by id, or every
+ * entry of a patient or doctor whose name (part of the response) changed. Loads that may be
+ * stale are not kept (see {@link CommitInvalidatedCache}).
+ */
+@Component
+public class AppointmentLookupCache {
+
+    static final long MAXIMUM_SIZE = 10_000;
+    static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final CommitInvalidatedCache<String, AppointmentResponse> cache;
+
+    public AppointmentLookupCache() {
+        this(Ticker.systemTicker());
+    }
+
+    AppointmentLookupCache(Ticker ticker) {
+        this.cache = new CommitInvalidatedCache<>(MAXIMUM_SIZE, TIME_TO_LIVE, ticker);
+    }
+
+    /**
+     * Cached response for the id, or the loader's result (cached when present)
+     */
+    public Optional<AppointmentResponse> get(String appointmentId,
+                                             Function<String, Optional<AppointmentResponse>> loader) {
+        return cache.get(appointmentId, loader);
+    }
+
+    public void invalidateAfterCommit(String appointmentId) {
+        cache.invalidateAfterCommit(appointmentId);
+    }
+
+    public void invalidatePatientAfterCommit(Long patientId) {
+        cache.invalidateIfAfterCommit((id, response) -> patientId.equals(response.getPatientId()));
+    }
+
+    public void invalidateDoctorAfterCommit(Long doctorId) {
+        cache.invalidateIfAfterCommit((id, response) -> doctorId.equals(response.getDoctorId()));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
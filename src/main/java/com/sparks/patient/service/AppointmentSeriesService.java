@@ -0,0 +1,47 @@
+package com.sparks.patient.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.sparks.patient.dto.AppointmentSeriesRequest;
+import com.sparks.patient.dto.AppointmentSeriesResponse;
+import com.sparks.patient.dto.SeriesConfirmResponse;
+import com.sparks.patient.dto.SeriesOccurrenceResponse;
+
+/**
+ * Service interface for recurring appointment series
+ */
+public interface AppointmentSeriesService {
+
+    /**
+     * Create a series; nothing is booked until occurrences are confirmed
+     * @param request the pattern
+     * @return the series with the occurrences that conflict today
+     */
+    AppointmentSeriesResponse createSeries(AppointmentSeriesRequest request);
+
+    /**
+     * Get a series
+     * @param id the series ID
+     * @return the series
+     */
+    AppointmentSeriesResponse getSeries(Long id);
+
+    /**
+     * Expand a series over a date range
+     * @param id the series ID
+     * @param from first day (inclusive)
+     * @param to last day (exclusive)
+     * @return the occurrences in the range, each checked against the doctor's bookings and shifts
+     */
+    List<SeriesOccurrenceResponse> getOccurrences(Long id, LocalDate from, LocalDate to);
+
+    /**
+     * Book every available occurrence in a date range
+     * @param id the series ID
+     * @param from first day (inclusive)
+     * @param to last day (exclusive)
+     * @return the appointments created and the resulting state of each occurrence
+     */
+    SeriesConfirmResponse confirmOccurrences(Long id, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,265 @@
+package com.sparks.patient.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sparks.patient.dto.AppointmentRequest;
+import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.dto.AppointmentSeriesRequest;
+import com.sparks.patient.dto.AppointmentSeriesResponse;
+import com.sparks.patient.dto.BulkAppointmentItemResult;
+import com.sparks.patient.dto.BulkAppointmentResponse;
+import com.sparks.patient.dto.SeriesConfirmResponse;
+import com.sparks.patient.dto.SeriesOccurrenceResponse;
+import com.sparks.patient.dto.SeriesOccurrenceResponse.OccurrenceStatus;
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.entity.AppointmentSeries;
+import com.sparks.patient.entity.Doctor;
+import com.sparks.patient.entity.Patient;
+import com.sparks.patient.entity.Shift;
+import com.sparks.patient.exception.AppointmentConflictException;
+import com.sparks.patient.exception.DoctorNotFoundException;
+import com.sparks.patient.exception.InvalidSeriesException;
+import com.sparks.patient.exception.InvalidTimeSlotException;
+import com.sparks.patient.exception.PatientNotFoundException;
+import com.sparks.patient.exception.SeriesNotFoundException;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.AppointmentSeriesRepository;
+import com.sparks.patient.repository.DoctorRepository;
+import com.sparks.patient.repository.PatientRepository;
+import com.sparks.patient.repository.ShiftRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Appointment Series Service Implementation
+ *
+ * A series is stored as one row; its occurrences are expanded with {@link SeriesRecurrence}
+ * for the window asked for. Checking a window costs one range query for the doctor's
+ * bookings plus one shift lookup, whatever the number of occurrences: every occurrence is
+ * then classified in memory (BOOKED for the patient's own appointment at that time,
+ * CONFLICT when it overlaps another booking, falls outside the shifts or is held,
+ * AVAILABLE otherwise).
+ *
+ * Confirming books the available occurrences of a window through
+ * {@link AppointmentService#createAppointments}, in the same transaction, so they get the
+ * bulk path's doctor lock, re-check and batched inserts.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class AppointmentSeriesServiceImpl implements AppointmentSeriesService {
+
+    static final int MAX_OCCURRENCES = 366;
+    static final Period MAX_SPAN = Period.ofYears(2);
+
+    private final AppointmentSeriesRepository appointmentSeriesRepository;
+    private final PatientRepository patientRepository;
+    private final DoctorRepository doctorRepository;
+    private final ShiftRepository shiftRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentService appointmentService;
+    private final SlotHoldRegistry slotHoldRegistry;
+
+    @Override
+    public AppointmentSeriesResponse createSeries(AppointmentSeriesRequest request) {
+        log.info("Creating {} series for patient {} with doctor {} from {}", request.getFrequency(),
+                 request.getPatientId(), request.getDoctorId(), request.getFirstAppointmentTime());
+        validateBounds(request);
+
+        Patient patient = patientRepository.findById(request.getPatientId())
+                .orElseThrow(() -> new PatientNotFoundException(
+                        "Patient not found with id: " + request.getPatientId()));
+        Doctor doctor = doctorRepository.findById(request.getDoctorId())
+                .orElseThrow(() -> new DoctorNotFoundException(
+                        "Doctor not found with id: " + request.getDoctorId()));
+
+        AppointmentSeries series = AppointmentSeries.builder()
+                .patient(patient)
+                .doctor(doctor)
+                .firstAppointmentTime(request.getFirstAppointmentTime())
+                .frequency(request.getFrequency())
+                .repeatInterval(request.getRepeatInterval())
+                .occurrenceCount(request.getOccurrenceCount())
+                .untilDate(request.getUntilDate())
+                .build();
+        List<LocalDateTime> occurrences = SeriesRecurrence.all(series);
+        if (occurrences.size() > MAX_OCCURRENCES) {
+            throw new InvalidSeriesException("A series cannot have more than " + MAX_OCCURRENCES + " occurrences");
+        }
+
+        AppointmentSeries saved = appointmentSeriesRepository.save(series);
+        List<SeriesOccurrenceResponse> conflicts = classify(saved, occurrences).stream()
+                .filter(occurrence -> occurrence.getStatus() == OccurrenceStatus.CONFLICT)
+                .collect(Collectors.toList());
+
+        log.info("Series {} created with {} occurrences, {} conflicting", saved.getId(), occurrences.size(),
+                 conflicts.size());
+        return toResponse(saved, occurrences.size(), conflicts);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AppointmentSeriesResponse getSeries(Long id) {
+        AppointmentSeries series = findSeries(id);
+        return toResponse(series, SeriesRecurrence.all(series).size(), null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SeriesOccurrenceResponse> getOccurrences(Long id, LocalDate from, LocalDate to) {
+        log.info("Expanding series {} from {} to {}", id, from, to);
+        validateRange(from, to);
+        AppointmentSeries series = findSeries(id);
+        return classify(series, SeriesRecurrence.between(series, from.atStartOfDay(), to.atStartOfDay()));
+    }
+
+    @Override
+    public SeriesConfirmResponse confirmOccurrences(Long id, LocalDate from, LocalDate to) {
+        log.info("Confirming series {} from {} to {}", id, from, to);
+        validateRange(from, to);
+        AppointmentSeries series = findSeries(id);
+        List<SeriesOccurrenceResponse> occurrences =
+                classify(series, SeriesRecurrence.between(series, from.atStartOfDay(), to.atStartOfDay()));
+
+        List<SeriesOccurrenceResponse> available = occurrences.stream()
+                .filter(occurrence -> occurrence.getStatus() == OccurrenceStatus.AVAILABLE)
+                .collect(Collectors.toList());
+        if (available.isEmpty()) {
+            return SeriesConfirmResponse.builder().seriesId(id).created(0).occurrences(occurrences).build();
+        }
+
+        List<AppointmentRequest> requests = available.stream()
+                .map(occurrence -> AppointmentRequest.builder()
+                        .patientId(series.getPatient().getId())
+                        .doctorId(series.getDoctor().getId())
+                        .appointmentTime(occurrence.getAppointmentTime())
+                        .build())
+                .collect(Collectors.toList());
+        BulkAppointmentResponse booked = appointmentService.createAppointments(requests);
+
+        // Results come back in request order, one per available occurrence
+        for (BulkAppointmentItemResult result : booked.getResults()) {
+            SeriesOccurrenceResponse occurrence = available.get(result.getIndex());
+            if (result.isSuccess()) {
+                occurrence.setStatus(OccurrenceStatus.BOOKED);
+                occurrence.setAppointmentId(result.getAppointmentId());
+            } else {
+                occurrence.setStatus(OccurrenceStatus.CONFLICT);
+                occurrence.setReason(result.getError());
+            }
+        }
+
+        log.info("Series {} confirmed: {} of {} occurrences booked", id, booked.getCreated(), occurrences.size());
+        return SeriesConfirmResponse.builder()
+                .seriesId(id)
+                .created(booked.getCreated())
+                .occurrences(occurrences)
+                .build();
+    }
+
+    /**
+     * Check occurrences (in order) against the doctor's bookings, shifts and holds in one pass
+     */
+    private List<SeriesOccurrenceResponse> classify(AppointmentSeries series, List<LocalDateTime> occurrences) {
+        if (occurrences.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Long doctorId = series.getDoctor().getId();
+        Long patientId = series.getPatient().getId();
+        LocalDateTime first = occurrences.get(0);
+        LocalDateTime last = occurrences.get(occurrences.size() - 1);
+
+        NavigableSet<LocalDateTime> bookedStarts = new TreeSet<>();
+        Map<LocalDateTime, AppointmentResponse> ownBookings = new HashMap<>();
+        for (AppointmentResponse booked : appointmentRepository.findResponsesByDoctorIdBetween(doctorId,
+                first.minus(Appointment.DEFAULT_DURATION), last.plus(Appointment.DEFAULT_DURATION))) {
+            if (Appointment.AppointmentStatus.CANCELLED.name().equals(booked.getStatus())) {
+                continue;
+            }
+            bookedStarts.add(booked.getAppointmentTime());
+            if (patientId.equals(booked.getPatientId())) {
+                ownBookings.put(booked.getAppointmentTime(), booked);
+            }
+        }
+        List<Shift> shifts = shiftRepository.findByDoctorId(doctorId);
+
+        List<SeriesOccurrenceResponse> classified = new ArrayList<>(occurrences.size());
+        for (LocalDateTime time : occurrences) {
+            SeriesOccurrenceResponse.SeriesOccurrenceResponseBuilder occurrence =
+                    SeriesOccurrenceResponse.builder().appointmentTime(time);
+            AppointmentResponse own = ownBookings.get(time);
+            if (own != null) {
+                occurrence.status(OccurrenceStatus.BOOKED).appointmentId(own.getAppointmentId());
+            } else if (AvailabilityCalculator.overlapsAny(bookedStarts, time, Appointment.DEFAULT_DURATION)) {
+                occurrence.status(OccurrenceStatus.CONFLICT)
+                        .reason(new AppointmentConflictException(doctorId, time).getMessage());
+            } else if (!AvailabilityCalculator.withinShifts(shifts, time, Appointment.DEFAULT_DURATION)) {
+                occurrence.status(OccurrenceStatus.CONFLICT)
+                        .reason(String.format("Doctor %d has no shift covering %s", doctorId, time));
+            } else if (slotHoldRegistry.isHeldByOther(doctorId, time, null)) {
+                occurrence.status(OccurrenceStatus.CONFLICT)
+                        .reason(SlotHoldRegistry.conflictMessage(doctorId, time));
+            } else {
+                occurrence.status(OccurrenceStatus.AVAILABLE);
+            }
+            classified.add(occurrence.build());
+        }
+        return classified;
+    }
+
+    private AppointmentSeries findSeries(Long id) {
+        return appointmentSeriesRepository.findById(id)
+                .orElseThrow(() -> new SeriesNotFoundException(id));
+    }
+
+    private static void validateBounds(AppointmentSeriesRequest request) {
+        if ((request.getOccurrenceCount() == null) == (request.getUntilDate() == null)) {
+            throw new InvalidSeriesException("Give either occurrenceCount or untilDate");
+        }
+        if (request.getOccurrenceCount() != null && request.getOccurrenceCount() > MAX_OCCURRENCES) {
+            throw new InvalidSeriesException("A series cannot have more than " + MAX_OCCURRENCES + " occurrences");
+        }
+        LocalDate firstDay = request.getFirstAppointmentTime().toLocalDate();
+        if (request.getUntilDate() != null && (request.getUntilDate().isBefore(firstDay)
+                || request.getUntilDate().isAfter(firstDay.plus(MAX_SPAN)))) {
+            throw new InvalidSeriesException("untilDate must be within " + MAX_SPAN.getYears()
+                    + " years after the first appointment");
+        }
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new InvalidTimeSlotException("'to' must be strictly after 'from'");
+        }
+    }
+
+    private static AppointmentSeriesResponse toResponse(AppointmentSeries series, int occurrences,
+                                                        List<SeriesOccurrenceResponse> conflicts) {
+        return AppointmentSeriesResponse.builder()
+                .id(series.getId())
+                .patientId(series.getPatient().getId())
+                .doctorId(series.getDoctor().getId())
+                .firstAppointmentTime(series.getFirstAppointmentTime())
+                .frequency(series.getFrequency().name())
+                .repeatInterval(series.getRepeatInterval())
+                .occurrenceCount(series.getOccurrenceCount())
+                .untilDate(series.getUntilDate())
+                .occurrences(occurrences)
+                .conflicts(conflicts)
+                .build();
+    }
+}
@@ -2,8 +2,15 @@ package com.sparks.patient.service;
 
 import java.util.List;
 
+import com.sparks.patient.dto.AppointmentCacheStatsResponse;
+import com.sparks.patient.dto.AppointmentFilter;
+import com.sparks.patient.dto.AppointmentPageResponse;
 import com.sparks.patient.dto.AppointmentRequest;
 import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.dto.AppointmentStatusBatchRequest;
+import com.sparks.patient.dto.AppointmentStatusBatchResponse;
+import com.sparks.patient.dto.AppointmentStatusUpdateRequest;
+import com.sparks.patient.dto.BulkAppointmentResponse;
 
 /**
  * Appointment Service Interface - SCRUM-23
@@ -27,20 +34,68 @@ public interface AppointmentService {
     /**
      * Get all appointments for a patient
      * @param patientId Patient ID
+     * @param includeArchived whether archived (finished, old) appointments are included
      * @return List of appointments
      */
-    List<AppointmentResponse> getAppointmentsByPatientId(Long patientId);
+    List<AppointmentResponse> getAppointmentsByPatientId(Long patientId, boolean includeArchived);
     
     /**
      * Get all appointments for a doctor
      * @param doctorId Doctor ID
+     * @param includeArchived whether archived (finished, old) appointments are included
      * @return List of appointments
      */
-    List<AppointmentResponse> getAppointmentsByDoctorId(Long doctorId);
+    List<AppointmentResponse> getAppointmentsByDoctorId(Long doctorId, boolean includeArchived);
     
     /**
      * Get all appointments
      * @return List of all appointments
      */
     List<AppointmentResponse> getAllAppointments();
+    
+    /**
+     * Get a cursor-paginated page of appointments ordered by appointment time
+     * @param filter Optional patient/doctor/status/time-range filters
+     * @param cursor Opaque cursor from a previous page, or null for the first page
+     * @param limit Maximum number of appointments to return
+     * @return Page of appointments with the cursor for the next page
+     */
+    AppointmentPageResponse getAppointmentPage(AppointmentFilter filter, String cursor, int limit);
+    
+    /**
+     * Search appointments by any combination of patient, doctor, department, status and time range
+     * @param filter Filters; null fields do not restrict the result
+     * @param cursor Opaque cursor from a previous page, or null for the first page
+     * @param limit Maximum number of appointments to return
+     * @return Page of appointments ordered by appointment time with the cursor for the next page
+     */
+    AppointmentPageResponse searchAppointments(AppointmentFilter filter, String cursor, int limit);
+    
+    /**
+     * Create many appointments in one transaction using batched inserts
+     * @param requests Appointment requests
+     * @return Per-item results; items referencing unknown patients/doctors are reported, not thrown
+     */
+    BulkAppointmentResponse createAppointments(List<AppointmentRequest> requests);
+    
+    /**
+     * Change the status of one appointment
+     * @param appointmentId UUID of the appointment
+     * @param request Target status and, optionally, the version the client last read
+     * @return Updated appointment
+     */
+    AppointmentResponse updateAppointmentStatus(String appointmentId, AppointmentStatusUpdateRequest request);
+    
+    /**
+     * Change the status of all of a doctor's appointments on one day with a single UPDATE
+     * @param request Doctor, day and target status
+     * @return Counts of updated, skipped and concurrently changed appointments
+     */
+    AppointmentStatusBatchResponse updateAppointmentStatuses(AppointmentStatusBatchRequest request);
+    
+    /**
+     * Hit, miss and eviction counters of the lookup-by-UUID cache
+     * @return Cache statistics since startup
+     */
+    AppointmentCacheStatsResponse getLookupCacheStats();
 }
@@ -1,23 +1,58 @@
 package com.sparks.patient.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import javax.persistence.EntityManager;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sparks.patient.dto.AppointmentCacheStatsResponse;
+import com.sparks.patient.dto.AppointmentEvent;
+import com.sparks.patient.dto.AppointmentFilter;
+import com.sparks.patient.dto.AppointmentPageResponse;
 import com.sparks.patient.dto.AppointmentRequest;
 import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.dto.AppointmentStatusBatchRequest;
+import com.sparks.patient.dto.AppointmentStatusBatchResponse;
+import com.sparks.patient.dto.AppointmentStatusUpdateRequest;
+import com.sparks.patient.dto.BulkAppointmentItemResult;
+import com.sparks.patient.dto.BulkAppointmentResponse;
 import com.sparks.patient.entity.Appointment;
 import com.sparks.patient.entity.Doctor;
 import com.sparks.patient.entity.Patient;
+import com.sparks.patient.entity.Shift;
+import com.sparks.patient.exception.AppointmentConflictException;
 import com.sparks.patient.exception.AppointmentNotFoundException;
+import com.sparks.patient.exception.AppointmentVersionConflictException;
 import com.sparks.patient.exception.DoctorNotFoundException;
+import com.sparks.patient.exception.InvalidStatusTransitionException;
 import com.sparks.patient.exception.PatientNotFoundException;
 import com.sparks.patient.mapper.AppointmentMapper;
 import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.AppointmentSpecifications;
 import com.sparks.patient.repository.DoctorRepository;
+import com.sparks.patient.repository.DoctorBookedTime;
 import com.sparks.patient.repository.PatientRepository;
+import com.sparks.patient.repository.ShiftRepository;
+import com.sparks.patient.repository.StatusAppointmentCount;
+import com.sparks.patient.util.TimeOrderedUuid;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +63,18 @@ import lombok.extern.slf4j.Slf4j;
  * Creates the basic appointment record (Patient + Doctor + Time)
  * Stores appointment with status SCHEDULED
  * Generates an Appointment UUID when a valid request is sent
+ * 
+ * Double booking: each appointment occupies {@link Appointment#DEFAULT_DURATION} and must fit
+ * inside the doctor's shifts without overlapping another live appointment. The check and the
+ * insert run under the doctor's {@link BookingLocks} stripe, held until commit; the
+ * (doctor_id, active_slot) unique constraint is the last line of defence across instances.
+ * A slot held in {@link SlotHoldRegistry} can only be booked with its holdId; booking it
+ * releases the hold after commit. A holdId that is unknown, expired or held for another slot
+ * is rejected as a conflict.
+ * 
+ * Read-only methods select straight into AppointmentResponse (constructor expressions),
+ * so no entities are hydrated or tracked for dirty checking. Lookups by UUID go through
+ * {@link AppointmentLookupCache}; status changes invalidate it after commit.
  */
 @Service
 @RequiredArgsConstructor
@@ -35,10 +82,22 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class AppointmentServiceImpl implements AppointmentService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+    static final int BULK_CHUNK_SIZE = 500;
+
     private final AppointmentRepository appointmentRepository;
     private final PatientRepository patientRepository;
     private final DoctorRepository doctorRepository;
+    private final ShiftRepository shiftRepository;
     private final AppointmentMapper appointmentMapper;
+    private final EntityManager entityManager;
+    private final BookingLocks bookingLocks;
+    private final AppointmentLookupCache appointmentLookupCache;
+    private final DoctorCalendarCache doctorCalendarCache;
+    private final AppointmentEventBus appointmentEventBus;
+    private final SlotHoldRegistry slotHoldRegistry;
+    private final AppointmentStatsCounters appointmentStatsCounters;
 
     @Override
     public AppointmentResponse createAppointment(AppointmentRequest request) {
@@ -55,57 +114,95 @@ public class AppointmentServiceImpl implements AppointmentService {
                 .orElseThrow(() -> new DoctorNotFoundException(
                         "Doctor not found with id: " + request.getDoctorId()));
         
+        // Serialize bookings for this doctor until commit, then check shift and overlap
+        LocalDateTime time = request.getAppointmentTime();
+        bookingLocks.lockUntilCompletion(Collections.singleton(doctor.getId()));
+        if (!AvailabilityCalculator.withinShifts(
+                shiftRepository.findByDoctorId(doctor.getId()), time, Appointment.DEFAULT_DURATION)) {
+            throw new AppointmentConflictException(outsideShiftMessage(doctor.getId(), time));
+        }
+        if (request.getHoldId() != null && !slotHoldRegistry.covers(request.getHoldId(), doctor.getId(), time)) {
+            throw new AppointmentConflictException(
+                    SlotHoldRegistry.mismatchMessage(request.getHoldId(), doctor.getId(), time));
+        }
+        if (slotHoldRegistry.isHeldByOther(doctor.getId(), time, request.getHoldId())) {
+            throw new AppointmentConflictException(SlotHoldRegistry.conflictMessage(doctor.getId(), time));
+        }
+        if (appointmentRepository.existsOverlapping(doctor.getId(),
+                time.minus(Appointment.DEFAULT_DURATION), time.plus(Appointment.DEFAULT_DURATION),
+                Appointment.AppointmentStatus.CANCELLED)) {
+            throw new AppointmentConflictException(doctor.getId(), time);
+        }
+        
         // Create appointment entity
         Appointment appointment = appointmentMapper.toEntity(request, patient, doctor);
         
-        // Save appointment
-        Appointment savedAppointment = appointmentRepository.save(appointment);
+        // Save appointment, flushing so a unique-constraint race surfaces here as a conflict
+        Appointment savedAppointment;
+        try {
+            savedAppointment = appointmentRepository.save(appointment);
+            appointmentRepository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            throw new AppointmentConflictException(doctor.getId(), time);
+        }
+        doctorCalendarCache.invalidateAfterCommit(doctor.getId(), time.toLocalDate());
+        appointmentStatsCounters.addedAfterCommit(doctor.getId(), time, savedAppointment.getStatus());
+        if (request.getHoldId() != null) {
+            slotHoldRegistry.releaseAfterCommit(request.getHoldId());
+        }
         
         log.info("Appointment created successfully with UUID: {}", savedAppointment.getAppointmentId());
         
-        return appointmentMapper.toResponse(savedAppointment);
+        AppointmentResponse response = appointmentMapper.toResponse(savedAppointment);
+        appointmentEventBus.publishAfterCommit(event(AppointmentEvent.Type.CREATED, response));
+        return response;
     }
 
+    /**
+     * Served from the lookup cache. SUPPORTS keeps a cache hit from opening a transaction
+     * (and borrowing a connection); a miss runs the repository's own read-only transaction.
+     * Archived appointments are still found by their UUID.
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public AppointmentResponse getAppointmentById(String appointmentId) {
         log.info("Fetching appointment with UUID: {}", appointmentId);
         
-        Appointment appointment = appointmentRepository.findByAppointmentId(appointmentId)
+        // Malformed ids cannot be converted to the binary column, and cannot exist either
+        if (!TimeOrderedUuid.isCanonical(appointmentId)) {
+            throw new AppointmentNotFoundException("Appointment not found with id: " + appointmentId);
+        }
+        
+        return appointmentLookupCache.get(appointmentId, id -> appointmentRepository.findResponseByAppointmentId(id)
+                        .or(() -> appointmentRepository.findArchivedResponseByAppointmentId(id)))
                 .orElseThrow(() -> new AppointmentNotFoundException(
                         "Appointment not found with id: " + appointmentId));
-        
-        return appointmentMapper.toResponse(appointment);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AppointmentResponse> getAppointmentsByPatientId(Long patientId) {
-        log.info("Fetching appointments for patient: {}", patientId);
+    public List<AppointmentResponse> getAppointmentsByPatientId(Long patientId, boolean includeArchived) {
+        log.info("Fetching appointments for patient: {} (includeArchived: {})", patientId, includeArchived);
         
         // Verify patient exists
         if (!patientRepository.existsById(patientId)) {
             throw new PatientNotFoundException("Patient not found with id: " + patientId);
         }
         
-        return appointmentRepository.findByPatientId(patientId).stream()
-                .map(appointmentMapper::toResponse)
-                .collect(Collectors.toList());
+        return appointmentRepository.findResponsesByPatientId(patientId, includeArchived);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AppointmentResponse> getAppointmentsByDoctorId(Long doctorId) {
-        log.info("Fetching appointments for doctor: {}", doctorId);
+    public List<AppointmentResponse> getAppointmentsByDoctorId(Long doctorId, boolean includeArchived) {
+        log.info("Fetching appointments for doctor: {} (includeArchived: {})", doctorId, includeArchived);
         
         // Verify doctor exists
         if (!doctorRepository.existsById(doctorId)) {
             throw new DoctorNotFoundException("Doctor not found with id: " + doctorId);
         }
         
-        return appointmentRepository.findByDoctorId(doctorId).stream()
-                .map(appointmentMapper::toResponse)
-                .collect(Collectors.toList());
+        return appointmentRepository.findResponsesByDoctorId(doctorId, includeArchived);
     }
 
     @Override
@@ -113,8 +210,361 @@ public class AppointmentServiceImpl implements AppointmentService {
     public List<AppointmentResponse> getAllAppointments() {
         log.info("Fetching all appointments");
         
-        return appointmentRepository.findAll().stream()
-                .map(appointmentMapper::toResponse)
-                .collect(Collectors.toList());
+        return appointmentRepository.findAllResponses();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AppointmentPageResponse getAppointmentPage(AppointmentFilter filter, String cursor, int limit) {
+        log.info("Fetching appointment page (filter: {})", filter);
+
+        return findPage(filter, cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AppointmentPageResponse searchAppointments(AppointmentFilter filter, String cursor, int limit) {
+        log.info("Searching appointments (filter: {})", filter);
+
+        return findPage(filter, cursor, limit);
+    }
+
+    /**
+     * Keyset pagination over (appointmentTime, id), shared by the page and search endpoints.
+     * The statement only contains the filters given (see {@link AppointmentSpecifications#matching}),
+     * so each combination is served from its composite index. Fetches one extra row to know
+     * whether another page follows.
+     */
+    private AppointmentPageResponse findPage(AppointmentFilter filter, String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        AppointmentCursor after = decodeCursor(cursor);
+        log.debug("Appointment page after {} (size: {})", after, pageSize);
+
+        Specification<Appointment> specification = AppointmentSpecifications.matching(filter);
+        if (after != null) {
+            specification = specification.and(
+                    AppointmentSpecifications.after(after.getAppointmentTime(), after.getId()));
+        }
+
+        return toPage(appointmentRepository.findResponses(specification, pageSize + 1), pageSize);
+    }
+
+    private static int pageSize(int limit) {
+        return limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    private static AppointmentCursor decodeCursor(String cursor) {
+        return cursor != null && !cursor.isBlank() ? AppointmentCursor.decode(cursor) : null;
+    }
+
+    /**
+     * Trims the one extra row fetched to detect a following page
+     */
+    private static AppointmentPageResponse toPage(List<AppointmentResponse> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<AppointmentResponse> pageRows = hasNext ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+
+        return AppointmentPageResponse.builder()
+                .content(pageRows)
+                .size(pageRows.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? AppointmentCursor.after(pageRows.get(pageRows.size() - 1)).encode() : null)
+                .build();
+    }
+
+    /**
+     * Bulk booking: resolves all referenced patients and doctors with one IN query each,
+     * then persists in chunks. Appointment ids come from a pooled sequence, so each chunk
+     * is written with JDBC batch inserts; the persistence context is flushed and cleared
+     * after every chunk to keep memory flat.
+     * 
+     * All involved doctors are locked up front; shifts and existing bookings are loaded once
+     * and overlaps (including between items of the same batch) are checked in memory.
+     */
+    @Override
+    public BulkAppointmentResponse createAppointments(List<AppointmentRequest> requests) {
+        log.info("Bulk creating {} appointments", requests.size());
+
+        Set<Long> patientIds = requests.stream().map(AppointmentRequest::getPatientId).collect(Collectors.toSet());
+        Set<Long> doctorIds = requests.stream().map(AppointmentRequest::getDoctorId).collect(Collectors.toSet());
+        Map<Long, Patient> patients = patientRepository.findAllById(patientIds).stream()
+                .collect(Collectors.toMap(Patient::getId, Function.identity()));
+        Map<Long, Doctor> doctors = doctorRepository.findAllById(doctorIds).stream()
+                .collect(Collectors.toMap(Doctor::getId, Function.identity()));
+
+        bookingLocks.lockUntilCompletion(doctors.keySet());
+        Map<Long, List<Shift>> shiftsByDoctor = doctors.isEmpty() ? Collections.emptyMap()
+                : shiftRepository.findByDoctorIdIn(doctors.keySet()).stream()
+                        .collect(Collectors.groupingBy(Shift::getDoctorId));
+        Map<Long, NavigableSet<LocalDateTime>> booked = loadBookedTimes(doctors.keySet(), requests);
+
+        List<BulkAppointmentItemResult> results = new ArrayList<>(requests.size());
+        List<Appointment> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+        List<BulkAppointmentItemResult> chunkResults = new ArrayList<>(BULK_CHUNK_SIZE);
+        Set<DoctorCalendarCache.DoctorDay> bookedDays = new HashSet<>();
+        List<AppointmentEvent> events = new ArrayList<>();
+        AppointmentStatsCounters.Delta stats = new AppointmentStatsCounters.Delta();
+        int created = 0;
+
+        for (int i = 0; i < requests.size(); i++) {
+            AppointmentRequest request = requests.get(i);
+            Patient patient = patients.get(request.getPatientId());
+            Doctor doctor = doctors.get(request.getDoctorId());
+
+            if (patient == null) {
+                results.add(failure(i, "Patient not found with id: " + request.getPatientId()));
+                continue;
+            }
+            if (doctor == null) {
+                results.add(failure(i, "Doctor not found with id: " + request.getDoctorId()));
+                continue;
+            }
+            LocalDateTime time = request.getAppointmentTime();
+            if (!AvailabilityCalculator.withinShifts(
+                    shiftsByDoctor.getOrDefault(doctor.getId(), Collections.emptyList()),
+                    time, Appointment.DEFAULT_DURATION)) {
+                results.add(failure(i, outsideShiftMessage(doctor.getId(), time)));
+                continue;
+            }
+            if (request.getHoldId() != null
+                    && !slotHoldRegistry.covers(request.getHoldId(), doctor.getId(), time)) {
+                results.add(failure(i, SlotHoldRegistry.mismatchMessage(request.getHoldId(), doctor.getId(), time)));
+                continue;
+            }
+            if (slotHoldRegistry.isHeldByOther(doctor.getId(), time, request.getHoldId())) {
+                results.add(failure(i, SlotHoldRegistry.conflictMessage(doctor.getId(), time)));
+                continue;
+            }
+            NavigableSet<LocalDateTime> doctorBooked = booked.computeIfAbsent(doctor.getId(), id -> new TreeSet<>());
+            if (AvailabilityCalculator.overlapsAny(doctorBooked, time, Appointment.DEFAULT_DURATION)) {
+                results.add(failure(i, new AppointmentConflictException(doctor.getId(), time).getMessage()));
+                continue;
+            }
+            doctorBooked.add(time);
+            if (request.getHoldId() != null) {
+                slotHoldRegistry.releaseAfterCommit(request.getHoldId());
+            }
+            bookedDays.add(DoctorCalendarCache.DoctorDay.of(doctor.getId(), time));
+
+            BulkAppointmentItemResult result = BulkAppointmentItemResult.builder().index(i).success(true).build();
+            chunk.add(appointmentMapper.toEntity(request, patient, doctor));
+            chunkResults.add(result);
+            results.add(result);
+
+            if (chunk.size() == BULK_CHUNK_SIZE) {
+                created += persistChunk(chunk, chunkResults, events, stats);
+            }
+        }
+        created += persistChunk(chunk, chunkResults, events, stats);
+        doctorCalendarCache.invalidateAfterCommit(bookedDays);
+        appointmentStatsCounters.applyAfterCommit(stats);
+        appointmentEventBus.publishAfterCommit(events);
+
+        log.info("Bulk booking finished: {} created, {} failed", created, requests.size() - created);
+
+        return BulkAppointmentResponse.builder()
+                .requested(requests.size())
+                .created(created)
+                .failed(requests.size() - created)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Single appointment status change. The version check rejects stale clients up front;
+     * the flush makes Hibernate's own version check surface here for writers racing with us.
+     */
+    @Override
+    public AppointmentResponse updateAppointmentStatus(String appointmentId, AppointmentStatusUpdateRequest request) {
+        log.info("Changing status of appointment {} to {}", appointmentId, request.getStatus());
+
+        if (!TimeOrderedUuid.isCanonical(appointmentId)) {
+            throw new AppointmentNotFoundException("Appointment not found with id: " + appointmentId);
+        }
+        Appointment appointment = appointmentRepository.findByAppointmentId(appointmentId)
+                .orElseThrow(() -> new AppointmentNotFoundException(
+                        "Appointment not found with id: " + appointmentId));
+
+        if (request.getVersion() != null && !request.getVersion().equals(appointment.getVersion())) {
+            throw new AppointmentVersionConflictException(appointmentId, request.getVersion(), appointment.getVersion());
+        }
+        if (!appointment.getStatus().canTransitionTo(request.getStatus())) {
+            throw new InvalidStatusTransitionException(appointment.getStatus(), request.getStatus());
+        }
+
+        Appointment.AppointmentStatus previous = appointment.getStatus();
+        appointment.setStatus(request.getStatus());
+        appointmentRepository.flush();
+        appointmentLookupCache.invalidateAfterCommit(appointmentId);
+        appointmentStatsCounters.statusChangedAfterCommit(previous, request.getStatus());
+        doctorCalendarCache.invalidateAfterCommit(appointment.getDoctor().getId(),
+                appointment.getAppointmentTime().toLocalDate());
+
+        AppointmentResponse response = appointmentMapper.toResponse(appointment);
+        appointmentEventBus.publishAfterCommit(event(AppointmentEvent.Type.STATUS_CHANGED, response));
+        return response;
+    }
+
+    /**
+     * Batch status change for one doctor's day as a single set-based UPDATE.
+     * Rows are counted per status before the update, in one query: the eligible rows the
+     * UPDATE did not touch were changed by someone else in between and are reported as conflicts.
+     */
+    @Override
+    public AppointmentStatusBatchResponse updateAppointmentStatuses(AppointmentStatusBatchRequest request) {
+        Appointment.AppointmentStatus target = request.getStatus();
+        log.info("Changing status of doctor {} appointments on {} to {}",
+                 request.getDoctorId(), request.getDate(), target);
+
+        if (!doctorRepository.existsById(request.getDoctorId())) {
+            throw new DoctorNotFoundException("Doctor not found with id: " + request.getDoctorId());
+        }
+        Set<Appointment.AppointmentStatus> sources = Appointment.AppointmentStatus.sourcesOf(target);
+        if (sources.isEmpty()) {
+            throw new InvalidStatusTransitionException("No appointment can be changed to " + target);
+        }
+
+        Long doctorId = request.getDoctorId();
+        LocalDateTime from = request.getDate().atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+        Map<Appointment.AppointmentStatus, Long> before = countPerStatus(doctorId, from, to);
+        long matched = before.values().stream().mapToLong(Long::longValue).sum();
+        long eligible = sources.stream().mapToLong(source -> before.getOrDefault(source, 0L)).sum();
+        LocalDateTime now = LocalDateTime.now();
+        int updated = target == Appointment.AppointmentStatus.CANCELLED
+                ? appointmentRepository.cancelForDoctorBetween(doctorId, from, to, sources, target, now)
+                : appointmentRepository.updateStatusForDoctorBetween(doctorId, from, to, sources, target, now);
+        if (updated > 0) {
+            appointmentStatsCounters.applyAfterCommit(statusDelta(before, sources, target, updated));
+            appointmentLookupCache.invalidateDoctorAfterCommit(doctorId);
+            doctorCalendarCache.invalidateAfterCommit(doctorId, request.getDate());
+            appointmentEventBus.publishAfterCommit(AppointmentEvent.builder()
+                    .type(AppointmentEvent.Type.DAY_STATUS_CHANGED)
+                    .doctorId(doctorId)
+                    .date(request.getDate())
+                    .status(target.name())
+                    .updated(updated)
+                    .occurredAt(now)
+                    .build());
+        }
+
+        log.info("Batch status change finished: {} matched, {} updated", matched, updated);
+
+        return AppointmentStatusBatchResponse.builder()
+                .matched(matched)
+                .updated(updated)
+                .skipped(matched - eligible)
+                .conflicted(Math.max(0, eligible - updated))
+                .build();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public AppointmentCacheStatsResponse getLookupCacheStats() {
+        CacheStats stats = appointmentLookupCache.stats();
+        return AppointmentCacheStatsResponse.builder()
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .size(appointmentLookupCache.estimatedSize())
+                .build();
+    }
+
+    /**
+     * Existing live start times per doctor, covering every requested time widened by one duration
+     */
+    private Map<Long, NavigableSet<LocalDateTime>> loadBookedTimes(Set<Long> doctorIds, List<AppointmentRequest> requests) {
+        Map<Long, NavigableSet<LocalDateTime>> booked = new HashMap<>();
+        if (doctorIds.isEmpty()) {
+            return booked;
+        }
+        LocalDateTime min = requests.stream().map(AppointmentRequest::getAppointmentTime)
+                .min(LocalDateTime::compareTo).orElseThrow();
+        LocalDateTime max = requests.stream().map(AppointmentRequest::getAppointmentTime)
+                .max(LocalDateTime::compareTo).orElseThrow();
+        for (DoctorBookedTime row : appointmentRepository.findBookedTimes(doctorIds,
+                min.minus(Appointment.DEFAULT_DURATION), max.plus(Appointment.DEFAULT_DURATION),
+                Appointment.AppointmentStatus.CANCELLED)) {
+            booked.computeIfAbsent(row.getDoctorId(), id -> new TreeSet<>()).add(row.getAppointmentTime());
+        }
+        return booked;
+    }
+
+    private Map<Appointment.AppointmentStatus, Long> countPerStatus(Long doctorId, LocalDateTime from,
+                                                                    LocalDateTime to) {
+        Map<Appointment.AppointmentStatus, Long> counts = new EnumMap<>(Appointment.AppointmentStatus.class);
+        for (StatusAppointmentCount row : appointmentRepository.countPerStatusForDoctorBetween(doctorId, from, to)) {
+            counts.put(row.getStatus(), row.getTotal());
+        }
+        return counts;
+    }
+
+    /**
+     * Status counter changes of a set-based update. When every eligible row was updated, each
+     * source status moved whole to the target. Otherwise other writers changed rows in between;
+     * the updated rows are attributed to the sources in order and the next reconciliation
+     * corrects the split.
+     */
+    private static AppointmentStatsCounters.Delta statusDelta(Map<Appointment.AppointmentStatus, Long> before,
+                                                              Set<Appointment.AppointmentStatus> sources,
+                                                              Appointment.AppointmentStatus target,
+                                                              long updated) {
+        AppointmentStatsCounters.Delta delta = new AppointmentStatsCounters.Delta();
+        long remaining = updated;
+        for (Appointment.AppointmentStatus source : sources) {
+            long moved = Math.min(remaining, before.getOrDefault(source, 0L));
+            delta.statusChanged(source, target, moved);
+            remaining -= moved;
+        }
+        return delta;
+    }
+
+    private static String outsideShiftMessage(Long doctorId, LocalDateTime time) {
+        return String.format("Doctor %d has no shift covering %s", doctorId, time);
+    }
+
+    /**
+     * Persist one chunk; statistics and the events for doctors with live subscribers are
+     * collected before the persistence context is cleared
+     */
+    private int persistChunk(List<Appointment> chunk, List<BulkAppointmentItemResult> chunkResults,
+                             List<AppointmentEvent> events, AppointmentStatsCounters.Delta stats) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<Appointment> saved = appointmentRepository.saveAll(chunk);
+        entityManager.flush();
+        for (int i = 0; i < saved.size(); i++) {
+            Appointment appointment = saved.get(i);
+            chunkResults.get(i).setAppointmentId(appointment.getAppointmentId());
+            stats.added(appointment.getDoctor().getId(), appointment.getAppointmentTime(), appointment.getStatus());
+            if (appointmentEventBus.hasSubscribers(appointment.getDoctor().getId())) {
+                events.add(event(AppointmentEvent.Type.CREATED, appointmentMapper.toResponse(appointment)));
+            }
+        }
+        entityManager.clear();
+
+        int persisted = saved.size();
+        chunk.clear();
+        chunkResults.clear();
+        return persisted;
+    }
+
+    private static AppointmentEvent event(AppointmentEvent.Type type, AppointmentResponse appointment) {
+        return AppointmentEvent.builder()
+                .type(type)
+                .doctorId(appointment.getDoctorId())
+                .appointment(appointment)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    private BulkAppointmentItemResult failure(int index, String error) {
+        return BulkAppointmentItemResult.builder()
+                .index(index)
+                .success(false)
+                .error(error)
+                .build();
     }
 }
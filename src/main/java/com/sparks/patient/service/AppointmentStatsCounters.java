@@ -0,0 +1,186 @@
+package com.sparks.patient.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.sparks.patient.entity.Appointment;
+
+/**
+ * Live appointment counts per doctor, per start day and per status, kept in memory so the
+ * statistics endpoint costs O(groups) instead of a scan of the appointments table.
+ *
+ * Writers collect their changes in a {@link Delta} and apply it after their transaction
+ * commits, so rolled-back writes are never counted. Counters start empty and unloaded; they
+ * are filled, and any drift corrected, by {@link #reconcile} from GROUP BY queries. A delta
+ * committing while a reconciliation runs may be counted twice or not at all until the next
+ * reconciliation; the counters are a dashboard figure, not a ledger.
+ */
+@Component
+public class AppointmentStatsCounters {
+
+    private volatile Counts counts;
+
+    /**
+     * Changes made by one transaction, merged per key
+     */
+    public static final class Delta {
+
+        private final Map<Long, Long> doctors = new HashMap<>();
+        private final Map<LocalDate, Long> days = new HashMap<>();
+        private final Map<Appointment.AppointmentStatus, Long> statuses =
+                new EnumMap<>(Appointment.AppointmentStatus.class);
+
+        public void added(Long doctorId, LocalDateTime appointmentTime, Appointment.AppointmentStatus status) {
+            adjust(doctorId, appointmentTime, status, 1);
+        }
+
+        public void removed(Long doctorId, LocalDateTime appointmentTime, Appointment.AppointmentStatus status) {
+            adjust(doctorId, appointmentTime, status, -1);
+        }
+
+        public void statusChanged(Appointment.AppointmentStatus from, Appointment.AppointmentStatus to, long count) {
+            if (from != to && count != 0) {
+                statuses.merge(from, -count, Long::sum);
+                statuses.merge(to, count, Long::sum);
+            }
+        }
+
+        public boolean isEmpty() {
+            return doctors.isEmpty() && days.isEmpty() && statuses.isEmpty();
+        }
+
+        private void adjust(Long doctorId, LocalDateTime appointmentTime, Appointment.AppointmentStatus status,
+                            long count) {
+            doctors.merge(doctorId, count, Long::sum);
+            days.merge(appointmentTime.toLocalDate(), count, Long::sum);
+            statuses.merge(status, count, Long::sum);
+        }
+    }
+
+    /**
+     * One generation of counters, replaced whole by a reconciliation
+     */
+    private static final class Counts {
+
+        private final Map<Long, LongAdder> doctors = new ConcurrentHashMap<>();
+        private final Map<LocalDate, LongAdder> days = new ConcurrentHashMap<>();
+        private final Map<Appointment.AppointmentStatus, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LocalDateTime reconciledAt = LocalDateTime.now();
+    }
+
+    public boolean isLoaded() {
+        return counts != null;
+    }
+
+    /**
+     * Apply the delta once the surrounding transaction commits (immediately outside one)
+     */
+    public void applyAfterCommit(Delta delta) {
+        if (!delta.isEmpty()) {
+            AfterCommit.run(() -> apply(delta));
+        }
+    }
+
+    public void addedAfterCommit(Long doctorId, LocalDateTime appointmentTime, Appointment.AppointmentStatus status) {
+        Delta delta = new Delta();
+        delta.added(doctorId, appointmentTime, status);
+        applyAfterCommit(delta);
+    }
+
+    public void statusChangedAfterCommit(Appointment.AppointmentStatus from, Appointment.AppointmentStatus to) {
+        Delta delta = new Delta();
+        delta.statusChanged(from, to, 1);
+        applyAfterCommit(delta);
+    }
+
+    /**
+     * Replace the counters with freshly queried totals
+     *
+     * @return how far the replaced counters had drifted, summed over every key (0 on first load)
+     */
+    public long reconcile(Map<Long, Long> doctors, Map<LocalDate, Long> days,
+                          Map<Appointment.AppointmentStatus, Long> statuses) {
+        Counts fresh = new Counts();
+        doctors.forEach((key, value) -> fresh.doctors.computeIfAbsent(key, k -> new LongAdder()).add(value));
+        days.forEach((key, value) -> fresh.days.computeIfAbsent(key, k -> new LongAdder()).add(value));
+        statuses.forEach((key, value) -> fresh.statuses.computeIfAbsent(key, k -> new LongAdder()).add(value));
+
+        Counts previous = counts;
+        counts = fresh;
+        if (previous == null) {
+            return 0;
+        }
+        return drift(previous.doctors, doctors) + drift(previous.days, days) + drift(previous.statuses, statuses);
+    }
+
+    public NavigableMap<Long, Long> byDoctor() {
+        return snapshot(current().doctors);
+    }
+
+    public NavigableMap<LocalDate, Long> byDay() {
+        return snapshot(current().days);
+    }
+
+    public NavigableMap<Appointment.AppointmentStatus, Long> byStatus() {
+        return snapshot(current().statuses);
+    }
+
+    /**
+     * When the counters were last reconciled, or null before the first load
+     */
+    public LocalDateTime getReconciledAt() {
+        Counts current = counts;
+        return current != null ? current.reconciledAt : null;
+    }
+
+    void apply(Delta delta) {
+        Counts current = counts;
+        if (current == null) {
+            return; // the first reconciliation will count it
+        }
+        delta.doctors.forEach((key, value) -> current.doctors.computeIfAbsent(key, k -> new LongAdder()).add(value));
+        delta.days.forEach((key, value) -> current.days.computeIfAbsent(key, k -> new LongAdder()).add(value));
+        delta.statuses.forEach((key, value) -> current.statuses.computeIfAbsent(key, k -> new LongAdder()).add(value));
+    }
+
+    private Counts current() {
+        Counts current = counts;
+        if (current == null) {
+            throw new IllegalStateException("Appointment statistics are not loaded yet");
+        }
+        return current;
+    }
+
+    private static <K extends Comparable<? super K>> NavigableMap<K, Long> snapshot(Map<K, LongAdder> counters) {
+        NavigableMap<K, Long> snapshot = new TreeMap<>();
+        counters.forEach((key, counter) -> {
+            long count = counter.sum();
+            if (count > 0) {
+                snapshot.put(key, count);
+            }
+        });
+        return snapshot;
+    }
+
+    private static <K> long drift(Map<K, LongAdder> counted, Map<K, Long> actual) {
+        long drift = 0;
+        for (Map.Entry<K, LongAdder> entry : counted.entrySet()) {
+            drift += Math.abs(entry.getValue().sum() - actual.getOrDefault(entry.getKey(), 0L));
+        }
+        for (Map.Entry<K, Long> entry : actual.entrySet()) {
+            if (!counted.containsKey(entry.getKey())) {
+                drift += entry.getValue();
+            }
+        }
+        return drift;
+    }
+}
@@ -0,0 +1,35 @@
+package com.sparks.patient.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background job loading the appointment statistics counters at startup and reconciling
+ * them with the appointments table every appointments.stats.interval, correcting whatever
+ * the incremental updates missed (bulk SQL, writes from other instances, races).
+ * 
+ * Disabled with appointments.stats.enabled=false; the counters are then loaded on first use.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "appointments.stats.enabled", havingValue = "true", matchIfMissing = true)
+public class AppointmentStatsJob {
+
+    private final AppointmentStatsService appointmentStatsService;
+
+    @Scheduled(initialDelayString = "${appointments.stats.initial-delay:PT0S}",
+               fixedDelayString = "${appointments.stats.interval:PT10M}")
+    public void reconcileStats() {
+        try {
+            appointmentStatsService.reconcile();
+        } catch (RuntimeException ex) {
+            // The counters keep their incremental values until the next run
+            log.error("Appointment statistics reconciliation failed", ex);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.sparks.patient.service;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.DayAppointmentCount;
+import com.sparks.patient.repository.DoctorAppointmentCount;
+import com.sparks.patient.repository.StatusAppointmentCount;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reloads {@link AppointmentStatsCounters} from GROUP BY queries over the appointments table.
+ *
+ * A bean of its own so that the statistics service's first-request load goes through the
+ * transactional proxy and runs the three queries in one read-only transaction.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentStatsReconciler {
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentStatsCounters appointmentStatsCounters;
+
+    /**
+     * Replace the counters with the table's counts
+     * @return how far the counters had drifted from the table
+     */
+    @Transactional(readOnly = true)
+    public long reconcile() {
+        Map<Long, Long> doctors = new HashMap<>();
+        for (DoctorAppointmentCount row : appointmentRepository.countPerDoctor()) {
+            doctors.put(row.getDoctorId(), row.getTotal());
+        }
+        Map<LocalDate, Long> days = new HashMap<>();
+        for (DayAppointmentCount row : appointmentRepository.countPerDay()) {
+            days.put(LocalDate.of(row.getAppointmentYear(), row.getAppointmentMonth(), row.getAppointmentDay()),
+                    row.getTotal());
+        }
+        Map<Appointment.AppointmentStatus, Long> statuses = new EnumMap<>(Appointment.AppointmentStatus.class);
+        for (StatusAppointmentCount row : appointmentRepository.countPerStatus()) {
+            statuses.put(row.getStatus(), row.getTotal());
+        }
+
+        long drift = appointmentStatsCounters.reconcile(doctors, days, statuses);
+        if (drift > 0) {
+            log.warn("Appointment statistics had drifted by {} and were reconciled", drift);
+        } else {
+            log.debug("Appointment statistics reconciled: {} doctors, {} days", doctors.size(), days.size());
+        }
+        return drift;
+    }
+}
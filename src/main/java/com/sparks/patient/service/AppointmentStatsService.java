@@ -0,0 +1,22 @@
+package com.sparks.patient.service;
+
+import com.sparks.patient.dto.AppointmentStatsResponse;
+
+/**
+ * Service interface for aggregated appointment statistics
+ */
+public interface AppointmentStatsService {
+
+    /**
+     * Live appointment counts grouped by one dimension
+     * @param groupBy doctor, day, status or department
+     * @return the non-empty groups in key order
+     */
+    AppointmentStatsResponse getStats(AppointmentStatsResponse.GroupBy groupBy);
+
+    /**
+     * Reload the counters from GROUP BY queries over the appointments table
+     * @return how far the counters had drifted from the table
+     */
+    long reconcile();
+}
@@ -0,0 +1,95 @@
+package com.sparks.patient.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sparks.patient.dto.AppointmentStatsGroup;
+import com.sparks.patient.dto.AppointmentStatsResponse;
+import com.sparks.patient.repository.DoctorDepartment;
+import com.sparks.patient.repository.DoctorRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementation of AppointmentStatsService
+ *
+ * Doctor, day and status groups are read straight from {@link AppointmentStatsCounters}.
+ * Department groups are summed from the doctor counters with the doctors' current
+ * departments, so moving a doctor to another department needs no counter update.
+ * The counters are loaded on the first request, through {@link AppointmentStatsReconciler},
+ * if the reconciliation job has not run yet.
+ */
+@Service
+@RequiredArgsConstructor
+public class AppointmentStatsServiceImpl implements AppointmentStatsService {
+
+    private final DoctorRepository doctorRepository;
+    private final AppointmentStatsCounters appointmentStatsCounters;
+    private final AppointmentStatsReconciler appointmentStatsReconciler;
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public AppointmentStatsResponse getStats(AppointmentStatsResponse.GroupBy groupBy) {
+        if (!appointmentStatsCounters.isLoaded()) {
+            appointmentStatsReconciler.reconcile();
+        }
+
+        NavigableMap<?, Long> counts;
+        switch (groupBy) {
+            case DOCTOR:
+                counts = appointmentStatsCounters.byDoctor();
+                break;
+            case DAY:
+                counts = appointmentStatsCounters.byDay();
+                break;
+            case STATUS:
+                counts = appointmentStatsCounters.byStatus();
+                break;
+            case DEPT:
+                counts = byDepartment(appointmentStatsCounters.byDoctor());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown grouping: " + groupBy);
+        }
+
+        List<AppointmentStatsGroup> groups = new ArrayList<>(counts.size());
+        long total = 0;
+        for (Map.Entry<?, Long> entry : counts.entrySet()) {
+            groups.add(AppointmentStatsGroup.builder()
+                    .key(entry.getKey().toString())
+                    .count(entry.getValue())
+                    .build());
+            total += entry.getValue();
+        }
+        return AppointmentStatsResponse.builder()
+                .groupBy(groupBy.name().toLowerCase(Locale.ROOT))
+                .total(total)
+                .reconciledAt(appointmentStatsCounters.getReconciledAt())
+                .groups(groups)
+                .build();
+    }
+
+    @Override
+    public long reconcile() {
+        return appointmentStatsReconciler.reconcile();
+    }
+
+    private NavigableMap<Long, Long> byDepartment(Map<Long, Long> doctorCounts) {
+        NavigableMap<Long, Long> departments = new TreeMap<>();
+        for (DoctorDepartment doctor : doctorRepository.findDepartments()) {
+            Long count = doctorCounts.get(doctor.getId());
+            if (count != null) {
+                departments.merge(doctor.getDeptId(), count, Long::sum);
+            }
+        }
+        return departments;
+    }
+}
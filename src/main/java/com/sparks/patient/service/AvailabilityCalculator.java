@@ -0,0 +1,164 @@
+package com.sparks.patient.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+
+import com.sparks.patient.dto.TimeSlot;
+import com.sparks.patient.entity.Shift;
+
+import lombok.Value;
+
+/**
+ * Computes free slots for one doctor from shift windows and booked appointments.
+ * 
+ * Shifts recur daily (they only carry a time of day), so each shift is expanded
+ * into one window per day of the requested range. Windows and booked intervals are
+ * each sorted and merged, then busy time is subtracted from the windows in a single
+ * two-pointer sweep: O((w + b) log(w + b)) for w windows and b bookings.
+ *
+ * Slots shorter than an appointment are still starts of a full appointment: a slot is
+ * offered only where the whole appointment would fit, so every offered slot can be booked.
+ */
+final class AvailabilityCalculator {
+
+    private AvailabilityCalculator() {
+    }
+
+    static List<TimeSlot> freeSlots(Collection<Shift> shifts,
+                                    Collection<LocalDateTime> bookedStarts,
+                                    LocalDateTime from,
+                                    LocalDateTime to,
+                                    Duration appointmentLength,
+                                    Duration slotLength) {
+        List<Interval> windows = merge(shiftWindows(shifts, from, to));
+        List<Interval> busy = new ArrayList<>(bookedStarts.size());
+        for (LocalDateTime start : bookedStarts) {
+            busy.add(new Interval(start, start.plus(appointmentLength)));
+        }
+
+        // A slot is only offered if the appointment booked into it fits the free time too
+        Duration needed = slotLength.compareTo(appointmentLength) > 0 ? slotLength : appointmentLength;
+        List<TimeSlot> slots = new ArrayList<>();
+        for (Interval free : subtract(windows, merge(busy))) {
+            for (LocalDateTime start = free.getStart();
+                    !start.plus(needed).isAfter(free.getEnd());
+                    start = start.plus(slotLength)) {
+                slots.add(new TimeSlot(start, start.plus(slotLength)));
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Whether [start, start + appointmentLength) lies entirely inside the doctor's shift
+     * windows (adjacent shifts count as one window).
+     */
+    static boolean withinShifts(Collection<Shift> shifts, LocalDateTime start, Duration appointmentLength) {
+        LocalDateTime end = start.plus(appointmentLength);
+        for (Interval window : merge(shiftWindows(shifts, start, end))) {
+            if (window.getStart().equals(start) && window.getEnd().equals(end)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether an appointment starting at {@code start} overlaps any of the booked starts:
+     * two appointments overlap when their start times are less than one length apart
+     */
+    static boolean overlapsAny(NavigableSet<LocalDateTime> bookedStarts, LocalDateTime start,
+                               Duration appointmentLength) {
+        LocalDateTime before = bookedStarts.floor(start);
+        LocalDateTime after = bookedStarts.ceiling(start);
+        return (before != null && before.plus(appointmentLength).isAfter(start))
+                || (after != null && after.isBefore(start.plus(appointmentLength)));
+    }
+
+    /**
+     * The doctor's merged shift windows on one day
+     */
+    static List<TimeSlot> dayWindows(Collection<Shift> shifts, LocalDate day) {
+        List<TimeSlot> windows = new ArrayList<>();
+        for (Interval window : merge(shiftWindows(shifts, day.atStartOfDay(), day.plusDays(1).atStartOfDay()))) {
+            windows.add(new TimeSlot(window.getStart(), window.getEnd()));
+        }
+        return windows;
+    }
+
+    private static List<Interval> shiftWindows(Collection<Shift> shifts, LocalDateTime from, LocalDateTime to) {
+        List<Interval> windows = new ArrayList<>();
+        for (LocalDate day = from.toLocalDate(); !day.isAfter(to.toLocalDate()); day = day.plusDays(1)) {
+            for (Shift shift : shifts) {
+                LocalDateTime start = max(day.atTime(shift.getStartTime()), from);
+                LocalDateTime end = min(day.atTime(shift.getEndTime()), to);
+                if (start.isBefore(end)) {
+                    windows.add(new Interval(start, end));
+                }
+            }
+        }
+        return windows;
+    }
+
+    /**
+     * Sort by start and coalesce overlapping or touching intervals
+     */
+    static List<Interval> merge(List<Interval> intervals) {
+        intervals.sort(Comparator.comparing(Interval::getStart));
+        List<Interval> merged = new ArrayList<>(intervals.size());
+        for (Interval next : intervals) {
+            if (!merged.isEmpty() && !next.getStart().isAfter(merged.get(merged.size() - 1).getEnd())) {
+                Interval last = merged.remove(merged.size() - 1);
+                merged.add(new Interval(last.getStart(), max(last.getEnd(), next.getEnd())));
+            } else {
+                merged.add(next);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Remove busy time from windows; both inputs must be sorted and disjoint
+     */
+    static List<Interval> subtract(List<Interval> windows, List<Interval> busy) {
+        List<Interval> free = new ArrayList<>();
+        int first = 0;
+        for (Interval window : windows) {
+            LocalDateTime cursor = window.getStart();
+            while (first < busy.size() && !busy.get(first).getEnd().isAfter(cursor)) {
+                first++;
+            }
+            for (int i = first; i < busy.size() && busy.get(i).getStart().isBefore(window.getEnd()); i++) {
+                Interval booked = busy.get(i);
+                if (booked.getStart().isAfter(cursor)) {
+                    free.add(new Interval(cursor, booked.getStart()));
+                }
+                cursor = max(cursor, booked.getEnd());
+            }
+            if (cursor.isBefore(window.getEnd())) {
+                free.add(new Interval(cursor, window.getEnd()));
+            }
+        }
+        return free;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    @Value
+    static class Interval {
+        LocalDateTime start;
+        LocalDateTime end;
+    }
+}
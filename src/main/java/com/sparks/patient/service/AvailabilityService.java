@@ -0,0 +1,34 @@
+package com.sparks.patient.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.sparks.patient.dto.DoctorAvailabilityResponse;
+
+/**
+ * Service interface for doctor availability (free bookable slots)
+ */
+public interface AvailabilityService {
+
+    /**
+     * Get free slots for a doctor
+     * @param doctorId the doctor ID
+     * @param from window start (inclusive)
+     * @param to window end (exclusive)
+     * @param slotMinutes slot length in minutes
+     * @return free slots within the doctor's shifts that do not overlap booked appointments
+     */
+    DoctorAvailabilityResponse getDoctorAvailability(Long doctorId, LocalDateTime from, LocalDateTime to,
+                                                     int slotMinutes);
+
+    /**
+     * Get free slots for every doctor in a department
+     * @param deptId the department ID
+     * @param from window start (inclusive)
+     * @param to window end (exclusive)
+     * @param slotMinutes slot length in minutes
+     * @return availability per doctor, ordered by doctor ID
+     */
+    List<DoctorAvailabilityResponse> getDepartmentAvailability(Long deptId, LocalDateTime from, LocalDateTime to,
+                                                               int slotMinutes);
+}
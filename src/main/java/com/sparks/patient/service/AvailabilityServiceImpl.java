@@ -0,0 +1,120 @@
+package com.sparks.patient.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sparks.patient.dto.DoctorAvailabilityResponse;
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.entity.Doctor;
+import com.sparks.patient.entity.Shift;
+import com.sparks.patient.exception.DoctorNotFoundException;
+import com.sparks.patient.exception.InvalidTimeSlotException;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.DoctorBookedTime;
+import com.sparks.patient.repository.DoctorRepository;
+import com.sparks.patient.repository.ShiftRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of AvailabilityService
+ * 
+ * Loads shifts and booked start times for all requested doctors with one query each
+ * and computes free slots in memory (see {@link AvailabilityCalculator}).
+ * Cancelled appointments do not block a slot.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+    static final Duration MAX_HORIZON = Duration.ofDays(31);
+    static final int MIN_SLOT_MINUTES = 5;
+    static final int MAX_SLOT_MINUTES = 480;
+
+    private final DoctorRepository doctorRepository;
+    private final ShiftRepository shiftRepository;
+    private final AppointmentRepository appointmentRepository;
+
+    @Override
+    public DoctorAvailabilityResponse getDoctorAvailability(Long doctorId, LocalDateTime from, LocalDateTime to,
+                                                            int slotMinutes) {
+        log.info("Computing availability for doctor {} between {} and {} ({} min slots)",
+                doctorId, from, to, slotMinutes);
+        validateWindow(from, to, slotMinutes);
+
+        Doctor doctor = doctorRepository.findById(doctorId)
+                .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with id: " + doctorId));
+
+        return computeAvailability(Collections.singletonList(doctor), from, to, slotMinutes).get(0);
+    }
+
+    @Override
+    public List<DoctorAvailabilityResponse> getDepartmentAvailability(Long deptId, LocalDateTime from,
+                                                                      LocalDateTime to, int slotMinutes) {
+        log.info("Computing availability for department {} between {} and {} ({} min slots)",
+                deptId, from, to, slotMinutes);
+        validateWindow(from, to, slotMinutes);
+
+        List<Doctor> doctors = doctorRepository.findByDeptId(deptId).stream()
+                .sorted(Comparator.comparing(Doctor::getId))
+                .collect(Collectors.toList());
+        if (doctors.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return computeAvailability(doctors, from, to, slotMinutes);
+    }
+
+    private List<DoctorAvailabilityResponse> computeAvailability(List<Doctor> doctors, LocalDateTime from,
+                                                                 LocalDateTime to, int slotMinutes) {
+        List<Long> doctorIds = doctors.stream().map(Doctor::getId).collect(Collectors.toList());
+
+        Map<Long, List<Shift>> shiftsByDoctor = shiftRepository.findByDoctorIdIn(doctorIds).stream()
+                .collect(Collectors.groupingBy(Shift::getDoctorId));
+
+        // An appointment starting up to one duration before 'from' can still block the first slot
+        Map<Long, List<LocalDateTime>> bookedByDoctor = appointmentRepository.findBookedTimes(
+                        doctorIds, from.minus(Appointment.DEFAULT_DURATION), to,
+                        Appointment.AppointmentStatus.CANCELLED).stream()
+                .collect(Collectors.groupingBy(DoctorBookedTime::getDoctorId,
+                        Collectors.mapping(DoctorBookedTime::getAppointmentTime, Collectors.toList())));
+
+        Duration slotLength = Duration.ofMinutes(slotMinutes);
+        return doctors.stream()
+                .map(doctor -> DoctorAvailabilityResponse.builder()
+                        .doctorId(doctor.getId())
+                        .doctorName(doctor.getFullName())
+                        .from(from)
+                        .to(to)
+                        .slotMinutes(slotMinutes)
+                        .slots(AvailabilityCalculator.freeSlots(
+                                shiftsByDoctor.getOrDefault(doctor.getId(), Collections.emptyList()),
+                                bookedByDoctor.getOrDefault(doctor.getId(), Collections.emptyList()),
+                                from, to, Appointment.DEFAULT_DURATION, slotLength))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private void validateWindow(LocalDateTime from, LocalDateTime to, int slotMinutes) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new InvalidTimeSlotException("'to' must be strictly after 'from'");
+        }
+        if (Duration.between(from, to).compareTo(MAX_HORIZON) > 0) {
+            throw new InvalidTimeSlotException("Availability window cannot exceed " + MAX_HORIZON.toDays() + " days");
+        }
+        if (slotMinutes < MIN_SLOT_MINUTES || slotMinutes > MAX_SLOT_MINUTES) {
+            throw new InvalidTimeSlotException(
+                    "slotMinutes must be between " + MIN_SLOT_MINUTES + " and " + MAX_SLOT_MINUTES);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.sparks.patient.service;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import com.sparks.patient.dto.KeyFilterStatsResponse;
+
+/**
+ * In-memory Bloom filter over a unique column (patient emails, doctor license numbers) that
+ * answers the "does this value already exist?" check of every write without a database round
+ * trip when the answer is a definite no, and falls back to the indexed exists query on a maybe.
+ *
+ * Keys are trimmed and lower-cased before hashing; that can only add false positives, never
+ * hide a match. Values are added on every write and cannot be removed, so deleted or changed
+ * values stay set until the next rebuild, which also picks up rows other instances wrote. The
+ * column's unique constraint stays the final guard against those.
+ *
+ * Until the first rebuild every check goes straight to the database.
+ */
+public abstract class BloomKeyFilter {
+
+    /**
+     * Smallest capacity a rebuild sizes for, so a near-empty table has room to grow
+     */
+    static final long MIN_CAPACITY = 10_000;
+
+    private final double falsePositiveRate;
+
+    /**
+     * Guards adds against the generation swap of a rebuild
+     */
+    private final Object lock = new Object();
+
+    private volatile Generation current;
+    private Generation building;
+    private volatile LocalDateTime rebuiltAt;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder definiteNegatives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    protected BloomKeyFilter(double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Whether a row with this value exists. Only a possible match runs the database lookup;
+     * a possible match the lookup denies is counted as a false positive.
+     * @param value the value to check
+     * @param lookup the indexed exists query
+     * @return true if the lookup found the value
+     */
+    public boolean exists(String value, Predicate<String> lookup) {
+        Generation generation = current;
+        if (generation == null || value == null) {
+            return lookup.test(value);
+        }
+        checks.increment();
+        if (!generation.mightContain(normalize(value))) {
+            definiteNegatives.increment();
+            return false;
+        }
+        boolean exists = lookup.test(value);
+        if (!exists) {
+            falsePositives.increment();
+        }
+        return exists;
+    }
+
+    /**
+     * Record a written value. It is set right away, so checks running alongside the write see
+     * it, and again after commit, so a rebuild scanning the table meanwhile cannot miss it.
+     * @param value the value written
+     */
+    public void add(String value) {
+        if (value == null) {
+            return;
+        }
+        String key = normalize(value);
+        put(key);
+        AfterCommit.run(() -> put(key));
+    }
+
+    /**
+     * Record a value written by the current transaction once it commits. For bulk writes that
+     * no concurrent check needs to see before then.
+     * @param value the value written
+     */
+    public void addAfterCommit(String value) {
+        if (value == null) {
+            return;
+        }
+        String key = normalize(value);
+        AfterCommit.run(() -> put(key));
+    }
+
+    private void put(String key) {
+        long hash = hash(key);
+        synchronized (lock) {
+            if (current != null) {
+                current.put(hash);
+            }
+            if (building != null) {
+                building.put(hash);
+            }
+        }
+    }
+
+    /**
+     * Replace the filter with one built from a scan of the column, sized for twice the
+     * expected row count. Values added while the scan runs go into both filters.
+     * @param expected approximate number of rows, used for sizing
+     * @param values every value of the column
+     * @return number of values scanned
+     */
+    public synchronized int rebuild(long expected, Iterator<String> values) {
+        Generation fresh = new Generation(Math.max(MIN_CAPACITY, 2 * expected), falsePositiveRate);
+        synchronized (lock) {
+            building = fresh;
+        }
+        int scanned = 0;
+        try {
+            while (values.hasNext()) {
+                String value = values.next();
+                if (value != null) {
+                    fresh.put(hash(normalize(value)));
+                    scanned++;
+                }
+            }
+            synchronized (lock) {
+                current = fresh;
+            }
+        } finally {
+            synchronized (lock) {
+                building = null;
+            }
+        }
+        rebuiltAt = LocalDateTime.now();
+        return scanned;
+    }
+
+    public boolean isLoaded() {
+        return current != null;
+    }
+
+    /**
+     * Size and counters of the filter; the checks counters run since startup
+     */
+    public KeyFilterStatsResponse stats() {
+        Generation generation = current;
+        long negatives = definiteNegatives.sum();
+        long positives = falsePositives.sum();
+        KeyFilterStatsResponse.KeyFilterStatsResponseBuilder stats = KeyFilterStatsResponse.builder()
+                .loaded(generation != null)
+                .rebuiltAt(rebuiltAt)
+                .checkCount(checks.sum())
+                .definiteNegativeCount(negatives)
+                .falsePositiveCount(positives)
+                .falsePositiveRate(negatives + positives == 0 ? 0 : (double) positives / (negatives + positives))
+                .targetFalsePositiveRate(falsePositiveRate);
+        if (generation != null) {
+            stats.capacity(generation.capacity)
+                    .keyCount(generation.keys.sum())
+                    .bitCount(generation.bitCount)
+                    .hashCount(generation.hashCount)
+                    .expectedFalsePositiveRate(generation.expectedFalsePositiveRate());
+        }
+        return stats.build();
+    }
+
+    static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 chars, finished with the MurmurHash3 mixer
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * One bit array; a rebuild fills a new one and swaps it in
+     */
+    private static final class Generation {
+
+        private final long capacity;
+        private final long bitCount;
+        private final int hashCount;
+        private final AtomicLongArray words;
+        private final LongAdder keys = new LongAdder();
+
+        Generation(long capacity, double falsePositiveRate) {
+            double ln2 = Math.log(2);
+            long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+            int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+            this.capacity = capacity;
+            this.bitCount = wordCount * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * ln2));
+            this.words = new AtomicLongArray(wordCount);
+        }
+
+        /**
+         * Sets the key's bits; a key that changed no bit is not counted again
+         */
+        void put(long hash) {
+            long step = mix(hash ^ 0x9e3779b97f4a7c15L) | 1;
+            boolean changed = false;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(hash + i * step, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                if ((words.get(word) & mask) == 0) {
+                    words.getAndAccumulate(word, mask, (a, b) -> a | b);
+                    changed = true;
+                }
+            }
+            if (changed) {
+                keys.increment();
+            }
+        }
+
+        boolean mightContain(String key) {
+            long hash = hash(key);
+            long step = mix(hash ^ 0x9e3779b97f4a7c15L) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(hash + i * step, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * (1 - e^(-kn/m))^k for the keys added so far
+         */
+        double expectedFalsePositiveRate() {
+            return Math.pow(1 - Math.exp(-hashCount * (double) keys.sum() / bitCount), hashCount);
+        }
+    }
+}
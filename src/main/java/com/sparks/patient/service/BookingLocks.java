@@ -0,0 +1,85 @@
+package com.sparks.patient.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sparks.patient.exception.AppointmentConflictException;
+
+/**
+ * Striped per-doctor locks for the booking path.
+ * 
+ * Bookings for the same doctor serialize on one of {@link #STRIPES} locks while bookings
+ * for other doctors proceed in parallel. A lock is held until the surrounding transaction
+ * completes, so the overlap check and the insert are atomic with respect to other bookings
+ * in this instance; the (doctor_id, active_slot) unique constraint guards across instances.
+ */
+@Component
+public class BookingLocks {
+
+    static final int STRIPES = 64;
+    static final long LOCK_TIMEOUT_SECONDS = 10;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    public BookingLocks() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Lock the stripes of the given doctors until the current transaction completes.
+     * Stripes are acquired in index order so concurrent multi-doctor callers cannot deadlock.
+     * 
+     * @throws AppointmentConflictException if a lock cannot be acquired in time
+     */
+    public void lockUntilCompletion(Collection<Long> doctorIds) {
+        int[] indexes = doctorIds.stream().mapToInt(BookingLocks::stripeIndex).distinct().sorted().toArray();
+        List<ReentrantLock> acquired = new ArrayList<>(indexes.length);
+        try {
+            for (int index : indexes) {
+                ReentrantLock lock = stripes[index];
+                if (!lock.tryLock(LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    throw new AppointmentConflictException("Too many concurrent bookings for this doctor, please retry");
+                }
+                acquired.add(lock);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unlockAll(acquired);
+            throw new AppointmentConflictException("Interrupted while waiting for booking lock");
+        } catch (RuntimeException e) {
+            unlockAll(acquired);
+            throw e;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    unlockAll(acquired);
+                }
+            });
+        } else {
+            // No transaction to span: nothing is committed later, so there is nothing to guard
+            unlockAll(acquired);
+        }
+    }
+
+    static int stripeIndex(Long doctorId) {
+        return Math.floorMod(Long.hashCode(doctorId), STRIPES);
+    }
+
+    private static void unlockAll(List<ReentrantLock> locks) {
+        for (ReentrantLock lock : locks) {
+            lock.unlock();
+        }
+    }
+}
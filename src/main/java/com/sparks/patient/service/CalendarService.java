@@ -0,0 +1,20 @@
+package com.sparks.patient.service;
+
+import java.time.LocalDate;
+
+import com.sparks.patient.dto.DoctorCalendarResponse;
+
+/**
+ * Service interface for doctor day-sheet calendars
+ */
+public interface CalendarService {
+
+    /**
+     * Get a doctor's calendar
+     * @param doctorId the doctor ID
+     * @param from first day (inclusive)
+     * @param to last day (exclusive)
+     * @return shift windows and appointments for every day of the range
+     */
+    DoctorCalendarResponse getDoctorCalendar(Long doctorId, LocalDate from, LocalDate to);
+}
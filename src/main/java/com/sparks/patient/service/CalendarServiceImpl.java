@@ -0,0 +1,79 @@
+package com.sparks.patient.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.dto.CalendarDayResponse;
+import com.sparks.patient.dto.DoctorCalendarResponse;
+import com.sparks.patient.dto.DoctorResponse;
+import com.sparks.patient.entity.Shift;
+import com.sparks.patient.exception.DoctorNotFoundException;
+import com.sparks.patient.exception.InvalidTimeSlotException;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.DoctorRepository;
+import com.sparks.patient.repository.ShiftRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of CalendarService
+ * 
+ * Appointments come from per-day buckets in {@link DoctorCalendarCache}; only days not held
+ * there are read, with one range query over the doctor/time index. Shifts are small and
+ * read fresh on every request.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class CalendarServiceImpl implements CalendarService {
+
+    static final int MAX_DAYS = 31;
+
+    private final DoctorRepository doctorRepository;
+    private final ShiftRepository shiftRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final DoctorCalendarCache doctorCalendarCache;
+
+    @Override
+    public DoctorCalendarResponse getDoctorCalendar(Long doctorId, LocalDate from, LocalDate to) {
+        log.info("Fetching calendar for doctor {} from {} to {}", doctorId, from, to);
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new InvalidTimeSlotException("'to' must be strictly after 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_DAYS) {
+            throw new InvalidTimeSlotException("Calendar range cannot exceed " + MAX_DAYS + " days");
+        }
+
+        DoctorResponse doctor = doctorRepository.findResponseById(doctorId)
+                .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with id: " + doctorId));
+        List<Shift> shifts = shiftRepository.findByDoctorId(doctorId);
+        Map<LocalDate, List<AppointmentResponse>> appointments = doctorCalendarCache.get(doctorId, from, to,
+                (start, end) -> appointmentRepository.findResponsesByDoctorIdBetween(doctorId, start, end));
+
+        List<CalendarDayResponse> days = new ArrayList<>();
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            days.add(CalendarDayResponse.builder()
+                    .date(day)
+                    .shifts(AvailabilityCalculator.dayWindows(shifts, day))
+                    .appointments(appointments.get(day))
+                    .build());
+        }
+
+        return DoctorCalendarResponse.builder()
+                .doctorId(doctor.getId())
+                .doctorName(doctor.getFullName())
+                .from(from)
+                .to(to)
+                .days(days)
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.sparks.patient.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Bounded Caffeine cache whose entries writers invalidate once their transaction commits,
+ * shared by the read-through caches of this package.
+ *
+ * Every invalidation advances a generation. A load notes the generation before it reads and
+ * its result is not kept if an invalidation ran in between, so a row read before a commit
+ * cannot be cached after that commit's invalidation has run. Nor is a load made inside a
+ * read-write transaction kept, as it may have read that transaction's uncommitted writes.
+ */
+final class CommitInvalidatedCache<K, V> {
+
+    private final Cache<K, V> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    CommitInvalidatedCache(long maximumSize, Duration timeToLive, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    V getIfPresent(K key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Cached value for the key, or the loader's result (cached when present)
+     */
+    Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long seen = generation();
+        Optional<V> loaded = loader.apply(key);
+        loaded.ifPresent(value -> putLoaded(seen, Map.of(key, value)));
+        return loaded;
+    }
+
+    /**
+     * Generation to note before a load and hand to {@link #putLoaded}
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Keep values loaded since the given generation, unless they may be stale
+     */
+    void putLoaded(long seen, Map<K, V> loaded) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        cache.putAll(loaded);
+        // An invalidation ran while we were loading; what we read may predate it
+        if (generation.get() != seen) {
+            cache.invalidateAll(loaded.keySet());
+        }
+    }
+
+    void invalidateAfterCommit(K key) {
+        afterCommit(() -> cache.invalidate(key));
+    }
+
+    void invalidateAllAfterCommit(Collection<K> keys) {
+        afterCommit(() -> cache.invalidateAll(keys));
+    }
+
+    /**
+     * Drop every entry matching the predicate after commit; scans the whole cache
+     */
+    void invalidateIfAfterCommit(BiPredicate<K, V> stale) {
+        afterCommit(() -> cache.asMap().entrySet().removeIf(entry -> stale.test(entry.getKey(), entry.getValue())));
+    }
+
+    CacheStats stats() {
+        return cache.stats();
+    }
+
+    long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private void afterCommit(Runnable invalidation) {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            invalidation.run();
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package com.sparks.patient.service;
+
+import java.util.Locale;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Tells which unique constraint an integrity violation broke. The session cannot be queried
+ * after a failed flush, so the constraint name reported by the driver is matched instead.
+ */
+final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * Whether the violated constraint is the named one
+     */
+    static boolean violates(DataIntegrityViolationException ex, String constraint) {
+        String message = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(constraint);
+    }
+}
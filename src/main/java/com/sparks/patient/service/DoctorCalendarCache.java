@@ -0,0 +1,130 @@
+package com.sparks.patient.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sparks.patient.dto.AppointmentResponse;
+
+import lombok.Value;
+
+/**
+ * Per-day buckets of a doctor's appointments, for the calendar endpoint.
+ *
+ * A calendar request only loads the days it does not already hold, with a single range
+ * query spanning the first to the last missing day; every day of that span is stored,
+ * including empty ones. Writers invalidate just the (doctor, day) buckets they touched
+ * after their transaction commits, or every bucket of a patient or doctor whose name
+ * (part of the response) changed. Buckets that may be stale are not kept (see
+ * {@link CommitInvalidatedCache}).
+ */
+@Component
+public class DoctorCalendarCache {
+
+    static final long MAXIMUM_DAYS = 20_000;
+    static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final CommitInvalidatedCache<DoctorDay, List<AppointmentResponse>> days;
+
+    public DoctorCalendarCache() {
+        this(Ticker.systemTicker());
+    }
+
+    DoctorCalendarCache(Ticker ticker) {
+        this.days = new CommitInvalidatedCache<>(MAXIMUM_DAYS, TIME_TO_LIVE, ticker);
+    }
+
+    /**
+     * Appointments of the doctor per day in [from, to), loading the days not cached
+     *
+     * @param loader returns the doctor's appointments in [start, end) ordered by time
+     */
+    public NavigableMap<LocalDate, List<AppointmentResponse>> get(
+            Long doctorId, LocalDate from, LocalDate to,
+            BiFunction<LocalDateTime, LocalDateTime, List<AppointmentResponse>> loader) {
+        NavigableMap<LocalDate, List<AppointmentResponse>> result = new TreeMap<>();
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            List<AppointmentResponse> cached = days.getIfPresent(new DoctorDay(doctorId, day));
+            if (cached != null) {
+                result.put(day, cached);
+            } else {
+                firstMissing = firstMissing == null ? day : firstMissing;
+                lastMissing = day;
+            }
+        }
+        if (firstMissing == null) {
+            return result;
+        }
+
+        long seen = days.generation();
+        Map<LocalDate, List<AppointmentResponse>> loaded = loader
+                .apply(firstMissing.atStartOfDay(), lastMissing.plusDays(1).atStartOfDay()).stream()
+                .collect(Collectors.groupingBy(response -> response.getAppointmentTime().toLocalDate()));
+
+        Map<DoctorDay, List<AppointmentResponse>> buckets = new LinkedHashMap<>();
+        for (LocalDate day = firstMissing; !day.isAfter(lastMissing); day = day.plusDays(1)) {
+            List<AppointmentResponse> bucket = Collections.unmodifiableList(
+                    loaded.getOrDefault(day, Collections.emptyList()));
+            buckets.put(new DoctorDay(doctorId, day), bucket);
+            result.put(day, bucket);
+        }
+        days.putLoaded(seen, buckets);
+        return result;
+    }
+
+    public void invalidateAfterCommit(Long doctorId, LocalDate day) {
+        invalidateAfterCommit(Collections.singleton(new DoctorDay(doctorId, day)));
+    }
+
+    public void invalidateAfterCommit(Collection<DoctorDay> doctorDays) {
+        if (doctorDays.isEmpty()) {
+            return;
+        }
+        days.invalidateAllAfterCommit(doctorDays);
+    }
+
+    public void invalidatePatientAfterCommit(Long patientId) {
+        days.invalidateIfAfterCommit((key, bucket) -> bucket.stream()
+                .anyMatch(response -> patientId.equals(response.getPatientId())));
+    }
+
+    public void invalidateDoctorAfterCommit(Long doctorId) {
+        days.invalidateIfAfterCommit((key, bucket) -> doctorId.equals(key.getDoctorId()));
+    }
+
+    public CacheStats stats() {
+        return days.stats();
+    }
+
+    public long estimatedSize() {
+        return days.estimatedSize();
+    }
+
+    /**
+     * Cache key: one doctor on one day
+     */
+    @Value
+    public static class DoctorDay {
+        Long doctorId;
+        LocalDate date;
+
+        public static DoctorDay of(Long doctorId, LocalDateTime time) {
+            return new DoctorDay(doctorId, time.toLocalDate());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.sparks.patient.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bloom filter over doctor license numbers, in front of the duplicate license check
+ */
+@Component
+public class DoctorLicenseFilter extends BloomKeyFilter {
+
+    public DoctorLicenseFilter(@Value("${key-filters.false-positive-rate:0.01}") double falsePositiveRate) {
+        super(falsePositiveRate);
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.sparks.patient.dto.DoctorRequest;
 import com.sparks.patient.dto.DoctorResponse;
+import com.sparks.patient.dto.KeyFilterStatsResponse;
 
 /**
  * Service interface for Doctor operations
@@ -53,4 +54,16 @@ public interface DoctorService {
      * @param id the doctor ID
      */
     void deleteDoctor(Long id);
+
+    /**
+     * Rebuild the duplicate-license Bloom filter from a scan of the doctors table
+     * @return number of license numbers scanned
+     */
+    int rebuildLicenseFilter();
+
+    /**
+     * Size and check counters of the duplicate-license Bloom filter
+     * @return Filter statistics; check counters run since startup
+     */
+    KeyFilterStatsResponse getLicenseFilterStats();
 }
@@ -1,13 +1,17 @@
 package com.sparks.patient.service;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.sparks.patient.dto.DoctorRequest;
 import com.sparks.patient.dto.DoctorResponse;
+import com.sparks.patient.dto.KeyFilterStatsResponse;
 import com.sparks.patient.entity.Doctor;
 import com.sparks.patient.exception.DoctorNotFoundException;
 import com.sparks.patient.mapper.DoctorMapper;
@@ -28,9 +32,19 @@ public class DoctorServiceImpl implements DoctorService {
     @Autowired
     private DoctorMapper doctorMapper;
 
+    @Autowired
+    private AppointmentLookupCache appointmentLookupCache;
+
+    @Autowired
+    private DoctorCalendarCache doctorCalendarCache;
+
+    @Autowired
+    private DoctorLicenseFilter doctorLicenseFilter;
+
     /**
      * Create a new doctor
-     * Validates that the license number is unique
+     * Validates that the license number is unique; the license filter skips the query
+     * for numbers it has never seen
      * @param request the doctor creation request
      * @return the created doctor response
      * @throws IllegalArgumentException if license number already exists
@@ -38,14 +52,15 @@ public class DoctorServiceImpl implements DoctorService {
     @Override
     public DoctorResponse createDoctor(DoctorRequest request) {
         // Check for duplicate license number
-        if (doctorRepository.existsByLicenseNumber(request.getLicenseNumber())) {
+        if (doctorLicenseFilter.exists(request.getLicenseNumber(), doctorRepository::existsByLicenseNumber)) {
             throw new IllegalArgumentException(
                 "Doctor with license number '" + request.getLicenseNumber() + "' already exists"
             );
         }
 
         Doctor doctor = doctorMapper.toEntity(request);
-        Doctor savedDoctor = doctorRepository.save(doctor);
+        Doctor savedDoctor = saveUnique(doctor);
+        doctorLicenseFilter.add(savedDoctor.getLicenseNumber());
         return doctorMapper.toResponse(savedDoctor);
     }
 
@@ -55,10 +70,10 @@ public class DoctorServiceImpl implements DoctorService {
      * @return the doctor response
      */
     @Override
+    @Transactional(readOnly = true)
     public DoctorResponse getDoctorById(Long id) {
-        Doctor doctor = doctorRepository.findById(id)
+        return doctorRepository.findResponseById(id)
             .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with id: " + id));
-        return doctorMapper.toResponse(doctor);
     }
 
     /**
@@ -67,12 +82,12 @@ public class DoctorServiceImpl implements DoctorService {
      * @return the doctor response
      */
     @Override
+    @Transactional(readOnly = true)
     public DoctorResponse getDoctorByLicenseNumber(String licenseNumber) {
-        Doctor doctor = doctorRepository.findByLicenseNumber(licenseNumber)
+        return doctorRepository.findResponseByLicenseNumber(licenseNumber)
             .orElseThrow(() -> new DoctorNotFoundException(
                 "Doctor not found with license number: " + licenseNumber
             ));
-        return doctorMapper.toResponse(doctor);
     }
 
     /**
@@ -80,16 +95,15 @@ public class DoctorServiceImpl implements DoctorService {
      * @return list of all doctors
      */
     @Override
+    @Transactional(readOnly = true)
     public List<DoctorResponse> getAllDoctors() {
-        List<Doctor> doctors = doctorRepository.findAll();
-        return doctors.stream()
-            .map(doctorMapper::toResponse)
-            .collect(Collectors.toList());
+        return doctorRepository.findAllResponses();
     }
 
     /**
      * Update an existing doctor
      * Validates that the license number is unique if changed
+     * A name change invalidates the doctor's cached appointments, which embed the name
      * @param id the doctor ID
      * @param request the update request
      * @return the updated doctor response
@@ -101,15 +115,23 @@ public class DoctorServiceImpl implements DoctorService {
             .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with id: " + id));
 
         // Check if license number is being changed and if new license number already exists
-        if (!doctor.getLicenseNumber().equals(request.getLicenseNumber()) &&
-            doctorRepository.existsByLicenseNumber(request.getLicenseNumber())) {
+        boolean relicensed = !doctor.getLicenseNumber().equals(request.getLicenseNumber());
+        if (relicensed && doctorLicenseFilter.exists(request.getLicenseNumber(), doctorRepository::existsByLicenseNumber)) {
             throw new IllegalArgumentException(
                 "Doctor with license number '" + request.getLicenseNumber() + "' already exists"
             );
         }
 
+        boolean renamed = !Objects.equals(doctor.getFullName(), request.getFullName());
         doctorMapper.updateEntity(request, doctor);
-        Doctor updatedDoctor = doctorRepository.save(doctor);
+        Doctor updatedDoctor = saveUnique(doctor);
+        if (relicensed) {
+            doctorLicenseFilter.add(updatedDoctor.getLicenseNumber());
+        }
+        if (renamed) {
+            appointmentLookupCache.invalidateDoctorAfterCommit(id);
+            doctorCalendarCache.invalidateDoctorAfterCommit(id);
+        }
         return doctorMapper.toResponse(updatedDoctor);
     }
 
@@ -123,4 +145,41 @@ public class DoctorServiceImpl implements DoctorService {
             .orElseThrow(() -> new DoctorNotFoundException("Doctor not found with id: " + id));
         doctorRepository.delete(doctor);
     }
+
+    /**
+     * Rebuild the license filter from a streaming scan of the doctors table
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public int rebuildLicenseFilter() {
+        long expected = doctorRepository.count();
+        try (Stream<String> licenseNumbers = doctorRepository.streamLicenseNumbers()) {
+            return doctorLicenseFilter.rebuild(expected, licenseNumbers.iterator());
+        }
+    }
+
+    @Override
+    public KeyFilterStatsResponse getLicenseFilterStats() {
+        return doctorLicenseFilter.stats();
+    }
+
+    /**
+     * Save, turning a duplicate license number that got past the filter and the check
+     * (saved concurrently or by another instance) into the same error as the check.
+     * Any other integrity violation is rethrown as is.
+     */
+    private Doctor saveUnique(Doctor doctor) {
+        try {
+            Doctor saved = doctorRepository.save(doctor);
+            doctorRepository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException ex) {
+            if (ConstraintViolations.violates(ex, Doctor.LICENSE_CONSTRAINT)) {
+                throw new IllegalArgumentException(
+                    "Doctor with license number '" + doctor.getLicenseNumber() + "' already exists"
+                );
+            }
+            throw ex;
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.sparks.patient.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for bulk data exports
+ * 
+ * Each export writes one JSON document per line (NDJSON) straight to the given
+ * stream while rows are read, so memory use does not depend on table size.
+ */
+public interface ExportService {
+
+    /**
+     * Export all appointments as NDJSON
+     * @param out the stream to write to (left open)
+     * @return number of exported rows
+     */
+    long exportAppointments(OutputStream out) throws IOException;
+
+    /**
+     * Export all shifts as NDJSON
+     * @param out the stream to write to (left open)
+     * @return number of exported rows
+     */
+    long exportShifts(OutputStream out) throws IOException;
+
+    /**
+     * Export all patients as NDJSON
+     * @param out the stream to write to (left open)
+     * @return number of exported rows
+     */
+    long exportPatients(OutputStream out) throws IOException;
+
+    /**
+     * Export all doctors as NDJSON
+     * @param out the stream to write to (left open)
+     * @return number of exported rows
+     */
+    long exportDoctors(OutputStream out) throws IOException;
+}
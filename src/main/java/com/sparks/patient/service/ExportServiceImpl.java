@@ -0,0 +1,114 @@
+package com.sparks.patient.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.entity.Doctor;
+import com.sparks.patient.entity.Patient;
+import com.sparks.patient.entity.Shift;
+import com.sparks.patient.mapper.AppointmentMapper;
+import com.sparks.patient.mapper.DoctorMapper;
+import com.sparks.patient.mapper.PatientMapper;
+import com.sparks.patient.mapper.ShiftMapper;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.DoctorRepository;
+import com.sparks.patient.repository.PatientRepository;
+import com.sparks.patient.repository.ShiftRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of ExportService
+ * 
+ * Rows are read through Stream-returning repository queries (server-side cursor with
+ * a fetch size hint), mapped to the public response DTOs and written immediately.
+ * The persistence context is cleared every {@link #CLEAR_INTERVAL} rows so already
+ * written entities can be garbage collected. Writes block while the client is slow
+ * to read, which throttles the database cursor as well.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ExportServiceImpl implements ExportService {
+
+    static final int CLEAR_INTERVAL = 500;
+    private static final byte NEWLINE = '\n';
+
+    private final AppointmentRepository appointmentRepository;
+    private final ShiftRepository shiftRepository;
+    private final PatientRepository patientRepository;
+    private final DoctorRepository doctorRepository;
+    private final AppointmentMapper appointmentMapper;
+    private final ShiftMapper shiftMapper;
+    private final PatientMapper patientMapper;
+    private final DoctorMapper doctorMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public long exportAppointments(OutputStream out) throws IOException {
+        log.info("Exporting appointments");
+        try (Stream<Appointment> rows = appointmentRepository.streamAll()) {
+            return writeNdjson(rows, appointmentMapper::toResponse, out);
+        }
+    }
+
+    @Override
+    public long exportShifts(OutputStream out) throws IOException {
+        log.info("Exporting shifts");
+        try (Stream<Shift> rows = shiftRepository.streamAll()) {
+            return writeNdjson(rows, shiftMapper::toResponse, out);
+        }
+    }
+
+    @Override
+    public long exportPatients(OutputStream out) throws IOException {
+        log.info("Exporting patients");
+        try (Stream<Patient> rows = patientRepository.streamAll()) {
+            return writeNdjson(rows, patientMapper::toResponse, out);
+        }
+    }
+
+    @Override
+    public long exportDoctors(OutputStream out) throws IOException {
+        log.info("Exporting doctors");
+        try (Stream<Doctor> rows = doctorRepository.streamAll()) {
+            return writeNdjson(rows, doctorMapper::toResponse, out);
+        }
+    }
+
+    private <T> long writeNdjson(Stream<T> rows, Function<T, ?> toResponse, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long count = 0;
+
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            writer.writeValue(out, toResponse.apply(iterator.next()));
+            out.write(NEWLINE);
+            count++;
+
+            if (count % CLEAR_INTERVAL == 0) {
+                out.flush();
+                entityManager.clear();
+            }
+        }
+        out.flush();
+
+        log.info("Exported {} rows", count);
+        return count;
+    }
+}
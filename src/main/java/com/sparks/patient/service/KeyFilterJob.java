@@ -0,0 +1,42 @@
+package com.sparks.patient.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background job building the duplicate email and license number filters at startup and
+ * rebuilding them every key-filters.interval, clearing values that were deleted or changed
+ * and picking up rows written by other instances.
+ * 
+ * Disabled with key-filters.enabled=false; every duplicate check then goes to the database.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "key-filters.enabled", havingValue = "true", matchIfMissing = true)
+public class KeyFilterJob {
+
+    private final PatientService patientService;
+    private final DoctorService doctorService;
+
+    @Scheduled(initialDelayString = "${key-filters.initial-delay:PT0S}",
+               fixedDelayString = "${key-filters.interval:PT1H}")
+    public void rebuildFilters() {
+        try {
+            patientService.rebuildEmailFilter();
+        } catch (RuntimeException ex) {
+            // Checks keep using the previous filter until the next run
+            log.error("Patient email filter rebuild failed", ex);
+        }
+        try {
+            int scanned = doctorService.rebuildLicenseFilter();
+            log.info("Doctor license filter rebuilt with {} license numbers", scanned);
+        } catch (RuntimeException ex) {
+            log.error("Doctor license filter rebuild failed", ex);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.sparks.patient.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.sparks.patient.dto.AppointmentReminder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stand-in ReminderSender that only logs, until a real channel is configured.
+ * Active unless appointments.reminders.sender names another implementation.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "appointments.reminders.sender", havingValue = "log", matchIfMissing = true)
+public class LoggingReminderSender implements ReminderSender {
+
+    @Override
+    public void send(AppointmentReminder reminder) {
+        log.info("Reminder: appointment {} of patient {} with {} at {}",
+                 reminder.getAppointmentId(), reminder.getPatientId(),
+                 reminder.getDoctorName(), reminder.getAppointmentTime());
+    }
+}
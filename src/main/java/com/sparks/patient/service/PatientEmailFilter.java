@@ -0,0 +1,15 @@
+package com.sparks.patient.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bloom filter over patient emails, in front of the duplicate email check
+ */
+@Component
+public class PatientEmailFilter extends BloomKeyFilter {
+
+    public PatientEmailFilter(@Value("${key-filters.false-positive-rate:0.01}") double falsePositiveRate) {
+        super(falsePositiveRate);
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparks.patient.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.sparks.patient.dto.PatientImportResponse;
+
+/**
+ * Service interface for bulk patient imports
+ */
+public interface PatientImportService {
+
+    /**
+     * Import patients from CSV. The first line is a header naming the columns firstName,
+     * lastName, dob (yyyy-MM-dd), email and phone, in any order. Rows are committed in
+     * chunks; a rejected row is reported and does not stop the import.
+     * @param csv UTF-8 CSV content
+     * @return counts and the rejected rows
+     * @throws com.sparks.patient.exception.InvalidImportFileException if the file is empty or lacks a column
+     */
+    PatientImportResponse importPatients(InputStream csv) throws IOException;
+}
@@ -0,0 +1,381 @@
+package com.sparks.patient.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+import javax.validation.Validator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sparks.patient.dto.PatientImportError;
+import com.sparks.patient.dto.PatientImportResponse;
+import com.sparks.patient.dto.PatientRequest;
+import com.sparks.patient.entity.Patient;
+import com.sparks.patient.exception.DuplicateEmailException;
+import com.sparks.patient.exception.InvalidImportFileException;
+import com.sparks.patient.mapper.PatientMapper;
+import com.sparks.patient.repository.PatientRepository;
+import com.sparks.patient.util.CsvReader;
+import com.sparks.patient.util.DaemonThreads;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of PatientImportService
+ * 
+ * The upload is parsed as it arrives, patients.import.chunk-size rows at a time, so only
+ * one chunk is held in memory. For each chunk:
+ * <ol>
+ * <li>rows are validated against the PatientRequest constraints on
+ * patients.import.concurrency threads;</li>
+ * <li>emails are checked against the database with one IN query, which also catches emails
+ * imported by earlier chunks since those have committed. Of rows repeating an email within
+ * the chunk only the first is tried; the others follow only if it fails;</li>
+ * <li>the remaining rows are inserted in one short transaction. Patient ids come from a
+ * pooled sequence, so the inserts go out as JDBC batches. If the chunk is rejected (an email
+ * taken concurrently, a value the column cannot hold) its rows are retried one by one so
+ * only the offending rows fail.</li>
+ * </ol>
+ * Committed chunks stay committed when a later row fails: the report lists exactly which
+ * lines to fix and re-upload.
+ */
+@Service
+@Slf4j
+public class PatientImportServiceImpl implements PatientImportService {
+
+    static final List<String> COLUMNS = List.of("firstName", "lastName", "dob", "email", "phone");
+    static final int MAX_ERROR_LENGTH = 500;
+
+    private static final int FIRST_NAME = 0;
+    private static final int LAST_NAME = 1;
+    private static final int DOB = 2;
+    private static final int EMAIL = 3;
+    private static final int PHONE = 4;
+
+    private final PatientRepository patientRepository;
+    private final PatientMapper patientMapper;
+    private final PatientNameIndex patientNameIndex;
+    private final PatientEmailFilter patientEmailFilter;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService validators;
+    private final int concurrency;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    @Autowired
+    public PatientImportServiceImpl(PatientRepository patientRepository,
+                                    PatientMapper patientMapper,
+                                    PatientNameIndex patientNameIndex,
+                                    PatientEmailFilter patientEmailFilter,
+                                    Validator validator,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${patients.import.chunk-size:1000}") int chunkSize,
+                                    @Value("${patients.import.concurrency:4}") int concurrency,
+                                    @Value("${patients.import.max-errors:1000}") int maxErrors) {
+        this(patientRepository, patientMapper, patientNameIndex, patientEmailFilter, validator, transactionManager,
+                Executors.newFixedThreadPool(concurrency, DaemonThreads.named("patient-import-")), concurrency, chunkSize, maxErrors);
+    }
+
+    PatientImportServiceImpl(PatientRepository patientRepository,
+                             PatientMapper patientMapper,
+                             PatientNameIndex patientNameIndex,
+                             PatientEmailFilter patientEmailFilter,
+                             Validator validator,
+                             PlatformTransactionManager transactionManager,
+                             ExecutorService validators,
+                             int concurrency,
+                             int chunkSize,
+                             int maxErrors) {
+        this.patientRepository = patientRepository;
+        this.patientMapper = patientMapper;
+        this.patientNameIndex = patientNameIndex;
+        this.patientEmailFilter = patientEmailFilter;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validators = validators;
+        this.concurrency = concurrency;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        validators.shutdownNow();
+    }
+
+    @Override
+    public PatientImportResponse importPatients(InputStream csv) throws IOException {
+        Report report = new Report(maxErrors);
+        try (CsvReader reader = new CsvReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            int[] columns = columns(reader.readRecord());
+            log.info("Importing patients from CSV (chunks of {})", chunkSize);
+
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                chunk.add(row(reader.getRecordLine(), record, columns));
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, report);
+        }
+
+        log.info("Patient import finished: {} rows, {} imported, {} failed",
+                report.rows, report.imported, report.failed);
+        return PatientImportResponse.builder()
+                .rows(report.rows)
+                .imported(report.imported)
+                .failed(report.failed)
+                .errors(report.errors)
+                .errorsTruncated(report.failed > report.errors.size())
+                .build();
+    }
+
+    /**
+     * Position of each expected column in the header, ignoring case and a UTF-8 byte order mark
+     */
+    static int[] columns(List<String> header) {
+        if (header == null) {
+            throw new InvalidImportFileException("CSV file is empty");
+        }
+        int[] columns = new int[COLUMNS.size()];
+        Arrays.fill(columns, -1);
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").trim();
+            for (int column = 0; column < COLUMNS.size(); column++) {
+                if (COLUMNS.get(column).equalsIgnoreCase(name)) {
+                    columns[column] = i;
+                }
+            }
+        }
+        List<String> missing = new ArrayList<>();
+        for (int column = 0; column < COLUMNS.size(); column++) {
+            if (columns[column] < 0) {
+                missing.add(COLUMNS.get(column));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new InvalidImportFileException(
+                    "CSV header is missing columns " + missing + "; expected " + String.join(",", COLUMNS));
+        }
+        return columns;
+    }
+
+    private static Row row(long line, List<String> record, int[] columns) {
+        PatientRequest request = PatientRequest.builder()
+                .firstName(value(record, columns[FIRST_NAME]))
+                .lastName(value(record, columns[LAST_NAME]))
+                .email(value(record, columns[EMAIL]))
+                .phone(value(record, columns[PHONE]))
+                .build();
+        Row row = new Row(line, request);
+        String dob = value(record, columns[DOB]);
+        if (dob != null) {
+            try {
+                request.setDob(LocalDate.parse(dob));
+            } catch (DateTimeParseException ex) {
+                row.error = "dob: Date of birth must be a date in yyyy-MM-dd format";
+            }
+        }
+        return row;
+    }
+
+    private static String value(List<String> record, int index) {
+        if (index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private void importChunk(List<Row> chunk, Report report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        validate(chunk);
+
+        List<Row> pending = chunk.stream().filter(row -> row.error == null).collect(Collectors.toList());
+        Map<String, Long> seen = new HashMap<>();
+        while (!pending.isEmpty()) {
+            pending = insertFirstOfEachEmail(pending, seen);
+        }
+        chunk.forEach(report::add);
+    }
+
+    /**
+     * Insert the first row of each email not yet imported from the chunk. An email is only
+     * recorded as seen, with the line that imported it, once its row commits, so a row the
+     * database rejected does not block a corrected row with the same email further down.
+     * @return the later rows of the same emails, to be decided once their first row is
+     */
+    private List<Row> insertFirstOfEachEmail(List<Row> rows, Map<String, Long> seen) {
+        Map<String, Row> firsts = new LinkedHashMap<>();
+        List<Row> later = new ArrayList<>();
+        for (Row row : rows) {
+            String email = row.request.getEmail();
+            Long first = seen.get(email);
+            if (first != null) {
+                row.error = "Duplicate email in file, first used on line " + first;
+            } else if (firsts.putIfAbsent(email, row) != null) {
+                later.add(row);
+            }
+        }
+        List<Row> accepted = new ArrayList<>(firsts.values());
+        if (!accepted.isEmpty()) {
+            Set<String> taken = new HashSet<>(patientRepository.findExistingEmails(firsts.keySet()));
+            accepted.removeIf(row -> {
+                if (taken.contains(row.request.getEmail())) {
+                    row.error = new DuplicateEmailException(row.request.getEmail()).getMessage();
+                    return true;
+                }
+                return false;
+            });
+            insert(accepted);
+            for (Row row : accepted) {
+                if (row.error == null) {
+                    seen.put(row.request.getEmail(), row.line);
+                }
+            }
+        }
+        return later;
+    }
+
+    /**
+     * Validate concurrently, one slice of the chunk per thread, and wait for the whole chunk
+     */
+    private void validate(List<Row> chunk) {
+        int slice = (chunk.size() + concurrency - 1) / concurrency;
+        List<CompletableFuture<Void>> slices = new ArrayList<>(concurrency);
+        for (int from = 0; from < chunk.size(); from += slice) {
+            List<Row> rows = chunk.subList(from, Math.min(from + slice, chunk.size()));
+            slices.add(CompletableFuture.runAsync(() -> rows.forEach(this::validateRow), validators));
+        }
+        CompletableFuture.allOf(slices.toArray(new CompletableFuture<?>[0])).join();
+    }
+
+    private void validateRow(Row row) {
+        if (row.error != null) {
+            return;
+        }
+        String violations = validator.validate(row.request).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        if (!violations.isEmpty()) {
+            row.error = violations;
+        }
+    }
+
+    private void insert(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(rows));
+        } catch (RuntimeException ex) {
+            log.warn("Import chunk rejected, retrying its {} rows one by one: {}", rows.size(), describe(ex));
+            for (Row row : rows) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(List.of(row)));
+                } catch (RuntimeException rowEx) {
+                    String email = row.request.getEmail();
+                    row.error = patientRepository.existsByEmail(email)
+                            ? new DuplicateEmailException(email).getMessage()
+                            : "Rejected by the database: " + describe(rowEx);
+                }
+            }
+        }
+    }
+
+    private void persist(List<Row> rows) {
+        List<Patient> patients = rows.stream()
+                .map(row -> patientMapper.toEntity(row.request))
+                .collect(Collectors.toList());
+        List<Patient> saved = patientRepository.saveAll(patients);
+        patientRepository.flush();
+        for (Patient patient : saved) {
+            patientNameIndex.putAfterCommit(patient.getId(), patient.getFirstName(), patient.getLastName());
+            patientEmailFilter.addAfterCommit(patient.getEmail());
+        }
+    }
+
+    private static String describe(Exception ex) {
+        String description = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+        if (description == null) {
+            description = ex.toString();
+        }
+        return description.length() > MAX_ERROR_LENGTH ? description.substring(0, MAX_ERROR_LENGTH) : description;
+    }
+
+    /**
+     * One CSV data row; error is set once the row is rejected
+     */
+    private static final class Row {
+
+        private final long line;
+        private final PatientRequest request;
+        private String error;
+
+        Row(long line, PatientRequest request) {
+            this.line = line;
+            this.request = request;
+        }
+    }
+
+    /**
+     * Totals and the first maxErrors rejected rows of one import
+     */
+    private static final class Report {
+
+        private final int maxErrors;
+        private final List<PatientImportError> errors = new ArrayList<>();
+        private long rows;
+        private long imported;
+        private long failed;
+
+        Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void add(Row row) {
+            rows++;
+            if (row.error == null) {
+                imported++;
+                return;
+            }
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(PatientImportError.builder()
+                        .line(row.line)
+                        .email(row.request.getEmail())
+                        .error(row.error)
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,514 @@
+package com.sparks.patient.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.sparks.patient.repository.PatientName;
+
+/**
+ * In-memory trigram index over patient first and last names, answering prefix,
+ * case-insensitive and typo-tolerant name searches without touching the patients table.
+ *
+ * Names are folded to lower case without accents and split into words. Every word is indexed
+ * under the trigrams of "$" + word (so leading trigrams anchor prefixes) and under its
+ * "$" + first letter bigram. A query word of n letters has n - 1 trigrams; a word within e edits
+ * of a name prefix still shares at least n - 1 - 3e of them, so candidates are the ids found in
+ * enough trigram lists, then verified against the stored words with a bounded edit distance.
+ * Every query word must match some name word.
+ *
+ * The index is filled by {@link #rebuild} and kept current by the *AfterCommit methods, which
+ * PatientServiceImpl calls on every write. Writes committing during a rebuild, from before its
+ * scan query starts, are replayed onto the new generation before it replaces the old one. Each instance holds its own index; writes
+ * made by other instances show up at the next rebuild.
+ */
+@Component
+public class PatientNameIndex {
+
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final String[] NO_WORDS = new String[0];
+    private static final char ANCHOR = '$';
+
+    /**
+     * Ranking of a matched word: whole word, word prefix, prefix within the allowed edits
+     */
+    private static final int EXACT = 3;
+    private static final int PREFIX = 2;
+    private static final int FUZZY = 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Guarded by lock */
+    private Generation current = new Generation();
+
+    private volatile boolean loaded;
+
+    /** Writes committed while a rebuild streams the table, replayed before the swap; guarded by lock */
+    private List<Consumer<Generation>> pending;
+
+    /**
+     * One full copy of the index, replaced whole by a rebuild. Each indexed patient owns a slot;
+     * posting lists hold slots, and the slot arrays hold what ranking reads for each candidate.
+     */
+    private static final class Generation {
+
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final Map<Long, Integer> slots = new HashMap<>();
+        private long[] ids = new long[1024];
+        private String[][] words = new String[1024][];
+        private int[] lengths = new int[1024];
+        private int[] freeSlots = new int[16];
+        private int freeCount;
+        private int slotCount;
+
+        void put(long id, String firstName, String lastName) {
+            remove(id);
+            String[] nameWords = words(firstName + " " + lastName);
+            if (nameWords.length == 0) {
+                return;
+            }
+            int slot = allocate();
+            slots.put(id, slot);
+            ids[slot] = id;
+            words[slot] = nameWords;
+            lengths[slot] = length(nameWords);
+            for (String word : nameWords) {
+                for (String gram : grams(word, true)) {
+                    postings.computeIfAbsent(gram, g -> new Postings()).add(slot);
+                }
+            }
+        }
+
+        void remove(long id) {
+            Integer slot = slots.remove(id);
+            if (slot == null) {
+                return;
+            }
+            for (String word : words[slot]) {
+                for (String gram : grams(word, true)) {
+                    Postings list = postings.get(gram);
+                    if (list != null && list.remove(slot) && list.size == 0) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+            words[slot] = null;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        }
+
+        int size() {
+            return slots.size();
+        }
+
+        private int allocate() {
+            if (freeCount > 0) {
+                return freeSlots[--freeCount];
+            }
+            if (slotCount == ids.length) {
+                int capacity = slotCount * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                words = Arrays.copyOf(words, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+            return slotCount++;
+        }
+    }
+
+    /**
+     * Sorted, duplicate-free list of slots; slots mostly arrive in ascending order
+     */
+    static final class Postings {
+
+        private static final Postings EMPTY = new Postings();
+
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size > 0 && slots[size - 1] >= slot) {
+                int index = Arrays.binarySearch(slots, 0, size, slot);
+                if (index >= 0) {
+                    return;
+                }
+                insert(-index - 1, slot);
+            } else {
+                insert(size, slot);
+            }
+        }
+
+        boolean remove(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(int slot) {
+            return Arrays.binarySearch(slots, 0, size, slot) >= 0;
+        }
+
+        private void insert(int index, int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, index, slots, index + 1, size - index);
+            slots[index] = slot;
+            size++;
+        }
+    }
+
+    /**
+     * Index or re-index a patient's name once the surrounding transaction commits
+     */
+    public void putAfterCommit(Long id, String firstName, String lastName) {
+        AfterCommit.run(() -> write(generation -> generation.put(id, firstName, lastName)));
+    }
+
+    /**
+     * Drop a patient from the index once the surrounding transaction commits
+     */
+    public void removeAfterCommit(Long id) {
+        AfterCommit.run(() -> write(generation -> generation.remove(id)));
+    }
+
+    /**
+     * Replace the index with one built from a scan of the patients. Writes are recorded for
+     * replay before the scan is started, so one committing while its query runs is not lost.
+     * Searches keep using the previous generation until the new one is complete.
+     *
+     * @param scan opens the scan; the stream is closed once read
+     * @return number of patients indexed
+     */
+    public synchronized int rebuild(Supplier<? extends Stream<? extends PatientName>> scan) {
+        Generation fresh = new Generation();
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try (Stream<? extends PatientName> names = scan.get()) {
+            Iterator<? extends PatientName> iterator = names.iterator();
+            while (iterator.hasNext()) {
+                PatientName name = iterator.next();
+                fresh.put(name.getId(), name.getFirstName(), name.getLastName());
+            }
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Replayed in commit order, so the last write to an id wins whatever the scan read
+            for (Consumer<Generation> change : pending) {
+                change.accept(fresh);
+            }
+            pending = null;
+            current = fresh;
+            loaded = true;
+            return fresh.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Number of patients currently indexed
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return current.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the best matching patients, best first. Patients matching every query word as a
+     * word prefix come first; typo matches are only looked up when those do not fill the limit.
+     * Within each group more whole-word matches rank higher, then shorter names, then lower ids.
+     *
+     * @param query one or more (partial) name words in any order
+     * @param limit maximum number of ids returned
+     */
+    public List<Long> search(String query, int limit) {
+        String[] queryWords = words(query);
+        if (queryWords.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Long> ranked = rank(current, queryWords, false, limit, Set.of());
+            if (ranked.size() < limit && Arrays.stream(queryWords).anyMatch(word -> maxEdits(word) > 0)) {
+                ranked.addAll(rank(current, queryWords, true, limit - ranked.size(), new HashSet<>(ranked)));
+            }
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Consumer<Generation> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(current);
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Top matches of one search pass, kept sorted best first in plain arrays
+     */
+    private static List<Long> rank(Generation generation, String[] queryWords, boolean typos, int limit,
+                                   Set<Long> excluded) {
+        // The longest word has the most trigrams, so it narrows the candidates the most
+        String driver = queryWords[0];
+        for (String word : queryWords) {
+            if (word.length() > driver.length()) {
+                driver = word;
+            }
+        }
+
+        long[] ids = new long[limit];
+        int[] scores = new int[limit];
+        int[] lengths = new int[limit];
+        int size = 0;
+        for (int slot : candidates(generation, driver, typos ? maxEdits(driver) : 0)) {
+            String[] nameWords = generation.words[slot];
+            int score = 0;
+            for (String word : queryWords) {
+                int wordScore = score(word, nameWords, typos ? maxEdits(word) : 0);
+                if (wordScore == 0) {
+                    score = 0;
+                    break;
+                }
+                score += wordScore;
+            }
+            long id = generation.ids[slot];
+            if (score == 0 || excluded.contains(id)) {
+                continue;
+            }
+            int length = generation.lengths[slot];
+            int at = size;
+            while (at > 0 && better(score, length, id, scores[at - 1], lengths[at - 1], ids[at - 1])) {
+                at--;
+            }
+            if (at == limit) {
+                continue;
+            }
+            int moved = Math.min(size, limit - 1) - at;
+            System.arraycopy(ids, at, ids, at + 1, moved);
+            System.arraycopy(scores, at, scores, at + 1, moved);
+            System.arraycopy(lengths, at, lengths, at + 1, moved);
+            ids[at] = id;
+            scores[at] = score;
+            lengths[at] = length;
+            size = Math.min(size + 1, limit);
+        }
+
+        List<Long> ranked = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ranked.add(ids[i]);
+        }
+        return ranked;
+    }
+
+    private static boolean better(int score, int length, long id, int otherScore, int otherLength, long otherId) {
+        if (score != otherScore) {
+            return score > otherScore;
+        }
+        if (length != otherLength) {
+            return length < otherLength;
+        }
+        return id < otherId;
+    }
+
+    /**
+     * Ids whose name has a word that may match the query word, a superset of the matches
+     */
+    private static int[] candidates(Generation generation, String word, int edits) {
+        List<String> grams = grams(word, false);
+        int threshold = grams.size() - 3 * edits;
+        if (threshold < 1) {
+            // A single letter has no trigram: every word starting with it is a candidate
+            Postings list = generation.postings.getOrDefault(ANCHOR + word.substring(0, 1), Postings.EMPTY);
+            return Arrays.copyOf(list.slots, list.size);
+        }
+
+        List<Postings> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            lists.add(generation.postings.getOrDefault(gram, Postings.EMPTY));
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        // A slot present in threshold of the lists is in at least one of the rarest
+        // (lists - threshold + 1), so only those are scanned; the rest are probed
+        int scanned = lists.size() - threshold + 1;
+        int[] candidates = new int[lists.get(0).size];
+        int count = 0;
+        for (int i = 0; i < scanned; i++) {
+            Postings list = lists.get(i);
+            for (int j = 0; j < list.size; j++) {
+                int slot = list.slots[j];
+                if (!containedBefore(lists, i, slot) && matches(lists, slot) >= threshold) {
+                    if (count == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, Math.max(16, count * 2));
+                    }
+                    candidates[count++] = slot;
+                }
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    private static boolean containedBefore(List<Postings> lists, int end, int slot) {
+        for (int i = 0; i < end; i++) {
+            if (lists.get(i).contains(slot)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int matches(List<Postings> lists, int slot) {
+        int count = 0;
+        for (Postings list : lists) {
+            if (list.contains(slot)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int score(String queryWord, String[] nameWords, int edits) {
+        int best = 0;
+        for (String nameWord : nameWords) {
+            if (nameWord.equals(queryWord)) {
+                return EXACT;
+            }
+            if (nameWord.startsWith(queryWord)) {
+                best = PREFIX;
+            } else if (best < FUZZY && edits > 0 && nameWord.charAt(0) == queryWord.charAt(0)
+                    && prefixDistance(queryWord, nameWord, edits) <= edits) {
+                best = FUZZY;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Typos tolerated in a query word: none up to 4 letters, one up to 7, two beyond.
+     * Shorter words have too few trigrams left after a typo to narrow the candidates.
+     */
+    static int maxEdits(String word) {
+        int length = word.length();
+        return length <= 4 ? 0 : length <= 7 ? 1 : 2;
+    }
+
+    /**
+     * Smallest edit distance between the query word and any prefix of the name word,
+     * or limit + 1 once it is known to exceed limit
+     */
+    static int prefixDistance(String query, String name, int limit) {
+        int columns = Math.min(name.length(), query.length() + limit);
+        int[] previous = new int[columns + 1];
+        int[] row = new int[columns + 1];
+        for (int j = 0; j <= columns; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= query.length(); i++) {
+            row[0] = i;
+            int rowMin = row[0];
+            for (int j = 1; j <= columns; j++) {
+                int substitution = previous[j - 1] + (query.charAt(i - 1) == name.charAt(j - 1) ? 0 : 1);
+                row[j] = Math.min(substitution, Math.min(previous[j], row[j - 1]) + 1);
+                rowMin = Math.min(rowMin, row[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = row;
+            row = swap;
+        }
+        int distance = limit + 1;
+        for (int j = 0; j <= columns; j++) {
+            distance = Math.min(distance, previous[j]);
+        }
+        return distance;
+    }
+
+    /**
+     * Lower-cased, accent-free words of a name or query
+     */
+    static String[] words(String text) {
+        if (text == null) {
+            return NO_WORDS;
+        }
+        String folded = ACCENTS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        String trimmed = SEPARATORS.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+        return trimmed.isEmpty() ? NO_WORDS : trimmed.split(" ");
+    }
+
+    /**
+     * Trigrams of "$" + word; indexed words also get their "$" + first letter bigram
+     */
+    static List<String> grams(String word, boolean withBigram) {
+        String anchored = ANCHOR + word;
+        List<String> grams = new ArrayList<>(anchored.length());
+        if (withBigram) {
+            grams.add(anchored.substring(0, 2));
+        }
+        for (int i = 0; i + 3 <= anchored.length(); i++) {
+            grams.add(anchored.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private static int length(String[] nameWords) {
+        int length = 0;
+        for (String word : nameWords) {
+            length += word.length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,35 @@
+package com.sparks.patient.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background job building the patient name index at startup and rebuilding it every
+ * patients.name-index.interval, picking up writes the incremental updates never saw
+ * (bulk SQL, writes from other instances).
+ * 
+ * Disabled with patients.name-index.enabled=false; the index is then built on the first search.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "patients.name-index.enabled", havingValue = "true", matchIfMissing = true)
+public class PatientNameIndexJob {
+
+    private final PatientService patientService;
+
+    @Scheduled(initialDelayString = "${patients.name-index.initial-delay:PT0S}",
+               fixedDelayString = "${patients.name-index.interval:PT1H}")
+    public void rebuildNameIndex() {
+        try {
+            patientService.rebuildNameIndex();
+        } catch (RuntimeException ex) {
+            // Searches keep using the previous index until the next run
+            log.error("Patient name index rebuild failed", ex);
+        }
+    }
+}
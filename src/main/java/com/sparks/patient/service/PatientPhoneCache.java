@@ -0,0 +1,62 @@
+package com.sparks.patient.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sparks.patient.dto.PatientResponse;
+
+/**
+ * Read-through cache of PatientResponse keyed by canonical phone key, in front of the
+ * caller-ID lookup GET /api/v1/patients/search?phone=, which telephony calls on every
+ * inbound call.
+ *
+ * Only hits are cached; unknown numbers go to the phone_key index each time. Entries are
+ * bounded by count and expire {@link #TIME_TO_LIVE} after being loaded. Writers invalidate
+ * after their transaction commits: every entry of an updated or deleted patient, and the
+ * number a patient moved to (its oldest holder may have changed). Loads that may be stale
+ * are not kept (see {@link CommitInvalidatedCache}).
+ */
+@Component
+public class PatientPhoneCache {
+
+    static final long MAXIMUM_SIZE = 10_000;
+    static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final CommitInvalidatedCache<String, PatientResponse> cache;
+
+    public PatientPhoneCache() {
+        this(Ticker.systemTicker());
+    }
+
+    PatientPhoneCache(Ticker ticker) {
+        this.cache = new CommitInvalidatedCache<>(MAXIMUM_SIZE, TIME_TO_LIVE, ticker);
+    }
+
+    /**
+     * Cached profile for the phone key, or the loader's result (cached when present)
+     */
+    public Optional<PatientResponse> get(String phoneKey, Function<String, Optional<PatientResponse>> loader) {
+        return cache.get(phoneKey, loader);
+    }
+
+    public void invalidateAfterCommit(String phoneKey) {
+        cache.invalidateAfterCommit(phoneKey);
+    }
+
+    public void invalidatePatientAfterCommit(Long patientId) {
+        cache.invalidateIfAfterCommit((phoneKey, response) -> patientId.equals(response.getId()));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,35 @@
+package com.sparks.patient.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background job deriving phone_key for patient rows that have none: every existing row on
+ * the first run after the column is added, then whatever was inserted bypassing the entity.
+ * Once the table is backfilled a run is a single indexed query.
+ * 
+ * Disabled with patients.phone-key.enabled=false.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "patients.phone-key.enabled", havingValue = "true", matchIfMissing = true)
+public class PatientPhoneKeyJob {
+
+    private final PatientPhoneKeyService patientPhoneKeyService;
+
+    @Scheduled(initialDelayString = "${patients.phone-key.initial-delay:PT0S}",
+               fixedDelayString = "${patients.phone-key.interval:PT1H}")
+    public void backfillPhoneKeys() {
+        try {
+            patientPhoneKeyService.backfillPhoneKeys();
+        } catch (RuntimeException ex) {
+            // Chunks already updated stay committed; the next run picks up the rest
+            log.error("Patient phone key backfill failed", ex);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.sparks.patient.service;
+
+/**
+ * Service interface for deriving the canonical phone key of existing patients
+ */
+public interface PatientPhoneKeyService {
+
+    /**
+     * Set phone_key on every patient row that has none yet
+     * @return the number of rows updated
+     */
+    int backfillPhoneKeys();
+}
@@ -0,0 +1,75 @@
+package com.sparks.patient.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sparks.patient.repository.PatientPhone;
+import com.sparks.patient.repository.PatientRepository;
+import com.sparks.patient.util.PhoneNumbers;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of PatientPhoneKeyService
+ * 
+ * Rows written before phone_key existed (or by SQL bypassing the entity) have no key and
+ * cannot be found by phone. They are walked in id order, in chunks that each run in their
+ * own short transaction. Numbers that are not valid E.164 keep a null key and are
+ * skipped; they could never match a lookup anyway.
+ */
+@Service
+@Slf4j
+public class PatientPhoneKeyServiceImpl implements PatientPhoneKeyService {
+
+    private final PatientRepository patientRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public PatientPhoneKeyServiceImpl(PatientRepository patientRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${patients.phone-key.chunk-size:500}") int chunkSize) {
+        this.patientRepository = patientRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public int backfillPhoneKeys() {
+        int updated = 0;
+        long afterId = 0;
+        List<PatientPhone> rows;
+        do {
+            rows = patientRepository.findWithoutPhoneKey(afterId, PageRequest.of(0, chunkSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<PatientPhone> chunk = rows;
+            Integer chunkUpdated = transactionTemplate.execute(status -> backfillChunk(chunk));
+            updated += chunkUpdated != null ? chunkUpdated : 0;
+            afterId = rows.get(rows.size() - 1).getId();
+        } while (rows.size() == chunkSize);
+
+        if (updated > 0) {
+            log.info("Derived phone keys for {} patients", updated);
+        }
+        return updated;
+    }
+
+    private int backfillChunk(List<PatientPhone> rows) {
+        int updated = 0;
+        for (PatientPhone row : rows) {
+            String phoneKey = PhoneNumbers.toKey(row.getPhone());
+            if (phoneKey == null) {
+                log.warn("Patient {} has a phone number that is not E.164; no phone key set", row.getId());
+            } else {
+                updated += patientRepository.updatePhoneKey(row.getId(), phoneKey);
+            }
+        }
+        return updated;
+    }
+}
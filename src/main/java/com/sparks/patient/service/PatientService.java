@@ -5,8 +5,10 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.sparks.patient.dto.KeyFilterStatsResponse;
 import com.sparks.patient.dto.PatientRequest;
 import com.sparks.patient.dto.PatientResponse;
+import com.sparks.patient.dto.PatientTimelineResponse;
 
 /**
  * Service interface for Patient operations
@@ -27,6 +29,15 @@ public interface PatientService {
      */
     PatientResponse getPatientById(Long id);
 
+    /**
+     * Get the patient's profile with a page of their appointment history, newest first
+     * @param id the patient ID
+     * @param cursor Opaque cursor from a previous page, or null for the most recent appointments
+     * @param limit Maximum number of appointments to return
+     * @return the profile and the history page
+     */
+    PatientTimelineResponse getPatientTimeline(Long id, String cursor, int limit);
+
     /**
      * Get all patients with pagination
      * @param pageable pagination parameters (page, size, sort)
@@ -61,4 +72,30 @@ public interface PatientService {
      * @return list of matching patients
      */
     List<PatientResponse> getPatientsByLastName(String lastName);
+
+    /**
+     * Search patients by first and/or last name, tolerating partial words, case, accents and typos
+     * @param query one or more name words, e.g. "jon smi"
+     * @param limit maximum number of results (capped at 50)
+     * @return best matches first
+     */
+    List<PatientResponse> searchPatients(String query, int limit);
+
+    /**
+     * Rebuild the name search index from a scan of the patients table
+     * @return number of patients indexed
+     */
+    int rebuildNameIndex();
+
+    /**
+     * Rebuild the duplicate-email Bloom filter from a scan of the patients table
+     * @return number of emails scanned
+     */
+    int rebuildEmailFilter();
+
+    /**
+     * Size and check counters of the duplicate-email Bloom filter
+     * @return Filter statistics; check counters run since startup
+     */
+    KeyFilterStatsResponse getEmailFilterStats();
 }
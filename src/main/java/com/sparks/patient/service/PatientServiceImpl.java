@@ -1,20 +1,34 @@
 package com.sparks.patient.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.sparks.patient.dto.AppointmentPageResponse;
+import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.dto.KeyFilterStatsResponse;
 import com.sparks.patient.dto.PatientRequest;
 import com.sparks.patient.dto.PatientResponse;
+import com.sparks.patient.dto.PatientTimelineResponse;
 import com.sparks.patient.entity.Patient;
 import com.sparks.patient.exception.DuplicateEmailException;
 import com.sparks.patient.exception.PatientNotFoundException;
 import com.sparks.patient.mapper.PatientMapper;
+import com.sparks.patient.repository.AppointmentRepository;
 import com.sparks.patient.repository.PatientRepository;
+import com.sparks.patient.util.PhoneNumbers;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,25 +43,52 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class PatientServiceImpl implements PatientService {
 
+    static final int DEFAULT_TIMELINE_SIZE = 20;
+    static final int MAX_TIMELINE_SIZE = 200;
+    static final int DEFAULT_SEARCH_SIZE = 10;
+    static final int MAX_SEARCH_SIZE = 50;
+
+    /**
+     * Keyset start of the first timeline page: later than any appointment
+     */
+    private static final LocalDateTime TIMELINE_END = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final PatientRepository patientRepository;
+    private final AppointmentRepository appointmentRepository;
     private final PatientMapper patientMapper;
+    private final AppointmentLookupCache appointmentLookupCache;
+    private final DoctorCalendarCache doctorCalendarCache;
+    private final PatientNameIndex patientNameIndex;
+    private final PatientPhoneCache patientPhoneCache;
+    private final PatientEmailFilter patientEmailFilter;
+
+    /**
+     * Held while a search builds the cold name index, so concurrent first searches wait for
+     * that one build instead of each scanning the table
+     */
+    private final Object nameIndexLoad = new Object();
 
     /**
      * Create a new patient - SCRUM-14: Patient Onboarding API
      * POST /api/v1/patients returns 201 Created
      * Persists data to H2 database
+     * The email filter skips the duplicate query for emails it has never seen; the unique
+     * constraint catches the rest (rows written elsewhere since the last rebuild)
      */
     @Override
     public PatientResponse createPatient(PatientRequest request) {
         log.info("Creating new patient with email: {}", request.getEmail());
         
         // Check for duplicate email
-        if (patientRepository.existsByEmail(request.getEmail())) {
+        if (patientEmailFilter.exists(request.getEmail(), patientRepository::existsByEmail)) {
             throw new DuplicateEmailException(request.getEmail());
         }
         
         Patient patient = patientMapper.toEntity(request);
-        Patient savedPatient = patientRepository.save(patient);
+        Patient savedPatient = saveUnique(patient);
+        patientEmailFilter.add(savedPatient.getEmail());
+        patientNameIndex.putAfterCommit(savedPatient.getId(), savedPatient.getFirstName(),
+                savedPatient.getLastName());
         
         log.info("Patient created successfully with ID: {}", savedPatient.getId());
         return patientMapper.toResponse(savedPatient);
@@ -63,10 +104,40 @@ public class PatientServiceImpl implements PatientService {
     public PatientResponse getPatientById(Long id) {
         log.info("Fetching patient with ID: {}", id);
         
-        Patient patient = patientRepository.findById(id)
+        return patientRepository.findResponseById(id)
                 .orElseThrow(() -> new PatientNotFoundException(id));
-        
-        return patientMapper.toResponse(patient);
+    }
+
+    /**
+     * Patient chart in one call: the profile by primary key, then one keyset page of live and
+     * archived appointments from the patient/time indexes. The number of statements and rows
+     * read is fixed by the page size, however many visits the patient has.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PatientTimelineResponse getPatientTimeline(Long id, String cursor, int limit) {
+        int pageSize = limit <= 0 ? DEFAULT_TIMELINE_SIZE : Math.min(limit, MAX_TIMELINE_SIZE);
+        AppointmentCursor before = cursor != null && !cursor.isBlank() ? AppointmentCursor.decode(cursor) : null;
+        log.info("Fetching timeline of patient {} (before: {}, size: {})", id, before, pageSize);
+
+        PatientResponse patient = patientRepository.findResponseById(id)
+                .orElseThrow(() -> new PatientNotFoundException(id));
+        List<AppointmentResponse> rows = appointmentRepository.findHistoryBefore(id,
+                before != null ? before.getAppointmentTime() : TIMELINE_END,
+                before != null ? before.getId() : Long.MAX_VALUE,
+                pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<AppointmentResponse> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+        return PatientTimelineResponse.builder()
+                .patient(patient)
+                .appointments(AppointmentPageResponse.builder()
+                        .content(new ArrayList<>(pageRows))
+                        .size(pageRows.size())
+                        .hasNext(hasNext)
+                        .nextCursor(hasNext ? AppointmentCursor.after(pageRows.get(pageRows.size() - 1)).encode() : null)
+                        .build())
+                .build();
     }
 
     /**
@@ -78,12 +149,13 @@ public class PatientServiceImpl implements PatientService {
         log.info("Fetching patients - page: {}, size: {}",
                 pageable.getPageNumber(), pageable.getPageSize());
 
-        return patientRepository.findAll(pageable)
-                .map(patientMapper::toResponse);
+        return patientRepository.findAllResponses(pageable);
     }
 
     /**
      * Update an existing patient
+     * A name change invalidates the patient's cached appointments, which embed the name
+     * Cached caller-ID entries of the patient, and of a new number, are always invalidated
      */
     @Override
     public PatientResponse updatePatient(Long id, PatientRequest request) {
@@ -93,15 +165,31 @@ public class PatientServiceImpl implements PatientService {
                 .orElseThrow(() -> new PatientNotFoundException(id));
         
         // Check for email conflict (if email is being changed)
-        if (!patient.getEmail().equals(request.getEmail())
-                && patientRepository.existsByEmail(request.getEmail())) {
+        boolean emailChanged = !patient.getEmail().equals(request.getEmail());
+        if (emailChanged && patientEmailFilter.exists(request.getEmail(), patientRepository::existsByEmail)) {
             log.warn("Duplicate email detected - Patient ID: {}, Old email: {}, Attempted new email: {}",
                     id, patient.getEmail(), request.getEmail());
             throw new DuplicateEmailException(request.getEmail());
         }
         
+        boolean renamed = !Objects.equals(patient.getFirstName(), request.getFirstName())
+                || !Objects.equals(patient.getLastName(), request.getLastName());
+        String phoneKey = PhoneNumbers.toKey(request.getPhone());
+        boolean renumbered = !Objects.equals(patient.getPhoneKey(), phoneKey);
         patientMapper.updateEntity(patient, request);
-        Patient updatedPatient = patientRepository.save(patient);
+        Patient updatedPatient = saveUnique(patient);
+        if (emailChanged) {
+            patientEmailFilter.add(updatedPatient.getEmail());
+        }
+        if (renamed) {
+            appointmentLookupCache.invalidatePatientAfterCommit(id);
+            doctorCalendarCache.invalidatePatientAfterCommit(id);
+            patientNameIndex.putAfterCommit(id, updatedPatient.getFirstName(), updatedPatient.getLastName());
+        }
+        patientPhoneCache.invalidatePatientAfterCommit(id);
+        if (renumbered && phoneKey != null) {
+            patientPhoneCache.invalidateAfterCommit(phoneKey);
+        }
         
         log.info("Patient updated successfully with ID: {}", updatedPatient.getId());
         return patientMapper.toResponse(updatedPatient);
@@ -119,21 +207,28 @@ public class PatientServiceImpl implements PatientService {
         }
 
         patientRepository.deleteById(id);
+        patientNameIndex.removeAfterCommit(id);
+        patientPhoneCache.invalidatePatientAfterCommit(id);
         log.info("Patient deleted successfully with ID: {}", id);
     }
 
     /**
-     * Search for a patient by phone number
+     * Search for a patient by phone number (caller-ID lookup)
+     * Any formatting of the number finds the patient through its E.164 key; the oldest patient
+     * wins when several share it. Served from the phone cache; SUPPORTS keeps a cache hit from
+     * opening a transaction, a miss runs the repository's own read-only transaction.
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PatientResponse getPatientByPhone(String phone) {
         log.info("Searching for patient with phone: {}", phone);
 
-        Patient patient = patientRepository.findByPhone(phone)
+        String phoneKey = PhoneNumbers.toKey(phone);
+        if (phoneKey == null) {
+            throw new PatientNotFoundException("Patient not found with phone: " + phone);
+        }
+        return patientPhoneCache.get(phoneKey, patientRepository::findFirstResponseByPhoneKey)
                 .orElseThrow(() -> new PatientNotFoundException("Patient not found with phone: " + phone));
-
-        return patientMapper.toResponse(patient);
     }
 
     /**
@@ -144,7 +239,7 @@ public class PatientServiceImpl implements PatientService {
     public List<PatientResponse> getPatientsByLastName(String lastName) {
         log.info("Searching for patients with last name: {}", lastName);
 
-        List<Patient> patients = patientRepository.findByLastName(lastName);
+        List<PatientResponse> patients = patientRepository.findResponsesByLastName(lastName);
 
         if (patients.isEmpty()) {
             log.info("No patients found with last name: {}", lastName);
@@ -152,8 +247,85 @@ public class PatientServiceImpl implements PatientService {
             log.info("Found {} patient(s) with last name: {}", patients.size(), lastName);
         }
 
-        return patients.stream()
-                .map(patientMapper::toResponse)
+        return patients;
+    }
+
+    /**
+     * Search patients by name
+     * Ranked ids come from the in-memory name index; the profiles are then loaded in one
+     * query, so patients deleted on another instance drop out instead of being returned stale
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PatientResponse> searchPatients(String query, int limit) {
+        int size = limit <= 0 ? DEFAULT_SEARCH_SIZE : Math.min(limit, MAX_SEARCH_SIZE);
+        if (!patientNameIndex.isLoaded()) {
+            synchronized (nameIndexLoad) {
+                if (!patientNameIndex.isLoaded()) {
+                    rebuildNameIndex();
+                }
+            }
+        }
+
+        List<Long> ids = patientNameIndex.search(query, size);
+        if (ids.isEmpty()) {
+            log.debug("No patients matching name query: {}", query);
+            return List.of();
+        }
+        Map<Long, PatientResponse> profiles = patientRepository.findResponsesByIdIn(ids).stream()
+                .collect(Collectors.toMap(PatientResponse::getId, Function.identity()));
+        return ids.stream()
+                .map(profiles::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Rebuild the name search index from a streaming scan of the patients table
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public int rebuildNameIndex() {
+        int indexed = patientNameIndex.rebuild(patientRepository::streamNames);
+        log.info("Patient name index rebuilt with {} patients", indexed);
+        return indexed;
+    }
+
+    /**
+     * Rebuild the email filter from a streaming scan of the patients table
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public int rebuildEmailFilter() {
+        long expected = patientRepository.count();
+        try (Stream<String> emails = patientRepository.streamEmails()) {
+            int scanned = patientEmailFilter.rebuild(expected, emails.iterator());
+            log.info("Patient email filter rebuilt with {} emails", scanned);
+            return scanned;
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public KeyFilterStatsResponse getEmailFilterStats() {
+        return patientEmailFilter.stats();
+    }
+
+    /**
+     * Save and flush, so a duplicate email that got past the filter and the check
+     * (committed concurrently or by another instance) surfaces here as a conflict.
+     * Any other integrity violation is rethrown as is.
+     */
+    private Patient saveUnique(Patient patient) {
+        try {
+            Patient saved = patientRepository.save(patient);
+            patientRepository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException ex) {
+            if (ConstraintViolations.violates(ex, Patient.EMAIL_CONSTRAINT)) {
+                throw new DuplicateEmailException(patient.getEmail());
+            }
+            throw ex;
+        }
+    }
 }
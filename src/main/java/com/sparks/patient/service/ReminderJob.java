@@ -0,0 +1,44 @@
+package com.sparks.patient.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background job reminding patients of appointments starting within
+ * appointments.reminders.lead-time.
+ * 
+ * Disabled with appointments.reminders.enabled=false.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "appointments.reminders.enabled", havingValue = "true", matchIfMissing = true)
+public class ReminderJob {
+
+    private final ReminderService reminderService;
+    private final Duration leadTime;
+
+    public ReminderJob(ReminderService reminderService,
+                       @Value("${appointments.reminders.lead-time:PT24H}") Duration leadTime) {
+        this.reminderService = reminderService;
+        this.leadTime = leadTime;
+    }
+
+    @Scheduled(initialDelayString = "${appointments.reminders.initial-delay:PT1M}",
+               fixedDelayString = "${appointments.reminders.interval:PT5M}")
+    public void sendReminders() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            reminderService.sendRemindersBetween(now, now.plus(leadTime));
+        } catch (RuntimeException ex) {
+            // Recorded deliveries stay recorded; the next run picks up the rest
+            log.error("Reminder run failed", ex);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.sparks.patient.service;
+
+import java.io.IOException;
+
+import com.sparks.patient.dto.AppointmentReminder;
+
+/**
+ * Delivers appointment reminders (e-mail, SMS, push...).
+ * 
+ * Called concurrently from the reminder dispatch pool, so implementations must be
+ * thread-safe. Throwing marks the delivery FAILED; it is retried by a later run.
+ */
+public interface ReminderSender {
+
+    void send(AppointmentReminder reminder) throws IOException;
+}
@@ -0,0 +1,17 @@
+package com.sparks.patient.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for appointment reminders
+ */
+public interface ReminderService {
+
+    /**
+     * Send the reminders due for appointments starting in [from, to)
+     * @param from start of the window (inclusive)
+     * @param to end of the window (exclusive)
+     * @return number of reminders delivered
+     */
+    int sendRemindersBetween(LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,231 @@
+package com.sparks.patient.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sparks.patient.dto.AppointmentReminder;
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.entity.ReminderDelivery;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.ReminderDeliveryRepository;
+import com.sparks.patient.util.DaemonThreads;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of ReminderService
+ *
+ * Walks the window in (appointmentTime, id) keyset chunks, so a run over 100k appointments
+ * holds one chunk in memory at a time. Each chunk is claimed, sent and recorded:
+ * <ol>
+ * <li>claim: one short transaction writes a PENDING {@link ReminderDelivery} per appointment.
+ * The row is keyed by the appointment id, so a concurrent run claiming the same chunk fails
+ * and skips it instead of sending twice;</li>
+ * <li>send: reminders go to the {@link ReminderSender} on a fixed pool of
+ * appointments.reminders.concurrency threads, outside any transaction;</li>
+ * <li>record: a second transaction marks each delivery SENT or FAILED.</li>
+ * </ol>
+ * FAILED deliveries are picked up again by later runs, up to {@link #MAX_ATTEMPTS} sends.
+ */
+@Service
+@Slf4j
+public class ReminderServiceImpl implements ReminderService {
+
+    static final Set<Appointment.AppointmentStatus> REMINDED =
+            EnumSet.of(Appointment.AppointmentStatus.SCHEDULED, Appointment.AppointmentStatus.CONFIRMED);
+    static final int MAX_ATTEMPTS = 3;
+    static final int MAX_ERROR_LENGTH = 500;
+
+    private final AppointmentRepository appointmentRepository;
+    private final ReminderDeliveryRepository reminderDeliveryRepository;
+    private final ReminderSender reminderSender;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService dispatcher;
+    private final int chunkSize;
+
+    @Autowired
+    public ReminderServiceImpl(AppointmentRepository appointmentRepository,
+                               ReminderDeliveryRepository reminderDeliveryRepository,
+                               ReminderSender reminderSender,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${appointments.reminders.chunk-size:500}") int chunkSize,
+                               @Value("${appointments.reminders.concurrency:8}") int concurrency) {
+        this(appointmentRepository, reminderDeliveryRepository, reminderSender, transactionManager,
+                Executors.newFixedThreadPool(concurrency, DaemonThreads.named("reminder-sender-")), chunkSize);
+    }
+
+    ReminderServiceImpl(AppointmentRepository appointmentRepository,
+                        ReminderDeliveryRepository reminderDeliveryRepository,
+                        ReminderSender reminderSender,
+                        PlatformTransactionManager transactionManager,
+                        ExecutorService dispatcher,
+                        int chunkSize) {
+        this.appointmentRepository = appointmentRepository;
+        this.reminderDeliveryRepository = reminderDeliveryRepository;
+        this.reminderSender = reminderSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dispatcher = dispatcher;
+        this.chunkSize = chunkSize;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    @Override
+    public int sendRemindersBetween(LocalDateTime from, LocalDateTime to) {
+        log.info("Sending reminders for appointments between {} and {} (chunks of {})", from, to, chunkSize);
+
+        int sent = 0;
+        int failed = 0;
+        int skipped = 0;
+        LocalDateTime afterTime = from;
+        Long afterId = Long.MIN_VALUE;
+        List<AppointmentReminder> chunk;
+        do {
+            chunk = appointmentRepository.findReminderCandidates(afterTime, afterId, to, REMINDED,
+                    ReminderDelivery.DeliveryStatus.FAILED, MAX_ATTEMPTS, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            AppointmentReminder last = chunk.get(chunk.size() - 1);
+            afterTime = last.getAppointmentTime();
+            afterId = last.getId();
+
+            List<AppointmentReminder> claimed = claim(chunk);
+            skipped += chunk.size() - claimed.size();
+            if (claimed.isEmpty()) {
+                continue;
+            }
+            Map<Long, String> failures = dispatch(claimed);
+            record(claimed, failures);
+            sent += claimed.size() - failures.size();
+            failed += failures.size();
+        } while (chunk.size() == chunkSize);
+
+        // Appointments that have started can no longer be reminded
+        transactionTemplate.executeWithoutResult(status -> reminderDeliveryRepository.deleteForAppointmentsBefore(from));
+
+        log.info("Reminder run finished: {} sent, {} failed, {} claimed elsewhere", sent, failed, skipped);
+        return sent;
+    }
+
+    /**
+     * Write PENDING deliveries for the chunk; rows claimed by another run since the scan are left out
+     *
+     * @return the reminders this run now owns
+     */
+    private List<AppointmentReminder> claim(List<AppointmentReminder> chunk) {
+        try {
+            List<AppointmentReminder> claimed = transactionTemplate.execute(status -> {
+                Map<Long, ReminderDelivery> existing = reminderDeliveryRepository.findAllById(ids(chunk)).stream()
+                        .collect(Collectors.toMap(ReminderDelivery::getId, Function.identity()));
+                LocalDateTime now = LocalDateTime.now();
+                List<AppointmentReminder> owned = new ArrayList<>(chunk.size());
+                List<ReminderDelivery> created = new ArrayList<>(chunk.size());
+                for (AppointmentReminder reminder : chunk) {
+                    ReminderDelivery delivery = existing.get(reminder.getId());
+                    if (delivery == null) {
+                        delivery = ReminderDelivery.builder()
+                                .id(reminder.getId())
+                                .appointmentTime(reminder.getAppointmentTime())
+                                .build();
+                        created.add(delivery);
+                    } else if (delivery.getStatus() != ReminderDelivery.DeliveryStatus.FAILED) {
+                        continue;
+                    }
+                    delivery.setStatus(ReminderDelivery.DeliveryStatus.PENDING);
+                    delivery.setClaimedAt(now);
+                    owned.add(reminder);
+                }
+                reminderDeliveryRepository.saveAll(created);
+                reminderDeliveryRepository.flush();
+                return owned;
+            });
+            return claimed != null ? claimed : Collections.emptyList();
+        } catch (DataIntegrityViolationException | OptimisticLockingFailureException ex) {
+            log.info("Skipping reminder chunk claimed by another run: {}", ex.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Send concurrently and wait for the whole chunk
+     *
+     * @return error description by appointment id, for the failed sends
+     */
+    private Map<Long, String> dispatch(List<AppointmentReminder> reminders) {
+        Map<Long, String> failures = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> sends = new ArrayList<>(reminders.size());
+        for (AppointmentReminder reminder : reminders) {
+            try {
+                sends.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        reminderSender.send(reminder);
+                    } catch (IOException | RuntimeException ex) {
+                        failures.put(reminder.getId(), describe(ex));
+                    }
+                }, dispatcher));
+            } catch (RejectedExecutionException ex) {
+                failures.put(reminder.getId(), describe(ex));
+            }
+        }
+        CompletableFuture.allOf(sends.toArray(new CompletableFuture<?>[0])).join();
+        return failures;
+    }
+
+    private void record(List<AppointmentReminder> reminders, Map<Long, String> failures) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (ReminderDelivery delivery : reminderDeliveryRepository.findAllById(ids(reminders))) {
+                String error = failures.get(delivery.getId());
+                delivery.setAttempts(delivery.getAttempts() + 1);
+                if (error == null) {
+                    delivery.setStatus(ReminderDelivery.DeliveryStatus.SENT);
+                    delivery.setSentAt(now);
+                    delivery.setLastError(null);
+                } else {
+                    delivery.setStatus(ReminderDelivery.DeliveryStatus.FAILED);
+                    delivery.setLastError(error);
+                }
+            }
+        });
+        if (!failures.isEmpty()) {
+            log.warn("{} of {} reminders failed to send", failures.size(), reminders.size());
+        }
+    }
+
+    private static List<Long> ids(List<AppointmentReminder> reminders) {
+        return reminders.stream().map(AppointmentReminder::getId).collect(Collectors.toList());
+    }
+
+    private static String describe(Exception ex) {
+        String description = ex.toString();
+        return description.length() > MAX_ERROR_LENGTH ? description.substring(0, MAX_ERROR_LENGTH) : description;
+    }
+}
@@ -0,0 +1,63 @@
+package com.sparks.patient.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sparks.patient.entity.AppointmentSeries;
+
+/**
+ * Expands the occurrences of an appointment series.
+ * 
+ * Occurrence k is firstAppointmentTime plus k * interval units, always computed from the
+ * first one (so monthly series keep their day of month after a short month). Expanding a
+ * window jumps straight to the first occurrence at or after its start, so the cost is the
+ * number of occurrences inside the window, not the age of the series.
+ */
+final class SeriesRecurrence {
+
+    private SeriesRecurrence() {
+    }
+
+    static LocalDateTime occurrence(AppointmentSeries series, long index) {
+        return series.getFirstAppointmentTime().plus(
+                index * series.getRepeatInterval(), series.getFrequency().getUnit());
+    }
+
+    /**
+     * Occurrences starting in [from, to), in order
+     */
+    static List<LocalDateTime> between(AppointmentSeries series, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime first = series.getFirstAppointmentTime();
+        long index = 0;
+        if (from.isAfter(first)) {
+            // Whole units elapsed undershoot by at most one interval; step forward from there
+            long elapsed = series.getFrequency().getUnit().between(first, from);
+            index = Math.max(0, elapsed / series.getRepeatInterval() - 1);
+        }
+
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        for (LocalDateTime time = occurrence(series, index);
+                time.isBefore(to) && withinBounds(series, index, time);
+                time = occurrence(series, ++index)) {
+            if (!time.isBefore(from)) {
+                occurrences.add(time);
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Every occurrence of the series; callers bound the series before expanding it whole
+     */
+    static List<LocalDateTime> all(AppointmentSeries series) {
+        return between(series, series.getFirstAppointmentTime(), LocalDateTime.MAX);
+    }
+
+    private static boolean withinBounds(AppointmentSeries series, long index, LocalDateTime time) {
+        if (series.getOccurrenceCount() != null && index >= series.getOccurrenceCount()) {
+            return false;
+        }
+        return series.getUntilDate() == null || !time.toLocalDate().isAfter(series.getUntilDate());
+    }
+}
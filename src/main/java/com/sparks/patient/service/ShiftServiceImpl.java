@@ -2,7 +2,6 @@ package com.sparks.patient.service;
 
 import java.time.LocalTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -72,10 +71,8 @@ public class ShiftServiceImpl implements ShiftService {
     public ShiftResponse getShiftById(Long id) {
         log.info("Fetching shift with ID: {}", id);
         
-        Shift shift = shiftRepository.findById(id)
+        return shiftRepository.findResponseById(id)
                 .orElseThrow(() -> new ShiftNotFoundException(id));
-        
-        return shiftMapper.toResponse(shift);
     }
 
     /**
@@ -86,9 +83,7 @@ public class ShiftServiceImpl implements ShiftService {
     public List<ShiftResponse> getAllShifts() {
         log.info("Fetching all shifts");
         
-        return shiftRepository.findAll().stream()
-                .map(shiftMapper::toResponse)
-                .collect(Collectors.toList());
+        return shiftRepository.findAllResponses();
     }
 
     /**
@@ -99,9 +94,7 @@ public class ShiftServiceImpl implements ShiftService {
     public List<ShiftResponse> getShiftsByDoctorId(Long doctorId) {
         log.info("Fetching shifts for doctor ID: {}", doctorId);
         
-        return shiftRepository.findByDoctorId(doctorId).stream()
-                .map(shiftMapper::toResponse)
-                .collect(Collectors.toList());
+        return shiftRepository.findResponsesByDoctorId(doctorId);
     }
 
     /**
@@ -0,0 +1,246 @@
+package com.sparks.patient.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sparks.patient.entity.Appointment;
+
+import lombok.Getter;
+
+/**
+ * In-memory slot holds: a booking UI reserves a doctor's slot for {@code ttl} while the
+ * patient fills in details, without writing a placeholder appointment.
+ *
+ * Holds live in a lock-free skip list per doctor keyed by start time. Two holds conflict
+ * when their start times are less than {@link Appointment#DEFAULT_DURATION} apart. A new hold
+ * is inserted first and then checks its neighbours, backing off if any live hold overlaps:
+ * of two racing overlapping holds the later insert always sees the earlier one, so at most
+ * one survives (rarely both back off, and the client retries).
+ *
+ * Expiry is checked on every read, so an expired hold never blocks a booking. Memory is
+ * reclaimed by a hashed timer wheel of {@link #WHEEL_SIZE} one-second buckets swept once a
+ * tick, instead of one scheduled task per hold; holds expiring beyond one turn of the wheel
+ * are carried over to the next turn.
+ *
+ * Holds are per instance and advisory: the booking path still checks the database.
+ */
+@Component
+public class SlotHoldRegistry {
+
+    static final int WHEEL_SIZE = 1024;
+    static final long TICK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<Long, ConcurrentNavigableMap<LocalDateTime, Hold>> byDoctor = new ConcurrentHashMap<>();
+    private final Map<String, Hold> byId = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Hold>[] wheel;
+    private final Duration ttl;
+    private final Ticker ticker;
+    private long sweptTick;
+
+    @Autowired
+    public SlotHoldRegistry(@Value("${appointments.holds.ttl:PT5M}") Duration ttl) {
+        this(ttl, Ticker.systemTicker());
+    }
+
+    @SuppressWarnings("unchecked")
+    SlotHoldRegistry(Duration ttl, Ticker ticker) {
+        this.ttl = ttl;
+        this.ticker = ticker;
+        this.wheel = new ConcurrentLinkedQueue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.sweptTick = Math.floorDiv(ticker.read(), TICK_NANOS);
+    }
+
+    /**
+     * A reserved slot, identified by a random hold id handed to the client
+     */
+    @Getter
+    public static final class Hold {
+
+        private final String holdId;
+        private final Long doctorId;
+        private final LocalDateTime appointmentTime;
+        private final LocalDateTime expiresAt;
+        private final long expiresAtNanos;
+
+        private Hold(Long doctorId, LocalDateTime appointmentTime, LocalDateTime expiresAt, long expiresAtNanos) {
+            this.holdId = UUID.randomUUID().toString();
+            this.doctorId = doctorId;
+            this.appointmentTime = appointmentTime;
+            this.expiresAt = expiresAt;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Hold the slot starting at the given time
+     *
+     * @return the hold, or empty when a live hold of the doctor overlaps the slot
+     */
+    public Optional<Hold> tryHold(Long doctorId, LocalDateTime appointmentTime) {
+        long now = ticker.read();
+        Hold hold = new Hold(doctorId, appointmentTime,
+                LocalDateTime.now().plus(ttl), now + ttl.toNanos());
+        ConcurrentNavigableMap<LocalDateTime, Hold> holds =
+                byDoctor.computeIfAbsent(doctorId, id -> new ConcurrentSkipListMap<>());
+
+        // Same start time: claim the key, taking it over from an expired hold
+        Hold existing = holds.putIfAbsent(appointmentTime, hold);
+        while (existing != null) {
+            if (!existing.isExpired(now)) {
+                return Optional.empty();
+            }
+            if (holds.replace(appointmentTime, existing, hold)) {
+                byId.remove(existing.holdId, existing);
+                break;
+            }
+            existing = holds.putIfAbsent(appointmentTime, hold);
+        }
+
+        // Nearby start times: back off if any other live hold overlaps
+        if (overlapping(holds, appointmentTime, now).anyMatch(other -> other != hold)) {
+            holds.remove(appointmentTime, hold);
+            return Optional.empty();
+        }
+        byId.put(hold.holdId, hold);
+        wheel[bucket(hold.expiresAtNanos)].add(hold);
+        return Optional.of(hold);
+    }
+
+    /**
+     * Whether a live hold other than {@code holdId} overlaps the slot starting at the given time
+     *
+     * @param holdId the caller's own hold, or null
+     */
+    public boolean isHeldByOther(Long doctorId, LocalDateTime appointmentTime, String holdId) {
+        ConcurrentNavigableMap<LocalDateTime, Hold> holds = byDoctor.get(doctorId);
+        return holds != null && overlapping(holds, appointmentTime, ticker.read())
+                .anyMatch(hold -> !hold.holdId.equals(holdId));
+    }
+
+    public Optional<Hold> find(String holdId) {
+        Hold hold = byId.get(holdId);
+        return hold != null && !hold.isExpired(ticker.read()) ? Optional.of(hold) : Optional.empty();
+    }
+
+    /**
+     * Whether holdId names a live hold of this doctor starting at exactly this time
+     */
+    public boolean covers(String holdId, Long doctorId, LocalDateTime appointmentTime) {
+        return find(holdId)
+                .filter(hold -> hold.doctorId.equals(doctorId) && hold.appointmentTime.equals(appointmentTime))
+                .isPresent();
+    }
+
+    /**
+     * Release a hold before it expires
+     *
+     * @return whether the hold was still live
+     */
+    public boolean release(String holdId) {
+        Hold hold = byId.remove(holdId);
+        if (hold == null) {
+            return false;
+        }
+        unlink(hold);
+        return !hold.isExpired(ticker.read());
+    }
+
+    /**
+     * Release the hold once the booking that used it commits; kept if the booking rolls back
+     */
+    public void releaseAfterCommit(String holdId) {
+        AfterCommit.run(() -> release(holdId));
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Advance the timer wheel to now, dropping the holds that expired in the passed ticks
+     */
+    @Scheduled(fixedDelayString = "${appointments.holds.sweep-interval:PT1S}")
+    public synchronized void expireHolds() {
+        long now = ticker.read();
+        long currentTick = Math.floorDiv(now, TICK_NANOS);
+        // Past one full turn every bucket has been visited
+        long firstTick = Math.max(sweptTick + 1, currentTick - WHEEL_SIZE + 1);
+        for (long tick = firstTick; tick <= currentTick; tick++) {
+            ConcurrentLinkedQueue<Hold> bucket = wheel[(int) Math.floorMod(tick, (long) WHEEL_SIZE)];
+            List<Hold> carried = new ArrayList<>();
+            Hold hold;
+            while ((hold = bucket.poll()) != null) {
+                if (byId.get(hold.holdId) != hold) {
+                    continue; // released or taken over
+                }
+                if (hold.isExpired(now)) {
+                    byId.remove(hold.holdId, hold);
+                    unlink(hold);
+                } else {
+                    carried.add(hold);
+                }
+            }
+            carried.forEach(live -> wheel[bucket(live.expiresAtNanos)].add(live));
+        }
+        sweptTick = Math.max(sweptTick, currentTick);
+    }
+
+    static String conflictMessage(Long doctorId, LocalDateTime appointmentTime) {
+        return String.format("Doctor %d has a slot hold overlapping %s", doctorId, appointmentTime);
+    }
+
+    static String mismatchMessage(String holdId, Long doctorId, LocalDateTime appointmentTime) {
+        return String.format("Slot hold %s is not a live hold of doctor %d at %s", holdId, doctorId, appointmentTime);
+    }
+
+    private Stream<Hold> overlapping(ConcurrentNavigableMap<LocalDateTime, Hold> holds,
+                                                      LocalDateTime appointmentTime, long now) {
+        return holds.subMap(appointmentTime.minus(Appointment.DEFAULT_DURATION), false,
+                        appointmentTime.plus(Appointment.DEFAULT_DURATION), false)
+                .values().stream()
+                .filter(hold -> !hold.isExpired(now));
+    }
+
+    private void unlink(Hold hold) {
+        ConcurrentNavigableMap<LocalDateTime, Hold> holds = byDoctor.get(hold.doctorId);
+        if (holds != null) {
+            holds.remove(hold.appointmentTime, hold);
+        }
+    }
+
+    /**
+     * Bucket of the first tick at or after the given instant
+     */
+    private static int bucket(long nanos) {
+        long tick = Math.floorDiv(nanos, TICK_NANOS) + (Math.floorMod(nanos, TICK_NANOS) == 0 ? 0 : 1);
+        return (int) Math.floorMod(tick, (long) WHEEL_SIZE);
+    }
+}
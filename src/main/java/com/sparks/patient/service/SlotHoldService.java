@@ -0,0 +1,30 @@
+package com.sparks.patient.service;
+
+import com.sparks.patient.dto.SlotHoldRequest;
+import com.sparks.patient.dto.SlotHoldResponse;
+
+/**
+ * Service interface for short-lived slot holds taken before an appointment is confirmed
+ */
+public interface SlotHoldService {
+
+    /**
+     * Hold a doctor's slot
+     * @param request the doctor and slot start
+     * @return the hold, valid until its expiry
+     */
+    SlotHoldResponse createHold(SlotHoldRequest request);
+
+    /**
+     * Get a live hold
+     * @param holdId the hold ID
+     * @return the hold
+     */
+    SlotHoldResponse getHold(String holdId);
+
+    /**
+     * Release a hold before it expires
+     * @param holdId the hold ID
+     */
+    void releaseHold(String holdId);
+}
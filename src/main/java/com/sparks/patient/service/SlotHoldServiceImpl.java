@@ -0,0 +1,87 @@
+package com.sparks.patient.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sparks.patient.dto.SlotHoldRequest;
+import com.sparks.patient.dto.SlotHoldResponse;
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.exception.AppointmentConflictException;
+import com.sparks.patient.exception.DoctorNotFoundException;
+import com.sparks.patient.exception.SlotHoldNotFoundException;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.DoctorRepository;
+import com.sparks.patient.repository.ShiftRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Slot Hold Service Implementation
+ * 
+ * A slot is only held if it could be booked right now: inside the doctor's shifts and
+ * clear of live appointments. The hold itself is kept in {@link SlotHoldRegistry}, so
+ * holding and releasing write nothing to the appointments table.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class SlotHoldServiceImpl implements SlotHoldService {
+
+    private final DoctorRepository doctorRepository;
+    private final ShiftRepository shiftRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final SlotHoldRegistry slotHoldRegistry;
+
+    @Override
+    public SlotHoldResponse createHold(SlotHoldRequest request) {
+        Long doctorId = request.getDoctorId();
+        LocalDateTime time = request.getAppointmentTime();
+        log.debug("Holding slot of doctor {} at {}", doctorId, time);
+
+        if (!doctorRepository.existsById(doctorId)) {
+            throw new DoctorNotFoundException("Doctor not found with id: " + doctorId);
+        }
+        if (!AvailabilityCalculator.withinShifts(
+                shiftRepository.findByDoctorId(doctorId), time, Appointment.DEFAULT_DURATION)) {
+            throw new AppointmentConflictException(String.format("Doctor %d has no shift covering %s", doctorId, time));
+        }
+        if (appointmentRepository.existsOverlapping(doctorId,
+                time.minus(Appointment.DEFAULT_DURATION), time.plus(Appointment.DEFAULT_DURATION),
+                Appointment.AppointmentStatus.CANCELLED)) {
+            throw new AppointmentConflictException(doctorId, time);
+        }
+
+        return slotHoldRegistry.tryHold(doctorId, time)
+                .map(SlotHoldServiceImpl::toResponse)
+                .orElseThrow(() -> new AppointmentConflictException(
+                        SlotHoldRegistry.conflictMessage(doctorId, time)));
+    }
+
+    @Override
+    public SlotHoldResponse getHold(String holdId) {
+        return slotHoldRegistry.find(holdId)
+                .map(SlotHoldServiceImpl::toResponse)
+                .orElseThrow(() -> new SlotHoldNotFoundException(holdId));
+    }
+
+    @Override
+    public void releaseHold(String holdId) {
+        log.debug("Releasing slot hold {}", holdId);
+        if (!slotHoldRegistry.release(holdId)) {
+            throw new SlotHoldNotFoundException(holdId);
+        }
+    }
+
+    private static SlotHoldResponse toResponse(SlotHoldRegistry.Hold hold) {
+        return SlotHoldResponse.builder()
+                .holdId(hold.getHoldId())
+                .doctorId(hold.getDoctorId())
+                .appointmentTime(hold.getAppointmentTime())
+                .expiresAt(hold.getExpiresAt())
+                .build();
+    }
+}
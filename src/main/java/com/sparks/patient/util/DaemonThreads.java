@@ -0,0 +1,25 @@
+package com.sparks.patient.util;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Thread factories for the service's own worker pools. The threads are daemons so a pool
+ * that was not shut down never keeps the JVM alive.
+ */
+public final class DaemonThreads {
+
+    private DaemonThreads() {
+    }
+
+    /**
+     * @param prefix thread name prefix; threads are numbered from 1
+     * @return factory of daemon threads named prefix1, prefix2, ...
+     */
+    public static ThreadFactory named(String prefix) {
+        CustomizableThreadFactory factory = new CustomizableThreadFactory(prefix);
+        factory.setDaemon(true);
+        return factory;
+    }
+}
@@ -0,0 +1,36 @@
+package com.sparks.patient.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * Canonical E.164 keys for phone numbers, so "+1 (555) 010-2030", "1-555-010-2030" and
+ * "+15550102030" all look up the same patient.
+ * 
+ * Spaces, dots, dashes and parentheses are dropped and a leading international "00" is read
+ * as "+". Numbers without a "+" are taken to already start with their country code, as the
+ * patient phone validation has always required. The key is "+" followed by 2 to 15 digits.
+ */
+public final class PhoneNumbers {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s.()\\-]");
+    private static final Pattern E164_DIGITS = Pattern.compile("^[1-9]\\d{1,14}$");
+
+    private PhoneNumbers() {
+    }
+
+    /**
+     * E.164 key of the number, or null when it cannot be one
+     */
+    public static String toKey(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        String digits = SEPARATORS.matcher(phone).replaceAll("");
+        if (digits.startsWith("+")) {
+            digits = digits.substring(1);
+        } else if (digits.startsWith("00")) {
+            digits = digits.substring(2);
+        }
+        return E164_DIGITS.matcher(digits).matches() ? "+" + digits : null;
+    }
+}
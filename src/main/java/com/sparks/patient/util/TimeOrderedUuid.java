@@ -0,0 +1,68 @@
+package com.sparks.patient.util;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Time-ordered UUIDs (RFC 9562 version 7) and their 16-byte binary form.
+ * 
+ * Layout: 48-bit Unix epoch milliseconds, 4-bit version, 12 random bits,
+ * 2-bit variant, 62 random bits. Values generated later sort after earlier ones,
+ * so new rows are appended to the right edge of a B-tree index instead of
+ * landing on random pages. The string form is the usual 8-4-4-4-12 hex layout.
+ */
+public final class TimeOrderedUuid {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Pattern CANONICAL =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    private TimeOrderedUuid() {
+    }
+
+    /**
+     * Generate a version 7 UUID for the current time
+     */
+    public static UUID generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    static UUID generate(long epochMillis) {
+        byte[] random = new byte[10];
+        RANDOM.nextBytes(random);
+
+        long msb = (epochMillis & 0xFFFF_FFFF_FFFFL) << 16;
+        msb |= 0x7000L;
+        msb |= ((random[0] & 0x0FL) << 8) | (random[1] & 0xFFL);
+
+        long lsb = 0x8000_0000_0000_0000L | ((random[2] & 0x3FL) << 56);
+        for (int i = 3; i < 10; i++) {
+            lsb |= (random[i] & 0xFFL) << (8 * (9 - i));
+        }
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * @return true if the value is a canonical 8-4-4-4-12 hex UUID string
+     */
+    public static boolean isCanonical(String value) {
+        return value != null && CANONICAL.matcher(value).matches();
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("UUID must be 16 bytes but was " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -3,17 +3,28 @@ package com.sparks.patient.api;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.matchesPattern;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,15 +32,31 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparks.patient.controller.AppointmentController;
+import com.sparks.patient.controller.IdempotencyStore;
+import com.sparks.patient.dto.AppointmentCacheStatsResponse;
+import com.sparks.patient.dto.AppointmentFilter;
+import com.sparks.patient.dto.AppointmentPageResponse;
 import com.sparks.patient.dto.AppointmentRequest;
 import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.dto.AppointmentStatusBatchRequest;
+import com.sparks.patient.dto.AppointmentStatusBatchResponse;
+import com.sparks.patient.dto.AppointmentStatusUpdateRequest;
+import com.sparks.patient.dto.BulkAppointmentItemResult;
+import com.sparks.patient.dto.BulkAppointmentRequest;
+import com.sparks.patient.dto.BulkAppointmentResponse;
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.exception.AppointmentConflictException;
 import com.sparks.patient.exception.AppointmentNotFoundException;
+import com.sparks.patient.exception.AppointmentVersionConflictException;
 import com.sparks.patient.exception.DoctorNotFoundException;
+import com.sparks.patient.exception.InvalidCursorException;
+import com.sparks.patient.exception.InvalidStatusTransitionException;
 import com.sparks.patient.exception.PatientNotFoundException;
 import com.sparks.patient.service.AppointmentService;
 
@@ -37,6 +64,7 @@ import com.sparks.patient.service.AppointmentService;
  * API tests for Appointment Controller - SCRUM-23
  */
 @WebMvcTest(AppointmentController.class)
+@Import(IdempotencyStore.class)
 @DisplayName("Appointment API Tests")
 class AppointmentApiTest {
 
@@ -140,6 +168,99 @@ class AppointmentApiTest {
                 .andExpect(jsonPath("$.message").value("Doctor not found with id: 2"));
     }
 
+    @Test
+    @DisplayName("POST /api/appointments - Should return 409 when the doctor is already booked")
+    void testCreateAppointment_Conflict() throws Exception {
+        // Given
+        when(appointmentService.createAppointment(any(AppointmentRequest.class)))
+                .thenThrow(new AppointmentConflictException(2L, request.getAppointmentTime()));
+
+        // When & Then
+        mockMvc.perform(post("/api/appointments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+    }
+
+    @Test
+    @DisplayName("POST /api/appointments - Should replay the first response for a repeated Idempotency-Key")
+    void testCreateAppointment_IdempotentReplay() throws Exception {
+        // Given
+        String key = UUID.randomUUID().toString();
+        when(appointmentService.createAppointment(any(AppointmentRequest.class))).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/appointments")
+                .header(IdempotencyStore.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyStore.REPLAYED_HEADER));
+        mockMvc.perform(post("/api/appointments")
+                .header(IdempotencyStore.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyStore.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.appointmentId").value("550e8400-e29b-41d4-a716-446655440000"));
+
+        verify(appointmentService, times(1)).createAppointment(any(AppointmentRequest.class));
+    }
+
+    @Test
+    @DisplayName("POST /api/appointments - Should return 422 when an Idempotency-Key is reused for another request")
+    void testCreateAppointment_IdempotencyKeyMismatch() throws Exception {
+        // Given
+        String key = UUID.randomUUID().toString();
+        when(appointmentService.createAppointment(any(AppointmentRequest.class))).thenReturn(response);
+        AppointmentRequest other = AppointmentRequest.builder()
+                .patientId(1L)
+                .doctorId(3L)
+                .appointmentTime(request.getAppointmentTime())
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/appointments")
+                .header(IdempotencyStore.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/appointments")
+                .header(IdempotencyStore.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(other)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.status").value(422));
+
+        verify(appointmentService, times(1)).createAppointment(any(AppointmentRequest.class));
+    }
+
+    @Test
+    @DisplayName("POST /api/appointments - Should execute again after a failed attempt with the same Idempotency-Key")
+    void testCreateAppointment_IdempotentRetryAfterFailure() throws Exception {
+        // Given
+        String key = UUID.randomUUID().toString();
+        when(appointmentService.createAppointment(any(AppointmentRequest.class)))
+                .thenThrow(new AppointmentConflictException(2L, request.getAppointmentTime()))
+                .thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/appointments")
+                .header(IdempotencyStore.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+        mockMvc.perform(post("/api/appointments")
+                .header(IdempotencyStore.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyStore.REPLAYED_HEADER));
+
+        verify(appointmentService, times(2)).createAppointment(any(AppointmentRequest.class));
+    }
+
     @Test
     @DisplayName("GET /api/appointments/{appointmentId} - Should return appointment")
     void testGetAppointment_Success() throws Exception {
@@ -168,6 +289,27 @@ class AppointmentApiTest {
                 .andExpect(jsonPath("$.message").value("Appointment not found with id: " + appointmentId));
     }
 
+    @Test
+    @DisplayName("GET /api/appointments/cache/stats - Should return lookup cache statistics")
+    void testGetLookupCacheStats() throws Exception {
+        // Given
+        when(appointmentService.getLookupCacheStats()).thenReturn(AppointmentCacheStatsResponse.builder()
+                .hitCount(95)
+                .missCount(5)
+                .hitRate(0.95)
+                .evictionCount(1)
+                .size(4)
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/appointments/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hitCount").value(95))
+                .andExpect(jsonPath("$.missCount").value(5))
+                .andExpect(jsonPath("$.hitRate").value(0.95))
+                .andExpect(jsonPath("$.evictionCount").value(1));
+    }
+
     @Test
     @DisplayName("GET /api/appointments - Should return all appointments")
     void testGetAllAppointments() throws Exception {
@@ -187,7 +329,7 @@ class AppointmentApiTest {
     void testGetAppointmentsByPatientId() throws Exception {
         // Given
         List<AppointmentResponse> responses = Arrays.asList(response);
-        when(appointmentService.getAppointmentsByPatientId(anyLong())).thenReturn(responses);
+        when(appointmentService.getAppointmentsByPatientId(anyLong(), anyBoolean())).thenReturn(responses);
 
         // When & Then
         mockMvc.perform(get("/api/appointments").param("patientId", "1"))
@@ -201,7 +343,7 @@ class AppointmentApiTest {
     void testGetAppointmentsByDoctorId() throws Exception {
         // Given
         List<AppointmentResponse> responses = Arrays.asList(response);
-        when(appointmentService.getAppointmentsByDoctorId(anyLong())).thenReturn(responses);
+        when(appointmentService.getAppointmentsByDoctorId(anyLong(), anyBoolean())).thenReturn(responses);
 
         // When & Then
         mockMvc.perform(get("/api/appointments").param("doctorId", "2"))
@@ -209,4 +351,256 @@ class AppointmentApiTest {
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].doctorId").value(2));
     }
+
+    @Test
+    @DisplayName("GET /api/appointments?patientId=1&includeArchived=true - Should ask for the archived history")
+    void testGetAppointmentsByPatientId_IncludeArchived() throws Exception {
+        // Given
+        when(appointmentService.getAppointmentsByPatientId(1L, true)).thenReturn(Arrays.asList(response));
+
+        // When & Then
+        mockMvc.perform(get("/api/appointments").param("patientId", "1").param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("GET /api/appointments/page - Should return cursor page with filters")
+    void testGetAppointmentPage() throws Exception {
+        // Given
+        AppointmentFilter filter = AppointmentFilter.builder()
+                .doctorId(2L)
+                .status(Appointment.AppointmentStatus.SCHEDULED)
+                .from(LocalDateTime.of(2026, 2, 10, 0, 0))
+                .build();
+        AppointmentPageResponse page = AppointmentPageResponse.builder()
+                .content(Arrays.asList(response))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("next-token")
+                .build();
+        when(appointmentService.getAppointmentPage(eq(filter), isNull(), eq(25))).thenReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/api/appointments/page")
+                .param("doctorId", "2")
+                .param("status", "SCHEDULED")
+                .param("from", "2026-02-10T00:00:00")
+                .param("limit", "25"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].appointmentId").value("550e8400-e29b-41d4-a716-446655440000"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"));
+    }
+
+    @Test
+    @DisplayName("GET /api/appointments/page - Should return 400 for invalid cursor")
+    void testGetAppointmentPage_InvalidCursor() throws Exception {
+        // Given
+        when(appointmentService.getAppointmentPage(any(AppointmentFilter.class), anyString(), anyInt()))
+                .thenThrow(new InvalidCursorException("bogus"));
+
+        // When & Then
+        mockMvc.perform(get("/api/appointments/page").param("cursor", "bogus"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid pagination cursor: bogus"));
+    }
+
+    @Test
+    @DisplayName("GET /api/appointments?patientId=1&doctorId=3 - Should apply both filters")
+    void testGetAppointmentsByPatientAndDoctor() throws Exception {
+        // Given
+        when(appointmentService.getAppointmentsByPatientId(1L, false)).thenReturn(Arrays.asList(response));
+
+        // When & Then
+        mockMvc.perform(get("/api/appointments").param("patientId", "1").param("doctorId", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("GET /api/appointments/search - Should combine every filter")
+    void testSearchAppointments() throws Exception {
+        // Given
+        AppointmentFilter filter = AppointmentFilter.builder()
+                .patientId(1L)
+                .doctorId(2L)
+                .deptId(5L)
+                .status(Appointment.AppointmentStatus.SCHEDULED)
+                .from(LocalDateTime.of(2026, 2, 10, 0, 0))
+                .to(LocalDateTime.of(2026, 2, 11, 0, 0))
+                .build();
+        AppointmentPageResponse page = AppointmentPageResponse.builder()
+                .content(Arrays.asList(response))
+                .size(1)
+                .hasNext(false)
+                .build();
+        when(appointmentService.searchAppointments(eq(filter), eq("cursor-token"), eq(20))).thenReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/api/appointments/search")
+                .param("patientId", "1")
+                .param("doctorId", "2")
+                .param("deptId", "5")
+                .param("status", "SCHEDULED")
+                .param("from", "2026-02-10T00:00:00")
+                .param("to", "2026-02-11T00:00:00")
+                .param("cursor", "cursor-token")
+                .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/appointments/page - Should return 400 for unknown status")
+    void testGetAppointmentPage_InvalidStatus() throws Exception {
+        mockMvc.perform(get("/api/appointments/page").param("status", "UNKNOWN"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/appointments/bulk - Should return per-item results")
+    void testCreateAppointments_Bulk() throws Exception {
+        // Given
+        BulkAppointmentResponse bulkResponse = BulkAppointmentResponse.builder()
+                .requested(2)
+                .created(1)
+                .failed(1)
+                .results(Arrays.asList(
+                        BulkAppointmentItemResult.builder().index(0).success(true)
+                                .appointmentId("550e8400-e29b-41d4-a716-446655440000").build(),
+                        BulkAppointmentItemResult.builder().index(1).success(false)
+                                .error("Patient not found with id: 99").build()))
+                .build();
+        when(appointmentService.createAppointments(anyList())).thenReturn(bulkResponse);
+        BulkAppointmentRequest bulkRequest = BulkAppointmentRequest.builder()
+                .appointments(Arrays.asList(request, request))
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/appointments/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(bulkRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results", hasSize(2)))
+                .andExpect(jsonPath("$.results[1].error").value("Patient not found with id: 99"));
+    }
+
+    @Test
+    @DisplayName("POST /api/appointments/bulk - Should return 400 for invalid item")
+    void testCreateAppointments_BulkInvalidItem() throws Exception {
+        // Given
+        AppointmentRequest invalid = AppointmentRequest.builder()
+                .doctorId(2L)
+                .appointmentTime(LocalDateTime.of(2026, 2, 10, 10, 0))
+                .build();
+        BulkAppointmentRequest bulkRequest = BulkAppointmentRequest.builder()
+                .appointments(Arrays.asList(request, invalid))
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/appointments/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(bulkRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors['appointments[1].patientId']").value("Patient ID is required"));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/appointments/{appointmentId}/status - Should update status")
+    void testUpdateAppointmentStatus_Success() throws Exception {
+        // Given
+        String appointmentId = "550e8400-e29b-41d4-a716-446655440000";
+        AppointmentStatusUpdateRequest update = AppointmentStatusUpdateRequest.builder()
+                .status(Appointment.AppointmentStatus.CONFIRMED)
+                .version(0L)
+                .build();
+        response.setStatus("CONFIRMED");
+        response.setVersion(1L);
+        when(appointmentService.updateAppointmentStatus(eq(appointmentId), any(AppointmentStatusUpdateRequest.class)))
+                .thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(patch("/api/appointments/{appointmentId}/status", appointmentId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CONFIRMED"))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/appointments/{appointmentId}/status - Should return 409 for a stale version")
+    void testUpdateAppointmentStatus_StaleVersion() throws Exception {
+        // Given
+        String appointmentId = "550e8400-e29b-41d4-a716-446655440000";
+        AppointmentStatusUpdateRequest update = AppointmentStatusUpdateRequest.builder()
+                .status(Appointment.AppointmentStatus.CONFIRMED)
+                .version(0L)
+                .build();
+        when(appointmentService.updateAppointmentStatus(eq(appointmentId), any(AppointmentStatusUpdateRequest.class)))
+                .thenThrow(new AppointmentVersionConflictException(appointmentId, 0L, 2L));
+
+        // When & Then
+        mockMvc.perform(patch("/api/appointments/{appointmentId}/status", appointmentId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/appointments/{appointmentId}/status - Should return 409 for a forbidden transition")
+    void testUpdateAppointmentStatus_InvalidTransition() throws Exception {
+        // Given
+        String appointmentId = "550e8400-e29b-41d4-a716-446655440000";
+        AppointmentStatusUpdateRequest update = AppointmentStatusUpdateRequest.builder()
+                .status(Appointment.AppointmentStatus.SCHEDULED)
+                .build();
+        when(appointmentService.updateAppointmentStatus(eq(appointmentId), any(AppointmentStatusUpdateRequest.class)))
+                .thenThrow(new InvalidStatusTransitionException(
+                        Appointment.AppointmentStatus.CANCELLED, Appointment.AppointmentStatus.SCHEDULED));
+
+        // When & Then
+        mockMvc.perform(patch("/api/appointments/{appointmentId}/status", appointmentId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Cannot change appointment status from CANCELLED to SCHEDULED"));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/appointments/{appointmentId}/status - Should return 400 for an unknown status")
+    void testUpdateAppointmentStatus_UnknownStatus() throws Exception {
+        mockMvc.perform(patch("/api/appointments/{appointmentId}/status", "550e8400-e29b-41d4-a716-446655440000")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"ARCHIVED\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/appointments/status - Should update a doctor's day in one batch")
+    void testUpdateAppointmentStatuses() throws Exception {
+        // Given
+        AppointmentStatusBatchRequest batch = AppointmentStatusBatchRequest.builder()
+                .doctorId(2L)
+                .date(LocalDate.of(2026, 2, 10))
+                .status(Appointment.AppointmentStatus.COMPLETED)
+                .build();
+        when(appointmentService.updateAppointmentStatuses(any(AppointmentStatusBatchRequest.class)))
+                .thenReturn(AppointmentStatusBatchResponse.builder()
+                        .matched(5).updated(4).skipped(1).conflicted(0)
+                        .build());
+
+        // When & Then
+        mockMvc.perform(patch("/api/appointments/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(4))
+                .andExpect(jsonPath("$.skipped").value(1));
+    }
 }
@@ -0,0 +1,180 @@
+package com.sparks.patient.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparks.patient.controller.AppointmentSeriesController;
+import com.sparks.patient.controller.IdempotencyStore;
+import com.sparks.patient.dto.AppointmentSeriesRequest;
+import com.sparks.patient.dto.AppointmentSeriesResponse;
+import com.sparks.patient.dto.SeriesConfirmResponse;
+import com.sparks.patient.dto.SeriesOccurrenceResponse;
+import com.sparks.patient.dto.SeriesOccurrenceResponse.OccurrenceStatus;
+import com.sparks.patient.entity.AppointmentSeries.Frequency;
+import com.sparks.patient.exception.InvalidSeriesException;
+import com.sparks.patient.exception.SeriesNotFoundException;
+import com.sparks.patient.service.AppointmentSeriesService;
+
+/**
+ * API tests for Appointment Series Controller
+ */
+@WebMvcTest(AppointmentSeriesController.class)
+@Import(IdempotencyStore.class)
+@DisplayName("Appointment Series API Tests")
+class AppointmentSeriesApiTest {
+
+    private static final LocalDateTime MONDAY_TEN = LocalDateTime.of(2026, 2, 9, 10, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private AppointmentSeriesService appointmentSeriesService;
+
+    private AppointmentSeriesRequest request;
+    private AppointmentSeriesResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = AppointmentSeriesRequest.builder()
+                .patientId(1L)
+                .doctorId(2L)
+                .firstAppointmentTime(MONDAY_TEN)
+                .frequency(Frequency.WEEKLY)
+                .occurrenceCount(12)
+                .build();
+        response = AppointmentSeriesResponse.builder()
+                .id(7L)
+                .patientId(1L)
+                .doctorId(2L)
+                .firstAppointmentTime(MONDAY_TEN)
+                .frequency("WEEKLY")
+                .repeatInterval(1)
+                .occurrenceCount(12)
+                .occurrences(12)
+                .conflicts(List.of(SeriesOccurrenceResponse.builder()
+                        .appointmentTime(MONDAY_TEN.plusWeeks(1))
+                        .status(OccurrenceStatus.CONFLICT)
+                        .reason("Doctor 2 has no shift covering 2026-02-16T10:00")
+                        .build()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/appointment-series - Should create the series")
+    void testCreateSeries() throws Exception {
+        when(appointmentSeriesService.createSeries(any(AppointmentSeriesRequest.class))).thenReturn(response);
+
+        mockMvc.perform(post("/api/v1/appointment-series")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(7))
+                .andExpect(jsonPath("$.occurrences").value(12))
+                .andExpect(jsonPath("$.conflicts[0].appointmentTime").value("2026-02-16T10:00:00"))
+                .andExpect(jsonPath("$.conflicts[0].status").value("CONFLICT"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/appointment-series - Should return 400 without a frequency")
+    void testCreateSeries_InvalidRequest() throws Exception {
+        request.setFrequency(null);
+
+        mockMvc.perform(post("/api/v1/appointment-series")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/appointment-series - Should return 400 for an unbounded series")
+    void testCreateSeries_Unbounded() throws Exception {
+        request.setOccurrenceCount(null);
+        when(appointmentSeriesService.createSeries(any(AppointmentSeriesRequest.class)))
+                .thenThrow(new InvalidSeriesException("Give either occurrenceCount or untilDate"));
+
+        mockMvc.perform(post("/api/v1/appointment-series")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Give either occurrenceCount or untilDate"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/appointment-series/{id} - Should return 404 for an unknown series")
+    void testGetSeries_NotFound() throws Exception {
+        when(appointmentSeriesService.getSeries(7L)).thenThrow(new SeriesNotFoundException(7L));
+
+        mockMvc.perform(get("/api/v1/appointment-series/{id}", 7L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/appointment-series/{id}/occurrences - Should list the window's occurrences")
+    void testGetOccurrences() throws Exception {
+        when(appointmentSeriesService.getOccurrences(7L, LocalDate.of(2026, 2, 9), LocalDate.of(2026, 2, 16)))
+                .thenReturn(List.of(SeriesOccurrenceResponse.builder()
+                        .appointmentTime(MONDAY_TEN)
+                        .status(OccurrenceStatus.AVAILABLE)
+                        .build()));
+
+        mockMvc.perform(get("/api/v1/appointment-series/{id}/occurrences", 7L)
+                .param("from", "2026-02-09")
+                .param("to", "2026-02-16"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("AVAILABLE"))
+                .andExpect(jsonPath("$[0].appointmentId").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/appointment-series/{id}/confirm - Should replay a confirmation sent twice")
+    void testConfirmOccurrences_Idempotent() throws Exception {
+        LocalDate from = LocalDate.of(2026, 2, 9);
+        LocalDate to = LocalDate.of(2026, 3, 9);
+        when(appointmentSeriesService.confirmOccurrences(7L, from, to)).thenReturn(SeriesConfirmResponse.builder()
+                .seriesId(7L)
+                .created(1)
+                .occurrences(List.of(SeriesOccurrenceResponse.builder()
+                        .appointmentTime(MONDAY_TEN)
+                        .status(OccurrenceStatus.BOOKED)
+                        .appointmentId("a0")
+                        .build()))
+                .build());
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/v1/appointment-series/{id}/confirm", 7L)
+                    .header(IdempotencyStore.HEADER, "confirm-7-feb")
+                    .param("from", "2026-02-09")
+                    .param("to", "2026-03-09"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.created").value(1))
+                    .andExpect(jsonPath("$.occurrences[0].appointmentId").value("a0"));
+        }
+
+        verify(appointmentSeriesService, times(1)).confirmOccurrences(7L, from, to);
+    }
+}
@@ -0,0 +1,92 @@
+package com.sparks.patient.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.sparks.patient.controller.AppointmentStatsController;
+import com.sparks.patient.dto.AppointmentStatsGroup;
+import com.sparks.patient.dto.AppointmentStatsResponse;
+import com.sparks.patient.dto.AppointmentStatsResponse.GroupBy;
+import com.sparks.patient.service.AppointmentStatsService;
+
+/**
+ * API tests for Appointment Stats Controller
+ */
+@WebMvcTest(AppointmentStatsController.class)
+@DisplayName("Appointment Stats API Tests")
+class AppointmentStatsApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AppointmentStatsService appointmentStatsService;
+
+    @Test
+    @DisplayName("GET /api/appointments/stats - Should return counts per doctor")
+    void testGetStatsByDoctor() throws Exception {
+        when(appointmentStatsService.getStats(GroupBy.DOCTOR)).thenReturn(AppointmentStatsResponse.builder()
+                .groupBy("doctor")
+                .total(5)
+                .reconciledAt(LocalDateTime.of(2026, 2, 9, 10, 0))
+                .groups(List.of(
+                        AppointmentStatsGroup.builder().key("1").count(3).build(),
+                        AppointmentStatsGroup.builder().key("2").count(2).build()))
+                .build());
+
+        mockMvc.perform(get("/api/appointments/stats").param("groupBy", "doctor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupBy").value("doctor"))
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.reconciledAt").value("2026-02-09T10:00:00"))
+                .andExpect(jsonPath("$.groups[0].key").value("1"))
+                .andExpect(jsonPath("$.groups[1].count").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /api/appointments/stats - Should accept the grouping in any case")
+    void testGetStats_CaseInsensitive() throws Exception {
+        when(appointmentStatsService.getStats(GroupBy.DEPT)).thenReturn(AppointmentStatsResponse.builder()
+                .groupBy("dept")
+                .total(0)
+                .groups(List.of())
+                .build());
+
+        mockMvc.perform(get("/api/appointments/stats").param("groupBy", "DEPT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupBy").value("dept"));
+    }
+
+    @Test
+    @DisplayName("GET /api/appointments/stats - Should return 400 for an unknown grouping")
+    void testGetStats_UnknownGroup() throws Exception {
+        mockMvc.perform(get("/api/appointments/stats").param("groupBy", "patient"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message")
+                        .value("Invalid groupBy 'patient': expected doctor, day, status or dept"));
+
+        verify(appointmentStatsService, never()).getStats(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/appointments/stats - Should return 400 without a grouping")
+    void testGetStats_MissingGroup() throws Exception {
+        mockMvc.perform(get("/api/appointments/stats"))
+                .andExpect(status().isBadRequest());
+    }
+}
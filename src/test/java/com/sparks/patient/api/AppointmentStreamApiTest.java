@@ -0,0 +1,95 @@
+package com.sparks.patient.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.sparks.patient.controller.AppointmentStreamController;
+import com.sparks.patient.dto.AppointmentEvent;
+import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.dto.DoctorResponse;
+import com.sparks.patient.exception.DoctorNotFoundException;
+import com.sparks.patient.service.AppointmentEventBus;
+import com.sparks.patient.service.DoctorService;
+
+/**
+ * API tests for the appointment event stream
+ */
+@WebMvcTest(AppointmentStreamController.class)
+@Import(AppointmentEventBus.class)
+@DisplayName("Appointment Stream API Tests")
+class AppointmentStreamApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AppointmentEventBus appointmentEventBus;
+
+    @MockBean
+    private DoctorService doctorService;
+
+    @Test
+    @DisplayName("GET /api/v1/doctors/{id}/appointments/stream - Should push the doctor's appointment events")
+    void testStreamDoctorAppointments() throws Exception {
+        // Given
+        when(doctorService.getDoctorById(7L)).thenReturn(DoctorResponse.builder().id(7L).build());
+        MvcResult result = mockMvc.perform(get("/api/v1/doctors/{id}/appointments/stream", 7L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        appointmentEventBus.publishAfterCommit(AppointmentEvent.builder()
+                .type(AppointmentEvent.Type.CREATED)
+                .doctorId(7L)
+                .appointment(AppointmentResponse.builder()
+                        .appointmentId("017f22e2-79b0-7cc3-98c4-dc0c0c07398f")
+                        .doctorId(7L)
+                        .build())
+                .build());
+
+        // Then
+        String body = awaitBody(result.getResponse(), "017f22e2-79b0-7cc3-98c4-dc0c0c07398f");
+        assertThat(result.getResponse().getContentType()).startsWith("text/event-stream");
+        assertThat(body).contains("event:CREATED");
+        assertThat(appointmentEventBus.hasSubscribers(7L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/doctors/{id}/appointments/stream - Should return 404 for an unknown doctor")
+    void testStreamDoctorAppointments_NotFound() throws Exception {
+        when(doctorService.getDoctorById(99L)).thenThrow(new DoctorNotFoundException("Doctor not found with id: 99"));
+
+        mockMvc.perform(get("/api/v1/doctors/{id}/appointments/stream", 99L))
+                .andExpect(status().isNotFound());
+        assertThat(appointmentEventBus.hasSubscribers(99L)).isFalse();
+    }
+
+    /**
+     * Events are written from a dispatcher thread; wait until the expected text shows up
+     */
+    private String awaitBody(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String body = response.getContentAsString();
+        while (!body.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            body = response.getContentAsString();
+        }
+        assertThat(body).contains(expected);
+        return body;
+    }
+}
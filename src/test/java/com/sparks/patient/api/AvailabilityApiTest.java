@@ -0,0 +1,102 @@
+package com.sparks.patient.api;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.sparks.patient.controller.AvailabilityController;
+import com.sparks.patient.dto.DoctorAvailabilityResponse;
+import com.sparks.patient.dto.TimeSlot;
+import com.sparks.patient.exception.InvalidTimeSlotException;
+import com.sparks.patient.service.AvailabilityService;
+
+/**
+ * API tests for Availability Controller
+ */
+@WebMvcTest(AvailabilityController.class)
+@DisplayName("Availability API Tests")
+class AvailabilityApiTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 2, 9, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(7);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AvailabilityService availabilityService;
+
+    private DoctorAvailabilityResponse availability(long doctorId) {
+        return DoctorAvailabilityResponse.builder()
+                .doctorId(doctorId)
+                .doctorName("Dr. Smith")
+                .from(FROM)
+                .to(TO)
+                .slotMinutes(30)
+                .slots(List.of(new TimeSlot(FROM.withHour(9), FROM.withHour(9).withMinute(30))))
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/doctors/{id}/availability - Should return free slots")
+    void testGetDoctorAvailability() throws Exception {
+        when(availabilityService.getDoctorAvailability(1L, FROM, TO, 30)).thenReturn(availability(1L));
+
+        mockMvc.perform(get("/api/v1/doctors/{id}/availability", 1L)
+                .param("from", "2026-02-09T00:00:00")
+                .param("to", "2026-02-16T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.doctorId").value(1))
+                .andExpect(jsonPath("$.slots", hasSize(1)))
+                .andExpect(jsonPath("$.slots[0].start").value("2026-02-09T09:00:00"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/departments/{deptId}/availability - Should return slots per doctor")
+    void testGetDepartmentAvailability() throws Exception {
+        when(availabilityService.getDepartmentAvailability(3L, FROM, TO, 15))
+                .thenReturn(List.of(availability(1L), availability(2L)));
+
+        mockMvc.perform(get("/api/v1/departments/{deptId}/availability", 3L)
+                .param("from", "2026-02-09T00:00:00")
+                .param("to", "2026-02-16T00:00:00")
+                .param("slotMinutes", "15"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].doctorId").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/doctors/{id}/availability - Should return 400 for invalid window")
+    void testGetDoctorAvailability_InvalidWindow() throws Exception {
+        when(availabilityService.getDoctorAvailability(eq(1L), eq(TO), eq(FROM), anyInt()))
+                .thenThrow(new InvalidTimeSlotException("'to' must be strictly after 'from'"));
+
+        mockMvc.perform(get("/api/v1/doctors/{id}/availability", 1L)
+                .param("from", "2026-02-16T00:00:00")
+                .param("to", "2026-02-09T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/doctors/{id}/availability - Should return 400 when window is missing")
+    void testGetDoctorAvailability_MissingParameter() throws Exception {
+        mockMvc.perform(get("/api/v1/doctors/{id}/availability", 1L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Missing required parameter 'from'"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.sparks.patient.api;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.sparks.patient.controller.CalendarController;
+import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.dto.CalendarDayResponse;
+import com.sparks.patient.dto.DoctorCalendarResponse;
+import com.sparks.patient.dto.TimeSlot;
+import com.sparks.patient.exception.DoctorNotFoundException;
+import com.sparks.patient.exception.InvalidTimeSlotException;
+import com.sparks.patient.service.CalendarService;
+
+/**
+ * API tests for Calendar Controller
+ */
+@WebMvcTest(CalendarController.class)
+@DisplayName("Calendar API Tests")
+class CalendarApiTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 2, 9);
+    private static final LocalDate TO = FROM.plusDays(2);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CalendarService calendarService;
+
+    @Test
+    @DisplayName("GET /api/v1/doctors/{id}/calendar - Should return the day sheet")
+    void testGetDoctorCalendar() throws Exception {
+        AppointmentResponse appointment = AppointmentResponse.builder()
+                .appointmentId("017f22e2-79b0-7cc3-98c4-dc0c0c07398f")
+                .doctorId(1L)
+                .appointmentTime(FROM.atTime(9, 30))
+                .status("SCHEDULED")
+                .build();
+        when(calendarService.getDoctorCalendar(1L, FROM, TO)).thenReturn(DoctorCalendarResponse.builder()
+                .doctorId(1L)
+                .doctorName("Dr. Smith")
+                .from(FROM)
+                .to(TO)
+                .days(List.of(
+                        CalendarDayResponse.builder()
+                                .date(FROM)
+                                .shifts(List.of(new TimeSlot(FROM.atTime(9, 0), FROM.atTime(12, 0))))
+                                .appointments(List.of(appointment))
+                                .build(),
+                        CalendarDayResponse.builder()
+                                .date(FROM.plusDays(1))
+                                .shifts(List.of())
+                                .appointments(List.of())
+                                .build()))
+                .build());
+
+        mockMvc.perform(get("/api/v1/doctors/{id}/calendar", 1L)
+                .param("from", "2026-02-09")
+                .param("to", "2026-02-11"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from").value("2026-02-09"))
+                .andExpect(jsonPath("$.days", hasSize(2)))
+                .andExpect(jsonPath("$.days[0].date").value("2026-02-09"))
+                .andExpect(jsonPath("$.days[0].shifts[0].start").value("2026-02-09T09:00:00"))
+                .andExpect(jsonPath("$.days[0].appointments", hasSize(1)))
+                .andExpect(jsonPath("$.days[1].appointments", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/doctors/{id}/calendar - Should return 404 for an unknown doctor")
+    void testGetDoctorCalendar_NotFound() throws Exception {
+        when(calendarService.getDoctorCalendar(eq(99L), any(), any()))
+                .thenThrow(new DoctorNotFoundException("Doctor not found with id: 99"));
+
+        mockMvc.perform(get("/api/v1/doctors/{id}/calendar", 99L)
+                .param("from", "2026-02-09")
+                .param("to", "2026-02-11"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/doctors/{id}/calendar - Should return 400 for an invalid range")
+    void testGetDoctorCalendar_InvalidRange() throws Exception {
+        when(calendarService.getDoctorCalendar(eq(1L), any(), any()))
+                .thenThrow(new InvalidTimeSlotException("'to' must be strictly after 'from'"));
+
+        mockMvc.perform(get("/api/v1/doctors/{id}/calendar", 1L)
+                .param("from", "2026-02-11")
+                .param("to", "2026-02-09"))
+                .andExpect(status().isBadRequest());
+    }
+}
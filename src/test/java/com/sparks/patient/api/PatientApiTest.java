@@ -1,6 +1,8 @@
 package com.sparks.patient.api;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
@@ -222,6 +224,82 @@ class PatientApiTest {
                 .body("timestamp", notNullValue());
         }
 
+        @Test
+        @DisplayName("GET /api/v1/patients/{id}/timeline - Should return profile and empty history")
+        void shouldReturnPatientTimeline() {
+            // Given
+            Patient savedPatient = patientRepository.save(Patient.builder()
+                    .firstName("John")
+                    .lastName("Doe")
+                    .dob(LocalDate.of(1990, 5, 15))
+                    .email("john.doe@example.com")
+                    .phone("+1234567890")
+                    .build());
+
+            // When/Then
+            given()
+            .when()
+                .get("/{id}/timeline", savedPatient.getId())
+            .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("patient.id", equalTo(savedPatient.getId().intValue()))
+                .body("patient.email", equalTo("john.doe@example.com"))
+                .body("appointments.content", hasSize(0))
+                .body("appointments.hasNext", equalTo(false));
+        }
+
+        @Test
+        @DisplayName("GET /api/v1/patients/{id}/timeline - Should return 404 for non-existent ID")
+        void shouldReturn404ForTimelineOfNonExistentId() {
+            given()
+            .when()
+                .get("/{id}/timeline", 99999)
+            .then()
+                .statusCode(HttpStatus.NOT_FOUND.value())
+                .body("message", equalTo("Patient not found with id: 99999"));
+        }
+
+        @Test
+        @DisplayName("GET /api/v1/patients/search?q= - Should find patients by partial, misspelled name")
+        void shouldSearchPatientsByName() {
+            // Given - created through the API so the name index sees them
+            for (PatientRequest request : new PatientRequest[] {
+                    PatientRequest.builder().firstName("Jonathan").lastName("Smith")
+                            .dob(LocalDate.of(1990, 5, 15)).email("jonathan.smith@example.com")
+                            .phone("+1234567890").build(),
+                    PatientRequest.builder().firstName("Jane").lastName("Smithers")
+                            .dob(LocalDate.of(1985, 3, 20)).email("jane.smithers@example.com")
+                            .phone("+9876543210").build()}) {
+                given()
+                    .contentType(ContentType.JSON)
+                    .body(request)
+                .when()
+                    .post()
+                .then()
+                    .statusCode(HttpStatus.CREATED.value());
+            }
+
+            // When/Then
+            given()
+                .queryParam("q", "JONATHNA smi")
+            .when()
+                .get("/search")
+            .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("$", hasSize(1))
+                .body("[0].email", equalTo("jonathan.smith@example.com"));
+
+            given()
+                .queryParam("q", "smith")
+            .when()
+                .get("/search")
+            .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("$", hasSize(2))
+                .body("[0].lastName", equalTo("Smith"))
+                .body("[1].lastName", equalTo("Smithers"));
+        }
+
         @Test
         @DisplayName("GET /api/v1/patients - Should return all patients")
         void shouldReturnAllPatients() {
@@ -370,4 +448,51 @@ class PatientApiTest {
                 .statusCode(HttpStatus.NOT_FOUND.value());
         }
     }
+
+    @Nested
+    @DisplayName("CSV Import API Tests")
+    class ImportPatientApiTests {
+
+        @Test
+        @DisplayName("POST /api/v1/patients/import - Should import valid rows and report the rest")
+        void shouldImportPatientsFromCsv() {
+            String csv = "firstName,lastName,dob,email,phone\n"
+                    + "John,Doe,1990-05-15,john.doe@example.com,+1234567890\n"
+                    + "Jane,Roe,1985-01-02,not-an-email,+1234567891\n"
+                    + "Johnny,Doe,1991-05-15,john.doe@example.com,+1234567892\n"
+                    + "Mary,Major,1975-03-04,mary.major@example.com,+1234567893\n";
+
+            given()
+                .contentType("text/csv")
+                .body(csv)
+            .when()
+                .post("/import")
+            .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("rows", equalTo(4))
+                .body("imported", equalTo(2))
+                .body("failed", equalTo(2))
+                .body("errors[0].line", equalTo(3))
+                .body("errors[0].error", containsString("email"))
+                .body("errors[1].line", equalTo(4))
+                .body("errors[1].error", containsString("Duplicate email"))
+                .body("errorsTruncated", equalTo(false));
+
+            assertThat(patientRepository.count()).isEqualTo(2);
+            assertThat(patientRepository.findByEmail("mary.major@example.com")).isPresent();
+        }
+
+        @Test
+        @DisplayName("POST /api/v1/patients/import - Should return 400 when the header lacks a column")
+        void shouldRejectCsvWithoutRequiredColumns() {
+            given()
+                .contentType("text/csv")
+                .body("firstName,lastName,email\nJohn,Doe,john.doe@example.com\n")
+            .when()
+                .post("/import")
+            .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("message", containsString("dob"));
+        }
+    }
 }
@@ -0,0 +1,132 @@
+package com.sparks.patient.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparks.patient.controller.IdempotencyStore;
+import com.sparks.patient.controller.SlotHoldController;
+import com.sparks.patient.dto.SlotHoldRequest;
+import com.sparks.patient.dto.SlotHoldResponse;
+import com.sparks.patient.exception.AppointmentConflictException;
+import com.sparks.patient.exception.SlotHoldNotFoundException;
+import com.sparks.patient.service.SlotHoldService;
+
+/**
+ * API tests for Slot Hold Controller
+ */
+@WebMvcTest(SlotHoldController.class)
+@Import(IdempotencyStore.class)
+@DisplayName("Slot Hold API Tests")
+class SlotHoldApiTest {
+
+    private static final String HOLD_ID = "5f0c6a1e-9b3e-4f57-a2a4-7d1c2f0b9e11";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private SlotHoldService slotHoldService;
+
+    private SlotHoldRequest request;
+    private SlotHoldResponse response;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime time = LocalDateTime.of(2026, 2, 10, 10, 0);
+        request = SlotHoldRequest.builder().doctorId(2L).appointmentTime(time).build();
+        response = SlotHoldResponse.builder()
+                .holdId(HOLD_ID)
+                .doctorId(2L)
+                .appointmentTime(time)
+                .expiresAt(LocalDateTime.of(2026, 2, 1, 9, 5))
+                .build();
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/holds - Should hold the slot")
+    void testCreateHold() throws Exception {
+        when(slotHoldService.createHold(any(SlotHoldRequest.class))).thenReturn(response);
+
+        mockMvc.perform(post("/api/v1/holds")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.holdId").value(HOLD_ID))
+                .andExpect(jsonPath("$.appointmentTime").value("2026-02-10T10:00:00"))
+                .andExpect(jsonPath("$.expiresAt").value("2026-02-01T09:05:00"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/holds - Should return 409 when the slot is taken")
+    void testCreateHold_Conflict() throws Exception {
+        when(slotHoldService.createHold(any(SlotHoldRequest.class)))
+                .thenThrow(new AppointmentConflictException("Doctor 2 has a slot hold overlapping 2026-02-10T10:00"));
+
+        mockMvc.perform(post("/api/v1/holds")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/holds - Should return 400 without a doctor")
+    void testCreateHold_InvalidRequest() throws Exception {
+        request.setDoctorId(null);
+
+        mockMvc.perform(post("/api/v1/holds")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/holds/{holdId} - Should return a live hold")
+    void testGetHold() throws Exception {
+        when(slotHoldService.getHold(HOLD_ID)).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/holds/{holdId}", HOLD_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.doctorId").value(2));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/holds/{holdId} - Should release the hold")
+    void testReleaseHold() throws Exception {
+        mockMvc.perform(delete("/api/v1/holds/{holdId}", HOLD_ID))
+                .andExpect(status().isNoContent());
+
+        verify(slotHoldService).releaseHold(HOLD_ID);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/holds/{holdId} - Should return 404 for an expired hold")
+    void testReleaseHold_NotFound() throws Exception {
+        doThrow(new SlotHoldNotFoundException(HOLD_ID)).when(slotHoldService).releaseHold(HOLD_ID);
+
+        mockMvc.perform(delete("/api/v1/holds/{holdId}", HOLD_ID))
+                .andExpect(status().isNotFound());
+    }
+}
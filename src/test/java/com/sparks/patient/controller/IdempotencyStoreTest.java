@@ -0,0 +1,145 @@
+package com.sparks.patient.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.sparks.patient.exception.AppointmentConflictException;
+import com.sparks.patient.exception.IdempotencyKeyMismatchException;
+import com.sparks.patient.exception.InvalidIdempotencyKeyException;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for IdempotencyStore - replay, coalescing and failure release
+ */
+@UnitTest
+@DisplayName("Idempotency Store Tests")
+class IdempotencyStoreTest {
+
+    private static final String SCOPE = "POST /api/appointments";
+
+    private final IdempotencyStore store = new IdempotencyStore();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private ResponseEntity<String> created() {
+        return ResponseEntity.status(HttpStatus.CREATED).body("appointment-" + executions.incrementAndGet());
+    }
+
+    @Test
+    @DisplayName("Should run the action every time when no key is sent")
+    void testNoKey() {
+        store.execute(SCOPE, null, "body", this::created);
+        store.execute(SCOPE, null, "body", this::created);
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep keys of different endpoints apart")
+    void testScopedKeys() {
+        store.execute(SCOPE, "key-1", "body", this::created);
+        store.execute("POST /api/v1/patients", "key-1", "body", this::created);
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject blank and oversized keys")
+    void testInvalidKey() {
+        assertThatThrownBy(() -> store.execute(SCOPE, " ", "body", this::created))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+        assertThatThrownBy(() -> store.execute(SCOPE, "k".repeat(IdempotencyStore.MAX_KEY_LENGTH + 1), "body",
+                this::created))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different body")
+    void testMismatch() {
+        store.execute(SCOPE, "key-2", "body", this::created);
+
+        assertThatThrownBy(() -> store.execute(SCOPE, "key-2", "other body", this::created))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should replay a bulk request kept as a digest, and reject a different one")
+    void testBulkDigest() {
+        List<String> items = List.of("item-1", "item-2");
+        store.execute(SCOPE, "key-5", new ArrayList<>(items), items.size(), this::created);
+
+        ResponseEntity<String> replayed = store.execute(SCOPE, "key-5", new ArrayList<>(items), items.size(),
+                this::created);
+
+        assertThat(replayed.getBody()).isEqualTo("appointment-1");
+        assertThat(replayed.getHeaders().containsKey(IdempotencyStore.REPLAYED_HEADER)).isTrue();
+        assertThatThrownBy(() -> store.execute(SCOPE, "key-5", List.of("item-1", "item-3"), 2, this::created))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should release the key when the action fails")
+    void testFailureReleasesKey() {
+        assertThatThrownBy(() -> store.execute(SCOPE, "key-3", "body", () -> {
+            throw new AppointmentConflictException("taken");
+        })).isInstanceOf(AppointmentConflictException.class);
+
+        ResponseEntity<String> retried = store.execute(SCOPE, "key-3", "body", this::created);
+
+        assertThat(retried.getBody()).isEqualTo("appointment-1");
+        assertThat(retried.getHeaders().containsKey(IdempotencyStore.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent duplicates onto one execution")
+    void testConcurrentDuplicatesCoalesced() throws Exception {
+        // Given - the first execution blocks until every duplicate has been submitted
+        int duplicates = 16;
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(duplicates);
+        List<Future<ResponseEntity<String>>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < duplicates; i++) {
+            futures.add(executor.submit(() -> store.execute(SCOPE, "key-4", "body", () -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return created();
+            })));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // Then
+        int replayed = 0;
+        for (Future<ResponseEntity<String>> future : futures) {
+            ResponseEntity<String> response = future.get(10, TimeUnit.SECONDS);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(response.getBody()).isEqualTo("appointment-1");
+            if (response.getHeaders().containsKey(IdempotencyStore.REPLAYED_HEADER)) {
+                replayed++;
+            }
+        }
+        executor.shutdown();
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(replayed).isEqualTo(duplicates - 1);
+    }
+}
@@ -0,0 +1,152 @@
+package com.sparks.patient.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.sparks.patient.dto.AppointmentRequest;
+import com.sparks.patient.entity.Doctor;
+import com.sparks.patient.entity.Patient;
+import com.sparks.patient.entity.Shift;
+import com.sparks.patient.exception.AppointmentConflictException;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.DoctorRepository;
+import com.sparks.patient.repository.PatientRepository;
+import com.sparks.patient.repository.ShiftRepository;
+import com.sparks.patient.service.AppointmentService;
+import com.sparks.patient.test.IntegrationTest;
+
+/**
+ * Concurrency stress test for double-booking prevention.
+ *
+ * Fires many parallel bookings at a handful of slots; every request in a slot group overlaps
+ * every other one in the same group, so exactly one booking per slot may win.
+ * Isolated because other integration classes wipe the same tables concurrently.
+ */
+@IntegrationTest
+@Isolated
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@TestPropertySource(properties = {"spring.jpa.show-sql=false", "logging.level.org.hibernate.SQL=ERROR",
+        "logging.level.com.sparks.patient=WARN"})
+@DisplayName("Appointment Concurrency Integration Tests")
+class AppointmentConcurrencyIntegrationTest {
+
+    private static final int SLOTS = 10;
+    private static final int ATTEMPTS_PER_SLOT = 200;
+    private static final int THREADS = 32;
+    private static final int[] OFFSETS_MINUTES = {0, 10, 20};
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private ShiftRepository shiftRepository;
+
+    private Patient patient;
+    private Doctor doctor;
+
+    @BeforeEach
+    void setUp() {
+        appointmentRepository.deleteAll();
+        patientRepository.deleteAll();
+        doctorRepository.deleteAll();
+
+        patient = patientRepository.save(Patient.builder()
+                .firstName("Jane")
+                .lastName("Roe")
+                .email("jane.roe.concurrency@test.com")
+                .phone("+1987654321")
+                .dob(LocalDate.of(1985, 5, 5))
+                .build());
+
+        doctor = doctorRepository.save(Doctor.builder()
+                .fullName("Dr. Busy")
+                .licenseNumber("LIC-CONCURRENCY-1")
+                .specialization("General Practice")
+                .deptId(1L)
+                .build());
+
+        shiftRepository.save(Shift.builder()
+                .doctorId(doctor.getId())
+                .startTime(LocalTime.of(8, 0))
+                .endTime(LocalTime.of(18, 0))
+                .room("Room CONC-1")
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many parallel overlapping bookings win per slot")
+    void testParallelBookings_ExactlyOneWinnerPerSlot() throws Exception {
+        // Given - slots an hour apart; offsets within a slot are less than one duration apart
+        LocalDateTime firstSlot = LocalDate.now().plusDays(2).atTime(8, 0);
+        Map<LocalDateTime, AtomicInteger> winners = new ConcurrentHashMap<>();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int attempt = 0; attempt < ATTEMPTS_PER_SLOT; attempt++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                LocalDateTime slotStart = firstSlot.plusHours(slot);
+                LocalDateTime time = slotStart.plusMinutes(OFFSETS_MINUTES[attempt % OFFSETS_MINUTES.length]);
+                AppointmentRequest request = AppointmentRequest.builder()
+                        .patientId(patient.getId())
+                        .doctorId(doctor.getId())
+                        .appointmentTime(time)
+                        .build();
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        appointmentService.createAppointment(request);
+                        winners.computeIfAbsent(slotStart, key -> new AtomicInteger()).incrementAndGet();
+                    } catch (AppointmentConflictException ex) {
+                        conflicts.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+        }
+
+        // When
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(winners).hasSize(SLOTS);
+        assertThat(winners.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+        assertThat(conflicts.get()).isEqualTo(SLOTS * ATTEMPTS_PER_SLOT - SLOTS);
+        assertThat(appointmentRepository.findByDoctorId(doctor.getId())).hasSize(SLOTS);
+    }
+}
@@ -1,6 +1,7 @@
 package com.sparks.patient.integration;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.matchesPattern;
@@ -8,7 +9,9 @@ import static org.hamcrest.Matchers.notNullValue;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,11 +25,15 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.sparks.patient.dto.AppointmentRequest;
+import com.sparks.patient.dto.AppointmentStatusUpdateRequest;
+import com.sparks.patient.entity.Appointment;
 import com.sparks.patient.entity.Doctor;
 import com.sparks.patient.entity.Patient;
+import com.sparks.patient.entity.Shift;
 import com.sparks.patient.repository.AppointmentRepository;
 import com.sparks.patient.repository.DoctorRepository;
 import com.sparks.patient.repository.PatientRepository;
+import com.sparks.patient.repository.ShiftRepository;
 import com.sparks.patient.test.IntegrationTest;
 
 import io.restassured.RestAssured;
@@ -52,8 +59,12 @@ class AppointmentIntegrationTest {
     @Autowired
     private AppointmentRepository appointmentRepository;
 
+    @Autowired
+    private ShiftRepository shiftRepository;
+
     private Patient patient;
     private Doctor doctor;
+    private LocalDateTime appointmentTime;
 
     @BeforeEach
     void setUp() {
@@ -79,13 +90,21 @@ class AppointmentIntegrationTest {
                 .specialization("Cardiology")
                 .deptId(1L)
                 .build());
+
+        // Bookings must fall inside one of the doctor's shifts
+        shiftRepository.save(Shift.builder()
+                .doctorId(doctor.getId())
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(17, 0))
+                .room("Room INT-1")
+                .build());
+        appointmentTime = LocalDate.now().plusDays(1).atTime(10, 0);
     }
 
     @Test
     @DisplayName("Should create appointment and generate UUID")
     void testCreateAppointment_Integration() {
         // Given
-        LocalDateTime appointmentTime = LocalDateTime.now().plusDays(1);
         AppointmentRequest request = AppointmentRequest.builder()
                 .patientId(patient.getId())
                 .doctorId(doctor.getId())
@@ -119,6 +138,95 @@ class AppointmentIntegrationTest {
                 .body("appointmentId", equalTo(appointmentId));
     }
 
+    @Test
+    @DisplayName("Should return 409 when the doctor is already booked at that time")
+    void testCreateAppointment_DoubleBooking() {
+        // Given
+        AppointmentRequest request = AppointmentRequest.builder()
+                .patientId(patient.getId())
+                .doctorId(doctor.getId())
+                .appointmentTime(appointmentTime)
+                .build();
+        AppointmentRequest overlapping = AppointmentRequest.builder()
+                .patientId(patient.getId())
+                .doctorId(doctor.getId())
+                .appointmentTime(appointmentTime.plusMinutes(15))
+                .build();
+
+        given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(request)
+                .post()
+        .then()
+                .statusCode(HttpStatus.CREATED.value());
+
+        // When & Then
+        given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(overlapping)
+        .when()
+                .post()
+        .then()
+                .statusCode(HttpStatus.CONFLICT.value());
+    }
+
+    @Test
+    @DisplayName("Should accept a booking in every slot offered at 15 minute granularity")
+    void testCreateAppointment_EveryOfferedSlot() {
+        // Given - a booking at 09:30 and a shift ending at 17:00, neither a multiple of 30 minutes away
+        LocalDate day = appointmentTime.toLocalDate();
+        given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(AppointmentRequest.builder()
+                        .patientId(patient.getId())
+                        .doctorId(doctor.getId())
+                        .appointmentTime(day.atTime(9, 30))
+                        .build())
+                .post()
+        .then()
+                .statusCode(HttpStatus.CREATED.value());
+
+        List<String> starts = given()
+                .basePath("/api/v1")
+                .queryParam("from", day.atStartOfDay().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .queryParam("to", day.plusDays(1).atStartOfDay().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .queryParam("slotMinutes", 15)
+        .when()
+                .get("/doctors/{id}/availability", doctor.getId())
+        .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .path("slots.start");
+
+        assertThat(starts.stream().map(LocalDateTime::parse)).isNotEmpty()
+                .doesNotContain(day.atTime(9, 15), day.atTime(16, 45));
+
+        // When & Then - each offered slot can be booked; cancelling frees it again for the next one
+        for (String start : starts) {
+            String appointmentId = given()
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .body(AppointmentRequest.builder()
+                            .patientId(patient.getId())
+                            .doctorId(doctor.getId())
+                            .appointmentTime(LocalDateTime.parse(start))
+                            .build())
+                    .post()
+            .then()
+                    .statusCode(HttpStatus.CREATED.value())
+                    .extract()
+                    .path("appointmentId");
+
+            given()
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .body(AppointmentStatusUpdateRequest.builder()
+                            .status(Appointment.AppointmentStatus.CANCELLED)
+                            .build())
+                    .patch("/{appointmentId}/status", appointmentId)
+            .then()
+                    .statusCode(HttpStatus.OK.value());
+        }
+    }
+
     @Test
     @DisplayName("Should return 404 when patient not found")
     void testCreateAppointment_PatientNotFound() {
@@ -126,7 +234,7 @@ class AppointmentIntegrationTest {
         AppointmentRequest request = AppointmentRequest.builder()
                 .patientId(999L)
                 .doctorId(doctor.getId())
-                .appointmentTime(LocalDateTime.now().plusDays(1))
+                .appointmentTime(appointmentTime)
                 .build();
 
         // When & Then
@@ -147,7 +255,7 @@ class AppointmentIntegrationTest {
         AppointmentRequest request = AppointmentRequest.builder()
                 .patientId(patient.getId())
                 .doctorId(999L)
-                .appointmentTime(LocalDateTime.now().plusDays(1))
+                .appointmentTime(appointmentTime)
                 .build();
 
         // When & Then
@@ -168,7 +276,7 @@ class AppointmentIntegrationTest {
         AppointmentRequest request = AppointmentRequest.builder()
                 .patientId(patient.getId())
                 .doctorId(doctor.getId())
-                .appointmentTime(LocalDateTime.now().plusDays(1))
+                .appointmentTime(appointmentTime)
                 .build();
 
         given()
@@ -194,7 +302,7 @@ class AppointmentIntegrationTest {
         AppointmentRequest request = AppointmentRequest.builder()
                 .patientId(patient.getId())
                 .doctorId(doctor.getId())
-                .appointmentTime(LocalDateTime.now().plusDays(1))
+                .appointmentTime(appointmentTime)
                 .build();
 
         given()
@@ -337,6 +337,26 @@ class PatientIntegrationTest {
                     .andExpect(jsonPath("$.email").value("john.doe@example.com"));
         }
 
+        @Test
+        @DisplayName("GET /api/v1/patients/search?phone={phone} ignores the number's formatting")
+        void shouldSearchPatientByFormattedPhone() throws Exception {
+            // Given
+            Patient savedPatient = patientRepository.save(Patient.builder()
+                    .firstName("John")
+                    .lastName("Doe")
+                    .dob(LocalDate.of(1990, 5, 15))
+                    .email("john.doe@example.com")
+                    .phone("1234567890")
+                    .build());
+
+            // When/Then
+            mockMvc.perform(get("/api/v1/patients/search")
+                    .param("phone", "+1 (234) 567-890"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(savedPatient.getId()))
+                    .andExpect(jsonPath("$.phone").value("1234567890"));
+        }
+
         @Test
         @DisplayName("GET /api/v1/patients/search returns 404 when phone not found")
         void shouldReturn404WhenPhoneNotFound() throws Exception {
@@ -1,28 +1,48 @@
 package com.sparks.patient.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceException;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 
+import com.sparks.patient.dto.AppointmentFilter;
+import com.sparks.patient.dto.AppointmentReminder;
+import com.sparks.patient.dto.AppointmentResponse;
 import com.sparks.patient.entity.Appointment;
 import com.sparks.patient.entity.Doctor;
 import com.sparks.patient.entity.Patient;
+import com.sparks.patient.entity.ReminderDelivery;
+import com.sparks.patient.mapper.AppointmentMapper;
 
 import java.time.LocalDate;
 
 /**
  * Repository tests for Appointment - SCRUM-23
  */
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @DisplayName("Appointment Repository Tests")
 class AppointmentRepositoryTest {
 
@@ -32,6 +52,11 @@ class AppointmentRepositoryTest {
     @Autowired
     private AppointmentRepository appointmentRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final AppointmentMapper appointmentMapper = new AppointmentMapper();
+
     private Patient patient;
     private Doctor doctor;
 
@@ -216,4 +241,533 @@ class AppointmentRepositoryTest {
         assertThat(appointments).hasSize(1);
         assertThat(appointments.get(0).getAppointmentTime()).isEqualTo(tomorrow);
     }
+
+    @Test
+    @DisplayName("Should read all appointments with patient and doctor names in a single statement")
+    void testFindAllResponses_SingleStatement() {
+        // Given
+        persistAppointments(patient, doctor, 1);
+        long statementsForOne = countStatementsForResponseRead(() -> appointmentRepository.findAllResponses());
+
+        persistAppointments(createPatient("jane.roe@test.com"), createDoctor("LIC654321"), 25);
+        long statementsForMany = countStatementsForResponseRead(() -> appointmentRepository.findAllResponses());
+
+        // Then
+        assertThat(statementsForOne).isEqualTo(1);
+        assertThat(statementsForMany).isEqualTo(statementsForOne);
+    }
+
+    @Test
+    @DisplayName("Should load doctor appointments without per-row lazy loads")
+    void testFindByDoctorId_StatementCountConstant() {
+        // Given
+        persistAppointments(patient, doctor, 2);
+        long statementsForFew = countStatementsForMappedRead(
+                () -> appointmentRepository.findByDoctorId(doctor.getId()));
+
+        persistAppointments(createPatient("jane.roe@test.com"), doctor, 30);
+        long statementsForMany = countStatementsForMappedRead(
+                () -> appointmentRepository.findByDoctorId(doctor.getId()));
+
+        // Then
+        assertThat(statementsForFew).isEqualTo(1);
+        assertThat(statementsForMany).isEqualTo(statementsForFew);
+    }
+
+    @Test
+    @DisplayName("Should load patient appointments without per-row lazy loads")
+    void testFindByPatientId_StatementCountConstant() {
+        // Given
+        persistAppointments(patient, doctor, 2);
+        persistAppointments(patient, createDoctor("LIC654321"), 30);
+
+        // When
+        long statements = countStatementsForMappedRead(
+                () -> appointmentRepository.findByPatientId(patient.getId()));
+
+        // Then
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should load appointment by UUID with patient and doctor in a single statement")
+    void testFindByAppointmentId_SingleStatement() {
+        // Given
+        List<Appointment> saved = persistAppointments(patient, doctor, 1);
+        String appointmentId = saved.get(0).getAppointmentId();
+
+        // When
+        long statements = countStatementsForMappedRead(
+                () -> List.of(appointmentRepository.findByAppointmentId(appointmentId).orElseThrow()));
+
+        // Then
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should page appointments by seeking after (appointmentTime, id)")
+    void testFindResponses_SeeksPastCursor() {
+        // Given - two appointments (with different doctors) share the same time to exercise the id tie-breaker
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 9, 0);
+        Appointment first = persistAt(base);
+        Appointment tieA = persistAt(base.plusHours(1));
+        Appointment tieB = persistAt(base.plusHours(1), createDoctor("LIC-TIE-001"));
+        Appointment last = persistAt(base.plusHours(2));
+        Specification<Appointment> byPatient = AppointmentSpecifications.matching(
+                AppointmentFilter.builder().patientId(patient.getId()).build());
+
+        // When
+        List<AppointmentResponse> page1 = appointmentRepository.findResponses(byPatient, 2);
+        AppointmentResponse tail = page1.get(page1.size() - 1);
+        List<AppointmentResponse> page2 = appointmentRepository.findResponses(
+                byPatient.and(AppointmentSpecifications.after(tail.getAppointmentTime(), tail.getId())), 2);
+
+        // Then
+        assertThat(page1).extracting(AppointmentResponse::getId).containsExactly(first.getId(), tieA.getId());
+        assertThat(page2).extracting(AppointmentResponse::getId).containsExactly(tieB.getId(), last.getId());
+    }
+
+    @Test
+    @DisplayName("Should apply status and time range filters to appointment page")
+    void testFindResponses_Filters() {
+        // Given
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 9, 0);
+        persistAt(base);
+        Appointment inRange = persistAt(base.plusDays(1));
+        persistAt(base.plusDays(2));
+        Appointment cancelled = persistAt(base.plusDays(1).plusHours(1));
+        cancelled.setStatus(Appointment.AppointmentStatus.CANCELLED);
+        entityManager.flush();
+
+        // When
+        List<AppointmentResponse> page = appointmentRepository.findResponses(
+                AppointmentSpecifications.matching(AppointmentFilter.builder()
+                        .patientId(patient.getId())
+                        .status(Appointment.AppointmentStatus.SCHEDULED)
+                        .from(base.plusDays(1))
+                        .to(base.plusDays(2))
+                        .build()), 10);
+
+        // Then
+        assertThat(page).extracting(AppointmentResponse::getId).containsExactly(inRange.getId());
+    }
+
+    @Test
+    @DisplayName("Should reject a second live appointment of the doctor at the same time")
+    void testActiveSlotUniqueConstraint() {
+        // Given
+        LocalDateTime time = LocalDateTime.of(2030, 3, 1, 9, 0);
+        persistAt(time);
+
+        // When & Then
+        assertThatThrownBy(() -> persistAt(time)).isInstanceOf(PersistenceException.class);
+    }
+
+    @Test
+    @DisplayName("Should free the slot of a cancelled appointment")
+    void testActiveSlotReleasedOnCancel() {
+        // Given
+        LocalDateTime time = LocalDateTime.of(2030, 3, 1, 9, 0);
+        Appointment cancelled = persistAt(time);
+        cancelled.setStatus(Appointment.AppointmentStatus.CANCELLED);
+        entityManager.flush();
+
+        // When
+        Appointment rebooked = persistAt(time);
+
+        // Then
+        assertThat(cancelled.getActiveSlot()).isNull();
+        assertThat(rebooked.getActiveSlot()).isEqualTo(time);
+    }
+
+    @Test
+    @DisplayName("Should detect overlapping live appointments of the doctor")
+    void testExistsOverlapping() {
+        // Given
+        LocalDateTime time = LocalDateTime.of(2030, 3, 1, 9, 0);
+        persistAt(time);
+        Appointment cancelled = persistAt(time.plusHours(2));
+        cancelled.setStatus(Appointment.AppointmentStatus.CANCELLED);
+        entityManager.flush();
+        Appointment.AppointmentStatus excluded = Appointment.AppointmentStatus.CANCELLED;
+
+        // When & Then
+        assertThat(appointmentRepository.existsOverlapping(
+                doctor.getId(), time.minusMinutes(10), time.plusMinutes(50), excluded)).isTrue();
+        assertThat(appointmentRepository.existsOverlapping(
+                doctor.getId(), time, time.plusMinutes(60), excluded)).isFalse();
+        assertThat(appointmentRepository.existsOverlapping(
+                doctor.getId(), time.plusMinutes(90), time.plusMinutes(150), excluded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should change a doctor's day in one update, bumping versions and skipping terminal rows")
+    void testUpdateStatusForDoctorBetween() {
+        // Given
+        LocalDateTime day = LocalDateTime.of(2030, 4, 1, 0, 0);
+        Appointment morning = persistAt(day.withHour(9));
+        Appointment cancelled = persistAt(day.withHour(11));
+        cancelled.setStatus(Appointment.AppointmentStatus.CANCELLED);
+        Appointment nextDay = persistAt(day.plusDays(1).withHour(9));
+        entityManager.flush();
+        Set<Appointment.AppointmentStatus> sources =
+                Appointment.AppointmentStatus.sourcesOf(Appointment.AppointmentStatus.COMPLETED);
+
+        // When
+        int updated = appointmentRepository.updateStatusForDoctorBetween(doctor.getId(), day, day.plusDays(1),
+                sources, Appointment.AppointmentStatus.COMPLETED, LocalDateTime.now());
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        Appointment reloaded = entityManager.find(Appointment.class, morning.getId());
+        assertThat(reloaded.getStatus()).isEqualTo(Appointment.AppointmentStatus.COMPLETED);
+        assertThat(reloaded.getVersion()).isEqualTo(1L);
+        assertThat(entityManager.find(Appointment.class, cancelled.getId()).getStatus())
+                .isEqualTo(Appointment.AppointmentStatus.CANCELLED);
+        assertThat(entityManager.find(Appointment.class, nextDay.getId()).getStatus())
+                .isEqualTo(Appointment.AppointmentStatus.SCHEDULED);
+    }
+
+    @Test
+    @DisplayName("Should release active slots when cancelling a doctor's day")
+    void testCancelForDoctorBetween() {
+        // Given
+        LocalDateTime day = LocalDateTime.of(2030, 4, 1, 0, 0);
+        Appointment morning = persistAt(day.withHour(9));
+        Set<Appointment.AppointmentStatus> sources =
+                Appointment.AppointmentStatus.sourcesOf(Appointment.AppointmentStatus.CANCELLED);
+
+        // When
+        int updated = appointmentRepository.cancelForDoctorBetween(doctor.getId(), day, day.plusDays(1),
+                sources, Appointment.AppointmentStatus.CANCELLED, LocalDateTime.now());
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        Appointment reloaded = entityManager.find(Appointment.class, morning.getId());
+        assertThat(reloaded.getStatus()).isEqualTo(Appointment.AppointmentStatus.CANCELLED);
+        assertThat(reloaded.getActiveSlot()).isNull();
+        assertThat(persistAt(day.withHour(9)).getId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should count live appointments per doctor, day and status for the statistics counters")
+    void testCountPerGroup() {
+        // Given
+        LocalDateTime day = LocalDateTime.of(2030, 4, 1, 0, 0);
+        Doctor other = createDoctor("LIC-STATS");
+        persistAt(day.withHour(9));
+        Appointment confirmed = persistAt(day.withHour(10));
+        confirmed.setStatus(Appointment.AppointmentStatus.CONFIRMED);
+        persistAt(day.plusDays(1).withHour(9), other);
+        entityManager.flush();
+
+        // When
+        List<DoctorAppointmentCount> doctors = appointmentRepository.countPerDoctor();
+        List<DayAppointmentCount> days = appointmentRepository.countPerDay();
+        List<StatusAppointmentCount> statuses = appointmentRepository.countPerStatus();
+        List<StatusAppointmentCount> doctorDay = appointmentRepository.countPerStatusForDoctorBetween(
+                doctor.getId(), day, day.plusDays(1));
+
+        // Then
+        assertThat(doctors).extracting(DoctorAppointmentCount::getDoctorId, DoctorAppointmentCount::getTotal)
+                .containsExactlyInAnyOrder(tuple(doctor.getId(), 2L), tuple(other.getId(), 1L));
+        assertThat(days).extracting(DayAppointmentCount::getAppointmentDay, DayAppointmentCount::getTotal)
+                .containsExactlyInAnyOrder(tuple(1, 2L), tuple(2, 1L));
+        assertThat(statuses).extracting(StatusAppointmentCount::getStatus, StatusAppointmentCount::getTotal)
+                .containsExactlyInAnyOrder(tuple(Appointment.AppointmentStatus.SCHEDULED, 2L),
+                        tuple(Appointment.AppointmentStatus.CONFIRMED, 1L));
+        assertThat(doctorDay).extracting(StatusAppointmentCount::getStatus, StatusAppointmentCount::getTotal)
+                .containsExactlyInAnyOrder(tuple(Appointment.AppointmentStatus.SCHEDULED, 1L),
+                        tuple(Appointment.AppointmentStatus.CONFIRMED, 1L));
+    }
+
+    @Test
+    @DisplayName("Should project appointment by UUID to the same response as the mapper without managing entities")
+    void testFindResponseByAppointmentId_MatchesMapper() {
+        // Given
+        Appointment saved = persistAt(LocalDateTime.of(2030, 1, 1, 9, 0));
+        entityManager.clear();
+        AppointmentResponse expected = appointmentMapper.toResponse(
+                appointmentRepository.findByAppointmentId(saved.getAppointmentId()).orElseThrow());
+        entityManager.clear();
+
+        // When
+        Optional<AppointmentResponse> found = appointmentRepository.findResponseByAppointmentId(saved.getAppointmentId());
+
+        // Then
+        assertThat(found).contains(expected);
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should page projected appointments in (appointmentTime, id) order without managed entities")
+    void testFindResponses_ProjectedPage() {
+        // Given
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 9, 0);
+        Appointment first = persistAt(base);
+        Appointment tieA = persistAt(base.plusHours(1));
+        Appointment tieB = persistAt(base.plusHours(1), createDoctor("LIC-TIE-002"));
+        entityManager.clear();
+
+        // When
+        List<AppointmentResponse> page = appointmentRepository.findResponses(AppointmentSpecifications.matching(
+                AppointmentFilter.builder().patientId(patient.getId()).build()), 10);
+
+        // Then
+        assertThat(page).extracting(AppointmentResponse::getId)
+                .containsExactly(first.getId(), tieA.getId(), tieB.getId());
+        assertThat(page).allMatch(r -> "John Doe".equals(r.getPatientName()) && "SCHEDULED".equals(r.getStatus()));
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should search by any combination of filters and continue after a keyset position")
+    void testFindResponses_CombinedFilters() {
+        // Given
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 9, 0);
+        Doctor otherDept = createDoctor("LIC-SEARCH-1");
+        Patient otherPatient = createPatient("search.other@test.com");
+        Appointment first = persistAt(base);
+        Appointment confirmed = persistAt(base.plusHours(1));
+        confirmed.setStatus(Appointment.AppointmentStatus.CONFIRMED);
+        Appointment otherDoctor = persistAt(base.plusHours(1), otherDept);
+        entityManager.persist(Appointment.builder()
+                .patient(otherPatient)
+                .doctor(doctor)
+                .appointmentTime(base.plusHours(2))
+                .build());
+        persistAt(base.plusDays(1));
+        entityManager.clear();
+
+        // When
+        List<AppointmentResponse> patientAndDoctor = appointmentRepository.findResponses(
+                AppointmentSpecifications.matching(AppointmentFilter.builder()
+                        .patientId(patient.getId())
+                        .doctorId(doctor.getId())
+                        .from(base)
+                        .to(base.plusDays(1))
+                        .build()), 10);
+        List<AppointmentResponse> byDepartment = appointmentRepository.findResponses(
+                AppointmentSpecifications.matching(AppointmentFilter.builder()
+                        .deptId(otherDept.getDeptId())
+                        .build()), 10);
+        List<AppointmentResponse> byPatientStatus = appointmentRepository.findResponses(
+                AppointmentSpecifications.matching(AppointmentFilter.builder()
+                        .patientId(patient.getId())
+                        .status(Appointment.AppointmentStatus.CONFIRMED)
+                        .build()), 10);
+        List<AppointmentResponse> afterFirst = appointmentRepository.findResponses(
+                AppointmentSpecifications.matching(AppointmentFilter.builder().patientId(patient.getId()).build())
+                        .and(AppointmentSpecifications.after(first.getAppointmentTime(), first.getId())), 2);
+
+        // Then
+        assertThat(patientAndDoctor).extracting(AppointmentResponse::getId)
+                .containsExactly(first.getId(), confirmed.getId());
+        assertThat(byDepartment).extracting(AppointmentResponse::getId).containsExactly(otherDoctor.getId());
+        assertThat(byPatientStatus).extracting(AppointmentResponse::getStatus).containsExactly("CONFIRMED");
+        assertThat(afterFirst).extracting(AppointmentResponse::getAppointmentTime)
+                .containsExactly(base.plusHours(1), base.plusHours(1));
+        assertThat(patientAndDoctor).allMatch(r -> "John Doe".equals(r.getPatientName())
+                && "Dr. Smith".equals(r.getDoctorName()));
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should move finished appointments to the archive and read them back only for history")
+    void testArchiveAndHistory() {
+        // Given
+        LocalDateTime old = LocalDateTime.of(2020, 1, 6, 9, 0);
+        Appointment completed = persistAt(old);
+        completed.setStatus(Appointment.AppointmentStatus.COMPLETED);
+        Appointment cancelled = persistAt(old.plusDays(1));
+        cancelled.setStatus(Appointment.AppointmentStatus.CANCELLED);
+        Appointment unfinished = persistAt(old.plusDays(2));
+        Appointment upcoming = persistAt(LocalDateTime.of(2030, 1, 1, 9, 0));
+        entityManager.flush();
+
+        // When
+        List<ArchivableAppointment> archivable = appointmentRepository.findArchivable(
+                LocalDateTime.of(2021, 1, 1, 0, 0),
+                EnumSet.of(Appointment.AppointmentStatus.COMPLETED, Appointment.AppointmentStatus.CANCELLED),
+                PageRequest.of(0, 10));
+        List<Long> ids = archivable.stream().map(ArchivableAppointment::getId).collect(Collectors.toList());
+        int copied = appointmentRepository.copyToArchive(ids, LocalDateTime.now());
+        appointmentRepository.deleteAllByIdInBatch(ids);
+        entityManager.clear();
+
+        // Then
+        assertThat(ids).containsExactly(completed.getId(), cancelled.getId());
+        assertThat(archivable.get(0).getDoctorId()).isEqualTo(doctor.getId());
+        assertThat(copied).isEqualTo(2);
+        assertThat(appointmentRepository.findResponsesByPatientId(patient.getId(), false))
+                .extracting(AppointmentResponse::getId)
+                .containsExactlyInAnyOrder(unfinished.getId(), upcoming.getId());
+        assertThat(appointmentRepository.findResponsesByPatientId(patient.getId(), true))
+                .extracting(AppointmentResponse::getId)
+                .containsExactly(completed.getId(), cancelled.getId(), unfinished.getId(), upcoming.getId());
+        assertThat(appointmentRepository.findResponsesByDoctorId(doctor.getId(), true)).hasSize(4);
+        assertThat(appointmentRepository.findResponseByAppointmentId(completed.getAppointmentId())).isEmpty();
+        assertThat(appointmentRepository.findArchivedResponseByAppointmentId(completed.getAppointmentId()))
+                .get()
+                .extracting(AppointmentResponse::getStatus)
+                .isEqualTo("COMPLETED");
+    }
+
+    @Test
+    @DisplayName("Should page a patient's live and archived history newest first")
+    void testFindHistoryBefore() {
+        // Given
+        LocalDateTime old = LocalDateTime.of(2020, 1, 6, 9, 0);
+        Appointment archived = persistAt(old);
+        archived.setStatus(Appointment.AppointmentStatus.COMPLETED);
+        Appointment unfinished = persistAt(old.plusDays(1));
+        Appointment upcoming = persistAt(LocalDateTime.of(2030, 1, 1, 9, 0));
+        Appointment otherDoctor = persistAt(upcoming.getAppointmentTime(), createDoctor("LIC-HISTORY-1"));
+        entityManager.flush();
+        appointmentRepository.copyToArchive(List.of(archived.getId()), LocalDateTime.now());
+        appointmentRepository.deleteAllByIdInBatch(List.of(archived.getId()));
+        entityManager.clear();
+        LocalDateTime end = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+        // When
+        List<AppointmentResponse> first = appointmentRepository.findHistoryBefore(
+                patient.getId(), end, Long.MAX_VALUE, 3);
+        AppointmentResponse last = first.get(first.size() - 1);
+        List<AppointmentResponse> rest = appointmentRepository.findHistoryBefore(
+                patient.getId(), last.getAppointmentTime(), last.getId(), 3);
+
+        // Then
+        Long newer = Math.max(upcoming.getId(), otherDoctor.getId());
+        Long older = Math.min(upcoming.getId(), otherDoctor.getId());
+        assertThat(first).extracting(AppointmentResponse::getId).containsExactly(newer, older, unfinished.getId());
+        assertThat(rest).extracting(AppointmentResponse::getId).containsExactly(archived.getId());
+        assertThat(rest.get(0).getStatus()).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    @DisplayName("Should find appointments due a reminder in keyset order, skipping delivered ones")
+    void testFindReminderCandidates() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2030, 3, 4, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+        Appointment due = persistAt(from.withHour(9));
+        Appointment sent = persistAt(from.withHour(10));
+        Appointment retry = persistAt(from.withHour(11));
+        Appointment exhausted = persistAt(from.withHour(12));
+        Appointment cancelled = persistAt(from.withHour(13));
+        cancelled.setStatus(Appointment.AppointmentStatus.CANCELLED);
+        persistAt(to.withHour(9));
+        entityManager.persist(delivery(sent, ReminderDelivery.DeliveryStatus.SENT, 1));
+        entityManager.persist(delivery(retry, ReminderDelivery.DeliveryStatus.FAILED, 1));
+        entityManager.persist(delivery(exhausted, ReminderDelivery.DeliveryStatus.FAILED, 3));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<AppointmentReminder> first = appointmentRepository.findReminderCandidates(from, Long.MIN_VALUE, to,
+                EnumSet.of(Appointment.AppointmentStatus.SCHEDULED, Appointment.AppointmentStatus.CONFIRMED),
+                ReminderDelivery.DeliveryStatus.FAILED, 3, PageRequest.of(0, 1));
+        List<AppointmentReminder> next = appointmentRepository.findReminderCandidates(
+                first.get(0).getAppointmentTime(), first.get(0).getId(), to,
+                EnumSet.of(Appointment.AppointmentStatus.SCHEDULED, Appointment.AppointmentStatus.CONFIRMED),
+                ReminderDelivery.DeliveryStatus.FAILED, 3, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(first).extracting(AppointmentReminder::getId).containsExactly(due.getId());
+        assertThat(first.get(0).getPatientEmail()).isEqualTo("john.doe@test.com");
+        assertThat(first.get(0).getPatientName()).isEqualTo("John Doe");
+        assertThat(first.get(0).getAppointmentId()).isEqualTo(due.getAppointmentId());
+        assertThat(next).extracting(AppointmentReminder::getId).containsExactly(retry.getId());
+    }
+
+    private ReminderDelivery delivery(Appointment appointment, ReminderDelivery.DeliveryStatus status, int attempts) {
+        return ReminderDelivery.builder()
+                .id(appointment.getId())
+                .appointmentTime(appointment.getAppointmentTime())
+                .status(status)
+                .attempts(attempts)
+                .build();
+    }
+
+    private int managedEntityCount() {
+        return entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount();
+    }
+
+    private Appointment persistAt(LocalDateTime appointmentTime) {
+        return persistAt(appointmentTime, doctor);
+    }
+
+    private Appointment persistAt(LocalDateTime appointmentTime, Doctor attending) {
+        Appointment appointment = entityManager.persist(Appointment.builder()
+                .patient(patient)
+                .doctor(attending)
+                .appointmentTime(appointmentTime)
+                .build());
+        entityManager.flush();
+        return appointment;
+    }
+
+    /**
+     * Runs the read against an empty persistence context, maps every row the way the
+     * service layer does and returns the number of JDBC statements that were prepared.
+     */
+    private long countStatementsForMappedRead(Supplier<List<Appointment>> read) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<AppointmentResponse> responses = read.get().stream()
+                .map(appointmentMapper::toResponse)
+                .collect(Collectors.toList());
+
+        assertThat(responses).allMatch(r -> r.getPatientName() != null && r.getDoctorName() != null);
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Runs a projection read against an empty persistence context and returns the number of
+     * JDBC statements that were prepared.
+     */
+    private long countStatementsForResponseRead(Supplier<List<AppointmentResponse>> read) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<AppointmentResponse> responses = read.get();
+
+        assertThat(responses).allMatch(r -> r.getPatientName() != null && r.getDoctorName() != null);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Appointment> persistAppointments(Patient owner, Doctor attending, int count) {
+        List<Appointment> appointments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            appointments.add(entityManager.persist(Appointment.builder()
+                    .patient(owner)
+                    .doctor(attending)
+                    .appointmentTime(LocalDateTime.now().plusDays(1).plusMinutes(i))
+                    .build()));
+        }
+        entityManager.flush();
+        return appointments;
+    }
+
+    private Patient createPatient(String email) {
+        return entityManager.persist(Patient.builder()
+                .firstName("Jane")
+                .lastName("Roe")
+                .email(email)
+                .phone("+1987654321")
+                .dob(LocalDate.of(1985, 6, 15))
+                .build());
+    }
+
+    private Doctor createDoctor(String licenseNumber) {
+        return entityManager.persist(Doctor.builder()
+                .fullName("Dr. Jones")
+                .licenseNumber(licenseNumber)
+                .specialization("Neurology")
+                .deptId(2L)
+                .build());
+    }
 }
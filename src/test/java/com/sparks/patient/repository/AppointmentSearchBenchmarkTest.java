@@ -0,0 +1,204 @@
+package com.sparks.patient.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.sparks.patient.dto.AppointmentFilter;
+import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.entity.Doctor;
+import com.sparks.patient.entity.Patient;
+import com.sparks.patient.util.TimeOrderedUuid;
+
+/**
+ * Side-by-side comparison of the appointment search (statement built from the filters given)
+ * and the catch-all keyset page query, for the filter combinations dashboards use.
+ *
+ * Appointments are seeded with JDBC batches. The default size keeps the suite fast; run with
+ * {@code -Dappointment.search.benchmark.rows=1000000} for the million-row figures. Latency is
+ * logged per combination; only the deterministic outcome (both paths return the same rows) is
+ * asserted so the test stays stable on shared CI machines.
+ */
+@DataJpaTest(properties = {"spring.jpa.show-sql=false", "logging.level.org.hibernate.SQL=ERROR"})
+@DisplayName("Appointment Search Benchmark Tests")
+class AppointmentSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AppointmentSearchBenchmarkTest.class);
+
+    private static final int ROWS = Integer.getInteger("appointment.search.benchmark.rows", 20_000);
+    private static final int DOCTORS = 100;
+    private static final int DEPARTMENTS = 10;
+    private static final int PATIENTS = 1_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 20;
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 8, 0);
+
+    /**
+     * The single catch-all statement the cursor page used to run, kept here as the baseline
+     */
+    private static final String CATCH_ALL = AppointmentRepository.SELECT_RESPONSE +
+            "WHERE (:patientId IS NULL OR a.patient.id = :patientId) " +
+            "AND (:doctorId IS NULL OR a.doctor.id = :doctorId) " +
+            "AND (:status IS NULL OR a.status = :status) " +
+            "AND (:fromTime IS NULL OR a.appointmentTime >= :fromTime) " +
+            "AND (:toTime IS NULL OR a.appointmentTime < :toTime) " +
+            "ORDER BY a.appointmentTime ASC, a.id ASC";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    private final List<Doctor> doctors = new ArrayList<>();
+    private final List<Patient> patients = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < DOCTORS; i++) {
+            doctors.add(entityManager.persist(Doctor.builder()
+                    .fullName("Dr. Bench " + i)
+                    .licenseNumber("LIC-SEARCH-" + i)
+                    .specialization("General Practice")
+                    .deptId((long) (i % DEPARTMENTS) + 1)
+                    .build()));
+        }
+        for (int i = 0; i < PATIENTS; i++) {
+            patients.add(entityManager.persist(Patient.builder()
+                    .firstName("Bench")
+                    .lastName("Patient" + i)
+                    .email("bench.search." + i + "@test.com")
+                    .phone("+1555" + String.format("%07d", i))
+                    .dob(LocalDate.of(1980, 1, 1))
+                    .build()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        entityManager.getEntityManager().unwrap(Session.class).doWork(connection -> {
+            String insert = "INSERT INTO appointments (id, appointment_id, patient_id, doctor_id, appointment_time, "
+                    + "active_slot, status, version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+            Appointment.AppointmentStatus[] statuses = Appointment.AppointmentStatus.values();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            try (PreparedStatement statement = connection.prepareStatement(insert)) {
+                for (int i = 0; i < ROWS; i++) {
+                    // Each doctor gets consecutive half-hour slots, so (doctor_id, active_slot) stays unique
+                    Timestamp time = Timestamp.valueOf(START.plusMinutes(30L * (i / DOCTORS)));
+                    Appointment.AppointmentStatus status = statuses[(i / DOCTORS) % statuses.length];
+                    statement.setLong(1, i + 1L);
+                    statement.setBytes(2, TimeOrderedUuid.toBytes(TimeOrderedUuid.generate()));
+                    statement.setLong(3, patients.get(i % PATIENTS).getId());
+                    statement.setLong(4, doctors.get(i % DOCTORS).getId());
+                    statement.setTimestamp(5, time);
+                    statement.setTimestamp(6, status == Appointment.AppointmentStatus.CANCELLED ? null : time);
+                    statement.setString(7, status.name());
+                    statement.setTimestamp(8, now);
+                    statement.setTimestamp(9, now);
+                    statement.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        statement.executeBatch();
+                    }
+                }
+                statement.executeBatch();
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Search should return the catch-all query's rows for every shared filter combination")
+    void testSearchVersusCatchAll() {
+        LocalDateTime dayStart = START.plusMinutes(30L * (ROWS / DOCTORS / 2)).toLocalDate().atStartOfDay();
+        compare("doctor + day", AppointmentFilter.builder()
+                .doctorId(doctors.get(7).getId()).from(dayStart).to(dayStart.plusDays(1)).build());
+        compare("patient + status", AppointmentFilter.builder()
+                .patientId(patients.get(42).getId()).status(Appointment.AppointmentStatus.COMPLETED).build());
+        compare("day", AppointmentFilter.builder()
+                .from(dayStart).to(dayStart.plusDays(1)).build());
+        compare("doctor + status + day", AppointmentFilter.builder()
+                .doctorId(doctors.get(7).getId()).status(Appointment.AppointmentStatus.SCHEDULED)
+                .from(dayStart).to(dayStart.plusDays(1)).build());
+    }
+
+    @Test
+    @DisplayName("Department search should only return appointments of the department's doctors")
+    void testSearchByDepartment() {
+        Long deptId = 3L;
+        Set<Long> deptDoctors = doctors.stream()
+                .filter(doctor -> deptId.equals(doctor.getDeptId()))
+                .map(Doctor::getId)
+                .collect(Collectors.toSet());
+        AppointmentFilter filter = AppointmentFilter.builder()
+                .deptId(deptId).from(START).to(START.plusDays(1)).build();
+        Supplier<List<AppointmentResponse>> search = () -> appointmentRepository.findResponses(
+                AppointmentSpecifications.matching(filter), PAGE_SIZE);
+
+        long micros = measure(search);
+        log.info("Search over {} appointments, dept + day: {} us per page", ROWS, micros);
+
+        assertThat(search.get()).isNotEmpty().allMatch(response -> deptDoctors.contains(response.getDoctorId()));
+    }
+
+    private void compare(String combination, AppointmentFilter filter) {
+        Supplier<List<AppointmentResponse>> search = () -> appointmentRepository.findResponses(
+                AppointmentSpecifications.matching(filter), PAGE_SIZE);
+        Supplier<List<AppointmentResponse>> catchAll = () -> entityManager.getEntityManager()
+                .createQuery(CATCH_ALL, AppointmentResponse.class)
+                .setParameter("patientId", filter.getPatientId())
+                .setParameter("doctorId", filter.getDoctorId())
+                .setParameter("status", filter.getStatus())
+                .setParameter("fromTime", filter.getFrom())
+                .setParameter("toTime", filter.getTo())
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+
+        long searchMicros = measure(search);
+        long catchAllMicros = measure(catchAll);
+        log.info("Search over {} appointments, {}: search {} us, catch-all {} us per page",
+                ROWS, combination, searchMicros, catchAllMicros);
+
+        assertThat(search.get()).extracting(AppointmentResponse::getId)
+                .containsExactlyElementsOf(catchAll.get().stream()
+                        .map(AppointmentResponse::getId)
+                        .collect(Collectors.toList()));
+    }
+
+    private long measure(Supplier<List<AppointmentResponse>> read) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            entityManager.clear();
+            read.get();
+        }
+        long nanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            entityManager.clear();
+            long startedAt = System.nanoTime();
+            read.get();
+            nanos += System.nanoTime() - startedAt;
+        }
+        return nanos / MEASURED_ROUNDS / 1_000;
+    }
+}
@@ -0,0 +1,29 @@
+package com.sparks.patient.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records the SQL Hibernate issues on the current thread, so tests can inspect
+ * the statements generated for a repository call.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        CAPTURED.get().add(sql);
+        return sql;
+    }
+
+    static void clear() {
+        CAPTURED.get().clear();
+    }
+
+    static List<String> captured() {
+        return new ArrayList<>(CAPTURED.get());
+    }
+}
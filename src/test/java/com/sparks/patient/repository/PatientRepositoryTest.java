@@ -3,6 +3,7 @@ package com.sparks.patient.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,8 +13,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.TestPropertySource;
 
+import com.sparks.patient.dto.PatientResponse;
 import com.sparks.patient.entity.Patient;
 import com.sparks.patient.test.IntegrationTest;
 
@@ -258,4 +261,77 @@ class PatientRepositoryTest {
             assertThat(nonExistentCount).isEqualTo(0);
         }
     }
+
+    @Nested
+    @DisplayName("Phone Key Tests")
+    class PhoneKeyTests {
+
+        @Test
+        @DisplayName("Should derive the phone key on insert and on update")
+        void shouldDerivePhoneKeyOnWrite() {
+            // Given
+            testPatient.setPhone("1234567890");
+            Patient savedPatient = patientRepository.save(testPatient);
+            entityManager.flush();
+            assertThat(savedPatient.getPhoneKey()).isEqualTo("+1234567890");
+
+            // When
+            savedPatient.setPhone("442079460000");
+            entityManager.flush();
+            entityManager.clear();
+
+            // Then
+            assertThat(patientRepository.findById(savedPatient.getId()))
+                    .map(Patient::getPhoneKey)
+                    .contains("+442079460000");
+        }
+
+        @Test
+        @DisplayName("Should return the oldest patient sharing a number")
+        void shouldFindFirstResponseByPhoneKey() {
+            // Given
+            Patient first = patientRepository.save(testPatient);
+            patientRepository.save(Patient.builder()
+                    .firstName("Jane")
+                    .lastName("Doe")
+                    .dob(LocalDate.of(1992, 3, 20))
+                    .email("jane.doe@example.com")
+                    .phone("1234567890")
+                    .build());
+            entityManager.flush();
+
+            // When
+            Optional<PatientResponse> found = patientRepository.findFirstResponseByPhoneKey("+1234567890");
+
+            // Then
+            assertThat(found).map(PatientResponse::getId).contains(first.getId());
+            assertThat(patientRepository.findByPhoneKey("+1234567890")).hasSize(2);
+            assertThat(patientRepository.findFirstResponseByPhoneKey("+1999999999")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should backfill keys missing from rows written without one")
+        void shouldBackfillMissingPhoneKeys() {
+            // Given
+            Patient savedPatient = patientRepository.save(testPatient);
+            entityManager.flush();
+            entityManager.getEntityManager()
+                    .createNativeQuery("UPDATE patients SET phone_key = NULL WHERE id = :id")
+                    .setParameter("id", savedPatient.getId())
+                    .executeUpdate();
+            entityManager.clear();
+
+            // When
+            List<PatientPhone> missing = patientRepository.findWithoutPhoneKey(0L, PageRequest.of(0, 10));
+            int updated = patientRepository.updatePhoneKey(savedPatient.getId(), "+1234567890");
+            int updatedAgain = patientRepository.updatePhoneKey(savedPatient.getId(), "+1999999999");
+
+            // Then
+            assertThat(missing).extracting(PatientPhone::getId).containsExactly(savedPatient.getId());
+            assertThat(missing.get(0).getPhone()).isEqualTo("+1234567890");
+            assertThat(updated).isEqualTo(1);
+            assertThat(updatedAgain).isZero();
+            assertThat(patientRepository.findWithoutPhoneKey(0L, PageRequest.of(0, 10))).isEmpty();
+        }
+    }
 }
@@ -0,0 +1,140 @@
+package com.sparks.patient.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.entity.Doctor;
+import com.sparks.patient.entity.Patient;
+import com.sparks.patient.mapper.AppointmentMapper;
+
+/**
+ * Side-by-side comparison of the two appointment read paths: entity graph + mapper versus
+ * the JPQL constructor projection.
+ *
+ * Latency and bytes allocated by the test thread are logged for both paths; only the
+ * deterministic outcomes (same responses, nothing left in the persistence context) are
+ * asserted so the test stays stable on shared CI machines.
+ */
+@DataJpaTest(properties = {"spring.jpa.show-sql=false", "logging.level.org.hibernate.SQL=ERROR"})
+@DisplayName("Projection Read Benchmark Tests")
+class ProjectionReadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectionReadBenchmarkTest.class);
+
+    private static final int ROWS = 500;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    private final AppointmentMapper appointmentMapper = new AppointmentMapper();
+
+    private Doctor doctor;
+
+    @BeforeEach
+    void setUp() {
+        Patient patient = entityManager.persist(Patient.builder()
+                .firstName("Bench")
+                .lastName("Patient")
+                .email("bench.patient@test.com")
+                .phone("+1555000111")
+                .dob(LocalDate.of(1980, 1, 1))
+                .build());
+        doctor = entityManager.persist(Doctor.builder()
+                .fullName("Dr. Bench")
+                .licenseNumber("LIC-BENCH-1")
+                .specialization("General Practice")
+                .deptId(1L)
+                .build());
+
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 8, 0);
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(Appointment.builder()
+                    .patient(patient)
+                    .doctor(doctor)
+                    .appointmentTime(start.plusMinutes(30L * i))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Projection should return the mapper's responses without hydrating entities")
+    void testDoctorAppointments_EntityVersusProjection() {
+        Supplier<List<AppointmentResponse>> entityPath = () -> appointmentRepository.findByDoctorId(doctor.getId())
+                .stream()
+                .map(appointmentMapper::toResponse)
+                .collect(Collectors.toList());
+        Supplier<List<AppointmentResponse>> projectionPath =
+                () -> appointmentRepository.findResponsesByDoctorId(doctor.getId());
+
+        Measurement entity = measure(entityPath);
+        Measurement projection = measure(projectionPath);
+
+        log.info("Doctor appointments ({} rows): entity+mapper {} us / {} KB per read, projection {} us / {} KB per read",
+                ROWS, entity.micros, entity.kilobytes, projection.micros, projection.kilobytes);
+
+        assertThat(projectionPath.get()).hasSize(ROWS).containsExactlyInAnyOrderElementsOf(entityPath.get());
+        entityManager.clear();
+        projectionPath.get();
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    private Measurement measure(Supplier<List<AppointmentResponse>> read) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            entityManager.clear();
+            read.get();
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long nanos = 0;
+        long bytes = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            entityManager.clear();
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long startedAt = System.nanoTime();
+            read.get();
+            nanos += System.nanoTime() - startedAt;
+            bytes += threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        }
+        return new Measurement(nanos / MEASURED_ROUNDS / 1_000, bytes / MEASURED_ROUNDS / 1_024);
+    }
+
+    private int managedEntityCount() {
+        return entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount();
+    }
+
+    private static final class Measurement {
+        private final long micros;
+        private final long kilobytes;
+
+        private Measurement(long micros, long kilobytes) {
+            this.micros = micros;
+            this.kilobytes = kilobytes;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.sparks.patient.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import com.sparks.patient.dto.AppointmentFilter;
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.entity.ReminderDelivery;
+
+/**
+ * Index usage tests for hot repository queries.
+ * 
+ * Each test runs the repository method, captures the SQL Hibernate generated for it and
+ * asks H2 for the plan with EXPLAIN. A plan containing "tableScan" means the query would
+ * read the whole table; where only one declared index can serve the query, the test also
+ * checks that it is the one chosen.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.sparks.patient.repository.CapturingStatementInspector")
+@DisplayName("Query Plan Tests")
+class QueryPlanTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(1);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private ShiftRepository shiftRepository;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Test
+    @DisplayName("Appointments by doctor and time range should use an index")
+    void testFindByDoctorIdAndAppointmentTimeBetween() {
+        assertNoTableScan(plans(() -> appointmentRepository.findByDoctorIdAndAppointmentTimeBetween(1L, FROM, TO)));
+    }
+
+    @Test
+    @DisplayName("Calendar range projection should use the doctor/time index")
+    void testFindResponsesByDoctorIdBetween() {
+        assertUsesIndex(plans(() -> appointmentRepository.findResponsesByDoctorIdBetween(1L, FROM, TO)),
+                "IDX_APPOINTMENT_DOCTOR_TIME");
+    }
+
+    @Test
+    @DisplayName("Archive reads and the archival scan should use an index")
+    void testArchiveQueries() {
+        assertUsesIndex(plans(() -> appointmentRepository.findArchivedResponsesByPatientId(1L)),
+                "IDX_ARCHIVE_PATIENT_TIME");
+        assertUsesIndex(plans(() -> appointmentRepository.findArchivedResponsesByDoctorId(1L)),
+                "IDX_ARCHIVE_DOCTOR_TIME");
+        assertNoTableScan(plans(() -> appointmentRepository.findArchivedResponseByAppointmentId(
+                "017f22e2-79b0-7cc3-98c4-dc0c0c07398f")));
+        assertNoTableScan(plans(() -> appointmentRepository.findArchivable(
+                FROM, EnumSet.of(Appointment.AppointmentStatus.COMPLETED), PageRequest.of(0, 500))));
+    }
+
+    @Test
+    @DisplayName("Patient timeline pages should read the patient/time indexes")
+    void testPatientTimelineQueries() {
+        assertUsesIndex(plans(() -> appointmentRepository.findResponsesByPatientIdBefore(
+                1L, TO, Long.MAX_VALUE, PageRequest.of(0, 21))), "IDX_APPOINTMENT_PATIENT_TIME");
+        assertUsesIndex(plans(() -> appointmentRepository.findArchivedResponsesByPatientIdBefore(
+                1L, TO, Long.MAX_VALUE, PageRequest.of(0, 21))), "IDX_ARCHIVE_PATIENT_TIME");
+    }
+
+    @Test
+    @DisplayName("The reminder scan should range-scan by appointment time")
+    void testFindReminderCandidates() {
+        assertNoTableScan(plans(() -> appointmentRepository.findReminderCandidates(FROM, Long.MIN_VALUE, TO,
+                EnumSet.of(Appointment.AppointmentStatus.SCHEDULED), ReminderDelivery.DeliveryStatus.FAILED, 3,
+                PageRequest.of(0, 500))));
+    }
+
+    @Test
+    @DisplayName("Appointments by patient and status should use an index")
+    void testFindByPatientIdAndStatus() {
+        assertNoTableScan(plans(() -> appointmentRepository.findByPatientIdAndStatus(
+                1L, Appointment.AppointmentStatus.SCHEDULED)));
+    }
+
+    @Test
+    @DisplayName("Appointments by patient or doctor should use an index")
+    void testFindByPatientIdAndDoctorId() {
+        assertNoTableScan(plans(() -> appointmentRepository.findByPatientId(1L)));
+        assertNoTableScan(plans(() -> appointmentRepository.findByDoctorId(1L)));
+    }
+
+    @Test
+    @DisplayName("Appointment by public UUID should use the unique index")
+    void testFindByAppointmentId() {
+        assertNoTableScan(plans(() -> appointmentRepository.findByAppointmentId(
+                "017f22e2-79b0-7cc3-98c4-dc0c0c07398f")));
+    }
+
+    @Test
+    @DisplayName("Booking and availability checks should use an index")
+    void testBookingQueries() {
+        assertNoTableScan(plans(() -> appointmentRepository.existsOverlapping(
+                1L, FROM, TO, Appointment.AppointmentStatus.CANCELLED)));
+        assertNoTableScan(plans(() -> appointmentRepository.findBookedTimes(
+                Set.of(1L, 2L), FROM, TO, Appointment.AppointmentStatus.CANCELLED)));
+        assertNoTableScan(plans(() -> appointmentRepository.countPerStatusForDoctorBetween(1L, FROM, TO)));
+    }
+
+    @Test
+    @DisplayName("Appointment search should use the index matching the filters given")
+    void testSearchQueries() {
+        assertUsesIndex(plans(() -> appointmentRepository.findResponses(AppointmentSpecifications.matching(
+                AppointmentFilter.builder().doctorId(1L).from(FROM).to(TO)
+                        .status(Appointment.AppointmentStatus.SCHEDULED).build()), 50)),
+                "IDX_APPOINTMENT_DOCTOR_TIME");
+        assertUsesIndex(plans(() -> appointmentRepository.findResponses(AppointmentSpecifications.matching(
+                AppointmentFilter.builder().patientId(1L)
+                        .status(Appointment.AppointmentStatus.SCHEDULED).build()), 50)),
+                "IDX_APPOINTMENT_PATIENT_STATUS");
+        assertUsesIndex(plans(() -> appointmentRepository.findResponses(AppointmentSpecifications.matching(
+                AppointmentFilter.builder().from(FROM).to(TO).build()), 50)),
+                "IDX_APPOINTMENT_TIME_ID");
+        assertThat(plans(() -> appointmentRepository.findResponses(AppointmentSpecifications.matching(
+                AppointmentFilter.builder().deptId(1L).from(FROM).to(TO).build()), 50)))
+                .anySatisfy(plan -> assertThat(plan).contains("IDX_DOCTOR_DEPT"));
+    }
+
+    @Test
+    @DisplayName("Cursor page (/page) past the first page should keep the index of its filters")
+    void testCursorPageQueries() {
+        LocalDateTime afterTime = FROM.plusHours(9);
+        assertUsesIndex(plans(() -> appointmentRepository.findResponses(AppointmentSpecifications.matching(
+                AppointmentFilter.builder().doctorId(1L).from(FROM).to(TO).build())
+                .and(AppointmentSpecifications.after(afterTime, 100L)), 51)),
+                "IDX_APPOINTMENT_DOCTOR_TIME");
+        assertUsesIndex(plans(() -> appointmentRepository.findResponses(AppointmentSpecifications.matching(
+                AppointmentFilter.builder().patientId(1L)
+                        .status(Appointment.AppointmentStatus.SCHEDULED).build())
+                .and(AppointmentSpecifications.after(afterTime, 100L)), 51)),
+                "IDX_APPOINTMENT_PATIENT_STATUS");
+        assertUsesIndex(plans(() -> appointmentRepository.findResponses(AppointmentSpecifications.matching(
+                AppointmentFilter.builder().from(FROM).to(TO).build())
+                .and(AppointmentSpecifications.after(afterTime, 100L)), 51)),
+                "IDX_APPOINTMENT_TIME_ID");
+    }
+
+    @Test
+    @DisplayName("Shift conflict checks should use the doctor/time index")
+    void testShiftQueries() {
+        assertUsesIndex(plans(() -> shiftRepository.findConflictingShifts(
+                1L, LocalTime.of(9, 0), LocalTime.of(17, 0))), "IDX_SHIFT_DOCTOR_TIME");
+        assertUsesIndex(plans(() -> shiftRepository.findConflictingShiftsExcluding(
+                1L, LocalTime.of(9, 0), LocalTime.of(17, 0), 5L)), "IDX_SHIFT_DOCTOR_TIME");
+        assertUsesIndex(plans(() -> shiftRepository.findByDoctorId(1L)), "IDX_SHIFT_DOCTOR_TIME");
+        assertUsesIndex(plans(() -> shiftRepository.findByDoctorIdIn(Set.of(1L, 2L))), "IDX_SHIFT_DOCTOR_TIME");
+    }
+
+    @Test
+    @DisplayName("Shifts by room should use the room index")
+    void testFindByRoom() {
+        assertUsesIndex(plans(() -> shiftRepository.findByRoom("Room-101")), "IDX_SHIFT_ROOM");
+    }
+
+    @Test
+    @DisplayName("Patient lookups should use their indexes")
+    void testPatientQueries() {
+        assertNoTableScan(plans(() -> patientRepository.findByEmail("john.doe@test.com")));
+        assertUsesIndex(plans(() -> patientRepository.findByPhoneKey("+1234567890")), "IDX_PATIENT_PHONE_KEY");
+        assertUsesIndex(plans(() -> patientRepository.findFirstResponseByPhoneKey("+1234567890")),
+                "IDX_PATIENT_PHONE_KEY");
+        assertUsesIndex(plans(() -> patientRepository.findByLastName("Doe")), "IDX_PATIENT_LAST_NAME");
+        assertUsesIndex(plans(() -> patientRepository.countByLastName("Doe")), "IDX_PATIENT_LAST_NAME");
+    }
+
+    @Test
+    @DisplayName("Doctor lookups should use their indexes")
+    void testDoctorQueries() {
+        assertNoTableScan(plans(() -> doctorRepository.findByLicenseNumber("LIC123456")));
+        assertUsesIndex(plans(() -> doctorRepository.findByDeptId(1L)), "IDX_DOCTOR_DEPT");
+    }
+
+    /**
+     * Runs the repository call and returns the H2 plan of every SELECT it issued
+     */
+    private List<String> plans(Runnable repositoryCall) {
+        entityManager.clear();
+        CapturingStatementInspector.clear();
+        repositoryCall.run();
+        List<String> selects = CapturingStatementInspector.captured().stream()
+                .filter(sql -> sql.trim().toLowerCase().startsWith("select"))
+                .collect(Collectors.toList());
+        assertThat(selects).as("SQL issued by the repository call").isNotEmpty();
+
+        List<String> plans = new ArrayList<>();
+        entityManager.getEntityManager().unwrap(Session.class).doWork(connection -> {
+            for (String sql : selects) {
+                plans.add(explain(connection, sql));
+            }
+        });
+        return plans;
+    }
+
+    /**
+     * Parameters only need to be bound for EXPLAIN to run; the plan is chosen at prepare time
+     */
+    private String explain(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameterCount = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    private void assertNoTableScan(List<String> plans) {
+        assertThat(plans).allSatisfy(plan -> assertThat(plan).doesNotContain("tableScan"));
+    }
+
+    private void assertUsesIndex(List<String> plans, String indexName) {
+        assertNoTableScan(plans);
+        assertThat(plans).anySatisfy(plan -> assertThat(plan).contains(indexName));
+    }
+}
@@ -0,0 +1,164 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.repository.ArchivableAppointment;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for AppointmentArchiveServiceImpl - chunked archival
+ */
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Appointment Archive Service Tests")
+class AppointmentArchiveServiceImplTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private DoctorCalendarCache doctorCalendarCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private AppointmentStatsCounters appointmentStatsCounters = new AppointmentStatsCounters();
+
+    private AppointmentArchiveServiceImpl archiveService;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new AppointmentArchiveServiceImpl(
+                appointmentRepository, doctorCalendarCache, appointmentStatsCounters, transactionManager, CHUNK_SIZE);
+    }
+
+    private ArchivableAppointment row(long id, long doctorId, LocalDateTime time) {
+        return new ArchivableAppointment() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getDoctorId() {
+                return doctorId;
+            }
+
+            @Override
+            public LocalDateTime getAppointmentTime() {
+                return time;
+            }
+
+            @Override
+            public Appointment.AppointmentStatus getStatus() {
+                return Appointment.AppointmentStatus.COMPLETED;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should move chunks until a short chunk is found, one transaction each")
+    void testArchiveInChunks() {
+        // Given
+        LocalDateTime day = CUTOFF.minusDays(30).withHour(9);
+        when(appointmentRepository.findArchivable(eq(CUTOFF), eq(AppointmentArchiveServiceImpl.FINISHED),
+                any(Pageable.class)))
+                .thenReturn(List.of(row(1L, 2L, day), row(2L, 2L, day.plusHours(1))))
+                .thenReturn(List.of(row(3L, 4L, day.plusDays(1))));
+
+        // When
+        int archived = archiveService.archiveFinishedBefore(CUTOFF);
+
+        // Then
+        assertThat(archived).isEqualTo(3);
+        verify(appointmentRepository).copyToArchive(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(appointmentRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(appointmentRepository).copyToArchive(eq(List.of(3L)), any(LocalDateTime.class));
+        verify(appointmentRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(doctorCalendarCache).invalidateAfterCommit(Set.of(
+                DoctorCalendarCache.DoctorDay.of(2L, day)));
+        verify(doctorCalendarCache).invalidateAfterCommit(Set.of(
+                DoctorCalendarCache.DoctorDay.of(4L, day.plusDays(1))));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should take archived appointments out of the statistics counters")
+    void testArchiveUpdatesStatsCounters() {
+        // Given
+        LocalDateTime day = CUTOFF.minusDays(30).withHour(9);
+        appointmentStatsCounters.reconcile(Map.of(2L, 3L), Map.of(day.toLocalDate(), 3L),
+                Map.of(Appointment.AppointmentStatus.COMPLETED, 3L));
+        when(appointmentRepository.findArchivable(eq(CUTOFF), any(), any(Pageable.class)))
+                .thenReturn(List.of(row(1L, 2L, day)));
+
+        // When
+        archiveService.archiveFinishedBefore(CUTOFF);
+
+        // Then
+        assertThat(appointmentStatsCounters.byDoctor()).containsExactly(Map.entry(2L, 2L));
+        assertThat(appointmentStatsCounters.byDay()).containsExactly(Map.entry(day.toLocalDate(), 2L));
+        assertThat(appointmentStatsCounters.byStatus())
+                .containsExactly(Map.entry(Appointment.AppointmentStatus.COMPLETED, 2L));
+    }
+
+    @Test
+    @DisplayName("Should stop after an empty chunk when the last chunk was full")
+    void testArchiveStopsOnEmptyChunk() {
+        // Given
+        LocalDateTime day = CUTOFF.minusDays(30).withHour(9);
+        when(appointmentRepository.findArchivable(eq(CUTOFF), any(), any(Pageable.class)))
+                .thenReturn(List.of(row(1L, 2L, day), row(2L, 2L, day.plusHours(1))))
+                .thenReturn(List.of());
+
+        // When
+        int archived = archiveService.archiveFinishedBefore(CUTOFF);
+
+        // Then
+        assertThat(archived).isEqualTo(2);
+        verify(appointmentRepository, times(1)).copyToArchive(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("Should not write anything when nothing is old enough")
+    void testArchiveNothing() {
+        // Given
+        when(appointmentRepository.findArchivable(eq(CUTOFF), any(), any(Pageable.class))).thenReturn(List.of());
+
+        // When
+        int archived = archiveService.archiveFinishedBefore(CUTOFF);
+
+        // Then
+        assertThat(archived).isZero();
+        verify(appointmentRepository, never()).copyToArchive(anyCollection(), any());
+        verify(appointmentRepository, never()).deleteAllByIdInBatch(any());
+    }
+}
@@ -0,0 +1,226 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sparks.patient.dto.AppointmentEvent;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for AppointmentEventBus - per-doctor fan-out, ordering and slow-consumer disconnect
+ */
+@UnitTest
+@DisplayName("Appointment Event Bus Tests")
+class AppointmentEventBusTest {
+
+    private static final int BUFFER_SIZE = 4;
+
+    private final ExecutorService dispatcher = Executors.newFixedThreadPool(2);
+    private final AppointmentEventBus bus = new AppointmentEventBus(dispatcher, BUFFER_SIZE, Duration.ofSeconds(30));
+
+    @AfterEach
+    void tearDown() {
+        bus.shutdown();
+    }
+
+    private AppointmentEvent created(long doctorId, int updated) {
+        return AppointmentEvent.builder()
+                .type(AppointmentEvent.Type.CREATED)
+                .doctorId(doctorId)
+                .updated(updated)
+                .build();
+    }
+
+    /**
+     * Listener recording events, counting down once per event received
+     */
+    private static class Recorder implements AppointmentEventBus.Listener {
+        final List<AppointmentEvent> events = new CopyOnWriteArrayList<>();
+        final AtomicInteger heartbeats = new AtomicInteger();
+        final CountDownLatch closed = new CountDownLatch(1);
+        final CountDownLatch received;
+
+        Recorder(int expected) {
+            this.received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onEvent(AppointmentEvent event) throws IOException {
+            events.add(event);
+            received.countDown();
+        }
+
+        @Override
+        public void onHeartbeat() {
+            heartbeats.incrementAndGet();
+            received.countDown();
+        }
+
+        @Override
+        public void onClose() {
+            closed.countDown();
+        }
+    }
+
+    private static void awaitSize(List<?> list, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (list.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver events in order to the subscribers of that doctor only")
+    void testFanOutPerDoctor() throws Exception {
+        Recorder first = new Recorder(3);
+        Recorder second = new Recorder(3);
+        Recorder otherDoctor = new Recorder(1);
+        bus.subscribe(1L, first);
+        bus.subscribe(1L, second);
+        bus.subscribe(2L, otherDoctor);
+
+        for (int i = 0; i < 3; i++) {
+            bus.publishAfterCommit(created(1L, i));
+        }
+
+        assertThat(first.received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(first.events).extracting(AppointmentEvent::getUpdated).containsExactly(0, 1, 2);
+        assertThat(second.events).extracting(AppointmentEvent::getUpdated).containsExactly(0, 1, 2);
+        assertThat(otherDoctor.events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stop delivering after the subscription is closed")
+    void testClose() throws Exception {
+        Recorder recorder = new Recorder(1);
+        AppointmentEventBus.Subscription subscription = bus.subscribe(1L, recorder);
+
+        subscription.close();
+        subscription.close();
+        bus.publishAfterCommit(created(1L, 0));
+
+        assertThat(recorder.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bus.hasSubscribers(1L)).isFalse();
+        assertThat(recorder.events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber whose buffer overflows without slowing the others")
+    void testSlowConsumerDisconnected() throws Exception {
+        // Given - a subscriber stuck on its first event
+        CountDownLatch unblock = new CountDownLatch(1);
+        Recorder slow = new Recorder(1) {
+            @Override
+            public void onEvent(AppointmentEvent event) {
+                received.countDown();
+                try {
+                    unblock.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        Recorder healthy = new Recorder(BUFFER_SIZE + 2);
+        bus.subscribe(1L, slow);
+        bus.subscribe(1L, healthy);
+        bus.publishAfterCommit(created(1L, 0));
+        assertThat(slow.received.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When - more events than its buffer holds, at a pace the healthy subscriber keeps up with
+        for (int i = 1; i <= BUFFER_SIZE + 1; i++) {
+            bus.publishAfterCommit(created(1L, i));
+            awaitSize(healthy.events, i + 1);
+        }
+
+        // Then
+        assertThat(slow.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(healthy.received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(healthy.events).hasSize(BUFFER_SIZE + 2);
+        assertThat(bus.subscriberCount()).isEqualTo(1);
+        unblock.countDown();
+    }
+
+    @Test
+    @DisplayName("Should drop a subscriber whose delivery fails")
+    void testFailedDeliveryDropsSubscriber() throws Exception {
+        Recorder broken = new Recorder(1) {
+            @Override
+            public void onEvent(AppointmentEvent event) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        bus.subscribe(1L, broken);
+
+        bus.publishAfterCommit(created(1L, 0));
+
+        assertThat(broken.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bus.hasSubscribers(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should send heartbeats to idle subscribers")
+    void testHeartbeat() throws Exception {
+        Recorder recorder = new Recorder(1);
+        bus.subscribe(1L, recorder);
+
+        bus.heartbeat();
+
+        assertThat(recorder.received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(recorder.heartbeats.get()).isEqualTo(1);
+        assertThat(recorder.events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber blocked in a send so the others still get their events")
+    void testBlockedSendTimesOut() throws Exception {
+        // Given - a single dispatcher thread, and a client that never reads
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        AppointmentEventBus timed = new AppointmentEventBus(single, BUFFER_SIZE, Duration.ofMillis(200));
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Recorder blocked = new Recorder(1) {
+            @Override
+            public void onEvent(AppointmentEvent event) {
+                received.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            }
+        };
+        Recorder healthy = new Recorder(1);
+        timed.subscribe(1L, blocked);
+        timed.subscribe(2L, healthy);
+
+        try {
+            // When
+            timed.publishAfterCommit(created(1L, 0));
+            assertThat(blocked.received.await(5, TimeUnit.SECONDS)).isTrue();
+            timed.publishAfterCommit(created(2L, 1));
+
+            // Then
+            assertThat(blocked.closed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(healthy.received.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(healthy.events).extracting(AppointmentEvent::getUpdated).containsExactly(1);
+            assertThat(timed.hasSubscribers(1L)).isFalse();
+            assertThat(timed.hasSubscribers(2L)).isTrue();
+        } finally {
+            timed.shutdown();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for AppointmentLookupCache - read-through, expiry and invalidation
+ */
+@UnitTest
+@DisplayName("Appointment Lookup Cache Tests")
+class AppointmentLookupCacheTest {
+
+    private static final String FIRST_ID = "017f22e2-79b0-7cc3-98c4-dc0c0c07398f";
+    private static final String SECOND_ID = "017f22e2-79b0-7cc3-98c4-dc0c0c073990";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private AppointmentLookupCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AppointmentLookupCache(nanos::get);
+    }
+
+    private Function<String, Optional<AppointmentResponse>> loader(Long patientId, Long doctorId) {
+        return id -> {
+            loads.incrementAndGet();
+            return Optional.of(AppointmentResponse.builder()
+                    .appointmentId(id)
+                    .patientId(patientId)
+                    .doctorId(doctorId)
+                    .build());
+        };
+    }
+
+    @Test
+    @DisplayName("Should load once and answer repeated lookups from memory")
+    void testReadThrough() {
+        cache.get(FIRST_ID, loader(1L, 2L));
+        cache.get(FIRST_ID, loader(1L, 2L));
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache lookups of unknown appointments")
+    void testMissNotCached() {
+        cache.get(FIRST_ID, id -> Optional.empty());
+
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reload an entry once its time to live has passed")
+    void testExpiry() {
+        cache.get(FIRST_ID, loader(1L, 2L));
+        nanos.addAndGet(AppointmentLookupCache.TIME_TO_LIVE.plusSeconds(1).toNanos());
+        cache.get(FIRST_ID, loader(1L, 2L));
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.stats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop only the entries of the renamed patient or doctor")
+    void testInvalidateByPatientAndDoctor() {
+        cache.get(FIRST_ID, loader(1L, 2L));
+        cache.get(SECOND_ID, loader(3L, 4L));
+
+        cache.invalidatePatientAfterCommit(1L);
+        cache.get(FIRST_ID, loader(1L, 2L));
+        cache.get(SECOND_ID, loader(3L, 4L));
+        assertThat(loads.get()).isEqualTo(3);
+
+        cache.invalidateDoctorAfterCommit(4L);
+        cache.get(FIRST_ID, loader(1L, 2L));
+        cache.get(SECOND_ID, loader(3L, 4L));
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should not keep a value loaded while an invalidation ran")
+    void testLoadRacingInvalidationNotKept() {
+        cache.get(FIRST_ID, id -> {
+            Optional<AppointmentResponse> stale = loader(1L, 2L).apply(id);
+            cache.invalidateAfterCommit(id);
+            return stale;
+        });
+        cache.get(FIRST_ID, loader(1L, 2L));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
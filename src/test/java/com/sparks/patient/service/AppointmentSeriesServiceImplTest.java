@@ -0,0 +1,334 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sparks.patient.dto.AppointmentRequest;
+import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.dto.AppointmentSeriesRequest;
+import com.sparks.patient.dto.AppointmentSeriesResponse;
+import com.sparks.patient.dto.BulkAppointmentItemResult;
+import com.sparks.patient.dto.BulkAppointmentResponse;
+import com.sparks.patient.dto.SeriesConfirmResponse;
+import com.sparks.patient.dto.SeriesOccurrenceResponse;
+import com.sparks.patient.dto.SeriesOccurrenceResponse.OccurrenceStatus;
+import com.sparks.patient.entity.AppointmentSeries;
+import com.sparks.patient.entity.AppointmentSeries.Frequency;
+import com.sparks.patient.entity.Doctor;
+import com.sparks.patient.entity.Patient;
+import com.sparks.patient.entity.Shift;
+import com.sparks.patient.exception.InvalidSeriesException;
+import com.sparks.patient.exception.InvalidTimeSlotException;
+import com.sparks.patient.exception.PatientNotFoundException;
+import com.sparks.patient.exception.SeriesNotFoundException;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.AppointmentSeriesRepository;
+import com.sparks.patient.repository.DoctorRepository;
+import com.sparks.patient.repository.PatientRepository;
+import com.sparks.patient.repository.ShiftRepository;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for AppointmentSeriesServiceImpl
+ */
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Appointment Series Service Tests")
+class AppointmentSeriesServiceImplTest {
+
+    private static final LocalDateTime MONDAY_TEN = LocalDateTime.of(2026, 2, 9, 10, 0);
+
+    @Mock
+    private AppointmentSeriesRepository appointmentSeriesRepository;
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    @Mock
+    private DoctorRepository doctorRepository;
+
+    @Mock
+    private ShiftRepository shiftRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private AppointmentService appointmentService;
+
+    @Spy
+    private SlotHoldRegistry slotHoldRegistry = new SlotHoldRegistry(Duration.ofMinutes(5));
+
+    @InjectMocks
+    private AppointmentSeriesServiceImpl appointmentSeriesService;
+
+    private Patient patient;
+    private Doctor doctor;
+    private AppointmentSeriesRequest request;
+
+    @BeforeEach
+    void setUp() {
+        patient = Patient.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@test.com")
+                .phone("+1234567890")
+                .dob(LocalDate.of(1990, 1, 1))
+                .build();
+        doctor = Doctor.builder()
+                .id(2L)
+                .fullName("Dr. Smith")
+                .licenseNumber("LIC123456")
+                .specialization("Cardiology")
+                .deptId(1L)
+                .build();
+        request = AppointmentSeriesRequest.builder()
+                .patientId(1L)
+                .doctorId(2L)
+                .firstAppointmentTime(MONDAY_TEN)
+                .frequency(Frequency.WEEKLY)
+                .occurrenceCount(4)
+                .build();
+    }
+
+    private AppointmentSeries weeklySeries() {
+        return AppointmentSeries.builder()
+                .id(7L)
+                .patient(patient)
+                .doctor(doctor)
+                .firstAppointmentTime(MONDAY_TEN)
+                .frequency(Frequency.WEEKLY)
+                .repeatInterval(1)
+                .occurrenceCount(4)
+                .build();
+    }
+
+    private AppointmentResponse booking(Long patientId, LocalDateTime time, String appointmentId) {
+        return AppointmentResponse.builder()
+                .appointmentId(appointmentId)
+                .patientId(patientId)
+                .doctorId(2L)
+                .appointmentTime(time)
+                .status("SCHEDULED")
+                .build();
+    }
+
+    private void workingHours() {
+        when(shiftRepository.findByDoctorId(2L)).thenReturn(List.of(Shift.builder().doctorId(2L)
+                .startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(17, 0)).room("Room 101").build()));
+    }
+
+    @Test
+    @DisplayName("Should store the series as one row and report its conflicting occurrences")
+    void testCreateSeries() {
+        // Given - week 1 taken by another patient, week 2 already booked by this patient, week 3 held
+        when(patientRepository.findById(1L)).thenReturn(Optional.of(patient));
+        when(doctorRepository.findById(2L)).thenReturn(Optional.of(doctor));
+        when(appointmentSeriesRepository.save(any(AppointmentSeries.class))).thenAnswer(invocation -> {
+            AppointmentSeries series = invocation.getArgument(0);
+            series.setId(7L);
+            return series;
+        });
+        when(appointmentRepository.findResponsesByDoctorIdBetween(2L,
+                MONDAY_TEN.minusMinutes(30), MONDAY_TEN.plusWeeks(3).plusMinutes(30)))
+                .thenReturn(Arrays.asList(
+                        booking(5L, MONDAY_TEN.plusWeeks(1).plusMinutes(15), "other"),
+                        booking(1L, MONDAY_TEN.plusWeeks(2), "own")));
+        workingHours();
+        assertThat(slotHoldRegistry.tryHold(2L, MONDAY_TEN.plusWeeks(3))).isPresent();
+
+        // When
+        AppointmentSeriesResponse response = appointmentSeriesService.createSeries(request);
+
+        // Then
+        assertThat(response.getId()).isEqualTo(7L);
+        assertThat(response.getFrequency()).isEqualTo("WEEKLY");
+        assertThat(response.getOccurrences()).isEqualTo(4);
+        assertThat(response.getConflicts()).extracting(SeriesOccurrenceResponse::getAppointmentTime)
+                .containsExactly(MONDAY_TEN.plusWeeks(1), MONDAY_TEN.plusWeeks(3));
+        assertThat(response.getConflicts().get(1).getReason()).contains("slot hold");
+        verify(appointmentService, never()).createAppointments(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject a series bounded by neither or both of count and until date")
+    void testCreateSeries_Unbounded() {
+        request.setOccurrenceCount(null);
+        assertThatThrownBy(() -> appointmentSeriesService.createSeries(request))
+                .isInstanceOf(InvalidSeriesException.class);
+
+        request.setOccurrenceCount(4);
+        request.setUntilDate(LocalDate.of(2026, 3, 1));
+        assertThatThrownBy(() -> appointmentSeriesService.createSeries(request))
+                .isInstanceOf(InvalidSeriesException.class);
+
+        verify(appointmentSeriesRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a series running past the maximum span or count")
+    void testCreateSeries_TooLong() {
+        request.setOccurrenceCount(null);
+        request.setUntilDate(MONDAY_TEN.toLocalDate().plusYears(3));
+        assertThatThrownBy(() -> appointmentSeriesService.createSeries(request))
+                .isInstanceOf(InvalidSeriesException.class);
+
+        request.setUntilDate(null);
+        request.setOccurrenceCount(AppointmentSeriesServiceImpl.MAX_OCCURRENCES + 1);
+        assertThatThrownBy(() -> appointmentSeriesService.createSeries(request))
+                .isInstanceOf(InvalidSeriesException.class);
+
+        verify(appointmentSeriesRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a daily series with more occurrences than allowed")
+    void testCreateSeries_TooManyOccurrences() {
+        request.setFrequency(Frequency.DAILY);
+        request.setOccurrenceCount(null);
+        request.setUntilDate(MONDAY_TEN.toLocalDate().plusYears(1).plusDays(5));
+        when(patientRepository.findById(1L)).thenReturn(Optional.of(patient));
+        when(doctorRepository.findById(2L)).thenReturn(Optional.of(doctor));
+
+        assertThatThrownBy(() -> appointmentSeriesService.createSeries(request))
+                .isInstanceOf(InvalidSeriesException.class);
+        verify(appointmentSeriesRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should throw when the patient does not exist")
+    void testCreateSeries_PatientNotFound() {
+        when(patientRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> appointmentSeriesService.createSeries(request))
+                .isInstanceOf(PatientNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should classify the occurrences of a window")
+    void testGetOccurrences() {
+        when(appointmentSeriesRepository.findById(7L)).thenReturn(Optional.of(weeklySeries()));
+        when(appointmentRepository.findResponsesByDoctorIdBetween(2L,
+                MONDAY_TEN.plusWeeks(1).minusMinutes(30), MONDAY_TEN.plusWeeks(2).plusMinutes(30)))
+                .thenReturn(List.of(booking(1L, MONDAY_TEN.plusWeeks(2), "own")));
+        workingHours();
+
+        List<SeriesOccurrenceResponse> occurrences = appointmentSeriesService.getOccurrences(7L,
+                MONDAY_TEN.toLocalDate().plusDays(1), MONDAY_TEN.toLocalDate().plusDays(15));
+
+        assertThat(occurrences).extracting(SeriesOccurrenceResponse::getStatus)
+                .containsExactly(OccurrenceStatus.AVAILABLE, OccurrenceStatus.BOOKED);
+        assertThat(occurrences.get(1).getAppointmentId()).isEqualTo("own");
+    }
+
+    @Test
+    @DisplayName("Should flag occurrences outside the doctor's shifts")
+    void testGetOccurrences_OutsideShifts() {
+        when(appointmentSeriesRepository.findById(7L)).thenReturn(Optional.of(weeklySeries()));
+        when(shiftRepository.findByDoctorId(2L)).thenReturn(List.of(Shift.builder().doctorId(2L)
+                .startTime(LocalTime.of(14, 0)).endTime(LocalTime.of(17, 0)).room("Room 101").build()));
+
+        List<SeriesOccurrenceResponse> occurrences = appointmentSeriesService.getOccurrences(7L,
+                MONDAY_TEN.toLocalDate(), MONDAY_TEN.toLocalDate().plusDays(1));
+
+        assertThat(occurrences).hasSize(1);
+        assertThat(occurrences.get(0).getStatus()).isEqualTo(OccurrenceStatus.CONFLICT);
+        assertThat(occurrences.get(0).getReason()).contains("no shift");
+    }
+
+    @Test
+    @DisplayName("Should reject an empty or reversed window")
+    void testGetOccurrences_InvalidRange() {
+        LocalDate day = MONDAY_TEN.toLocalDate();
+
+        assertThatThrownBy(() -> appointmentSeriesService.getOccurrences(7L, day, day))
+                .isInstanceOf(InvalidTimeSlotException.class);
+    }
+
+    @Test
+    @DisplayName("Should throw when the series does not exist")
+    void testGetSeries_NotFound() {
+        when(appointmentSeriesRepository.findById(7L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> appointmentSeriesService.getSeries(7L))
+                .isInstanceOf(SeriesNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should book the available occurrences of a window in one bulk request")
+    @SuppressWarnings("unchecked")
+    void testConfirmOccurrences() {
+        // Given - four available occurrences; the bulk path loses the last one to a race
+        when(appointmentSeriesRepository.findById(7L)).thenReturn(Optional.of(weeklySeries()));
+        workingHours();
+        when(appointmentService.createAppointments(anyList())).thenReturn(BulkAppointmentResponse.builder()
+                .requested(4)
+                .created(3)
+                .failed(1)
+                .results(Arrays.asList(
+                        BulkAppointmentItemResult.builder().index(0).success(true).appointmentId("a0").build(),
+                        BulkAppointmentItemResult.builder().index(1).success(true).appointmentId("a1").build(),
+                        BulkAppointmentItemResult.builder().index(2).success(true).appointmentId("a2").build(),
+                        BulkAppointmentItemResult.builder().index(3).success(false).error("taken").build()))
+                .build());
+
+        // When
+        SeriesConfirmResponse response = appointmentSeriesService.confirmOccurrences(7L,
+                MONDAY_TEN.toLocalDate(), MONDAY_TEN.toLocalDate().plusMonths(2));
+
+        // Then
+        ArgumentCaptor<List<AppointmentRequest>> requests = ArgumentCaptor.forClass(List.class);
+        verify(appointmentService).createAppointments(requests.capture());
+        assertThat(requests.getValue()).extracting(AppointmentRequest::getAppointmentTime).containsExactly(
+                MONDAY_TEN, MONDAY_TEN.plusWeeks(1), MONDAY_TEN.plusWeeks(2), MONDAY_TEN.plusWeeks(3));
+        assertThat(requests.getValue()).allMatch(item -> item.getPatientId() == 1L && item.getDoctorId() == 2L);
+
+        assertThat(response.getSeriesId()).isEqualTo(7L);
+        assertThat(response.getCreated()).isEqualTo(3);
+        assertThat(response.getOccurrences()).extracting(SeriesOccurrenceResponse::getStatus).containsExactly(
+                OccurrenceStatus.BOOKED, OccurrenceStatus.BOOKED, OccurrenceStatus.BOOKED, OccurrenceStatus.CONFLICT);
+        assertThat(response.getOccurrences().get(3).getReason()).isEqualTo("taken");
+    }
+
+    @Test
+    @DisplayName("Should not call the booking path when nothing in the window is available")
+    void testConfirmOccurrences_NothingAvailable() {
+        when(appointmentSeriesRepository.findById(7L)).thenReturn(Optional.of(weeklySeries()));
+        when(appointmentRepository.findResponsesByDoctorIdBetween(2L,
+                MONDAY_TEN.minusMinutes(30), MONDAY_TEN.plusMinutes(30)))
+                .thenReturn(List.of(booking(1L, MONDAY_TEN, "own")));
+        workingHours();
+
+        SeriesConfirmResponse response = appointmentSeriesService.confirmOccurrences(7L,
+                MONDAY_TEN.toLocalDate(), MONDAY_TEN.toLocalDate().plusDays(1));
+
+        assertThat(response.getCreated()).isZero();
+        assertThat(response.getOccurrences()).extracting(SeriesOccurrenceResponse::getStatus)
+                .containsExactly(OccurrenceStatus.BOOKED);
+        verify(appointmentService, never()).createAppointments(anyList());
+    }
+}
@@ -3,14 +3,25 @@ package com.sparks.patient.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+
+import javax.persistence.EntityManager;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,20 +29,36 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import com.sparks.patient.dto.AppointmentEvent;
+import com.sparks.patient.dto.AppointmentFilter;
+import com.sparks.patient.dto.AppointmentPageResponse;
 import com.sparks.patient.dto.AppointmentRequest;
 import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.dto.AppointmentStatusBatchRequest;
+import com.sparks.patient.dto.AppointmentStatusBatchResponse;
+import com.sparks.patient.dto.AppointmentStatusUpdateRequest;
+import com.sparks.patient.dto.BulkAppointmentResponse;
 import com.sparks.patient.entity.Appointment;
 import com.sparks.patient.entity.Doctor;
 import com.sparks.patient.entity.Patient;
+import com.sparks.patient.entity.Shift;
+import com.sparks.patient.exception.AppointmentConflictException;
 import com.sparks.patient.exception.AppointmentNotFoundException;
+import com.sparks.patient.exception.AppointmentVersionConflictException;
 import com.sparks.patient.exception.DoctorNotFoundException;
+import com.sparks.patient.exception.InvalidCursorException;
+import com.sparks.patient.exception.InvalidStatusTransitionException;
 import com.sparks.patient.exception.PatientNotFoundException;
 import com.sparks.patient.mapper.AppointmentMapper;
 import com.sparks.patient.repository.AppointmentRepository;
 import com.sparks.patient.repository.DoctorRepository;
 import com.sparks.patient.repository.PatientRepository;
+import com.sparks.patient.repository.ShiftRepository;
+import com.sparks.patient.repository.StatusAppointmentCount;
 import com.sparks.patient.test.UnitTest;
 
 /**
@@ -51,9 +78,33 @@ class AppointmentServiceImplTest {
     @Mock
     private DoctorRepository doctorRepository;
 
+    @Mock
+    private ShiftRepository shiftRepository;
+
     @Mock
     private AppointmentMapper appointmentMapper;
 
+    @Mock
+    private BookingLocks bookingLocks;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private AppointmentLookupCache appointmentLookupCache = new AppointmentLookupCache();
+
+    @Mock
+    private DoctorCalendarCache doctorCalendarCache;
+
+    @Mock
+    private AppointmentEventBus appointmentEventBus;
+
+    @Mock
+    private SlotHoldRegistry slotHoldRegistry;
+
+    @Spy
+    private AppointmentStatsCounters appointmentStatsCounters = new AppointmentStatsCounters();
+
     @InjectMocks
     private AppointmentServiceImpl appointmentService;
 
@@ -62,6 +113,7 @@ class AppointmentServiceImplTest {
     private AppointmentRequest request;
     private Appointment appointment;
     private AppointmentResponse response;
+    private Shift shift;
 
     @BeforeEach
     void setUp() {
@@ -82,7 +134,15 @@ class AppointmentServiceImplTest {
                 .deptId(1L)
                 .build();
 
-        LocalDateTime appointmentTime = LocalDateTime.now().plusDays(1);
+        LocalDateTime appointmentTime = LocalDate.now().plusDays(1).atTime(10, 0);
+
+        shift = Shift.builder()
+                .id(5L)
+                .doctorId(2L)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(17, 0))
+                .room("Room 101")
+                .build();
         
         request = AppointmentRequest.builder()
                 .patientId(1L)
@@ -119,6 +179,7 @@ class AppointmentServiceImplTest {
         // Given
         when(patientRepository.findById(1L)).thenReturn(Optional.of(patient));
         when(doctorRepository.findById(2L)).thenReturn(Optional.of(doctor));
+        when(shiftRepository.findByDoctorId(2L)).thenReturn(List.of(shift));
         when(appointmentMapper.toEntity(request, patient, doctor)).thenReturn(appointment);
         when(appointmentRepository.save(any(Appointment.class))).thenReturn(appointment);
         when(appointmentMapper.toResponse(appointment)).thenReturn(response);
@@ -135,7 +196,125 @@ class AppointmentServiceImplTest {
 
         verify(patientRepository).findById(1L);
         verify(doctorRepository).findById(2L);
+        verify(bookingLocks).lockUntilCompletion(Set.of(2L));
         verify(appointmentRepository).save(any(Appointment.class));
+        verify(appointmentRepository).flush();
+        verify(doctorCalendarCache).invalidateAfterCommit(2L, request.getAppointmentTime().toLocalDate());
+        verify(appointmentStatsCounters).addedAfterCommit(2L, request.getAppointmentTime(),
+                Appointment.AppointmentStatus.SCHEDULED);
+        verify(appointmentEventBus).publishAfterCommit(argThat((AppointmentEvent event) ->
+                event.getType() == AppointmentEvent.Type.CREATED && event.getAppointment() == response));
+    }
+
+    @Test
+    @DisplayName("Should reject appointment overlapping an existing booking of the doctor")
+    void testCreateAppointment_Overlap() {
+        // Given
+        LocalDateTime time = request.getAppointmentTime();
+        when(patientRepository.findById(1L)).thenReturn(Optional.of(patient));
+        when(doctorRepository.findById(2L)).thenReturn(Optional.of(doctor));
+        when(shiftRepository.findByDoctorId(2L)).thenReturn(List.of(shift));
+        when(appointmentRepository.existsOverlapping(2L, time.minusMinutes(30), time.plusMinutes(30),
+                Appointment.AppointmentStatus.CANCELLED)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> appointmentService.createAppointment(request))
+                .isInstanceOf(AppointmentConflictException.class)
+                .hasMessageContaining("Doctor 2 already has an appointment");
+
+        verify(appointmentRepository, never()).save(any(Appointment.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a slot held by someone else")
+    void testCreateAppointment_HeldByOther() {
+        // Given
+        when(patientRepository.findById(1L)).thenReturn(Optional.of(patient));
+        when(doctorRepository.findById(2L)).thenReturn(Optional.of(doctor));
+        when(shiftRepository.findByDoctorId(2L)).thenReturn(List.of(shift));
+        when(slotHoldRegistry.isHeldByOther(2L, request.getAppointmentTime(), null)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> appointmentService.createAppointment(request))
+                .isInstanceOf(AppointmentConflictException.class)
+                .hasMessageContaining("Doctor 2 has a slot hold overlapping");
+
+        verify(appointmentRepository, never()).save(any(Appointment.class));
+    }
+
+    @Test
+    @DisplayName("Should book a held slot with its hold id and release the hold")
+    void testCreateAppointment_WithOwnHold() {
+        // Given
+        request.setHoldId("hold-1");
+        when(patientRepository.findById(1L)).thenReturn(Optional.of(patient));
+        when(doctorRepository.findById(2L)).thenReturn(Optional.of(doctor));
+        when(shiftRepository.findByDoctorId(2L)).thenReturn(List.of(shift));
+        when(slotHoldRegistry.covers("hold-1", 2L, request.getAppointmentTime())).thenReturn(true);
+        when(slotHoldRegistry.isHeldByOther(2L, request.getAppointmentTime(), "hold-1")).thenReturn(false);
+        when(appointmentMapper.toEntity(request, patient, doctor)).thenReturn(appointment);
+        when(appointmentRepository.save(any(Appointment.class))).thenReturn(appointment);
+        when(appointmentMapper.toResponse(appointment)).thenReturn(response);
+
+        // When
+        AppointmentResponse result = appointmentService.createAppointment(request);
+
+        // Then
+        assertThat(result).isEqualTo(response);
+        verify(slotHoldRegistry).releaseAfterCommit("hold-1");
+    }
+
+    @Test
+    @DisplayName("Should reject a hold id that does not hold the booked slot and keep the hold")
+    void testCreateAppointment_MismatchedHold() {
+        // Given
+        request.setHoldId("hold-1");
+        when(patientRepository.findById(1L)).thenReturn(Optional.of(patient));
+        when(doctorRepository.findById(2L)).thenReturn(Optional.of(doctor));
+        when(shiftRepository.findByDoctorId(2L)).thenReturn(List.of(shift));
+        when(slotHoldRegistry.covers("hold-1", 2L, request.getAppointmentTime())).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> appointmentService.createAppointment(request))
+                .isInstanceOf(AppointmentConflictException.class)
+                .hasMessageContaining("Slot hold hold-1 is not a live hold of doctor 2");
+
+        verify(appointmentRepository, never()).save(any(Appointment.class));
+        verify(slotHoldRegistry, never()).releaseAfterCommit(any());
+    }
+
+    @Test
+    @DisplayName("Should reject appointment outside the doctor's shifts")
+    void testCreateAppointment_OutsideShift() {
+        // Given
+        request.setAppointmentTime(request.getAppointmentTime().withHour(16).withMinute(45));
+        when(patientRepository.findById(1L)).thenReturn(Optional.of(patient));
+        when(doctorRepository.findById(2L)).thenReturn(Optional.of(doctor));
+        when(shiftRepository.findByDoctorId(2L)).thenReturn(List.of(shift));
+
+        // When & Then
+        assertThatThrownBy(() -> appointmentService.createAppointment(request))
+                .isInstanceOf(AppointmentConflictException.class)
+                .hasMessageContaining("Doctor 2 has no shift covering");
+
+        verify(appointmentRepository, never()).save(any(Appointment.class));
+    }
+
+    @Test
+    @DisplayName("Should translate a unique constraint violation into a booking conflict")
+    void testCreateAppointment_UniqueConstraintRace() {
+        // Given
+        when(patientRepository.findById(1L)).thenReturn(Optional.of(patient));
+        when(doctorRepository.findById(2L)).thenReturn(Optional.of(doctor));
+        when(shiftRepository.findByDoctorId(2L)).thenReturn(List.of(shift));
+        when(appointmentMapper.toEntity(request, patient, doctor)).thenReturn(appointment);
+        when(appointmentRepository.save(any(Appointment.class))).thenReturn(appointment);
+        doThrow(new DataIntegrityViolationException("uk_appointment_doctor_active_slot"))
+                .when(appointmentRepository).flush();
+
+        // When & Then
+        assertThatThrownBy(() -> appointmentService.createAppointment(request))
+                .isInstanceOf(AppointmentConflictException.class);
     }
 
     @Test
@@ -173,8 +352,7 @@ class AppointmentServiceImplTest {
     void testGetAppointmentById_Success() {
         // Given
         String appointmentId = "550e8400-e29b-41d4-a716-446655440000";
-        when(appointmentRepository.findByAppointmentId(appointmentId)).thenReturn(Optional.of(appointment));
-        when(appointmentMapper.toResponse(appointment)).thenReturn(response);
+        when(appointmentRepository.findResponseByAppointmentId(appointmentId)).thenReturn(Optional.of(response));
 
         // When
         AppointmentResponse result = appointmentService.getAppointmentById(appointmentId);
@@ -183,42 +361,102 @@ class AppointmentServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getAppointmentId()).isEqualTo(appointmentId);
 
-        verify(appointmentRepository).findByAppointmentId(appointmentId);
+        verify(appointmentRepository).findResponseByAppointmentId(appointmentId);
+        verify(appointmentMapper, never()).toResponse(any(Appointment.class));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups of an appointment from the cache")
+    void testGetAppointmentById_CachedAfterFirstLookup() {
+        // Given
+        String appointmentId = "550e8400-e29b-41d4-a716-446655440000";
+        when(appointmentRepository.findResponseByAppointmentId(appointmentId)).thenReturn(Optional.of(response));
+
+        // When
+        appointmentService.getAppointmentById(appointmentId);
+        appointmentService.getAppointmentById(appointmentId);
+        AppointmentResponse result = appointmentService.getAppointmentById(appointmentId);
+
+        // Then
+        assertThat(result).isSameAs(response);
+        verify(appointmentRepository, times(1)).findResponseByAppointmentId(appointmentId);
+        assertThat(appointmentService.getLookupCacheStats().getHitCount()).isEqualTo(2);
+        assertThat(appointmentService.getLookupCacheStats().getMissCount()).isEqualTo(1);
     }
 
     @Test
     @DisplayName("Should throw AppointmentNotFoundException when appointment not found")
     void testGetAppointmentById_NotFound() {
         // Given
-        String appointmentId = "invalid-uuid";
-        when(appointmentRepository.findByAppointmentId(appointmentId)).thenReturn(Optional.empty());
+        String appointmentId = "017f22e2-79b0-7cc3-98c4-dc0c0c07398f";
+        when(appointmentRepository.findResponseByAppointmentId(appointmentId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> appointmentService.getAppointmentById(appointmentId))
+                .isInstanceOf(AppointmentNotFoundException.class)
+                .hasMessageContaining("Appointment not found with id: " + appointmentId);
+
+        verify(appointmentRepository).findResponseByAppointmentId(appointmentId);
+    }
+
+    @Test
+    @DisplayName("Should find an archived appointment by UUID once it is no longer live")
+    void testGetAppointmentById_Archived() {
+        // Given
+        String appointmentId = "017f22e2-79b0-7cc3-98c4-dc0c0c07398f";
+        when(appointmentRepository.findResponseByAppointmentId(appointmentId)).thenReturn(Optional.empty());
+        when(appointmentRepository.findArchivedResponseByAppointmentId(appointmentId))
+                .thenReturn(Optional.of(response));
+
+        // When
+        AppointmentResponse result = appointmentService.getAppointmentById(appointmentId);
+
+        // Then
+        assertThat(result).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("Should throw AppointmentNotFoundException for malformed UUID without querying")
+    void testGetAppointmentById_Malformed() {
+        // When & Then
+        assertThatThrownBy(() -> appointmentService.getAppointmentById("invalid-uuid"))
                 .isInstanceOf(AppointmentNotFoundException.class)
                 .hasMessageContaining("Appointment not found with id: invalid-uuid");
 
-        verify(appointmentRepository).findByAppointmentId(appointmentId);
+        verify(appointmentRepository, never()).findResponseByAppointmentId(any());
     }
 
     @Test
     @DisplayName("Should get appointments by patient ID")
     void testGetAppointmentsByPatientId_Success() {
         // Given
-        List<Appointment> appointments = Arrays.asList(appointment);
         when(patientRepository.existsById(1L)).thenReturn(true);
-        when(appointmentRepository.findByPatientId(1L)).thenReturn(appointments);
-        when(appointmentMapper.toResponse(appointment)).thenReturn(response);
+        when(appointmentRepository.findResponsesByPatientId(1L, false)).thenReturn(Arrays.asList(response));
 
         // When
-        List<AppointmentResponse> results = appointmentService.getAppointmentsByPatientId(1L);
+        List<AppointmentResponse> results = appointmentService.getAppointmentsByPatientId(1L, false);
 
         // Then
         assertThat(results).hasSize(1);
         assertThat(results.get(0).getPatientId()).isEqualTo(1L);
 
         verify(patientRepository).existsById(1L);
-        verify(appointmentRepository).findByPatientId(1L);
+        verify(appointmentRepository).findResponsesByPatientId(1L, false);
+    }
+
+    @Test
+    @DisplayName("Should include the archived history of a patient when asked")
+    void testGetAppointmentsByPatientId_IncludeArchived() {
+        // Given
+        when(patientRepository.existsById(1L)).thenReturn(true);
+        when(appointmentRepository.findResponsesByPatientId(1L, true)).thenReturn(Arrays.asList(response));
+
+        // When
+        List<AppointmentResponse> results = appointmentService.getAppointmentsByPatientId(1L, true);
+
+        // Then
+        assertThat(results).hasSize(1);
+        verify(appointmentRepository, never()).findResponsesByPatientId(1L, false);
     }
 
     @Test
@@ -228,7 +466,7 @@ class AppointmentServiceImplTest {
         when(patientRepository.existsById(1L)).thenReturn(false);
 
         // When & Then
-        assertThatThrownBy(() -> appointmentService.getAppointmentsByPatientId(1L))
+        assertThatThrownBy(() -> appointmentService.getAppointmentsByPatientId(1L, false))
                 .isInstanceOf(PatientNotFoundException.class)
                 .hasMessageContaining("Patient not found with id: 1");
 
@@ -239,20 +477,18 @@ class AppointmentServiceImplTest {
     @DisplayName("Should get appointments by doctor ID")
     void testGetAppointmentsByDoctorId_Success() {
         // Given
-        List<Appointment> appointments = Arrays.asList(appointment);
         when(doctorRepository.existsById(2L)).thenReturn(true);
-        when(appointmentRepository.findByDoctorId(2L)).thenReturn(appointments);
-        when(appointmentMapper.toResponse(appointment)).thenReturn(response);
+        when(appointmentRepository.findResponsesByDoctorId(2L, false)).thenReturn(Arrays.asList(response));
 
         // When
-        List<AppointmentResponse> results = appointmentService.getAppointmentsByDoctorId(2L);
+        List<AppointmentResponse> results = appointmentService.getAppointmentsByDoctorId(2L, false);
 
         // Then
         assertThat(results).hasSize(1);
         assertThat(results.get(0).getDoctorId()).isEqualTo(2L);
 
         verify(doctorRepository).existsById(2L);
-        verify(appointmentRepository).findByDoctorId(2L);
+        verify(appointmentRepository).findResponsesByDoctorId(2L, false);
     }
 
     @Test
@@ -262,7 +498,7 @@ class AppointmentServiceImplTest {
         when(doctorRepository.existsById(2L)).thenReturn(false);
 
         // When & Then
-        assertThatThrownBy(() -> appointmentService.getAppointmentsByDoctorId(2L))
+        assertThatThrownBy(() -> appointmentService.getAppointmentsByDoctorId(2L, false))
                 .isInstanceOf(DoctorNotFoundException.class)
                 .hasMessageContaining("Doctor not found with id: 2");
 
@@ -273,15 +509,447 @@ class AppointmentServiceImplTest {
     @DisplayName("Should get all appointments")
     void testGetAllAppointments() {
         // Given
-        List<Appointment> appointments = Arrays.asList(appointment);
-        when(appointmentRepository.findAll()).thenReturn(appointments);
-        when(appointmentMapper.toResponse(appointment)).thenReturn(response);
+        when(appointmentRepository.findAllResponses()).thenReturn(Arrays.asList(response));
 
         // When
         List<AppointmentResponse> results = appointmentService.getAllAppointments();
 
         // Then
         assertThat(results).hasSize(1);
-        verify(appointmentRepository).findAll();
+        verify(appointmentRepository).findAllResponses();
+        verify(appointmentMapper, never()).toResponse(any(Appointment.class));
+    }
+
+    @Test
+    @DisplayName("Should return first appointment page with next cursor when more rows exist")
+    void testGetAppointmentPage_HasNext() {
+        // Given
+        AppointmentResponse second = AppointmentResponse.builder()
+                .id(11L)
+                .appointmentId("6fa459ea-ee8a-3ca4-894e-db77e160355e")
+                .patientId(1L)
+                .doctorId(2L)
+                .appointmentTime(response.getAppointmentTime().plusHours(1))
+                .build();
+        AppointmentFilter filter = AppointmentFilter.builder().doctorId(2L).build();
+        when(appointmentRepository.findResponses(any(), eq(2))).thenReturn(Arrays.asList(response, second));
+
+        // When
+        AppointmentPageResponse page = appointmentService.getAppointmentPage(filter, null, 1);
+
+        // Then
+        assertThat(page.getContent()).containsExactly(response);
+        assertThat(page.getSize()).isEqualTo(1);
+        assertThat(page.isHasNext()).isTrue();
+        AppointmentCursor next = AppointmentCursor.decode(page.getNextCursor());
+        assertThat(next.getAppointmentTime()).isEqualTo(appointment.getAppointmentTime());
+        assertThat(next.getId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("Should seek after the cursor position and report last page")
+    void testGetAppointmentPage_AfterCursor() {
+        // Given
+        AppointmentCursor cursor = AppointmentCursor.after(response);
+        AppointmentFilter filter = AppointmentFilter.builder().build();
+        when(appointmentRepository.findResponses(any(), eq(51))).thenReturn(List.of());
+
+        // When
+        AppointmentPageResponse page = appointmentService.getAppointmentPage(filter, cursor.encode(), 50);
+
+        // Then
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor")
+    void testGetAppointmentPage_InvalidCursor() {
+        AppointmentFilter filter = AppointmentFilter.builder().build();
+
+        assertThatThrownBy(() -> appointmentService.getAppointmentPage(filter, "not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("Should search with the filters given and return a keyset page")
+    void testSearchAppointments_HasNext() {
+        // Given
+        AppointmentResponse second = AppointmentResponse.builder()
+                .id(11L)
+                .appointmentId("6fa459ea-ee8a-3ca4-894e-db77e160355e")
+                .patientId(1L)
+                .doctorId(2L)
+                .appointmentTime(response.getAppointmentTime().plusHours(1))
+                .build();
+        AppointmentFilter filter = AppointmentFilter.builder()
+                .patientId(1L)
+                .doctorId(2L)
+                .deptId(3L)
+                .status(Appointment.AppointmentStatus.SCHEDULED)
+                .build();
+        when(appointmentRepository.findResponses(any(), eq(2))).thenReturn(Arrays.asList(response, second));
+
+        // When
+        AppointmentPageResponse page = appointmentService.searchAppointments(filter, null, 1);
+
+        // Then
+        assertThat(page.getContent()).containsExactly(response);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(AppointmentCursor.decode(page.getNextCursor()).getId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("Should cap the search page size and reject a malformed cursor")
+    void testSearchAppointments_LimitsAndCursor() {
+        AppointmentFilter filter = AppointmentFilter.builder().build();
+        when(appointmentRepository.findResponses(any(), eq(AppointmentServiceImpl.MAX_PAGE_SIZE + 1)))
+                .thenReturn(List.of());
+
+        AppointmentPageResponse page = appointmentService.searchAppointments(filter, null, 10_000);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        assertThatThrownBy(() -> appointmentService.searchAppointments(filter, "not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("Should bulk create appointments and report unknown references per item")
+    void testCreateAppointments_PartialFailure() {
+        // Given
+        AppointmentRequest unknownPatient = AppointmentRequest.builder()
+                .patientId(99L)
+                .doctorId(2L)
+                .appointmentTime(request.getAppointmentTime())
+                .build();
+        AppointmentRequest unknownDoctor = AppointmentRequest.builder()
+                .patientId(1L)
+                .doctorId(98L)
+                .appointmentTime(request.getAppointmentTime())
+                .build();
+        when(patientRepository.findAllById(any())).thenReturn(List.of(patient));
+        when(doctorRepository.findAllById(any())).thenReturn(List.of(doctor));
+        when(shiftRepository.findByDoctorIdIn(any())).thenReturn(List.of(shift));
+        when(appointmentMapper.toEntity(request, patient, doctor)).thenReturn(appointment);
+        when(appointmentRepository.saveAll(anyList())).thenReturn(List.of(appointment));
+
+        // When
+        BulkAppointmentResponse result = appointmentService.createAppointments(
+                Arrays.asList(request, unknownPatient, unknownDoctor));
+
+        // Then
+        assertThat(result.getRequested()).isEqualTo(3);
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getResults()).hasSize(3);
+        assertThat(result.getResults().get(0).isSuccess()).isTrue();
+        assertThat(result.getResults().get(0).getAppointmentId()).isEqualTo(appointment.getAppointmentId());
+        assertThat(result.getResults().get(1).getError()).isEqualTo("Patient not found with id: 99");
+        assertThat(result.getResults().get(2).getError()).isEqualTo("Doctor not found with id: 98");
+
+        verify(patientRepository, never()).findById(any());
+        verify(doctorRepository, never()).findById(any());
+        verify(entityManager).flush();
+        verify(entityManager).clear();
+        verify(doctorCalendarCache).invalidateAfterCommit(
+                Set.of(DoctorCalendarCache.DoctorDay.of(2L, request.getAppointmentTime())));
+    }
+
+    @Test
+    @DisplayName("Should publish bulk-created appointments only for doctors with subscribers")
+    void testCreateAppointments_PublishesEvents() {
+        // Given
+        when(patientRepository.findAllById(any())).thenReturn(List.of(patient));
+        when(doctorRepository.findAllById(any())).thenReturn(List.of(doctor));
+        when(shiftRepository.findByDoctorIdIn(any())).thenReturn(List.of(shift));
+        when(appointmentMapper.toEntity(request, patient, doctor)).thenReturn(appointment);
+        when(appointmentRepository.saveAll(anyList())).thenReturn(List.of(appointment));
+        when(appointmentEventBus.hasSubscribers(2L)).thenReturn(true);
+        when(appointmentMapper.toResponse(appointment)).thenReturn(response);
+
+        // When
+        appointmentService.createAppointments(List.of(request));
+
+        // Then
+        verify(appointmentEventBus).publishAfterCommit(argThat((List<AppointmentEvent> events) ->
+                events.size() == 1 && events.get(0).getAppointment() == response));
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when no bulk item is bookable")
+    void testCreateAppointments_AllFailed() {
+        // Given
+        when(patientRepository.findAllById(any())).thenReturn(List.of());
+        when(doctorRepository.findAllById(any())).thenReturn(List.of(doctor));
+
+        // When
+        BulkAppointmentResponse result = appointmentService.createAppointments(List.of(request));
+
+        // Then
+        assertThat(result.getCreated()).isZero();
+        assertThat(result.getFailed()).isEqualTo(1);
+        verify(appointmentRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should fail bulk items whose slot is held by someone else")
+    void testCreateAppointments_HeldByOther() {
+        // Given
+        when(patientRepository.findAllById(any())).thenReturn(List.of(patient));
+        when(doctorRepository.findAllById(any())).thenReturn(List.of(doctor));
+        when(shiftRepository.findByDoctorIdIn(any())).thenReturn(List.of(shift));
+        when(slotHoldRegistry.isHeldByOther(2L, request.getAppointmentTime(), null)).thenReturn(true);
+
+        // When
+        BulkAppointmentResponse result = appointmentService.createAppointments(List.of(request));
+
+        // Then
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getResults().get(0).getError()).contains("slot hold");
+        verify(appointmentRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should fail bulk items whose hold id does not hold the booked slot")
+    void testCreateAppointments_MismatchedHold() {
+        // Given
+        request.setHoldId("hold-1");
+        when(patientRepository.findAllById(any())).thenReturn(List.of(patient));
+        when(doctorRepository.findAllById(any())).thenReturn(List.of(doctor));
+        when(shiftRepository.findByDoctorIdIn(any())).thenReturn(List.of(shift));
+        when(slotHoldRegistry.covers("hold-1", 2L, request.getAppointmentTime())).thenReturn(false);
+
+        // When
+        BulkAppointmentResponse result = appointmentService.createAppointments(List.of(request));
+
+        // Then
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getResults().get(0).getError()).contains("Slot hold hold-1");
+        verify(appointmentRepository, never()).saveAll(anyList());
+        verify(slotHoldRegistry, never()).releaseAfterCommit(any());
+    }
+
+    @Test
+    @DisplayName("Should reject bulk items overlapping each other or falling outside shifts")
+    void testCreateAppointments_Conflicts() {
+        // Given
+        AppointmentRequest overlapping = AppointmentRequest.builder()
+                .patientId(1L)
+                .doctorId(2L)
+                .appointmentTime(request.getAppointmentTime().plusMinutes(15))
+                .build();
+        AppointmentRequest offShift = AppointmentRequest.builder()
+                .patientId(1L)
+                .doctorId(2L)
+                .appointmentTime(request.getAppointmentTime().withHour(20))
+                .build();
+        when(patientRepository.findAllById(any())).thenReturn(List.of(patient));
+        when(doctorRepository.findAllById(any())).thenReturn(List.of(doctor));
+        when(shiftRepository.findByDoctorIdIn(any())).thenReturn(List.of(shift));
+        when(appointmentMapper.toEntity(request, patient, doctor)).thenReturn(appointment);
+        when(appointmentRepository.saveAll(anyList())).thenReturn(List.of(appointment));
+
+        // When
+        BulkAppointmentResponse result = appointmentService.createAppointments(
+                Arrays.asList(request, overlapping, offShift));
+
+        // Then
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getResults().get(1).getError()).contains("Doctor 2 already has an appointment");
+        assertThat(result.getResults().get(2).getError()).contains("Doctor 2 has no shift covering");
+        verify(bookingLocks).lockUntilCompletion(Set.of(2L));
+    }
+
+    @Test
+    @DisplayName("Should change appointment status when the version matches")
+    void testUpdateAppointmentStatus_Success() {
+        // Given
+        appointment.setVersion(3L);
+        String appointmentId = "017f22e2-79b0-7cc3-98c4-dc0c0c07398f";
+        when(appointmentRepository.findByAppointmentId(appointmentId)).thenReturn(Optional.of(appointment));
+        when(appointmentMapper.toResponse(appointment)).thenReturn(response);
+
+        // When
+        appointmentService.updateAppointmentStatus(appointmentId, AppointmentStatusUpdateRequest.builder()
+                .status(Appointment.AppointmentStatus.CONFIRMED)
+                .version(3L)
+                .build());
+
+        // Then
+        assertThat(appointment.getStatus()).isEqualTo(Appointment.AppointmentStatus.CONFIRMED);
+        verify(appointmentRepository).flush();
+        verify(appointmentLookupCache).invalidateAfterCommit(appointmentId);
+        verify(appointmentStatsCounters).statusChangedAfterCommit(
+                Appointment.AppointmentStatus.SCHEDULED, Appointment.AppointmentStatus.CONFIRMED);
+        verify(doctorCalendarCache).invalidateAfterCommit(2L, appointment.getAppointmentTime().toLocalDate());
+        verify(appointmentEventBus).publishAfterCommit(argThat((AppointmentEvent event) ->
+                event.getType() == AppointmentEvent.Type.STATUS_CHANGED && event.getDoctorId().equals(2L)));
+    }
+
+    @Test
+    @DisplayName("Should reject a status change based on a stale version")
+    void testUpdateAppointmentStatus_StaleVersion() {
+        // Given
+        appointment.setVersion(4L);
+        String appointmentId = "017f22e2-79b0-7cc3-98c4-dc0c0c07398f";
+        when(appointmentRepository.findByAppointmentId(appointmentId)).thenReturn(Optional.of(appointment));
+
+        // When & Then
+        assertThatThrownBy(() -> appointmentService.updateAppointmentStatus(appointmentId,
+                AppointmentStatusUpdateRequest.builder()
+                        .status(Appointment.AppointmentStatus.CONFIRMED)
+                        .version(3L)
+                        .build()))
+                .isInstanceOf(AppointmentVersionConflictException.class)
+                .hasMessageContaining("expected version 3, current version 4");
+
+        assertThat(appointment.getStatus()).isEqualTo(Appointment.AppointmentStatus.SCHEDULED);
+        verify(appointmentRepository, never()).flush();
+    }
+
+    @Test
+    @DisplayName("Should reject reopening a terminal appointment")
+    void testUpdateAppointmentStatus_InvalidTransition() {
+        // Given
+        appointment.setStatus(Appointment.AppointmentStatus.COMPLETED);
+        String appointmentId = "017f22e2-79b0-7cc3-98c4-dc0c0c07398f";
+        when(appointmentRepository.findByAppointmentId(appointmentId)).thenReturn(Optional.of(appointment));
+
+        // When & Then
+        assertThatThrownBy(() -> appointmentService.updateAppointmentStatus(appointmentId,
+                AppointmentStatusUpdateRequest.builder()
+                        .status(Appointment.AppointmentStatus.CANCELLED)
+                        .build()))
+                .isInstanceOf(InvalidStatusTransitionException.class);
+    }
+
+    @Test
+    @DisplayName("Should complete a doctor's day with one set-based update and report skipped rows")
+    void testUpdateAppointmentStatuses_Completed() {
+        // Given
+        LocalDate day = request.getAppointmentTime().toLocalDate();
+        LocalDateTime from = day.atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+        Set<Appointment.AppointmentStatus> sources = Set.of(
+                Appointment.AppointmentStatus.SCHEDULED, Appointment.AppointmentStatus.CONFIRMED);
+        when(doctorRepository.existsById(2L)).thenReturn(true);
+        when(appointmentRepository.countPerStatusForDoctorBetween(2L, from, to)).thenReturn(List.of(
+                statusCount(Appointment.AppointmentStatus.SCHEDULED, 5L),
+                statusCount(Appointment.AppointmentStatus.CONFIRMED, 3L),
+                statusCount(Appointment.AppointmentStatus.COMPLETED, 2L)));
+        when(appointmentRepository.updateStatusForDoctorBetween(eq(2L), eq(from), eq(to), eq(sources),
+                eq(Appointment.AppointmentStatus.COMPLETED), any(LocalDateTime.class)))
+                .thenReturn(7);
+
+        // When
+        AppointmentStatusBatchResponse result = appointmentService.updateAppointmentStatuses(
+                AppointmentStatusBatchRequest.builder()
+                        .doctorId(2L)
+                        .date(day)
+                        .status(Appointment.AppointmentStatus.COMPLETED)
+                        .build());
+
+        // Then
+        assertThat(result.getMatched()).isEqualTo(10);
+        assertThat(result.getUpdated()).isEqualTo(7);
+        assertThat(result.getSkipped()).isEqualTo(2);
+        assertThat(result.getConflicted()).isEqualTo(1);
+        verify(appointmentRepository).countPerStatusForDoctorBetween(2L, from, to);
+        verify(appointmentRepository, never()).save(any(Appointment.class));
+        verify(appointmentRepository, never()).cancelForDoctorBetween(any(), any(), any(), any(), any(), any());
+        verify(appointmentLookupCache).invalidateDoctorAfterCommit(2L);
+        verify(doctorCalendarCache).invalidateAfterCommit(2L, day);
+    }
+
+    @Test
+    @DisplayName("Should cancel a doctor's day through the slot-releasing update")
+    void testUpdateAppointmentStatuses_Cancelled() {
+        // Given
+        LocalDate day = request.getAppointmentTime().toLocalDate();
+        when(doctorRepository.existsById(2L)).thenReturn(true);
+        when(appointmentRepository.countPerStatusForDoctorBetween(eq(2L), any(), any())).thenReturn(List.of(
+                statusCount(Appointment.AppointmentStatus.SCHEDULED, 3L)));
+        when(appointmentRepository.cancelForDoctorBetween(eq(2L), any(), any(), any(),
+                eq(Appointment.AppointmentStatus.CANCELLED), any()))
+                .thenReturn(3);
+
+        // When
+        AppointmentStatusBatchResponse result = appointmentService.updateAppointmentStatuses(
+                AppointmentStatusBatchRequest.builder()
+                        .doctorId(2L)
+                        .date(day)
+                        .status(Appointment.AppointmentStatus.CANCELLED)
+                        .build());
+
+        // Then
+        assertThat(result.getUpdated()).isEqualTo(3);
+        assertThat(result.getConflicted()).isZero();
+        verify(appointmentEventBus).publishAfterCommit(argThat((AppointmentEvent event) ->
+                event.getType() == AppointmentEvent.Type.DAY_STATUS_CHANGED
+                        && day.equals(event.getDate()) && "CANCELLED".equals(event.getStatus())
+                        && event.getUpdated() == 3));
+    }
+
+    @Test
+    @DisplayName("Should move the day's status counts to the target after a batch change")
+    void testUpdateAppointmentStatuses_UpdatesStatsCounters() {
+        // Given - counters loaded; the day holds 5 scheduled, 3 confirmed and 2 completed
+        LocalDate day = request.getAppointmentTime().toLocalDate();
+        appointmentStatsCounters.reconcile(Map.of(2L, 10L), Map.of(day, 10L), Map.of(
+                Appointment.AppointmentStatus.SCHEDULED, 5L,
+                Appointment.AppointmentStatus.CONFIRMED, 3L,
+                Appointment.AppointmentStatus.COMPLETED, 2L));
+        when(doctorRepository.existsById(2L)).thenReturn(true);
+        when(appointmentRepository.countPerStatusForDoctorBetween(eq(2L), any(), any())).thenReturn(List.of(
+                statusCount(Appointment.AppointmentStatus.SCHEDULED, 5L),
+                statusCount(Appointment.AppointmentStatus.CONFIRMED, 3L),
+                statusCount(Appointment.AppointmentStatus.COMPLETED, 2L)));
+        when(appointmentRepository.updateStatusForDoctorBetween(eq(2L), any(), any(), any(),
+                eq(Appointment.AppointmentStatus.COMPLETED), any()))
+                .thenReturn(8);
+
+        // When
+        appointmentService.updateAppointmentStatuses(AppointmentStatusBatchRequest.builder()
+                .doctorId(2L)
+                .date(day)
+                .status(Appointment.AppointmentStatus.COMPLETED)
+                .build());
+
+        // Then
+        assertThat(appointmentStatsCounters.byStatus())
+                .containsExactly(Map.entry(Appointment.AppointmentStatus.COMPLETED, 10L));
+        assertThat(appointmentStatsCounters.byDoctor()).containsExactly(Map.entry(2L, 10L));
+    }
+
+    private static StatusAppointmentCount statusCount(Appointment.AppointmentStatus status, long total) {
+        return new StatusAppointmentCount() {
+            @Override
+            public Appointment.AppointmentStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should reject a batch change to a status nothing can move to")
+    void testUpdateAppointmentStatuses_NoSources() {
+        // Given
+        when(doctorRepository.existsById(2L)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> appointmentService.updateAppointmentStatuses(
+                AppointmentStatusBatchRequest.builder()
+                        .doctorId(2L)
+                        .date(LocalDate.now())
+                        .status(Appointment.AppointmentStatus.SCHEDULED)
+                        .build()))
+                .isInstanceOf(InvalidStatusTransitionException.class);
     }
 }
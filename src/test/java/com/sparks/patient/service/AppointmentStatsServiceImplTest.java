@@ -0,0 +1,190 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sparks.patient.dto.AppointmentStatsResponse;
+import com.sparks.patient.dto.AppointmentStatsResponse.GroupBy;
+import com.sparks.patient.entity.Appointment.AppointmentStatus;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.DayAppointmentCount;
+import com.sparks.patient.repository.DoctorAppointmentCount;
+import com.sparks.patient.repository.DoctorDepartment;
+import com.sparks.patient.repository.DoctorRepository;
+import com.sparks.patient.repository.StatusAppointmentCount;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for AppointmentStatsServiceImpl - counter reads and reconciliation
+ */
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Appointment Stats Service Tests")
+class AppointmentStatsServiceImplTest {
+
+    private static final LocalDateTime MONDAY_TEN = LocalDateTime.of(2026, 2, 9, 10, 0);
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private DoctorRepository doctorRepository;
+
+    @Spy
+    private AppointmentStatsCounters appointmentStatsCounters = new AppointmentStatsCounters();
+
+    private AppointmentStatsServiceImpl appointmentStatsService;
+
+    @BeforeEach
+    void setUp() {
+        appointmentStatsService = new AppointmentStatsServiceImpl(doctorRepository, appointmentStatsCounters,
+                new AppointmentStatsReconciler(appointmentRepository, appointmentStatsCounters));
+    }
+
+    @Test
+    @DisplayName("Should load the counters on the first request")
+    void testGetStats_LoadsCounters() {
+        stubGroupCounts(List.of(doctorCount(1L, 3), doctorCount(2L, 2)));
+
+        AppointmentStatsResponse response = appointmentStatsService.getStats(GroupBy.DOCTOR);
+
+        assertThat(response.getGroupBy()).isEqualTo("doctor");
+        assertThat(response.getTotal()).isEqualTo(5);
+        assertThat(response.getReconciledAt()).isNotNull();
+        assertThat(response.getGroups()).extracting("key").containsExactly("1", "2");
+        assertThat(response.getGroups()).extracting("count").containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should serve later requests from the counters, including committed deltas")
+    void testGetStats_AppliesDeltas() {
+        stubGroupCounts(List.of(doctorCount(1L, 3)));
+        appointmentStatsService.reconcile();
+
+        appointmentStatsCounters.addedAfterCommit(1L, MONDAY_TEN, AppointmentStatus.SCHEDULED);
+        appointmentStatsCounters.statusChangedAfterCommit(AppointmentStatus.SCHEDULED, AppointmentStatus.CONFIRMED);
+        AppointmentStatsResponse byDoctor = appointmentStatsService.getStats(GroupBy.DOCTOR);
+        AppointmentStatsResponse byStatus = appointmentStatsService.getStats(GroupBy.STATUS);
+
+        assertThat(byDoctor.getTotal()).isEqualTo(4);
+        assertThat(byStatus.getGroups()).extracting("key").containsExactly("SCHEDULED", "CONFIRMED");
+        assertThat(byStatus.getGroups()).extracting("count").containsExactly(2L, 2L);
+        verify(appointmentRepository).countPerDoctor();
+    }
+
+    @Test
+    @DisplayName("Should sum doctor counters into their current departments")
+    void testGetStats_ByDepartment() {
+        stubGroupCounts(List.of(doctorCount(1L, 3), doctorCount(2L, 2), doctorCount(3L, 4)));
+        when(doctorRepository.findDepartments()).thenReturn(List.of(
+                department(1L, 10L), department(2L, 10L), department(3L, 20L), department(4L, 20L)));
+
+        AppointmentStatsResponse response = appointmentStatsService.getStats(GroupBy.DEPT);
+
+        assertThat(response.getGroups()).extracting("key").containsExactly("10", "20");
+        assertThat(response.getGroups()).extracting("count").containsExactly(5L, 4L);
+        assertThat(response.getTotal()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Should report and correct drift on reconciliation")
+    void testReconcile_CorrectsDrift() {
+        stubGroupCounts(List.of(doctorCount(1L, 3)));
+        appointmentStatsService.reconcile();
+        // A delta the database never saw, e.g. applied by a write whose effect was later undone
+        appointmentStatsCounters.addedAfterCommit(1L, MONDAY_TEN, AppointmentStatus.SCHEDULED);
+
+        long drift = appointmentStatsService.reconcile();
+
+        assertThat(drift).isEqualTo(3);
+        assertThat(appointmentStatsCounters.byDoctor()).containsEntry(1L, 3L);
+        assertThat(appointmentStatsCounters.byDay()).containsEntry(LocalDate.of(2026, 2, 9), 3L);
+    }
+
+    private void stubGroupCounts(List<DoctorAppointmentCount> doctors) {
+        long total = doctors.stream().mapToLong(DoctorAppointmentCount::getTotal).sum();
+        when(appointmentRepository.countPerDoctor()).thenReturn(doctors);
+        when(appointmentRepository.countPerDay()).thenReturn(List.of(dayCount(MONDAY_TEN.toLocalDate(), total)));
+        when(appointmentRepository.countPerStatus())
+                .thenReturn(List.of(statusCount(AppointmentStatus.SCHEDULED, total)));
+    }
+
+    private static DoctorAppointmentCount doctorCount(Long doctorId, long total) {
+        return new DoctorAppointmentCount() {
+            @Override
+            public Long getDoctorId() {
+                return doctorId;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+        };
+    }
+
+    private static DayAppointmentCount dayCount(LocalDate day, long total) {
+        return new DayAppointmentCount() {
+            @Override
+            public Integer getAppointmentYear() {
+                return day.getYear();
+            }
+
+            @Override
+            public Integer getAppointmentMonth() {
+                return day.getMonthValue();
+            }
+
+            @Override
+            public Integer getAppointmentDay() {
+                return day.getDayOfMonth();
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+        };
+    }
+
+    private static StatusAppointmentCount statusCount(AppointmentStatus status, long total) {
+        return new StatusAppointmentCount() {
+            @Override
+            public AppointmentStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+        };
+    }
+
+    private static DoctorDepartment department(Long doctorId, Long deptId) {
+        return new DoctorDepartment() {
+            @Override
+            public Long getId() {
+                return doctorId;
+            }
+
+            @Override
+            public Long getDeptId() {
+                return deptId;
+            }
+        };
+    }
+}
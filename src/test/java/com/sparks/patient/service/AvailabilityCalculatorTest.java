@@ -0,0 +1,149 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sparks.patient.dto.TimeSlot;
+import com.sparks.patient.entity.Shift;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for AvailabilityCalculator - free slot computation
+ */
+@UnitTest
+@DisplayName("Availability Calculator Tests")
+class AvailabilityCalculatorTest {
+
+    private static final Duration THIRTY_MINUTES = Duration.ofMinutes(30);
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 2, 9, 0, 0);
+
+    private Shift shift(int startHour, int endHour) {
+        return Shift.builder()
+                .doctorId(1L)
+                .startTime(LocalTime.of(startHour, 0))
+                .endTime(LocalTime.of(endHour, 0))
+                .room("Room-101")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should slice an empty shift into consecutive slots")
+    void testFreeSlots_NoBookings() {
+        List<TimeSlot> slots = AvailabilityCalculator.freeSlots(
+                List.of(shift(9, 11)), Collections.emptyList(),
+                MONDAY, MONDAY.plusDays(1), THIRTY_MINUTES, THIRTY_MINUTES);
+
+        assertThat(slots).extracting(TimeSlot::getStart).containsExactly(
+                MONDAY.withHour(9), MONDAY.withHour(9).withMinute(30),
+                MONDAY.withHour(10), MONDAY.withHour(10).withMinute(30));
+    }
+
+    @Test
+    @DisplayName("Should remove booked appointments from shift windows")
+    void testFreeSlots_SubtractsBookings() {
+        List<TimeSlot> slots = AvailabilityCalculator.freeSlots(
+                List.of(shift(9, 11)),
+                Arrays.asList(MONDAY.withHour(9).withMinute(30), MONDAY.withHour(10)),
+                MONDAY, MONDAY.plusDays(1), THIRTY_MINUTES, THIRTY_MINUTES);
+
+        assertThat(slots).extracting(TimeSlot::getStart).containsExactly(
+                MONDAY.withHour(9), MONDAY.withHour(10).withMinute(30));
+    }
+
+    @Test
+    @DisplayName("Should not offer a slot that only partially fits before a booking")
+    void testFreeSlots_PartialGap() {
+        List<TimeSlot> slots = AvailabilityCalculator.freeSlots(
+                List.of(shift(9, 10)),
+                List.of(MONDAY.withHour(9).withMinute(20)),
+                MONDAY, MONDAY.plusDays(1), THIRTY_MINUTES, THIRTY_MINUTES);
+
+        assertThat(slots).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should expand daily shifts across the window and clip to its bounds")
+    void testFreeSlots_MultiDayClipped() {
+        List<TimeSlot> slots = AvailabilityCalculator.freeSlots(
+                List.of(shift(9, 10)), Collections.emptyList(),
+                MONDAY.withHour(9).withMinute(30), MONDAY.plusDays(2).withHour(9).withMinute(30),
+                THIRTY_MINUTES, THIRTY_MINUTES);
+
+        assertThat(slots).extracting(TimeSlot::getStart).containsExactly(
+                MONDAY.withHour(9).withMinute(30),
+                MONDAY.plusDays(1).withHour(9), MONDAY.plusDays(1).withHour(9).withMinute(30),
+                MONDAY.plusDays(2).withHour(9));
+    }
+
+    @Test
+    @DisplayName("Should merge overlapping shifts before slicing")
+    void testFreeSlots_OverlappingShifts() {
+        List<TimeSlot> slots = AvailabilityCalculator.freeSlots(
+                Arrays.asList(shift(9, 11), shift(10, 12)), Collections.emptyList(),
+                MONDAY, MONDAY.plusDays(1), THIRTY_MINUTES, Duration.ofMinutes(60));
+
+        assertThat(slots).extracting(TimeSlot::getStart).containsExactly(
+                MONDAY.withHour(9), MONDAY.withHour(10), MONDAY.withHour(11));
+    }
+
+    @Test
+    @DisplayName("Should offer a slot shorter than an appointment only where the whole appointment fits")
+    void testFreeSlots_ShorterThanAppointment() {
+        Duration fifteenMinutes = Duration.ofMinutes(15);
+
+        List<TimeSlot> slots = AvailabilityCalculator.freeSlots(
+                List.of(shift(9, 11)), List.of(MONDAY.withHour(9).withMinute(45)),
+                MONDAY, MONDAY.plusDays(1), THIRTY_MINUTES, fifteenMinutes);
+
+        assertThat(slots).extracting(TimeSlot::getStart).containsExactly(
+                MONDAY.withHour(9), MONDAY.withHour(9).withMinute(15),
+                MONDAY.withHour(10).withMinute(15), MONDAY.withHour(10).withMinute(30));
+        assertThat(slots.get(0).getEnd()).isEqualTo(MONDAY.withHour(9).withMinute(15));
+    }
+
+    @Test
+    @DisplayName("Should accept an appointment only if it fits entirely inside the shifts")
+    void testWithinShifts() {
+        List<Shift> shifts = Arrays.asList(shift(9, 10), shift(10, 12));
+
+        assertThat(AvailabilityCalculator.withinShifts(shifts, MONDAY.withHour(9), THIRTY_MINUTES)).isTrue();
+        assertThat(AvailabilityCalculator.withinShifts(shifts, MONDAY.withHour(9).withMinute(45), THIRTY_MINUTES)).isTrue();
+        assertThat(AvailabilityCalculator.withinShifts(shifts, MONDAY.withHour(11).withMinute(45), THIRTY_MINUTES)).isFalse();
+        assertThat(AvailabilityCalculator.withinShifts(shifts, MONDAY.withHour(8), THIRTY_MINUTES)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should return the merged shift windows of one day")
+    void testDayWindows() {
+        List<TimeSlot> windows = AvailabilityCalculator.dayWindows(
+                Arrays.asList(shift(14, 16), shift(9, 10), shift(10, 12)), MONDAY.toLocalDate());
+
+        assertThat(windows).containsExactly(
+                new TimeSlot(MONDAY.withHour(9), MONDAY.withHour(12)),
+                new TimeSlot(MONDAY.withHour(14), MONDAY.withHour(16)));
+    }
+
+    @Test
+    @DisplayName("Should detect overlaps only with starts less than one length away")
+    void testOverlapsAny() {
+        NavigableSet<LocalDateTime> booked = new TreeSet<>(Arrays.asList(MONDAY.withHour(9), MONDAY.withHour(11)));
+
+        assertThat(AvailabilityCalculator.overlapsAny(booked, MONDAY.withHour(9), THIRTY_MINUTES)).isTrue();
+        assertThat(AvailabilityCalculator.overlapsAny(booked, MONDAY.withHour(9).withMinute(15), THIRTY_MINUTES)).isTrue();
+        assertThat(AvailabilityCalculator.overlapsAny(booked, MONDAY.withHour(10).withMinute(45), THIRTY_MINUTES)).isTrue();
+        assertThat(AvailabilityCalculator.overlapsAny(booked, MONDAY.withHour(9).withMinute(30), THIRTY_MINUTES)).isFalse();
+        assertThat(AvailabilityCalculator.overlapsAny(booked, MONDAY.withHour(10).withMinute(30), THIRTY_MINUTES)).isFalse();
+        assertThat(AvailabilityCalculator.overlapsAny(new TreeSet<>(), MONDAY.withHour(9), THIRTY_MINUTES)).isFalse();
+    }
+}
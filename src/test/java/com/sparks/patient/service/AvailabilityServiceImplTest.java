@@ -0,0 +1,143 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sparks.patient.dto.DoctorAvailabilityResponse;
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.entity.Doctor;
+import com.sparks.patient.entity.Shift;
+import com.sparks.patient.exception.DoctorNotFoundException;
+import com.sparks.patient.exception.InvalidTimeSlotException;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.DoctorBookedTime;
+import com.sparks.patient.repository.DoctorRepository;
+import com.sparks.patient.repository.ShiftRepository;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for AvailabilityServiceImpl
+ */
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Availability Service Tests")
+class AvailabilityServiceImplTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 2, 9, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(1);
+
+    @Mock
+    private DoctorRepository doctorRepository;
+
+    @Mock
+    private ShiftRepository shiftRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @InjectMocks
+    private AvailabilityServiceImpl availabilityService;
+
+    private Doctor doctor(long id) {
+        return Doctor.builder().id(id).fullName("Dr. " + id).licenseNumber("LIC" + id)
+                .specialization("Cardiology").deptId(1L).build();
+    }
+
+    private Shift morningShift(long doctorId) {
+        return Shift.builder().doctorId(doctorId).startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(10, 0)).room("Room-1").build();
+    }
+
+    private DoctorBookedTime booked(long doctorId, LocalDateTime time) {
+        return new DoctorBookedTime() {
+            @Override
+            public Long getDoctorId() {
+                return doctorId;
+            }
+
+            @Override
+            public LocalDateTime getAppointmentTime() {
+                return time;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should compute doctor availability excluding booked appointments")
+    void testGetDoctorAvailability() {
+        // Given
+        when(doctorRepository.findById(1L)).thenReturn(Optional.of(doctor(1L)));
+        when(shiftRepository.findByDoctorIdIn(List.of(1L))).thenReturn(List.of(morningShift(1L)));
+        when(appointmentRepository.findBookedTimes(eq(List.of(1L)), eq(FROM.minus(Appointment.DEFAULT_DURATION)),
+                eq(TO), eq(Appointment.AppointmentStatus.CANCELLED)))
+                .thenReturn(List.of(booked(1L, FROM.withHour(9))));
+
+        // When
+        DoctorAvailabilityResponse result = availabilityService.getDoctorAvailability(1L, FROM, TO, 30);
+
+        // Then
+        assertThat(result.getDoctorId()).isEqualTo(1L);
+        assertThat(result.getSlots()).hasSize(1);
+        assertThat(result.getSlots().get(0).getStart()).isEqualTo(FROM.withHour(9).withMinute(30));
+    }
+
+    @Test
+    @DisplayName("Should compute availability for every doctor in a department with batched queries")
+    void testGetDepartmentAvailability() {
+        // Given
+        when(doctorRepository.findByDeptId(1L)).thenReturn(List.of(doctor(2L), doctor(1L)));
+        when(shiftRepository.findByDoctorIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(morningShift(1L), morningShift(2L)));
+        when(appointmentRepository.findBookedTimes(anyCollection(), any(), any(), any()))
+                .thenReturn(List.of(booked(2L, FROM.withHour(9).withMinute(30))));
+
+        // When
+        List<DoctorAvailabilityResponse> result = availabilityService.getDepartmentAvailability(1L, FROM, TO, 30);
+
+        // Then
+        assertThat(result).extracting(DoctorAvailabilityResponse::getDoctorId).containsExactly(1L, 2L);
+        assertThat(result.get(0).getSlots()).hasSize(2);
+        assertThat(result.get(1).getSlots()).hasSize(1);
+        verify(shiftRepository).findByDoctorIdIn(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should throw DoctorNotFoundException for unknown doctor")
+    void testGetDoctorAvailability_DoctorNotFound() {
+        when(doctorRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> availabilityService.getDoctorAvailability(9L, FROM, TO, 30))
+                .isInstanceOf(DoctorNotFoundException.class)
+                .hasMessageContaining("Doctor not found with id: 9");
+    }
+
+    @Test
+    @DisplayName("Should reject inverted or oversized windows and bad slot lengths")
+    void testGetDoctorAvailability_InvalidWindow() {
+        assertThatThrownBy(() -> availabilityService.getDoctorAvailability(1L, TO, FROM, 30))
+                .isInstanceOf(InvalidTimeSlotException.class);
+        assertThatThrownBy(() -> availabilityService.getDoctorAvailability(1L, FROM, FROM.plusDays(60), 30))
+                .isInstanceOf(InvalidTimeSlotException.class);
+        assertThatThrownBy(() -> availabilityService.getDoctorAvailability(1L, FROM, TO, 1))
+                .isInstanceOf(InvalidTimeSlotException.class);
+        verifyNoInteractions(doctorRepository);
+    }
+}
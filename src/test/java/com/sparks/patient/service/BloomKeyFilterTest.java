@@ -0,0 +1,143 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sparks.patient.dto.KeyFilterStatsResponse;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for BloomKeyFilter - definite negatives, database fallback, rebuilds and counters
+ */
+@UnitTest
+@DisplayName("Bloom Key Filter Tests")
+class BloomKeyFilterTest {
+
+    private final PatientEmailFilter filter = new PatientEmailFilter(0.01);
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    private boolean exists(String value, boolean inDatabase) {
+        return filter.exists(value, key -> {
+            lookups.incrementAndGet();
+            return inDatabase;
+        });
+    }
+
+    @Test
+    @DisplayName("Should go to the database for every check until the first rebuild")
+    void shouldFallBackUntilLoaded() {
+        filter.add("a@example.com");
+
+        assertThat(exists("b@example.com", false)).isFalse();
+        assertThat(exists("a@example.com", true)).isTrue();
+        assertThat(lookups).hasValue(2);
+        assertThat(filter.isLoaded()).isFalse();
+        assertThat(filter.stats().getCheckCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never rule out a scanned or added value, ignoring case and whitespace")
+    void shouldNeverMissKnownValues() {
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            emails.add("patient" + i + "@example.com");
+        }
+        assertThat(filter.rebuild(emails.size(), emails.iterator())).isEqualTo(20_000);
+        filter.add("New.Patient@Example.com");
+
+        for (String email : emails) {
+            assertThat(exists(email.toUpperCase(), true)).as(email).isTrue();
+        }
+        assertThat(exists(" new.patient@example.com ", true)).isTrue();
+        assertThat(lookups).hasValue(20_001);
+    }
+
+    @Test
+    @DisplayName("Should answer most absent values without the database, near the configured rate")
+    void shouldRuleOutAbsentValues() {
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            emails.add("patient" + i + "@example.com");
+        }
+        filter.rebuild(emails.size(), emails.iterator());
+
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(exists("visitor" + i + "@example.com", false)).isFalse();
+        }
+
+        KeyFilterStatsResponse stats = filter.stats();
+        assertThat(stats.getCheckCount()).isEqualTo(100_000);
+        assertThat(stats.getFalsePositiveCount()).isEqualTo(lookups.get());
+        assertThat(stats.getDefiniteNegativeCount()).isEqualTo(100_000 - lookups.get());
+        // Sized for twice the rows, so the observed rate stays well under the 1% target
+        assertThat(stats.getFalsePositiveRate()).isLessThan(0.01);
+        assertThat(stats.getExpectedFalsePositiveRate()).isLessThan(0.01);
+        assertThat(stats.getKeyCount()).isBetween(19_900L, 20_000L);
+        assertThat(stats.getCapacity()).isEqualTo(40_000);
+    }
+
+    @Test
+    @DisplayName("Should keep values added while a rebuild scans the table")
+    void shouldKeepValuesAddedDuringRebuild() {
+        filter.rebuild(0, Collections.emptyIterator());
+        Iterator<String> source = List.of("a@example.com", "b@example.com").iterator();
+        Iterator<String> values = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public String next() {
+                String next = source.next();
+                if (next.startsWith("b")) {
+                    // Committed after the scan passed its row
+                    filter.add("c@example.com");
+                }
+                return next;
+            }
+        };
+
+        assertThat(filter.rebuild(2, values)).isEqualTo(2);
+        assertThat(exists("c@example.com", true)).isTrue();
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should only set a value added after commit once the transaction commits")
+    void shouldAddAfterCommit() {
+        filter.rebuild(0, Collections.emptyIterator());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            filter.addAfterCommit("a@example.com");
+
+            assertThat(exists("a@example.com", true)).isFalse();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(exists("a@example.com", true)).isTrue();
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should drop deleted values on rebuild")
+    void shouldDropValuesOnRebuild() {
+        filter.rebuild(1, List.of("a@example.com").iterator());
+        filter.rebuild(0, Collections.emptyIterator());
+
+        assertThat(exists("a@example.com", true)).isFalse();
+        assertThat(lookups).hasValue(0);
+    }
+}
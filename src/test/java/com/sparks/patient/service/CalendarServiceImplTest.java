@@ -0,0 +1,143 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.dto.DoctorCalendarResponse;
+import com.sparks.patient.dto.DoctorResponse;
+import com.sparks.patient.dto.TimeSlot;
+import com.sparks.patient.entity.Shift;
+import com.sparks.patient.exception.DoctorNotFoundException;
+import com.sparks.patient.exception.InvalidTimeSlotException;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.DoctorRepository;
+import com.sparks.patient.repository.ShiftRepository;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for CalendarServiceImpl
+ */
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Calendar Service Tests")
+class CalendarServiceImplTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 2, 9);
+
+    @Mock
+    private DoctorRepository doctorRepository;
+
+    @Mock
+    private ShiftRepository shiftRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Spy
+    private DoctorCalendarCache doctorCalendarCache = new DoctorCalendarCache();
+
+    @InjectMocks
+    private CalendarServiceImpl calendarService;
+
+    private DoctorResponse doctor() {
+        return DoctorResponse.builder().id(2L).fullName("Dr. Smith").build();
+    }
+
+    private Shift shift(int startHour, int endHour) {
+        return Shift.builder().doctorId(2L).startTime(LocalTime.of(startHour, 0))
+                .endTime(LocalTime.of(endHour, 0)).room("Room-1").build();
+    }
+
+    private AppointmentResponse appointment(long id, LocalDate day) {
+        return AppointmentResponse.builder().id(id).patientId(1L).doctorId(2L)
+                .appointmentTime(day.atTime(9, 30)).status("SCHEDULED").build();
+    }
+
+    @Test
+    @DisplayName("Should return shift windows and appointments for every day of the range")
+    void testGetDoctorCalendar() {
+        // Given
+        when(doctorRepository.findResponseById(2L)).thenReturn(Optional.of(doctor()));
+        when(shiftRepository.findByDoctorId(2L)).thenReturn(List.of(shift(9, 12)));
+        when(appointmentRepository.findResponsesByDoctorIdBetween(
+                2L, MONDAY.atStartOfDay(), MONDAY.plusDays(3).atStartOfDay()))
+                .thenReturn(List.of(appointment(1L, MONDAY), appointment(2L, MONDAY.plusDays(2))));
+
+        // When
+        DoctorCalendarResponse result = calendarService.getDoctorCalendar(2L, MONDAY, MONDAY.plusDays(3));
+
+        // Then
+        assertThat(result.getDoctorName()).isEqualTo("Dr. Smith");
+        assertThat(result.getDays()).hasSize(3);
+        assertThat(result.getDays().get(0).getShifts())
+                .containsExactly(new TimeSlot(MONDAY.atTime(9, 0), MONDAY.atTime(12, 0)));
+        assertThat(result.getDays().get(0).getAppointments()).extracting(AppointmentResponse::getId)
+                .containsExactly(1L);
+        assertThat(result.getDays().get(1).getAppointments()).isEmpty();
+        assertThat(result.getDays().get(2).getAppointments()).extracting(AppointmentResponse::getId)
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated calendar request from the day buckets")
+    void testGetDoctorCalendar_Cached() {
+        // Given
+        when(doctorRepository.findResponseById(2L)).thenReturn(Optional.of(doctor()));
+        when(shiftRepository.findByDoctorId(2L)).thenReturn(List.of(shift(9, 12)));
+        when(appointmentRepository.findResponsesByDoctorIdBetween(any(), any(), any()))
+                .thenReturn(List.of(appointment(1L, MONDAY)));
+
+        // When
+        calendarService.getDoctorCalendar(2L, MONDAY, MONDAY.plusDays(7));
+        DoctorCalendarResponse result = calendarService.getDoctorCalendar(2L, MONDAY, MONDAY.plusDays(7));
+
+        // Then
+        assertThat(result.getDays().get(0).getAppointments()).hasSize(1);
+        verify(appointmentRepository, times(1)).findResponsesByDoctorIdBetween(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should throw when the doctor does not exist")
+    void testGetDoctorCalendar_DoctorNotFound() {
+        when(doctorRepository.findResponseById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> calendarService.getDoctorCalendar(99L, MONDAY, MONDAY.plusDays(1)))
+                .isInstanceOf(DoctorNotFoundException.class)
+                .hasMessageContaining("99");
+        verify(appointmentRepository, never()).findResponsesByDoctorIdBetween(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject empty, reversed and overlong ranges")
+    void testGetDoctorCalendar_InvalidRange() {
+        assertThatThrownBy(() -> calendarService.getDoctorCalendar(2L, MONDAY, MONDAY))
+                .isInstanceOf(InvalidTimeSlotException.class);
+        assertThatThrownBy(() -> calendarService.getDoctorCalendar(2L, MONDAY, MONDAY.minusDays(1)))
+                .isInstanceOf(InvalidTimeSlotException.class);
+        assertThatThrownBy(() -> calendarService.getDoctorCalendar(
+                2L, MONDAY, MONDAY.plusDays(CalendarServiceImpl.MAX_DAYS + 1)))
+                .isInstanceOf(InvalidTimeSlotException.class);
+        verifyNoInteractions(doctorRepository, appointmentRepository);
+    }
+}
@@ -0,0 +1,77 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for CommitInvalidatedCache - generation check, transactions and after-commit invalidation
+ */
+@UnitTest
+@DisplayName("Commit Invalidated Cache Tests")
+class CommitInvalidatedCacheTest {
+
+    private final CommitInvalidatedCache<String, Integer> cache =
+            new CommitInvalidatedCache<>(100, Duration.ofMinutes(5), () -> 0L);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Should not keep values loaded while an invalidation ran")
+    void testLoadRacingInvalidationNotKept() {
+        long seen = cache.generation();
+        cache.invalidateAfterCommit("other");
+        cache.putLoaded(seen, Map.of("a", 1, "b", 2));
+
+        assertThat(cache.estimatedSize()).isZero();
+
+        cache.putLoaded(cache.generation(), Map.of("a", 1, "b", 2));
+        assertThat(cache.estimatedSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not keep a load made inside a read-write transaction, but keep a read-only one")
+    void testLoadInsideTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        cache.get("a", key -> Optional.of(1));
+        assertThat(cache.estimatedSize()).isZero();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        cache.get("a", key -> Optional.of(1));
+        assertThat(cache.getIfPresent("a")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should invalidate only once the transaction commits")
+    void testInvalidateAfterCommit() {
+        cache.putLoaded(cache.generation(), Map.of("a", 1, "b", 2, "c", 3));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidateAllAfterCommit(List.of("a"));
+        cache.invalidateIfAfterCommit((key, value) -> value == 3);
+        assertThat(cache.estimatedSize()).isEqualTo(3);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.getIfPresent("a")).isNull();
+        assertThat(cache.getIfPresent("b")).isEqualTo(2);
+        assertThat(cache.getIfPresent("c")).isNull();
+    }
+}
@@ -0,0 +1,148 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sparks.patient.dto.AppointmentResponse;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for DoctorCalendarCache - per-day buckets, partial loads and invalidation
+ */
+@UnitTest
+@DisplayName("Doctor Calendar Cache Tests")
+class DoctorCalendarCacheTest {
+
+    private static final Long DOCTOR_ID = 2L;
+    private static final LocalDate MONDAY = LocalDate.of(2026, 2, 9);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<LocalDateTime[]> loads = new ArrayList<>();
+    private DoctorCalendarCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new DoctorCalendarCache(nanos::get);
+    }
+
+    private AppointmentResponse appointment(long id, Long patientId, LocalDateTime time) {
+        return AppointmentResponse.builder()
+                .id(id)
+                .patientId(patientId)
+                .doctorId(DOCTOR_ID)
+                .appointmentTime(time)
+                .build();
+    }
+
+    /**
+     * Loader over a fixed set of rows, recording every range it is asked for
+     */
+    private BiFunction<LocalDateTime, LocalDateTime, List<AppointmentResponse>> loader(
+            List<AppointmentResponse> rows) {
+        return (from, to) -> {
+            loads.add(new LocalDateTime[] {from, to});
+            return rows.stream()
+                    .filter(row -> !row.getAppointmentTime().isBefore(from) && row.getAppointmentTime().isBefore(to))
+                    .collect(Collectors.toList());
+        };
+    }
+
+    @Test
+    @DisplayName("Should group a range into one bucket per day, including empty days")
+    void testGroupsPerDay() {
+        List<AppointmentResponse> rows = List.of(
+                appointment(1L, 1L, MONDAY.atTime(9, 0)),
+                appointment(2L, 1L, MONDAY.atTime(10, 0)),
+                appointment(3L, 1L, MONDAY.plusDays(2).atTime(9, 0)));
+
+        Map<LocalDate, List<AppointmentResponse>> days = cache.get(DOCTOR_ID, MONDAY, MONDAY.plusDays(3), loader(rows));
+
+        assertThat(days.keySet()).containsExactly(MONDAY, MONDAY.plusDays(1), MONDAY.plusDays(2));
+        assertThat(days.get(MONDAY)).extracting(AppointmentResponse::getId).containsExactly(1L, 2L);
+        assertThat(days.get(MONDAY.plusDays(1))).isEmpty();
+        assertThat(days.get(MONDAY.plusDays(2))).extracting(AppointmentResponse::getId).containsExactly(3L);
+        assertThat(loads).hasSize(1);
+        assertThat(cache.estimatedSize()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should only load the days that are not cached yet")
+    void testLoadsOnlyMissingDays() {
+        List<AppointmentResponse> rows = List.of(appointment(1L, 1L, MONDAY.atTime(9, 0)));
+        cache.get(DOCTOR_ID, MONDAY, MONDAY.plusDays(2), loader(rows));
+
+        cache.get(DOCTOR_ID, MONDAY, MONDAY.plusDays(4), loader(rows));
+        cache.get(DOCTOR_ID, MONDAY, MONDAY.plusDays(4), loader(rows));
+
+        assertThat(loads).hasSize(2);
+        assertThat(loads.get(1)[0]).isEqualTo(MONDAY.plusDays(2).atStartOfDay());
+        assertThat(loads.get(1)[1]).isEqualTo(MONDAY.plusDays(4).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("Should reload only the invalidated day")
+    void testInvalidateOneDay() {
+        List<AppointmentResponse> rows = new ArrayList<>(List.of(appointment(1L, 1L, MONDAY.atTime(9, 0))));
+        cache.get(DOCTOR_ID, MONDAY, MONDAY.plusDays(7), loader(rows));
+
+        rows.add(appointment(2L, 1L, MONDAY.plusDays(3).atTime(11, 0)));
+        cache.invalidateAfterCommit(DOCTOR_ID, MONDAY.plusDays(3));
+        Map<LocalDate, List<AppointmentResponse>> days = cache.get(DOCTOR_ID, MONDAY, MONDAY.plusDays(7), loader(rows));
+
+        assertThat(loads).hasSize(2);
+        assertThat(loads.get(1)[0]).isEqualTo(MONDAY.plusDays(3).atStartOfDay());
+        assertThat(loads.get(1)[1]).isEqualTo(MONDAY.plusDays(4).atStartOfDay());
+        assertThat(days.get(MONDAY.plusDays(3))).extracting(AppointmentResponse::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should drop the buckets of a renamed patient or doctor only")
+    void testInvalidateByPatientAndDoctor() {
+        List<AppointmentResponse> rows = List.of(
+                appointment(1L, 1L, MONDAY.atTime(9, 0)),
+                appointment(2L, 3L, MONDAY.plusDays(1).atTime(9, 0)));
+        cache.get(DOCTOR_ID, MONDAY, MONDAY.plusDays(2), loader(rows));
+        cache.get(4L, MONDAY, MONDAY.plusDays(2), loader(List.of()));
+
+        cache.invalidatePatientAfterCommit(1L);
+        assertThat(cache.estimatedSize()).isEqualTo(3);
+
+        cache.invalidateDoctorAfterCommit(DOCTOR_ID);
+        assertThat(cache.estimatedSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reload days once their time to live has passed")
+    void testExpiry() {
+        cache.get(DOCTOR_ID, MONDAY, MONDAY.plusDays(1), loader(List.of()));
+        nanos.addAndGet(DoctorCalendarCache.TIME_TO_LIVE.plusSeconds(1).toNanos());
+        cache.get(DOCTOR_ID, MONDAY, MONDAY.plusDays(1), loader(List.of()));
+
+        assertThat(loads).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should not keep days loaded while an invalidation ran")
+    void testLoadRacingInvalidationNotKept() {
+        cache.get(DOCTOR_ID, MONDAY, MONDAY.plusDays(1), (from, to) -> {
+            List<AppointmentResponse> stale = loader(List.of()).apply(from, to);
+            cache.invalidateAfterCommit(DOCTOR_ID, MONDAY);
+            return stale;
+        });
+        cache.get(DOCTOR_ID, MONDAY, MONDAY.plusDays(1), loader(List.of()));
+
+        assertThat(loads).hasSize(2);
+    }
+}
@@ -3,12 +3,14 @@ package com.sparks.patient.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,7 +21,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import com.sparks.patient.dto.DoctorRequest;
 import com.sparks.patient.dto.DoctorResponse;
@@ -45,6 +49,15 @@ class DoctorServiceImplTest {
     @Mock
     private DoctorMapper doctorMapper;
 
+    @Mock
+    private AppointmentLookupCache appointmentLookupCache;
+
+    @Mock
+    private DoctorCalendarCache doctorCalendarCache;
+
+    @Spy
+    private DoctorLicenseFilter doctorLicenseFilter = new DoctorLicenseFilter(0.01);
+
     @InjectMocks
     private DoctorServiceImpl doctorService;
 
@@ -129,6 +142,54 @@ class DoctorServiceImplTest {
             assertThatThrownBy(() -> doctorService.createDoctor(doctorRequest))
                     .isInstanceOf(IllegalArgumentException.class);
         }
+
+        @Test
+        @DisplayName("Should skip the duplicate query for a license number the loaded filter has never seen")
+        void shouldSkipDuplicateQueryForUnseenLicenseNumber() {
+            // Arrange
+            doctorLicenseFilter.rebuild(1, List.of("MED-000001").iterator());
+            when(doctorMapper.toEntity(doctorRequest)).thenReturn(doctor);
+            when(doctorRepository.save(doctor)).thenReturn(doctor);
+            when(doctorMapper.toResponse(doctor)).thenReturn(doctorResponse);
+
+            // Act
+            doctorService.createDoctor(doctorRequest);
+
+            // Assert
+            verify(doctorRepository, never()).existsByLicenseNumber(any());
+            verify(doctorLicenseFilter).add("MED-123456");
+        }
+
+        @Test
+        @DisplayName("Should report a duplicate caught by the unique constraint like the duplicate check")
+        void shouldMapUniqueConstraintViolation() {
+            // Arrange
+            doctorLicenseFilter.rebuild(0, Collections.emptyIterator());
+            when(doctorMapper.toEntity(doctorRequest)).thenReturn(doctor);
+            when(doctorRepository.save(doctor)).thenReturn(doctor);
+            doThrow(new DataIntegrityViolationException("UK_DOCTOR_LICENSE")).when(doctorRepository).flush();
+
+            // Act & Assert
+            assertThatThrownBy(() -> doctorService.createDoctor(doctorRequest))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("already exists");
+        }
+
+        @Test
+        @DisplayName("Should rethrow an integrity violation of any other constraint")
+        void shouldRethrowOtherConstraintViolation() {
+            // Arrange
+            doctorLicenseFilter.rebuild(0, Collections.emptyIterator());
+            when(doctorMapper.toEntity(doctorRequest)).thenReturn(doctor);
+            when(doctorRepository.save(doctor)).thenReturn(doctor);
+            doThrow(new DataIntegrityViolationException("NULL not allowed for column \"SPECIALIZATION\""))
+                    .when(doctorRepository).flush();
+
+            // Act & Assert
+            assertThatThrownBy(() -> doctorService.createDoctor(doctorRequest))
+                    .isInstanceOf(DataIntegrityViolationException.class)
+                    .hasMessageContaining("SPECIALIZATION");
+        }
     }
 
     @Nested
@@ -139,8 +200,7 @@ class DoctorServiceImplTest {
         @DisplayName("Should get doctor by ID successfully")
         void shouldGetDoctorById() {
             // Arrange
-            when(doctorRepository.findById(1L)).thenReturn(Optional.of(doctor));
-            when(doctorMapper.toResponse(doctor)).thenReturn(doctorResponse);
+            when(doctorRepository.findResponseById(1L)).thenReturn(Optional.of(doctorResponse));
 
             // Act
             DoctorResponse response = doctorService.getDoctorById(1L);
@@ -155,7 +215,7 @@ class DoctorServiceImplTest {
         @DisplayName("Should throw exception when doctor not found by ID")
         void shouldThrowExceptionWhenDoctorNotFoundById() {
             // Arrange
-            when(doctorRepository.findById(99L)).thenReturn(Optional.empty());
+            when(doctorRepository.findResponseById(99L)).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> doctorService.getDoctorById(99L))
@@ -167,8 +227,7 @@ class DoctorServiceImplTest {
         @DisplayName("Should get doctor by license number successfully")
         void shouldGetDoctorByLicenseNumber() {
             // Arrange
-            when(doctorRepository.findByLicenseNumber("MED-123456")).thenReturn(Optional.of(doctor));
-            when(doctorMapper.toResponse(doctor)).thenReturn(doctorResponse);
+            when(doctorRepository.findResponseByLicenseNumber("MED-123456")).thenReturn(Optional.of(doctorResponse));
 
             // Act
             DoctorResponse response = doctorService.getDoctorByLicenseNumber("MED-123456");
@@ -182,7 +241,7 @@ class DoctorServiceImplTest {
         @DisplayName("Should throw exception when doctor not found by license number")
         void shouldThrowExceptionWhenDoctorNotFoundByLicenseNumber() {
             // Arrange
-            when(doctorRepository.findByLicenseNumber("INVALID")).thenReturn(Optional.empty());
+            when(doctorRepository.findResponseByLicenseNumber("INVALID")).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> doctorService.getDoctorByLicenseNumber("INVALID"))
@@ -194,16 +253,6 @@ class DoctorServiceImplTest {
         @DisplayName("Should get all doctors successfully")
         void shouldGetAllDoctors() {
             // Arrange
-            Doctor doctor2 = Doctor.builder()
-                    .id(2L)
-                    .fullName("Dr. Jane Doe")
-                    .licenseNumber("MED-654321")
-                    .specialization("Neurology")
-                    .deptId(2L)
-                    .createdAt(LocalDateTime.now())
-                    .updatedAt(LocalDateTime.now())
-                    .build();
-
             DoctorResponse doctorResponse2 = DoctorResponse.builder()
                     .id(2L)
                     .fullName("Dr. Jane Doe")
@@ -214,9 +263,7 @@ class DoctorServiceImplTest {
                     .updatedAt(LocalDateTime.now())
                     .build();
 
-            when(doctorRepository.findAll()).thenReturn(Arrays.asList(doctor, doctor2));
-            when(doctorMapper.toResponse(doctor)).thenReturn(doctorResponse);
-            when(doctorMapper.toResponse(doctor2)).thenReturn(doctorResponse2);
+            when(doctorRepository.findAllResponses()).thenReturn(Arrays.asList(doctorResponse, doctorResponse2));
 
             // Act
             List<DoctorResponse> responses = doctorService.getAllDoctors();
@@ -225,6 +272,7 @@ class DoctorServiceImplTest {
             assertThat(responses).hasSize(2);
             assertThat(responses.get(0).getFullName()).isEqualTo("Dr. John Smith");
             assertThat(responses.get(1).getFullName()).isEqualTo("Dr. Jane Doe");
+            verify(doctorMapper, never()).toResponse(any(Doctor.class));
         }
     }
 
@@ -247,6 +295,8 @@ class DoctorServiceImplTest {
             assertThat(response).isNotNull();
             assertThat(response.getId()).isEqualTo(1L);
             verify(doctorRepository).save(any(Doctor.class));
+            verify(appointmentLookupCache, never()).invalidateDoctorAfterCommit(any());
+            verify(doctorCalendarCache, never()).invalidateDoctorAfterCommit(any());
         }
 
         @Test
@@ -271,6 +321,8 @@ class DoctorServiceImplTest {
             // Assert
             assertThat(response).isNotNull();
             verify(doctorRepository).save(any(Doctor.class));
+            verify(appointmentLookupCache).invalidateDoctorAfterCommit(1L);
+            verify(doctorCalendarCache).invalidateDoctorAfterCommit(1L);
         }
 
         @Test
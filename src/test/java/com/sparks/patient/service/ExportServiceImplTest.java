@@ -0,0 +1,158 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.entity.Doctor;
+import com.sparks.patient.entity.Patient;
+import com.sparks.patient.entity.Shift;
+import com.sparks.patient.mapper.AppointmentMapper;
+import com.sparks.patient.mapper.DoctorMapper;
+import com.sparks.patient.mapper.PatientMapper;
+import com.sparks.patient.mapper.ShiftMapper;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.DoctorRepository;
+import com.sparks.patient.repository.PatientRepository;
+import com.sparks.patient.repository.ShiftRepository;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for ExportServiceImpl - NDJSON streaming exports
+ */
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Export Service Tests")
+class ExportServiceImplTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private ShiftRepository shiftRepository;
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    @Mock
+    private DoctorRepository doctorRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private ObjectMapper objectMapper;
+    private ExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        exportService = new ExportServiceImpl(
+                appointmentRepository, shiftRepository, patientRepository, doctorRepository,
+                new AppointmentMapper(), new ShiftMapper(), new PatientMapper(), new DoctorMapper(),
+                entityManager, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON document per appointment line")
+    void testExportAppointments() throws Exception {
+        // Given
+        Patient patient = Patient.builder().id(1L).firstName("John").lastName("Doe")
+                .email("john.doe@test.com").phone("+1234567890").dob(LocalDate.of(1990, 1, 1)).build();
+        Doctor doctor = Doctor.builder().id(2L).fullName("Dr. Smith").licenseNumber("LIC123456")
+                .specialization("Cardiology").deptId(1L).build();
+        Appointment appointment = Appointment.builder()
+                .id(10L)
+                .appointmentId("550e8400-e29b-41d4-a716-446655440000")
+                .patient(patient)
+                .doctor(doctor)
+                .appointmentTime(LocalDateTime.of(2026, 2, 10, 10, 0))
+                .status(Appointment.AppointmentStatus.SCHEDULED)
+                .build();
+        when(appointmentRepository.streamAll()).thenReturn(Stream.of(appointment));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = exportService.exportAppointments(out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(1);
+        assertThat(lines).hasSize(1);
+        JsonNode json = objectMapper.readTree(lines[0]);
+        assertThat(json.get("appointmentId").asText()).isEqualTo("550e8400-e29b-41d4-a716-446655440000");
+        assertThat(json.get("patientName").asText()).isEqualTo("John Doe");
+        assertThat(json.get("doctorName").asText()).isEqualTo("Dr. Smith");
+    }
+
+    @Test
+    @DisplayName("Should stream shifts, clear persistence context periodically and close the stream")
+    void testExportShifts_ClearsPersistenceContext() throws Exception {
+        // Given
+        int rows = ExportServiceImpl.CLEAR_INTERVAL * 2 + 1;
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Shift> shifts = IntStream.rangeClosed(1, rows)
+                .mapToObj(i -> Shift.builder()
+                        .id((long) i)
+                        .doctorId(1L)
+                        .startTime(LocalTime.of(9, 0))
+                        .endTime(LocalTime.of(17, 0))
+                        .room("Room-" + i)
+                        .build())
+                .onClose(() -> closed.set(true));
+        when(shiftRepository.streamAll()).thenReturn(shifts);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = exportService.exportShifts(out);
+
+        // Then
+        assertThat(count).isEqualTo(rows);
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).hasSize(rows);
+        assertThat(closed).isTrue();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("Should write nothing for an empty table")
+    void testExportPatients_Empty() throws Exception {
+        // Given
+        when(patientRepository.streamAll()).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = exportService.exportPatients(out);
+
+        // Then
+        assertThat(count).isZero();
+        assertThat(out.size()).isZero();
+        verify(entityManager, never()).clear();
+    }
+}
@@ -0,0 +1,264 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.sparks.patient.dto.PatientImportError;
+import com.sparks.patient.dto.PatientImportResponse;
+import com.sparks.patient.entity.Patient;
+import com.sparks.patient.exception.InvalidImportFileException;
+import com.sparks.patient.mapper.PatientMapper;
+import com.sparks.patient.repository.PatientRepository;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for PatientImportServiceImpl - CSV parsing, validation, duplicate detection and chunked inserts
+ */
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Patient Import Service Tests")
+class PatientImportServiceImplTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final String HEADER = "firstName,lastName,dob,email,phone\n";
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    @Mock
+    private PatientNameIndex patientNameIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final PatientEmailFilter patientEmailFilter = new PatientEmailFilter(0.01);
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private final ExecutorService validators = Executors.newFixedThreadPool(2);
+
+    private PatientImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new PatientImportServiceImpl(patientRepository, new PatientMapper(), patientNameIndex,
+                patientEmailFilter, validatorFactory.getValidator(), transactionManager, validators, 2, CHUNK_SIZE, 10);
+        patientEmailFilter.rebuild(0, Collections.emptyIterator());
+    }
+
+    @AfterEach
+    void tearDown() {
+        validators.shutdownNow();
+        validatorFactory.close();
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void saveAssigningIds() {
+        when(patientRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Patient> patients = invocation.getArgument(0);
+            patients.forEach(patient -> patient.setId((long) patient.getEmail().hashCode()));
+            return patients;
+        });
+    }
+
+    @Test
+    @DisplayName("Should insert valid rows one transaction per chunk")
+    void testImport_InsertsInChunks() throws IOException {
+        // Given
+        when(patientRepository.findExistingEmails(anyCollection())).thenReturn(Collections.emptyList());
+        saveAssigningIds();
+
+        // When
+        PatientImportResponse response = importService.importPatients(csv(HEADER
+                + "John,Doe,1990-05-15,john@example.com,+15550100001\n"
+                + "Jane,Roe,1985-01-02,jane@example.com,+15550100002\n"
+                + "\"Mary-Ann\",\"O'Neil, Jr.\",1970-12-31,mary@example.com,+15550100003\n"));
+
+        // Then
+        assertThat(response.getRows()).isEqualTo(3);
+        assertThat(response.getImported()).isEqualTo(3);
+        assertThat(response.getFailed()).isZero();
+        assertThat(response.getErrors()).isEmpty();
+        verify(patientRepository, times(2)).saveAll(anyList());
+        verify(transactionManager, times(2)).commit(any());
+        verify(patientNameIndex).putAfterCommit((long) "mary@example.com".hashCode(), "Mary-Ann", "O'Neil, Jr.");
+        assertThat(patientEmailFilter.stats().getKeyCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should report invalid rows with their line numbers and import the rest")
+    void testImport_ReportsInvalidRows() throws IOException {
+        // Given
+        when(patientRepository.findExistingEmails(anyCollection())).thenReturn(Collections.emptyList());
+        saveAssigningIds();
+
+        // When
+        PatientImportResponse response = importService.importPatients(csv(
+                "email,phone,firstName,lastName,dob,notes\n"
+                + "john@example.com,+15550100001,John,Doe,1990-05-15,ignored\n"
+                + "not-an-email,+15550100002,Jane,Roe,1985-01-02\n"
+                + "bob@example.com,+15550100003,Bob,Stone,15/05/1990\n"
+                + "amy@example.com,,A,Lee,2999-01-01\n"));
+
+        // Then
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getErrors()).extracting(PatientImportError::getLine).containsExactly(3L, 4L, 5L);
+        assertThat(response.getErrors().get(0).getError()).isEqualTo("email: Email must be a valid email address");
+        assertThat(response.getErrors().get(1).getError()).startsWith("dob: ");
+        assertThat(response.getErrors().get(2).getError())
+                .contains("dob: Date of birth must be in the past")
+                .contains("firstName: ")
+                .contains("phone: Phone number is required");
+    }
+
+    @Test
+    @DisplayName("Should reject emails repeated in the file or already in the database")
+    void testImport_RejectsDuplicates() throws IOException {
+        // Given - the database holds taken@ and every row imported by an earlier chunk
+        Set<String> stored = ConcurrentHashMap.newKeySet();
+        stored.add("taken@example.com");
+        when(patientRepository.findExistingEmails(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> emails = invocation.getArgument(0);
+            return emails.stream().filter(stored::contains).collect(Collectors.toList());
+        });
+        when(patientRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Patient> patients = invocation.getArgument(0);
+            patients.forEach(patient -> stored.add(patient.getEmail()));
+            return patients;
+        });
+
+        // When - lines 2 and 3 share a chunk, lines 4 and 5 are the next one
+        PatientImportResponse response = importService.importPatients(csv(HEADER
+                + "John,Doe,1990-05-15,john@example.com,+15550100001\n"
+                + "Johnny,Doe,1991-05-15,john@example.com,+15550100003\n"
+                + "Taken,Person,1990-05-15,taken@example.com,+15550100002\n"
+                + "Jon,Doe,1992-05-15,john@example.com,+15550100004\n"));
+
+        // Then
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(PatientImportError::getLine).containsExactly(3L, 4L, 5L);
+        assertThat(response.getErrors()).extracting(PatientImportError::getError).containsExactly(
+                "Duplicate email in file, first used on line 2",
+                "A patient with email 'taken@example.com' already exists",
+                "A patient with email 'john@example.com' already exists");
+    }
+
+    @Test
+    @DisplayName("Should retry a rejected chunk row by row so only the offending row fails")
+    void testImport_RetriesRejectedChunk() throws IOException {
+        // Given
+        when(patientRepository.findExistingEmails(anyCollection())).thenReturn(Collections.emptyList());
+        when(patientRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new DataIntegrityViolationException("PATIENTS(EMAIL)"))
+                .doNothing()
+                .doThrow(new DataIntegrityViolationException("PATIENTS(EMAIL)"))
+                .when(patientRepository).flush();
+        when(patientRepository.existsByEmail("jane@example.com")).thenReturn(true);
+
+        // When
+        PatientImportResponse response = importService.importPatients(csv(HEADER
+                + "John,Doe,1990-05-15,john@example.com,+15550100001\n"
+                + "Jane,Roe,1985-01-02,jane@example.com,+15550100002\n"));
+
+        // Then
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(PatientImportError::getEmail).containsExactly("jane@example.com");
+        assertThat(response.getErrors().get(0).getError()).contains("already exists");
+        verify(patientRepository, times(3)).saveAll(anyList());
+        verify(patientRepository, never()).existsByEmail("john@example.com");
+    }
+
+    @Test
+    @DisplayName("Should import a corrected row whose email a rejected row used before")
+    void testImport_RejectedRowDoesNotBlockItsEmail() throws IOException {
+        // Given - line 2 is rejected both as part of its chunk and on its own; line 3 then commits
+        when(patientRepository.findExistingEmails(anyCollection()))
+                .thenReturn(Collections.emptyList(), Collections.emptyList(), List.of("john@example.com"));
+        when(patientRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new DataIntegrityViolationException("value too long"))
+                .doThrow(new DataIntegrityViolationException("value too long"))
+                .doNothing()
+                .when(patientRepository).flush();
+        when(patientRepository.existsByEmail("john@example.com")).thenReturn(false);
+
+        // When
+        PatientImportResponse response = importService.importPatients(csv(HEADER
+                + "John,Doe,1990-05-15,john@example.com,+15550100001\n"
+                + "John,Doe,1990-05-15,john@example.com,+15550100002\n"
+                + "Johnny,Doe,1991-05-15,john@example.com,+15550100003\n"));
+
+        // Then
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(PatientImportError::getLine).containsExactly(2L, 4L);
+        assertThat(response.getErrors().get(0).getError()).startsWith("Rejected by the database");
+        assertThat(response.getErrors().get(1).getError())
+                .isEqualTo("A patient with email 'john@example.com' already exists");
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should cap the listed errors but count them all")
+    void testImport_CapsErrors() throws IOException {
+        // Given
+        StringBuilder content = new StringBuilder(HEADER);
+        for (int i = 0; i < 15; i++) {
+            content.append("X,Doe,1990-05-15,bad").append(i).append(",+15550100001\n");
+        }
+
+        // When
+        PatientImportResponse response = importService.importPatients(csv(content.toString()));
+
+        // Then
+        assertThat(response.getFailed()).isEqualTo(15);
+        assertThat(response.getErrors()).hasSize(10);
+        assertThat(response.isErrorsTruncated()).isTrue();
+        verify(patientRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty file or a header missing columns")
+    void testImport_InvalidHeader() {
+        assertThatThrownBy(() -> importService.importPatients(csv("")))
+                .isInstanceOf(InvalidImportFileException.class)
+                .hasMessageContaining("empty");
+        assertThatThrownBy(() -> importService.importPatients(csv("\uFEFFFirstName,LASTNAME,dob,e-mail\n")))
+                .isInstanceOf(InvalidImportFileException.class)
+                .hasMessageContaining("[email, phone]");
+    }
+}
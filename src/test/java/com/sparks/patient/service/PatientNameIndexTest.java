@@ -0,0 +1,187 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sparks.patient.repository.PatientName;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for PatientNameIndex - matching, ranking, incremental updates and rebuilds
+ */
+@UnitTest
+@DisplayName("Patient Name Index Tests")
+class PatientNameIndexTest {
+
+    private final PatientNameIndex index = new PatientNameIndex();
+
+    private static PatientName name(long id, String firstName, String lastName) {
+        return new PatientName() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getFirstName() {
+                return firstName;
+            }
+
+            @Override
+            public String getLastName() {
+                return lastName;
+            }
+        };
+    }
+
+    @BeforeEach
+    void setUp() {
+        index.rebuild(() -> Stream.of(
+                name(1, "Jonathan", "Smith"),
+                name(2, "Jon", "Smithers"),
+                name(3, "Jane", "Doe"),
+                name(4, "Jos\u00e9", "\u00c1lvarez"),
+                name(5, "Mary-Ann", "O'Neil")));
+    }
+
+    @Test
+    @DisplayName("Should match word prefixes case-insensitively in any order")
+    void shouldMatchPrefixes() {
+        assertThat(index.search("SMI", 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("smi jon", 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("j", 10)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(index.search("doe jane", 10)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should ignore accents and punctuation")
+    void shouldFoldAccentsAndPunctuation() {
+        assertThat(index.search("jose alvarez", 10)).containsExactly(4L);
+        assertThat(index.search("oneil", 10)).isEmpty();
+        assertThat(index.search("o neil", 10)).containsExactly(5L);
+        assertThat(index.search("mary ann", 10)).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("Should tolerate typos in longer words only")
+    void shouldTolerateTypos() {
+        assertThat(index.search("jonahtan", 10)).containsExactly(1L);
+        assertThat(index.search("smiht", 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("alvares", 10)).containsExactly(4L);
+        // Four letters or fewer must match exactly, and the first letter is never a typo
+        assertThat(index.search("jno", 10)).isEmpty();
+        assertThat(index.search("smih", 10)).isEmpty();
+        assertThat(index.search("xmith", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rank whole words before prefixes and typos, then shorter names")
+    void shouldRankMatches() {
+        assertThat(index.search("jon", 10)).containsExactly(2L, 1L);
+        assertThat(index.search("smith", 10)).containsExactly(1L, 2L);
+        assertThat(index.search("smith", 1)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should return nothing for blank queries")
+    void shouldIgnoreBlankQueries() {
+        assertThat(index.search("  -- ", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+        assertThat(index.search("jon", 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply puts and removes outside a transaction immediately")
+    void shouldApplyIncrementalUpdates() {
+        index.putAfterCommit(6L, "Jonas", "Brown");
+        index.putAfterCommit(1L, "Nathan", "Smith");
+        index.removeAfterCommit(2L);
+
+        assertThat(index.search("jon", 10)).containsExactly(6L);
+        assertThat(index.search("nathan smith", 10)).containsExactly(1L);
+        assertThat(index.search("smithers", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should replay writes committed while a rebuild scans the table")
+    void shouldReplayWritesDuringRebuild() {
+        List<PatientName> scanned = List.of(name(1, "Jonathan", "Smith"), name(2, "Jon", "Smithers"));
+        Iterator<PatientName> source = scanned.iterator();
+        Iterator<PatientName> names = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public PatientName next() {
+                PatientName next = source.next();
+                if (next.getId() == 2L) {
+                    // Committed after the scan read patient 1's old name
+                    index.putAfterCommit(1L, "Nathan", "Smith");
+                    index.putAfterCommit(7L, "Jonas", "Brown");
+                }
+                return next;
+            }
+        };
+
+        assertThat(index.rebuild(() -> StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(names, Spliterator.ORDERED), false))).isEqualTo(3);
+        assertThat(index.search("nathan", 10)).containsExactly(1L);
+        assertThat(index.search("jon", 10)).containsExactly(2L, 7L);
+        assertThat(index.search("doe", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replay writes committed while the rebuild's scan query starts")
+    void shouldReplayWritesBeforeFirstRow() {
+        assertThat(index.rebuild(() -> {
+            // Committed after the scan query took its snapshot, before the first row was read
+            index.putAfterCommit(7L, "Jonas", "Brown");
+            return Stream.of(name(1, "Jonathan", "Smith"));
+        })).isEqualTo(2);
+
+        assertThat(index.search("jon", 10)).containsExactlyInAnyOrder(1L, 7L);
+    }
+
+    @Test
+    @DisplayName("Should find every name within the allowed edits that a scan finds")
+    void shouldAgreeWithScan() {
+        Random random = new Random(42);
+        String[] firsts = {"jonathan", "johanna", "mariana", "marianne", "christopher", "kristofer", "ann", "anna"};
+        String[] lasts = {"smith", "smithson", "schmidt", "andersen", "anderson", "lee", "li", "gonzalez"};
+        List<PatientName> names = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            names.add(name(id, firsts[random.nextInt(firsts.length)], lasts[random.nextInt(lasts.length)]));
+        }
+        index.rebuild(names::stream);
+
+        for (String query : new String[] {"jonatan", "mariane", "cristopher", "andersn", "smiht", "gonzales", "an"}) {
+            List<Long> expected = new ArrayList<>();
+            int edits = PatientNameIndex.maxEdits(query);
+            for (PatientName name : names) {
+                for (String word : new String[] {name.getFirstName(), name.getLastName()}) {
+                    if (word.charAt(0) == query.charAt(0)
+                            && PatientNameIndex.prefixDistance(query, word, edits) <= edits) {
+                        expected.add(name.getId());
+                        break;
+                    }
+                }
+            }
+            assertThat(index.search(query, names.size())).as(query).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+}
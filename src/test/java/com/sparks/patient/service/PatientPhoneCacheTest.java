@@ -0,0 +1,96 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sparks.patient.dto.PatientResponse;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for PatientPhoneCache - read-through, expiry and invalidation
+ */
+@UnitTest
+@DisplayName("Patient Phone Cache Tests")
+class PatientPhoneCacheTest {
+
+    private static final String FIRST_KEY = "+15550102030";
+    private static final String SECOND_KEY = "+15550102031";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private PatientPhoneCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PatientPhoneCache(nanos::get);
+    }
+
+    private Function<String, Optional<PatientResponse>> loader(Long patientId) {
+        return phoneKey -> {
+            loads.incrementAndGet();
+            return Optional.of(PatientResponse.builder().id(patientId).phone(phoneKey).build());
+        };
+    }
+
+    @Test
+    @DisplayName("Should load once and answer repeated lookups from memory")
+    void testReadThrough() {
+        cache.get(FIRST_KEY, loader(1L));
+        Optional<PatientResponse> cached = cache.get(FIRST_KEY, loader(1L));
+
+        assertThat(cached).map(PatientResponse::getId).contains(1L);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache unknown numbers")
+    void testMissNotCached() {
+        cache.get(FIRST_KEY, phoneKey -> Optional.empty());
+
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reload an entry once its time to live has passed")
+    void testExpiry() {
+        cache.get(FIRST_KEY, loader(1L));
+        nanos.addAndGet(PatientPhoneCache.TIME_TO_LIVE.plusSeconds(1).toNanos());
+        cache.get(FIRST_KEY, loader(1L));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop the entries of an updated patient and of a given number only")
+    void testInvalidation() {
+        cache.get(FIRST_KEY, loader(1L));
+        cache.get(SECOND_KEY, loader(2L));
+
+        // Outside a transaction the invalidation runs immediately
+        cache.invalidatePatientAfterCommit(1L);
+        assertThat(cache.estimatedSize()).isEqualTo(1);
+
+        cache.invalidateAfterCommit(SECOND_KEY);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not keep a load that overlapped an invalidation")
+    void testLoadOverlappingInvalidationNotKept() {
+        cache.get(FIRST_KEY, phoneKey -> {
+            cache.invalidatePatientAfterCommit(1L);
+            return Optional.of(PatientResponse.builder().id(1L).build());
+        });
+
+        assertThat(cache.estimatedSize()).isZero();
+    }
+}
@@ -0,0 +1,102 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.sparks.patient.repository.PatientPhone;
+import com.sparks.patient.repository.PatientRepository;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for PatientPhoneKeyServiceImpl - chunked phone key backfill
+ */
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Patient Phone Key Service Tests")
+class PatientPhoneKeyServiceImplTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PatientPhoneKeyServiceImpl phoneKeyService;
+
+    @BeforeEach
+    void setUp() {
+        phoneKeyService = new PatientPhoneKeyServiceImpl(patientRepository, transactionManager, CHUNK_SIZE);
+    }
+
+    private PatientPhone row(long id, String phone) {
+        return new PatientPhone() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getPhone() {
+                return phone;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should walk the rows without a key in id order, one transaction per chunk")
+    void testBackfillInChunks() {
+        // Given
+        when(patientRepository.findWithoutPhoneKey(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(row(1L, "+1 (555) 010-2030"), row(4L, "445550102030")));
+        when(patientRepository.findWithoutPhoneKey(eq(4L), any(Pageable.class)))
+                .thenReturn(List.of(row(9L, "+15550109999")));
+        when(patientRepository.updatePhoneKey(anyLong(), any())).thenReturn(1);
+
+        // When
+        int updated = phoneKeyService.backfillPhoneKeys();
+
+        // Then
+        assertThat(updated).isEqualTo(3);
+        verify(patientRepository).updatePhoneKey(1L, "+15550102030");
+        verify(patientRepository).updatePhoneKey(4L, "+445550102030");
+        verify(patientRepository).updatePhoneKey(9L, "+15550109999");
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should skip numbers that cannot be E.164 without stopping")
+    void testBackfillSkipsInvalidNumbers() {
+        // Given
+        when(patientRepository.findWithoutPhoneKey(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(row(1L, "ask at desk"), row(2L, "+15550102030")));
+        when(patientRepository.findWithoutPhoneKey(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(patientRepository.updatePhoneKey(2L, "+15550102030")).thenReturn(1);
+
+        // When
+        int updated = phoneKeyService.backfillPhoneKeys();
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        verify(patientRepository, never()).updatePhoneKey(eq(1L), any());
+    }
+}
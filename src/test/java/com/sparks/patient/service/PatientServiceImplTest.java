@@ -3,6 +3,9 @@ package com.sparks.patient.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -11,8 +14,11 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,18 +27,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import com.sparks.patient.dto.AppointmentResponse;
 import com.sparks.patient.dto.PatientRequest;
 import com.sparks.patient.dto.PatientResponse;
+import com.sparks.patient.dto.PatientTimelineResponse;
 import com.sparks.patient.entity.Patient;
 import com.sparks.patient.exception.DuplicateEmailException;
 import com.sparks.patient.exception.PatientNotFoundException;
 import com.sparks.patient.mapper.PatientMapper;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.PatientName;
 import com.sparks.patient.repository.PatientRepository;
 import com.sparks.patient.test.UnitTest;
 
@@ -48,9 +60,27 @@ class PatientServiceImplTest {
     @Mock
     private PatientRepository patientRepository;
 
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
     @Mock
     private PatientMapper patientMapper;
 
+    @Mock
+    private AppointmentLookupCache appointmentLookupCache;
+
+    @Mock
+    private DoctorCalendarCache doctorCalendarCache;
+
+    @Mock
+    private PatientNameIndex patientNameIndex;
+
+    @Spy
+    private PatientPhoneCache patientPhoneCache = new PatientPhoneCache();
+
+    @Spy
+    private PatientEmailFilter patientEmailFilter = new PatientEmailFilter(0.01);
+
     @InjectMocks
     private PatientServiceImpl patientService;
 
@@ -116,6 +146,66 @@ class PatientServiceImplTest {
             
             verify(patientRepository).existsByEmail(patientRequest.getEmail());
             verify(patientRepository).save(patient);
+            verify(patientNameIndex).putAfterCommit(1L, "John", "Doe");
+            verify(patientEmailFilter).add("john.doe@example.com");
+        }
+
+        @Test
+        @DisplayName("Should skip the duplicate query for an email the loaded filter has never seen")
+        void shouldSkipDuplicateQueryForUnseenEmail() {
+            // Given
+            patientEmailFilter.rebuild(1, List.of("jane.roe@example.com").iterator());
+            when(patientMapper.toEntity(patientRequest)).thenReturn(patient);
+            when(patientRepository.save(patient)).thenReturn(patient);
+            when(patientMapper.toResponse(patient)).thenReturn(patientResponse);
+
+            // When
+            patientService.createPatient(patientRequest);
+
+            // Then
+            verify(patientRepository, never()).existsByEmail(any());
+            assertThat(patientEmailFilter.stats().getDefiniteNegativeCount()).isEqualTo(1);
+
+            // The new email is now a possible match, confirmed against the database
+            when(patientRepository.existsByEmail("John.Doe@example.com")).thenReturn(true);
+            patientRequest.setEmail("John.Doe@example.com");
+            assertThatThrownBy(() -> patientService.createPatient(patientRequest))
+                    .isInstanceOf(DuplicateEmailException.class);
+        }
+
+        @Test
+        @DisplayName("Should report a duplicate caught by the unique constraint as DuplicateEmailException")
+        void shouldMapUniqueConstraintViolation() {
+            // Given
+            patientEmailFilter.rebuild(0, Collections.emptyIterator());
+            when(patientMapper.toEntity(patientRequest)).thenReturn(patient);
+            when(patientRepository.save(patient)).thenReturn(patient);
+            doThrow(new DataIntegrityViolationException("Unique index or primary key violation: "
+                    + "\"PUBLIC.UK_PATIENT_EMAIL_INDEX_8 ON PUBLIC.PATIENTS(EMAIL)\""))
+                    .when(patientRepository).flush();
+
+            // When/Then
+            assertThatThrownBy(() -> patientService.createPatient(patientRequest))
+                    .isInstanceOf(DuplicateEmailException.class)
+                    .hasMessageContaining("john.doe@example.com");
+            verify(patientEmailFilter, never()).add(any());
+        }
+
+        @Test
+        @DisplayName("Should rethrow an integrity violation of any other constraint")
+        void shouldRethrowOtherConstraintViolation() {
+            // Given
+            patientEmailFilter.rebuild(0, Collections.emptyIterator());
+            when(patientMapper.toEntity(patientRequest)).thenReturn(patient);
+            when(patientRepository.save(patient)).thenReturn(patient);
+            doThrow(new DataIntegrityViolationException("NULL not allowed for column \"FIRST_NAME\""))
+                    .when(patientRepository).flush();
+
+            // When/Then
+            assertThatThrownBy(() -> patientService.createPatient(patientRequest))
+                    .isInstanceOf(DataIntegrityViolationException.class)
+                    .hasMessageContaining("FIRST_NAME");
+            verify(patientEmailFilter, never()).add(any());
         }
 
         @Test
@@ -141,8 +231,7 @@ class PatientServiceImplTest {
         @DisplayName("Should return patient when valid ID provided")
         void shouldReturnPatientWhenFound() {
             // Given
-            when(patientRepository.findById(1L)).thenReturn(Optional.of(patient));
-            when(patientMapper.toResponse(patient)).thenReturn(patientResponse);
+            when(patientRepository.findResponseById(1L)).thenReturn(Optional.of(patientResponse));
 
             // When
             PatientResponse result = patientService.getPatientById(1L);
@@ -152,14 +241,15 @@ class PatientServiceImplTest {
             assertThat(result.getId()).isEqualTo(1L);
             assertThat(result.getFirstName()).isEqualTo("John");
             
-            verify(patientRepository).findById(1L);
+            verify(patientRepository).findResponseById(1L);
+            verify(patientMapper, never()).toResponse(any(Patient.class));
         }
 
         @Test
         @DisplayName("Should throw PatientNotFoundException when ID not found")
         void shouldThrowExceptionWhenPatientNotFound() {
             // Given
-            when(patientRepository.findById(999L)).thenReturn(Optional.empty());
+            when(patientRepository.findResponseById(999L)).thenReturn(Optional.empty());
 
             // When/Then
             assertThatThrownBy(() -> patientService.getPatientById(999L))
@@ -177,18 +267,17 @@ class PatientServiceImplTest {
         void shouldReturnPaginatedPatients() {
             // Given
             Pageable pageable = PageRequest.of(0, 20);
-            Patient patient2 = Patient.builder()
+            PatientResponse patientResponse2 = PatientResponse.builder()
                     .id(2L)
                     .firstName("Jane")
                     .lastName("Smith")
                     .email("jane.smith@example.com")
                     .build();
 
-            Page<Patient> patientPage = new PageImpl<>(
-                Arrays.asList(patient, patient2), pageable, 2);
+            Page<PatientResponse> patientPage = new PageImpl<>(
+                Arrays.asList(patientResponse, patientResponse2), pageable, 2);
 
-            when(patientRepository.findAll(pageable)).thenReturn(patientPage);
-            when(patientMapper.toResponse(any(Patient.class))).thenReturn(patientResponse);
+            when(patientRepository.findAllResponses(pageable)).thenReturn(patientPage);
 
             // When
             Page<PatientResponse> result = patientService.getAllPatients(pageable);
@@ -199,7 +288,7 @@ class PatientServiceImplTest {
             assertThat(result.getTotalPages()).isEqualTo(1);
             assertThat(result.getSize()).isEqualTo(20);
 
-            verify(patientRepository).findAll(pageable);
+            verify(patientRepository).findAllResponses(pageable);
         }
 
         @Test
@@ -207,9 +296,9 @@ class PatientServiceImplTest {
         void shouldReturnEmptyPageWhenNoPatientsExist() {
             // Given
             Pageable pageable = PageRequest.of(0, 20);
-            Page<Patient> emptyPage = new PageImpl<>(Arrays.asList(), pageable, 0);
+            Page<PatientResponse> emptyPage = new PageImpl<>(Arrays.asList(), pageable, 0);
 
-            when(patientRepository.findAll(pageable)).thenReturn(emptyPage);
+            when(patientRepository.findAllResponses(pageable)).thenReturn(emptyPage);
 
             // When
             Page<PatientResponse> result = patientService.getAllPatients(pageable);
@@ -248,6 +337,28 @@ class PatientServiceImplTest {
             assertThat(result).isNotNull();
             verify(patientMapper).updateEntity(patient, updateRequest);
             verify(patientRepository).save(patient);
+            verify(appointmentLookupCache).invalidatePatientAfterCommit(1L);
+            verify(doctorCalendarCache).invalidatePatientAfterCommit(1L);
+            verify(patientNameIndex).putAfterCommit(1L, patient.getFirstName(), patient.getLastName());
+            verify(patientPhoneCache).invalidatePatientAfterCommit(1L);
+            verify(patientPhoneCache).invalidateAfterCommit("+9876543210");
+        }
+
+        @Test
+        @DisplayName("Should keep cached appointments when the name is unchanged")
+        void shouldNotInvalidateAppointmentCacheWhenNameUnchanged() {
+            // Given
+            when(patientRepository.findById(1L)).thenReturn(Optional.of(patient));
+            when(patientRepository.save(patient)).thenReturn(patient);
+            when(patientMapper.toResponse(patient)).thenReturn(patientResponse);
+
+            // When
+            patientService.updatePatient(1L, patientRequest);
+
+            // Then
+            verify(appointmentLookupCache, never()).invalidatePatientAfterCommit(any());
+            verify(doctorCalendarCache, never()).invalidatePatientAfterCommit(any());
+            verify(patientNameIndex, never()).putAfterCommit(any(), any(), any());
         }
 
         @Test
@@ -277,6 +388,8 @@ class PatientServiceImplTest {
 
             // Then
             verify(patientRepository).deleteById(1L);
+            verify(patientNameIndex).removeAfterCommit(1L);
+            verify(patientPhoneCache).invalidatePatientAfterCommit(1L);
         }
 
         @Test
@@ -302,8 +415,7 @@ class PatientServiceImplTest {
         void shouldFindPatientByPhoneSuccessfully() {
             // Given
             String phoneNumber = "+1234567890";
-            when(patientRepository.findByPhone(phoneNumber)).thenReturn(Optional.of(patient));
-            when(patientMapper.toResponse(patient)).thenReturn(patientResponse);
+            when(patientRepository.findFirstResponseByPhoneKey(phoneNumber)).thenReturn(Optional.of(patientResponse));
 
             // When
             PatientResponse result = patientService.getPatientByPhone(phoneNumber);
@@ -313,8 +425,23 @@ class PatientServiceImplTest {
             assertThat(result.getId()).isEqualTo(1L);
             assertThat(result.getPhone()).isEqualTo(phoneNumber);
 
-            verify(patientRepository).findByPhone(phoneNumber);
-            verify(patientMapper).toResponse(patient);
+            verify(patientRepository).findFirstResponseByPhoneKey(phoneNumber);
+        }
+
+        @Test
+        @DisplayName("Should find the patient under any formatting, reading the database once")
+        void shouldFindPatientByFormattedPhoneFromCache() {
+            // Given
+            when(patientRepository.findFirstResponseByPhoneKey("+1234567890")).thenReturn(Optional.of(patientResponse));
+
+            // When
+            PatientResponse formatted = patientService.getPatientByPhone("+1 (234) 567-890");
+            PatientResponse bare = patientService.getPatientByPhone("1234567890");
+
+            // Then
+            assertThat(formatted).isEqualTo(patientResponse);
+            assertThat(bare).isEqualTo(patientResponse);
+            verify(patientRepository, times(1)).findFirstResponseByPhoneKey("+1234567890");
         }
 
         @Test
@@ -322,14 +449,24 @@ class PatientServiceImplTest {
         void shouldThrowExceptionWhenPatientNotFoundByPhone() {
             // Given
             String phoneNumber = "+9999999999";
-            when(patientRepository.findByPhone(phoneNumber)).thenReturn(Optional.empty());
+            when(patientRepository.findFirstResponseByPhoneKey(phoneNumber)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> patientService.getPatientByPhone(phoneNumber))
                     .isInstanceOf(PatientNotFoundException.class)
                     .hasMessageContaining("Patient not found with phone");
 
-            verify(patientRepository).findByPhone(phoneNumber);
+            verify(patientRepository).findFirstResponseByPhoneKey(phoneNumber);
+        }
+
+        @Test
+        @DisplayName("Should not query numbers that cannot be E.164")
+        void shouldNotQueryInvalidPhone() {
+            assertThatThrownBy(() -> patientService.getPatientByPhone("+0123"))
+                    .isInstanceOf(PatientNotFoundException.class)
+                    .hasMessageContaining("Patient not found with phone: +0123");
+
+            verify(patientRepository, never()).findFirstResponseByPhoneKey(any());
         }
     }
 
@@ -342,7 +479,7 @@ class PatientServiceImplTest {
         void shouldFindPatientsByLastNameSuccessfully() {
             // Given
             String lastName = "Doe";
-            Patient patient2 = Patient.builder()
+            PatientResponse patientResponse2 = PatientResponse.builder()
                     .id(2L)
                     .firstName("Jane")
                     .lastName("Doe")
@@ -353,9 +490,8 @@ class PatientServiceImplTest {
                     .updatedAt(LocalDateTime.now())
                     .build();
 
-            List<Patient> patients = Arrays.asList(patient, patient2);
-            when(patientRepository.findByLastName(lastName)).thenReturn(patients);
-            when(patientMapper.toResponse(any(Patient.class))).thenReturn(patientResponse);
+            List<PatientResponse> patients = Arrays.asList(patientResponse, patientResponse2);
+            when(patientRepository.findResponsesByLastName(lastName)).thenReturn(patients);
 
             // When
             List<PatientResponse> results = patientService.getPatientsByLastName(lastName);
@@ -364,8 +500,8 @@ class PatientServiceImplTest {
             assertThat(results).isNotNull();
             assertThat(results).hasSize(2);
 
-            verify(patientRepository).findByLastName(lastName);
-            verify(patientMapper, times(2)).toResponse(any(Patient.class));
+            verify(patientRepository).findResponsesByLastName(lastName);
+            verify(patientMapper, never()).toResponse(any(Patient.class));
         }
 
         @Test
@@ -373,7 +509,7 @@ class PatientServiceImplTest {
         void shouldReturnEmptyListWhenNoPatientsFoundByLastName() {
             // Given
             String lastName = "NonExistent";
-            when(patientRepository.findByLastName(lastName)).thenReturn(Arrays.asList());
+            when(patientRepository.findResponsesByLastName(lastName)).thenReturn(Arrays.asList());
 
             // When
             List<PatientResponse> results = patientService.getPatientsByLastName(lastName);
@@ -382,7 +518,7 @@ class PatientServiceImplTest {
             assertThat(results).isNotNull();
             assertThat(results).isEmpty();
 
-            verify(patientRepository).findByLastName(lastName);
+            verify(patientRepository).findResponsesByLastName(lastName);
             verify(patientMapper, never()).toResponse(any(Patient.class));
         }
 
@@ -391,8 +527,7 @@ class PatientServiceImplTest {
         void shouldFindSinglePatientWhenOnlyOneMatchesLastName() {
             // Given
             String lastName = "Unique";
-            when(patientRepository.findByLastName(lastName)).thenReturn(Arrays.asList(patient));
-            when(patientMapper.toResponse(patient)).thenReturn(patientResponse);
+            when(patientRepository.findResponsesByLastName(lastName)).thenReturn(Arrays.asList(patientResponse));
 
             // When
             List<PatientResponse> results = patientService.getPatientsByLastName(lastName);
@@ -402,8 +537,154 @@ class PatientServiceImplTest {
             assertThat(results).hasSize(1);
             assertThat(results.get(0).getId()).isEqualTo(1L);
 
-            verify(patientRepository).findByLastName(lastName);
-            verify(patientMapper).toResponse(patient);
+            verify(patientRepository).findResponsesByLastName(lastName);
+        }
+    }
+
+    @Nested
+    @DisplayName("Patient Timeline Tests")
+    class PatientTimelineTests {
+
+        private final LocalDateTime visit = LocalDateTime.of(2026, 2, 9, 10, 0);
+
+        @Test
+        @DisplayName("Should return the profile with the newest appointments and a cursor to older ones")
+        void shouldReturnProfileWithFirstHistoryPage() {
+            // Given
+            AppointmentResponse latest = historyRow(12L, visit);
+            AppointmentResponse earlier = historyRow(11L, visit.minusWeeks(1));
+            when(patientRepository.findResponseById(1L)).thenReturn(Optional.of(patientResponse));
+            when(appointmentRepository.findHistoryBefore(eq(1L), any(LocalDateTime.class), eq(Long.MAX_VALUE), eq(2)))
+                    .thenReturn(Arrays.asList(latest, earlier));
+
+            // When
+            PatientTimelineResponse timeline = patientService.getPatientTimeline(1L, null, 1);
+
+            // Then
+            assertThat(timeline.getPatient()).isEqualTo(patientResponse);
+            assertThat(timeline.getAppointments().getContent()).containsExactly(latest);
+            assertThat(timeline.getAppointments().isHasNext()).isTrue();
+            AppointmentCursor next = AppointmentCursor.decode(timeline.getAppointments().getNextCursor());
+            assertThat(next.getAppointmentTime()).isEqualTo(visit);
+            assertThat(next.getId()).isEqualTo(12L);
+        }
+
+        @Test
+        @DisplayName("Should continue before the cursor position")
+        void shouldContinueBeforeCursor() {
+            // Given
+            AppointmentCursor cursor = AppointmentCursor.after(historyRow(12L, visit));
+            when(patientRepository.findResponseById(1L)).thenReturn(Optional.of(patientResponse));
+            when(appointmentRepository.findHistoryBefore(1L, visit, 12L,
+                    PatientServiceImpl.DEFAULT_TIMELINE_SIZE + 1)).thenReturn(List.of());
+
+            // When
+            PatientTimelineResponse timeline = patientService.getPatientTimeline(1L, cursor.encode(), 0);
+
+            // Then
+            assertThat(timeline.getAppointments().getContent()).isEmpty();
+            assertThat(timeline.getAppointments().isHasNext()).isFalse();
+            assertThat(timeline.getAppointments().getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should throw PatientNotFoundException without reading the history")
+        void shouldThrowWhenPatientNotFound() {
+            // Given
+            when(patientRepository.findResponseById(999L)).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> patientService.getPatientTimeline(999L, null, 20))
+                    .isInstanceOf(PatientNotFoundException.class);
+            verify(appointmentRepository, never())
+                    .findHistoryBefore(any(), any(), any(), anyInt());
+        }
+
+        private AppointmentResponse historyRow(Long id, LocalDateTime appointmentTime) {
+            return AppointmentResponse.builder()
+                    .id(id)
+                    .appointmentId("550e8400-e29b-41d4-a716-4466554400" + id)
+                    .patientId(1L)
+                    .doctorId(2L)
+                    .appointmentTime(appointmentTime)
+                    .status("COMPLETED")
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("Search Patients by Name Tests")
+    class SearchPatientsByNameTests {
+
+        @Test
+        @DisplayName("Should return profiles in index rank order, skipping patients no longer stored")
+        void shouldReturnProfilesInRankOrder() {
+            // Given
+            PatientResponse jonathan = PatientResponse.builder().id(3L).firstName("Jonathan").lastName("Smith").build();
+            when(patientNameIndex.isLoaded()).thenReturn(true);
+            when(patientNameIndex.search("jon smi", 10)).thenReturn(List.of(3L, 1L, 2L));
+            when(patientRepository.findResponsesByIdIn(List.of(3L, 1L, 2L)))
+                    .thenReturn(List.of(patientResponse, jonathan));
+
+            // When
+            List<PatientResponse> result = patientService.searchPatients("jon smi", 10);
+
+            // Then
+            assertThat(result).containsExactly(jonathan, patientResponse);
+        }
+
+        @Test
+        @DisplayName("Should cap the limit and skip the database when nothing matches")
+        void shouldCapLimitAndSkipDatabaseWithoutMatches() {
+            // Given
+            when(patientNameIndex.isLoaded()).thenReturn(true);
+            when(patientNameIndex.search(eq("zzz"), anyInt())).thenReturn(List.of());
+
+            // When
+            List<PatientResponse> capped = patientService.searchPatients("zzz", 500);
+            List<PatientResponse> defaulted = patientService.searchPatients("zzz", 0);
+
+            // Then
+            assertThat(capped).isEmpty();
+            assertThat(defaulted).isEmpty();
+            verify(patientNameIndex).search("zzz", PatientServiceImpl.MAX_SEARCH_SIZE);
+            verify(patientNameIndex).search("zzz", PatientServiceImpl.DEFAULT_SEARCH_SIZE);
+            verify(patientRepository, never()).findResponsesByIdIn(any());
+        }
+
+        @Test
+        @DisplayName("Should build the index on first use when the rebuild job has not run")
+        void shouldBuildIndexOnFirstUse() {
+            // Given
+            when(patientNameIndex.isLoaded()).thenReturn(false);
+            when(patientRepository.streamNames()).thenReturn(Stream.empty());
+            when(patientNameIndex.rebuild(any())).thenAnswer(invocation -> {
+                Supplier<Stream<PatientName>> scan = invocation.getArgument(0);
+                return (int) scan.get().count();
+            });
+            when(patientNameIndex.search("doe", 10)).thenReturn(List.of());
+
+            // When
+            patientService.searchPatients("doe", 10);
+
+            // Then
+            verify(patientNameIndex).rebuild(any());
+            verify(patientRepository).streamNames();
+        }
+
+        @Test
+        @DisplayName("Should not rebuild the index when a concurrent search built it while this one waited")
+        void shouldNotRebuildIndexBuiltWhileWaiting() {
+            // Given
+            when(patientNameIndex.isLoaded()).thenReturn(false, true);
+            when(patientNameIndex.search("doe", 10)).thenReturn(List.of());
+
+            // When
+            patientService.searchPatients("doe", 10);
+
+            // Then
+            verify(patientRepository, never()).streamNames();
+            verify(patientNameIndex, never()).rebuild(any());
         }
     }
 }
@@ -0,0 +1,183 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.sparks.patient.dto.AppointmentReminder;
+import com.sparks.patient.entity.ReminderDelivery;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.ReminderDeliveryRepository;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for ReminderServiceImpl - chunked claim, concurrent send and delivery state
+ */
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Reminder Service Tests")
+class ReminderServiceImplTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2030, 3, 4, 8, 0);
+    private static final LocalDateTime TO = FROM.plusDays(1);
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private ReminderDeliveryRepository reminderDeliveryRepository;
+
+    @Mock
+    private ReminderSender reminderSender;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService dispatcher = Executors.newFixedThreadPool(2);
+    private ReminderServiceImpl reminderService;
+
+    @BeforeEach
+    void setUp() {
+        reminderService = new ReminderServiceImpl(appointmentRepository, reminderDeliveryRepository,
+                reminderSender, transactionManager, dispatcher, CHUNK_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reminderService.shutdown();
+    }
+
+    private AppointmentReminder reminder(long id, int hour) {
+        return AppointmentReminder.builder()
+                .id(id)
+                .patientId(1L)
+                .doctorId(2L)
+                .appointmentTime(FROM.withHour(hour))
+                .build();
+    }
+
+    private ReminderDelivery delivery(long id, ReminderDelivery.DeliveryStatus status, int attempts) {
+        return ReminderDelivery.builder()
+                .id(id)
+                .appointmentTime(FROM)
+                .status(status)
+                .attempts(attempts)
+                .build();
+    }
+
+    private void candidates(List<AppointmentReminder> first, List<AppointmentReminder> second) {
+        when(appointmentRepository.findReminderCandidates(any(), any(), eq(TO), eq(ReminderServiceImpl.REMINDED),
+                eq(ReminderDelivery.DeliveryStatus.FAILED), eq(ReminderServiceImpl.MAX_ATTEMPTS), any(Pageable.class)))
+                .thenReturn(first)
+                .thenReturn(second);
+    }
+
+    @Test
+    @DisplayName("Should claim, send and record every chunk, recording failures for retry")
+    void testSendReminders() throws Exception {
+        // Given
+        AppointmentReminder first = reminder(1L, 9);
+        AppointmentReminder second = reminder(2L, 10);
+        AppointmentReminder third = reminder(3L, 11);
+        candidates(List.of(first, second), List.of(third));
+        ReminderDelivery d1 = delivery(1L, ReminderDelivery.DeliveryStatus.PENDING, 0);
+        ReminderDelivery d2 = delivery(2L, ReminderDelivery.DeliveryStatus.PENDING, 0);
+        ReminderDelivery d3 = delivery(3L, ReminderDelivery.DeliveryStatus.PENDING, 0);
+        when(reminderDeliveryRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of()).thenReturn(List.of(d1, d2));
+        when(reminderDeliveryRepository.findAllById(List.of(3L))).thenReturn(List.of()).thenReturn(List.of(d3));
+        doThrow(new IOException("SMTP unavailable")).when(reminderSender).send(second);
+
+        // When
+        int sent = reminderService.sendRemindersBetween(FROM, TO);
+
+        // Then
+        assertThat(sent).isEqualTo(2);
+        assertThat(d1.getStatus()).isEqualTo(ReminderDelivery.DeliveryStatus.SENT);
+        assertThat(d1.getSentAt()).isNotNull();
+        assertThat(d2.getStatus()).isEqualTo(ReminderDelivery.DeliveryStatus.FAILED);
+        assertThat(d2.getLastError()).contains("SMTP unavailable");
+        assertThat(d2.getAttempts()).isEqualTo(1);
+        assertThat(d3.getStatus()).isEqualTo(ReminderDelivery.DeliveryStatus.SENT);
+        verify(reminderSender).send(first);
+        verify(reminderSender).send(third);
+        verify(appointmentRepository).findReminderCandidates(eq(second.getAppointmentTime()), eq(2L), eq(TO),
+                any(), any(), eq(ReminderServiceImpl.MAX_ATTEMPTS), any(Pageable.class));
+        verify(reminderDeliveryRepository).deleteForAppointmentsBefore(FROM);
+    }
+
+    @Test
+    @DisplayName("Should not send reminders claimed by another run")
+    void testSkipsClaimedElsewhere() throws Exception {
+        // Given
+        AppointmentReminder first = reminder(1L, 9);
+        candidates(List.of(first), List.of());
+        when(reminderDeliveryRepository.findAllById(List.of(1L)))
+                .thenReturn(List.of(delivery(1L, ReminderDelivery.DeliveryStatus.PENDING, 0)));
+
+        // When
+        int sent = reminderService.sendRemindersBetween(FROM, TO);
+
+        // Then
+        assertThat(sent).isZero();
+        verify(reminderSender, never()).send(any());
+    }
+
+    @Test
+    @DisplayName("Should skip a chunk whose claim collides with a concurrent run")
+    void testSkipsChunkOnClaimConflict() throws Exception {
+        // Given
+        candidates(List.of(reminder(1L, 9)), List.of());
+        when(reminderDeliveryRepository.findAllById(List.of(1L))).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("PRIMARY KEY ON reminder_deliveries"))
+                .when(reminderDeliveryRepository).flush();
+
+        // When
+        int sent = reminderService.sendRemindersBetween(FROM, TO);
+
+        // Then
+        assertThat(sent).isZero();
+        verify(reminderSender, never()).send(any());
+    }
+
+    @Test
+    @DisplayName("Should retry a failed delivery")
+    void testRetriesFailedDelivery() throws Exception {
+        // Given
+        AppointmentReminder first = reminder(1L, 9);
+        candidates(List.of(first), List.of());
+        ReminderDelivery failed = delivery(1L, ReminderDelivery.DeliveryStatus.FAILED, 1);
+        when(reminderDeliveryRepository.findAllById(List.of(1L))).thenReturn(List.of(failed));
+
+        // When
+        int sent = reminderService.sendRemindersBetween(FROM, TO);
+
+        // Then
+        assertThat(sent).isEqualTo(1);
+        assertThat(failed.getStatus()).isEqualTo(ReminderDelivery.DeliveryStatus.SENT);
+        assertThat(failed.getAttempts()).isEqualTo(2);
+        verify(reminderDeliveryRepository).saveAll(anyIterable());
+    }
+}
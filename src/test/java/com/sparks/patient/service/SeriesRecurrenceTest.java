@@ -0,0 +1,91 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sparks.patient.entity.AppointmentSeries;
+import com.sparks.patient.entity.AppointmentSeries.Frequency;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for SeriesRecurrence - occurrence expansion and bounds
+ */
+@UnitTest
+@DisplayName("Series Recurrence Tests")
+class SeriesRecurrenceTest {
+
+    private static final LocalDateTime MONDAY_TEN = LocalDateTime.of(2026, 2, 9, 10, 0);
+
+    private AppointmentSeries series(LocalDateTime first, Frequency frequency, int interval,
+                                     Integer count, LocalDate until) {
+        return AppointmentSeries.builder()
+                .firstAppointmentTime(first)
+                .frequency(frequency)
+                .repeatInterval(interval)
+                .occurrenceCount(count)
+                .untilDate(until)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should expand every occurrence of a counted series")
+    void testAll_Count() {
+        AppointmentSeries weekly = series(MONDAY_TEN, Frequency.WEEKLY, 1, 3, null);
+
+        assertThat(SeriesRecurrence.all(weekly)).containsExactly(
+                MONDAY_TEN, MONDAY_TEN.plusWeeks(1), MONDAY_TEN.plusWeeks(2));
+    }
+
+    @Test
+    @DisplayName("Should stop after the until date, including occurrences on it")
+    void testAll_Until() {
+        AppointmentSeries daily = series(MONDAY_TEN, Frequency.DAILY, 2, null, LocalDate.of(2026, 2, 13));
+
+        assertThat(SeriesRecurrence.all(daily)).containsExactly(
+                MONDAY_TEN, MONDAY_TEN.plusDays(2), MONDAY_TEN.plusDays(4));
+    }
+
+    @Test
+    @DisplayName("Should return only the occurrences inside a window far into the series")
+    void testBetween_Window() {
+        AppointmentSeries biweekly = series(MONDAY_TEN, Frequency.WEEKLY, 2, null, LocalDate.of(2027, 12, 31));
+        LocalDateTime from = LocalDateTime.of(2027, 6, 1, 0, 0);
+
+        assertThat(SeriesRecurrence.between(biweekly, from, from.plusMonths(1))).containsExactly(
+                MONDAY_TEN.plusWeeks(70), MONDAY_TEN.plusWeeks(72));
+    }
+
+    @Test
+    @DisplayName("Should include an occurrence starting exactly at the window start")
+    void testBetween_StartInclusive() {
+        AppointmentSeries weekly = series(MONDAY_TEN, Frequency.WEEKLY, 1, 10, null);
+
+        assertThat(SeriesRecurrence.between(weekly, MONDAY_TEN.plusWeeks(3), MONDAY_TEN.plusWeeks(4)))
+                .containsExactly(MONDAY_TEN.plusWeeks(3));
+    }
+
+    @Test
+    @DisplayName("Should respect the count when a window reaches past the end of the series")
+    void testBetween_CountBound() {
+        AppointmentSeries weekly = series(MONDAY_TEN, Frequency.WEEKLY, 1, 4, null);
+
+        assertThat(SeriesRecurrence.between(weekly, MONDAY_TEN.plusWeeks(2), MONDAY_TEN.plusWeeks(10)))
+                .containsExactly(MONDAY_TEN.plusWeeks(2), MONDAY_TEN.plusWeeks(3));
+    }
+
+    @Test
+    @DisplayName("Should keep the day of month after a short month")
+    void testMonthly_KeepsDayOfMonth() {
+        AppointmentSeries monthly = series(LocalDateTime.of(2026, 1, 31, 9, 0), Frequency.MONTHLY, 1, 3, null);
+
+        assertThat(SeriesRecurrence.all(monthly)).containsExactly(
+                LocalDateTime.of(2026, 1, 31, 9, 0),
+                LocalDateTime.of(2026, 2, 28, 9, 0),
+                LocalDateTime.of(2026, 3, 31, 9, 0));
+    }
+}
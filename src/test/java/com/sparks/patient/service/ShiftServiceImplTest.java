@@ -494,8 +494,7 @@ class ShiftServiceImplTest {
         @DisplayName("Should return shift when ID exists")
         void shouldReturnShiftWhenIdExists() {
             // Given
-            when(shiftRepository.findById(1L)).thenReturn(Optional.of(validShift));
-            when(shiftMapper.toResponse(validShift)).thenReturn(shiftResponse);
+            when(shiftRepository.findResponseById(1L)).thenReturn(Optional.of(shiftResponse));
 
             // When
             ShiftResponse result = shiftService.getShiftById(1L);
@@ -503,14 +502,15 @@ class ShiftServiceImplTest {
             // Then
             assertThat(result).isNotNull();
             assertThat(result.getId()).isEqualTo(1L);
-            verify(shiftRepository).findById(1L);
+            verify(shiftRepository).findResponseById(1L);
+            verify(shiftMapper, never()).toResponse(any(Shift.class));
         }
 
         @Test
         @DisplayName("Should throw ShiftNotFoundException when ID does not exist")
         void shouldThrowExceptionWhenIdNotFound() {
             // Given
-            when(shiftRepository.findById(999L)).thenReturn(Optional.empty());
+            when(shiftRepository.findResponseById(999L)).thenReturn(Optional.empty());
 
             // When/Then
             assertThatThrownBy(() -> shiftService.getShiftById(999L))
@@ -522,14 +522,6 @@ class ShiftServiceImplTest {
         @DisplayName("Should return all shifts")
         void shouldReturnAllShifts() {
             // Given
-            Shift shift2 = Shift.builder()
-                    .id(2L)
-                    .doctorId(2L)
-                    .startTime(LocalTime.of(14, 0))
-                    .endTime(LocalTime.of(22, 0))
-                    .room("Room-102")
-                    .build();
-
             ShiftResponse response2 = ShiftResponse.builder()
                     .id(2L)
                     .doctorId(2L)
@@ -538,9 +530,7 @@ class ShiftServiceImplTest {
                     .room("Room-102")
                     .build();
 
-            when(shiftRepository.findAll()).thenReturn(Arrays.asList(validShift, shift2));
-            when(shiftMapper.toResponse(validShift)).thenReturn(shiftResponse);
-            when(shiftMapper.toResponse(shift2)).thenReturn(response2);
+            when(shiftRepository.findAllResponses()).thenReturn(Arrays.asList(shiftResponse, response2));
 
             // When
             List<ShiftResponse> results = shiftService.getAllShifts();
@@ -553,8 +543,7 @@ class ShiftServiceImplTest {
         @DisplayName("Should return shifts by doctor ID")
         void shouldReturnShiftsByDoctorId() {
             // Given
-            when(shiftRepository.findByDoctorId(1L)).thenReturn(Arrays.asList(validShift));
-            when(shiftMapper.toResponse(validShift)).thenReturn(shiftResponse);
+            when(shiftRepository.findResponsesByDoctorId(1L)).thenReturn(Arrays.asList(shiftResponse));
 
             // When
             List<ShiftResponse> results = shiftService.getShiftsByDoctorId(1L);
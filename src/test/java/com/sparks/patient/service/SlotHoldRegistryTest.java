@@ -0,0 +1,173 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for SlotHoldRegistry - overlap, expiry, release and the timer wheel
+ */
+@UnitTest
+@DisplayName("Slot Hold Registry Tests")
+class SlotHoldRegistryTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final LocalDateTime TEN = LocalDateTime.of(2026, 2, 9, 10, 0);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SlotHoldRegistry registry = new SlotHoldRegistry(TTL, nanos::get);
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    @DisplayName("Should refuse overlapping holds of the same doctor only")
+    void testOverlap() {
+        assertThat(registry.tryHold(2L, TEN)).isPresent();
+
+        assertThat(registry.tryHold(2L, TEN)).isEmpty();
+        assertThat(registry.tryHold(2L, TEN.plusMinutes(15))).isEmpty();
+        assertThat(registry.tryHold(2L, TEN.minusMinutes(29))).isEmpty();
+        assertThat(registry.tryHold(2L, TEN.plusMinutes(30))).isPresent();
+        assertThat(registry.tryHold(3L, TEN)).isPresent();
+        assertThat(registry.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should not count the caller's own hold as a conflict")
+    void testIsHeldByOther() {
+        SlotHoldRegistry.Hold hold = registry.tryHold(2L, TEN).orElseThrow();
+
+        assertThat(registry.isHeldByOther(2L, TEN.plusMinutes(10), null)).isTrue();
+        assertThat(registry.isHeldByOther(2L, TEN, hold.getHoldId())).isFalse();
+        assertThat(registry.isHeldByOther(2L, TEN.plusMinutes(30), null)).isFalse();
+        assertThat(registry.isHeldByOther(4L, TEN, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should only let a live hold cover its own doctor and start time")
+    void testCovers() {
+        SlotHoldRegistry.Hold hold = registry.tryHold(2L, TEN).orElseThrow();
+
+        assertThat(registry.covers(hold.getHoldId(), 2L, TEN)).isTrue();
+        assertThat(registry.covers(hold.getHoldId(), 3L, TEN)).isFalse();
+        assertThat(registry.covers(hold.getHoldId(), 2L, TEN.plusMinutes(10))).isFalse();
+        assertThat(registry.covers("unknown", 2L, TEN)).isFalse();
+
+        advance(TTL);
+
+        assertThat(registry.covers(hold.getHoldId(), 2L, TEN)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should ignore expired holds and let the slot be held again")
+    void testExpiry() {
+        SlotHoldRegistry.Hold hold = registry.tryHold(2L, TEN).orElseThrow();
+
+        advance(TTL);
+
+        assertThat(registry.find(hold.getHoldId())).isEmpty();
+        assertThat(registry.isHeldByOther(2L, TEN, null)).isFalse();
+        Optional<SlotHoldRegistry.Hold> again = registry.tryHold(2L, TEN);
+        assertThat(again).isPresent();
+        assertThat(registry.find(hold.getHoldId())).isEmpty();
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should free the slot when a hold is released")
+    void testRelease() {
+        SlotHoldRegistry.Hold hold = registry.tryHold(2L, TEN).orElseThrow();
+
+        assertThat(registry.release(hold.getHoldId())).isTrue();
+        assertThat(registry.release(hold.getHoldId())).isFalse();
+        assertThat(registry.isHeldByOther(2L, TEN, null)).isFalse();
+        assertThat(registry.tryHold(2L, TEN.plusMinutes(10))).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should reclaim expired holds when the wheel passes their tick")
+    void testWheelReclaimsExpiredHolds() {
+        registry.tryHold(2L, TEN);
+        advance(Duration.ofMinutes(1));
+        registry.tryHold(2L, TEN.plusHours(1));
+
+        advance(TTL.minusMinutes(1));
+        registry.expireHolds();
+        assertThat(registry.size()).isEqualTo(1);
+
+        advance(Duration.ofMinutes(1));
+        registry.expireHolds();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should carry holds living longer than one turn of the wheel")
+    void testWheelCarriesLongHolds() {
+        Duration longTtl = Duration.ofSeconds(SlotHoldRegistry.WHEEL_SIZE * 2L + 10);
+        SlotHoldRegistry longRegistry = new SlotHoldRegistry(longTtl, nanos::get);
+        longRegistry.tryHold(2L, TEN);
+
+        for (int second = 0; second < SlotHoldRegistry.WHEEL_SIZE + 20; second++) {
+            advance(Duration.ofSeconds(1));
+            longRegistry.expireHolds();
+        }
+        assertThat(longRegistry.size()).isEqualTo(1);
+
+        advance(longTtl);
+        longRegistry.expireHolds();
+        assertThat(longRegistry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never leave two overlapping holds when racing for nearby slots")
+    void testConcurrentHolds() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<LocalDateTime> held = new ConcurrentLinkedQueue<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int slot = 0; slot < 48; slot++) {
+                        registry.tryHold(2L, TEN.plusMinutes(5L * slot))
+                                .ifPresent(hold -> held.add(hold.getAppointmentTime()));
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        List<LocalDateTime> times = new ArrayList<>(held);
+        times.sort(null);
+        assertThat(times).isNotEmpty();
+        for (int i = 1; i < times.size(); i++) {
+            assertThat(Duration.between(times.get(i - 1), times.get(i))).isGreaterThanOrEqualTo(Duration.ofMinutes(30));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.sparks.patient.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sparks.patient.dto.SlotHoldRequest;
+import com.sparks.patient.dto.SlotHoldResponse;
+import com.sparks.patient.entity.Appointment;
+import com.sparks.patient.entity.Shift;
+import com.sparks.patient.exception.AppointmentConflictException;
+import com.sparks.patient.exception.DoctorNotFoundException;
+import com.sparks.patient.exception.SlotHoldNotFoundException;
+import com.sparks.patient.repository.AppointmentRepository;
+import com.sparks.patient.repository.DoctorRepository;
+import com.sparks.patient.repository.ShiftRepository;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for SlotHoldServiceImpl
+ */
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Slot Hold Service Tests")
+class SlotHoldServiceImplTest {
+
+    private static final LocalDateTime TEN = LocalDateTime.of(2026, 2, 9, 10, 0);
+
+    @Mock
+    private DoctorRepository doctorRepository;
+
+    @Mock
+    private ShiftRepository shiftRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Spy
+    private SlotHoldRegistry slotHoldRegistry = new SlotHoldRegistry(Duration.ofMinutes(5));
+
+    @InjectMocks
+    private SlotHoldServiceImpl slotHoldService;
+
+    private SlotHoldRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = SlotHoldRequest.builder().doctorId(2L).appointmentTime(TEN).build();
+    }
+
+    private void bookable() {
+        when(doctorRepository.existsById(2L)).thenReturn(true);
+        when(shiftRepository.findByDoctorId(2L)).thenReturn(List.of(Shift.builder().doctorId(2L)
+                .startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(17, 0)).room("Room 101").build()));
+    }
+
+    @Test
+    @DisplayName("Should hold a bookable slot")
+    void testCreateHold() {
+        bookable();
+
+        SlotHoldResponse hold = slotHoldService.createHold(request);
+
+        assertThat(hold.getHoldId()).isNotBlank();
+        assertThat(hold.getDoctorId()).isEqualTo(2L);
+        assertThat(hold.getAppointmentTime()).isEqualTo(TEN);
+        assertThat(hold.getExpiresAt()).isAfter(LocalDateTime.now());
+        assertThat(slotHoldService.getHold(hold.getHoldId())).isEqualTo(hold);
+    }
+
+    @Test
+    @DisplayName("Should refuse a slot already held")
+    void testCreateHold_AlreadyHeld() {
+        bookable();
+        slotHoldService.createHold(request);
+
+        assertThatThrownBy(() -> slotHoldService.createHold(
+                SlotHoldRequest.builder().doctorId(2L).appointmentTime(TEN.plusMinutes(15)).build()))
+                .isInstanceOf(AppointmentConflictException.class)
+                .hasMessageContaining("slot hold");
+    }
+
+    @Test
+    @DisplayName("Should refuse a slot already booked")
+    void testCreateHold_Booked() {
+        bookable();
+        when(appointmentRepository.existsOverlapping(2L, TEN.minusMinutes(30), TEN.plusMinutes(30),
+                Appointment.AppointmentStatus.CANCELLED)).thenReturn(true);
+
+        assertThatThrownBy(() -> slotHoldService.createHold(request))
+                .isInstanceOf(AppointmentConflictException.class)
+                .hasMessageContaining("already has an appointment");
+        verify(slotHoldRegistry, never()).tryHold(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should refuse a slot outside the doctor's shifts")
+    void testCreateHold_OutsideShift() {
+        bookable();
+        request.setAppointmentTime(TEN.withHour(18));
+
+        assertThatThrownBy(() -> slotHoldService.createHold(request))
+                .isInstanceOf(AppointmentConflictException.class)
+                .hasMessageContaining("no shift covering");
+    }
+
+    @Test
+    @DisplayName("Should throw when the doctor does not exist")
+    void testCreateHold_DoctorNotFound() {
+        when(doctorRepository.existsById(2L)).thenReturn(false);
+
+        assertThatThrownBy(() -> slotHoldService.createHold(request))
+                .isInstanceOf(DoctorNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should release a hold once")
+    void testReleaseHold() {
+        bookable();
+        SlotHoldResponse hold = slotHoldService.createHold(request);
+
+        slotHoldService.releaseHold(hold.getHoldId());
+
+        assertThatThrownBy(() -> slotHoldService.releaseHold(hold.getHoldId()))
+                .isInstanceOf(SlotHoldNotFoundException.class);
+        assertThatThrownBy(() -> slotHoldService.getHold(hold.getHoldId()))
+                .isInstanceOf(SlotHoldNotFoundException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.sparks.patient.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for CsvReader - RFC 4180 records and line numbers
+ */
+@UnitTest
+@DisplayName("CSV Reader Tests")
+class CsvReaderTest {
+
+    private static List<List<String>> read(String csv, List<Long> lines) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                records.add(record);
+                lines.add(reader.getRecordLine());
+            }
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("Should split plain and quoted fields")
+    void testReadRecord_QuotedFields() throws IOException {
+        List<Long> lines = new ArrayList<>();
+        List<List<String>> records = read("a,b,c\n\"Smith, Jr.\",\"say \"\"hi\"\"\",\n", lines);
+
+        assertThat(records).containsExactly(
+                List.of("a", "b", "c"),
+                List.of("Smith, Jr.", "say \"hi\"", ""));
+        assertThat(lines).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should keep line breaks inside quotes and count lines across them")
+    void testReadRecord_MultilineField() throws IOException {
+        List<Long> lines = new ArrayList<>();
+        List<List<String>> records = read("name,note\r\nann,\"two\r\nlines\"\r\nbob,x", lines);
+
+        assertThat(records).containsExactly(
+                List.of("name", "note"),
+                List.of("ann", "two\r\nlines"),
+                List.of("bob", "x"));
+        assertThat(lines).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should skip blank lines and return null at the end")
+    void testReadRecord_BlankLines() throws IOException {
+        List<Long> lines = new ArrayList<>();
+        List<List<String>> records = read("\na\n\n\nb\n\n", lines);
+
+        assertThat(records).containsExactly(List.of("a"), List.of("b"));
+        assertThat(lines).containsExactly(2L, 5L);
+        assertThat(read("", new ArrayList<>())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read records spanning buffer refills")
+    void testReadRecord_LargeInput() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            csv.append("row").append(i).append(",\"quoted ").append(i).append("\"\n");
+        }
+        List<Long> lines = new ArrayList<>();
+        List<List<String>> records = read(csv.toString(), lines);
+
+        assertThat(records).hasSize(20_000);
+        assertThat(records.get(19_999)).containsExactly("row19999", "quoted 19999");
+        assertThat(lines.get(19_999)).isEqualTo(20_000L);
+    }
+}
@@ -0,0 +1,40 @@
+package com.sparks.patient.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for PhoneNumbers - canonical E.164 phone keys
+ */
+@UnitTest
+@DisplayName("Phone Number Key Tests")
+class PhoneNumbersTest {
+
+    @Test
+    @DisplayName("Should give every formatting of a number the same key")
+    void testToKey_IgnoresFormatting() {
+        assertThat(PhoneNumbers.toKey("+15550102030")).isEqualTo("+15550102030");
+        assertThat(PhoneNumbers.toKey("15550102030")).isEqualTo("+15550102030");
+        assertThat(PhoneNumbers.toKey("+1 (555) 010-2030")).isEqualTo("+15550102030");
+        assertThat(PhoneNumbers.toKey("1.555.010.2030")).isEqualTo("+15550102030");
+        assertThat(PhoneNumbers.toKey("001 555 010 2030")).isEqualTo("+15550102030");
+        // A '+' sent unencoded in a query string arrives as a space
+        assertThat(PhoneNumbers.toKey(" 15550102030")).isEqualTo("+15550102030");
+    }
+
+    @Test
+    @DisplayName("Should reject numbers that cannot be E.164")
+    void testToKey_RejectsInvalid() {
+        assertThat(PhoneNumbers.toKey(null)).isNull();
+        assertThat(PhoneNumbers.toKey("")).isNull();
+        assertThat(PhoneNumbers.toKey("+")).isNull();
+        assertThat(PhoneNumbers.toKey("+0123456")).isNull();
+        assertThat(PhoneNumbers.toKey("5")).isNull();
+        assertThat(PhoneNumbers.toKey("+1234567890123456")).isNull();
+        assertThat(PhoneNumbers.toKey("+1 555 CALL NOW")).isNull();
+    }
+}
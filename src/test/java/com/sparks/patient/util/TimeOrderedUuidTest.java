@@ -0,0 +1,80 @@
+package com.sparks.patient.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sparks.patient.entity.AppointmentIdConverter;
+import com.sparks.patient.test.UnitTest;
+
+/**
+ * Unit tests for TimeOrderedUuid and the binary appointment id codec
+ */
+@UnitTest
+@DisplayName("Time-Ordered UUID Tests")
+class TimeOrderedUuidTest {
+
+    @Test
+    @DisplayName("Should generate version 7, IETF variant UUIDs in canonical form")
+    void testGenerate_VersionAndVariant() {
+        UUID uuid = TimeOrderedUuid.generate();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.toString()).matches("^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$");
+    }
+
+    @Test
+    @DisplayName("Should order UUIDs by generation time")
+    void testGenerate_TimeOrdered() {
+        UUID earlier = TimeOrderedUuid.generate(1_700_000_000_000L);
+        UUID later = TimeOrderedUuid.generate(1_700_000_000_001L);
+
+        assertThat(earlier.toString()).isLessThan(later.toString());
+        assertThat(TimeOrderedUuid.toBytes(earlier)[5]).isNotEqualTo(TimeOrderedUuid.toBytes(later)[5]);
+    }
+
+    @Test
+    @DisplayName("Should round-trip through the 16-byte binary form")
+    void testBinaryRoundTrip() {
+        UUID uuid = TimeOrderedUuid.generate();
+
+        byte[] bytes = TimeOrderedUuid.toBytes(uuid);
+
+        assertThat(bytes).hasSize(16);
+        assertThat(TimeOrderedUuid.fromBytes(bytes)).isEqualTo(uuid);
+    }
+
+    @Test
+    @DisplayName("Should keep legacy random UUID strings readable through the converter")
+    void testConverter_LegacyUuid() {
+        AppointmentIdConverter converter = new AppointmentIdConverter();
+        String legacy = "550e8400-e29b-41d4-a716-446655440000";
+
+        byte[] column = converter.convertToDatabaseColumn(legacy);
+
+        assertThat(column).hasSize(16);
+        assertThat(converter.convertToEntityAttribute(column)).isEqualTo(legacy);
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should recognise only canonical UUID strings")
+    void testIsCanonical() {
+        assertThat(TimeOrderedUuid.isCanonical("550e8400-e29b-41d4-a716-446655440000")).isTrue();
+        assertThat(TimeOrderedUuid.isCanonical("invalid-uuid")).isFalse();
+        assertThat(TimeOrderedUuid.isCanonical("1-2-3-4-5")).isFalse();
+        assertThat(TimeOrderedUuid.isCanonical(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject binary values that are not 16 bytes")
+    void testFromBytes_WrongLength() {
+        assertThatThrownBy(() -> TimeOrderedUuid.fromBytes(new byte[8]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}